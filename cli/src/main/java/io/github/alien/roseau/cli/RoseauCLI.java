@@ -1,16 +1,29 @@
 package io.github.alien.roseau.cli;
 
 import com.google.common.base.Stopwatch;
+import io.github.alien.roseau.Deadline;
 import io.github.alien.roseau.Library;
 import io.github.alien.roseau.Roseau;
 import io.github.alien.roseau.RoseauException;
 import io.github.alien.roseau.RoseauOptions;
 import io.github.alien.roseau.api.model.API;
+import io.github.alien.roseau.api.model.factory.DefaultApiFactory;
+import io.github.alien.roseau.api.model.reference.CachingTypeReferenceFactory;
+import io.github.alien.roseau.diff.DefaultSymbolMatcher;
+import io.github.alien.roseau.diff.DetachedReport;
+import io.github.alien.roseau.diff.MoveDetectingSymbolMatcher;
 import io.github.alien.roseau.diff.RoseauReport;
+import io.github.alien.roseau.diff.SymbolMatcher;
 import io.github.alien.roseau.diff.changes.BreakingChange;
+import io.github.alien.roseau.diff.changes.BreakingChangeKind;
 import io.github.alien.roseau.diff.formatter.BreakingChangesFormatter;
 import io.github.alien.roseau.diff.formatter.BreakingChangesFormatterFactory;
 import io.github.alien.roseau.diff.formatter.CliFormatter;
+import io.github.alien.roseau.diff.formatter.CsvFormatter;
+import io.github.alien.roseau.diff.formatter.DetachedReportFormatter;
+import io.github.alien.roseau.impact.ClientImpact;
+import io.github.alien.roseau.metrics.Metrics;
+import io.github.alien.roseau.metrics.ProfilingMetrics;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.core.config.Configurator;
@@ -22,11 +35,19 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import static picocli.CommandLine.ArgGroup;
 import static picocli.CommandLine.Command;
@@ -42,7 +63,12 @@ import static picocli.CommandLine.Spec;
 		"--v1 and --v2 can point to either JAR files or source code directories. " +
 		"Example: roseau --diff --v1 /path/to/library-1.0.0.jar --v2 /path/to/library-2.0.0.jar")
 public final class RoseauCLI implements Callable<Integer> {
+	private static final String HISTORY_CSV_HEADER = "from;to";
 	private Console console;
+	private ProfilingMetrics profiler;
+	private Deadline deadline = Deadline.none();
+	// The ignored CSV file is parsed once and shared by all the reports of the invocation
+	private Predicate<BreakingChange> reportable = _ -> true;
 	@Spec
 	private CommandSpec spec;
 	@ArgGroup(exclusive = true, multiplicity = "1")
@@ -55,14 +81,30 @@ public final class RoseauCLI implements Callable<Integer> {
 		@Option(names = "--diff",
 			description = "Compute breaking changes between versions --v1 and --v2")
 		boolean diff;
+		@Option(names = "--history", paramLabel = "<path>[,<path>...]",
+			description = "Compute breaking changes between each pair of consecutive versions of the library, " +
+				"oldest first; each version is only built once")
+		String history;
+		@Option(names = "--bisect", paramLabel = "<path>[,<path>...]",
+			description = "Find the first of the given versions, oldest first, that introduced the breaking change " +
+				"described by --symbol and --kind with respect to the first version")
+		String bisect;
 	}
 
+	@Option(names = "--symbol", paramLabel = "<name>",
+		description = "Qualified name of the symbol impacted by the breaking change to look for in --bisect mode, " +
+			"e.g., pkg.T.m(int)")
+	private String symbol;
+	@Option(names = "--kind", paramLabel = "<kind>",
+		description = "Kind of the breaking change to look for in --bisect mode, e.g., METHOD_REMOVED")
+	private BreakingChangeKind kind;
 	@Option(names = "--v1", paramLabel = "<path>",
 		description = "Path to the first version of the library; either a source directory or a JAR")
 	private Path v1;
 	@Option(names = "--v2", paramLabel = "<path>",
-		description = "Path to the second version of the library; either a source directory or a JAR")
-	private Path v2;
+		description = "Path to the second version of the library; either a source directory or a JAR. " +
+			"Repeat to compare --v1 against several versions")
+	private List<Path> v2;
 	@Option(names = "--api-json", paramLabel = "<path>",
 		description = "Where to serialize the Json API model of --v1 in --api mode")
 	private Path apiJson;
@@ -79,6 +121,9 @@ public final class RoseauCLI implements Callable<Integer> {
 	@Option(names = "--pom", paramLabel = "<path>",
 		description = "A pom.xml file to extract the classpath from, shared by --v1 and --v2")
 	private Path pom;
+	@Option(names = "--classpath-cache", paramLabel = "<path>",
+		description = "A directory where to cache the classpaths resolved from --pom, --v1-pom, and --v2-pom across runs")
+	private Path classpathCache;
 	@Option(names = "--v1-classpath", paramLabel = "<path>[,<path>...]",
 		description = "A --classpath for --v1")
 	private String v1Classpath;
@@ -107,6 +152,26 @@ public final class RoseauCLI implements Callable<Integer> {
 	@Option(names = "--fail-on-bc",
 		description = "Return with exit code 1 if breaking changes are detected")
 	private boolean failMode;
+	@Option(names = "--fail-fast",
+		description = "With --fail-on-bc, stop at the first breaking change instead of computing the full report")
+	private boolean failFast;
+	@Option(names = "--detect-moves",
+		description = "Report removed types and methods that were moved or renamed along with their new location")
+	private boolean detectMoves;
+	@Option(names = "--clients", paramLabel = "<path>[,<path>...]",
+		description = "Client JARs, or directories of client JARs, to check for uses of the breaking changes in " +
+			"--diff mode; with --fail-on-bc, only fail if a client is impacted")
+	private String clients;
+	@Option(names = "--timeout", paramLabel = "<seconds>",
+		description = "Stop the analysis after the given number of seconds; in --diff mode, report the breaking " +
+			"changes found so far and flag the report as incomplete")
+	private Long timeout;
+	@Option(names = "--compact",
+		description = "Use a memory-compact API model; useful for very large libraries")
+	private boolean compact;
+	@Option(names = "--profile", paramLabel = "<n>", arity = "0..1", fallbackValue = "10",
+		description = "Print the <n> slowest types, rules, and JAR entries once done (default: 10)")
+	private Integer profile;
 	@Option(names = "--plain",
 		description = "Disable ANSI colors, output plain text")
 	private boolean plain;
@@ -118,8 +183,8 @@ public final class RoseauCLI implements Callable<Integer> {
 		Stopwatch sw = Stopwatch.createStarted();
 
 		console.printVerbose("Building APIs...  ");
-		CompletableFuture<API> futureV1 = CompletableFuture.supplyAsync(() -> Roseau.buildAPI(libraryV1));
-		CompletableFuture<API> futureV2 = CompletableFuture.supplyAsync(() -> Roseau.buildAPI(libraryV2));
+		CompletableFuture<API> futureV1 = CompletableFuture.supplyAsync(() -> buildAPI(libraryV1));
+		CompletableFuture<API> futureV2 = CompletableFuture.supplyAsync(() -> buildAPI(libraryV2));
 		API apiV1 = futureV1.join();
 		API apiV2 = futureV2.join();
 		console.printlnVerbose("%d types → %d types (%d ms)".formatted(apiV1.getLibraryTypes().getAllTypes().size(),
@@ -127,13 +192,147 @@ public final class RoseauCLI implements Callable<Integer> {
 
 		sw.reset().start();
 		console.printVerbose("Comparing APIs... ");
-		RoseauReport report = Roseau.diff(apiV1, apiV2);
+		RoseauReport report = compare(apiV1, apiV2);
 		console.printlnVerbose("%d breaking changes (%d ms)".formatted(report.getBreakingChanges().size(),
 			sw.elapsed().toMillis()));
 
 		return report;
 	}
 
+	private RoseauReport compare(API apiV1, API apiV2) {
+		SymbolMatcher matcher = detectMoves
+			? new MoveDetectingSymbolMatcher(apiV1, apiV2)
+			: new DefaultSymbolMatcher();
+		return Roseau.diff(apiV1, apiV2, matcher, deadline);
+	}
+
+	private boolean doCheck(Library v1, Library v2) {
+		buildClasspath(List.of(v1, v2));
+		Stopwatch sw = Stopwatch.createStarted();
+		console.printVerbose("Building APIs...  ");
+		CompletableFuture<API> futureV1 = CompletableFuture.supplyAsync(() -> buildAPI(v1));
+		CompletableFuture<API> futureV2 = CompletableFuture.supplyAsync(() -> buildAPI(v2));
+		API apiV1 = futureV1.join();
+		API apiV2 = futureV2.join();
+		console.printlnVerbose("%d types → %d types (%d ms)".formatted(apiV1.getLibraryTypes().getAllTypes().size(),
+			apiV2.getLibraryTypes().getAllTypes().size(), sw.elapsed().toMillis()));
+
+		sw.reset().start();
+		console.printVerbose("Looking for breaking changes... ");
+		Optional<BreakingChange> bc = Roseau.findBreakingChange(apiV1, apiV2, reportable);
+		console.printlnVerbose("done (%d ms)".formatted(sw.elapsed().toMillis()));
+
+		bc.ifPresentOrElse(
+			found -> console.println("Found breaking change %s on %s".formatted(
+				found.kind(), found.impactedSymbol().getQualifiedName())),
+			() -> console.println("No breaking change found")
+		);
+		return bc.isPresent();
+	}
+
+	private API buildAPI(Library library) {
+		try {
+			return Roseau.buildAPI(library, new DefaultApiFactory(new CachingTypeReferenceFactory(), compact), deadline);
+		} catch (RuntimeException e) {
+			// Other APIs being built are pointless now
+			deadline.cancel();
+			throw e;
+		}
+	}
+
+	private boolean doHistory(List<Library> versions, RoseauOptions options) {
+		Stopwatch sw = Stopwatch.createStarted();
+		CliFormatter formatter = new CliFormatter(plain ? CliFormatter.Mode.PLAIN : CliFormatter.Mode.ANSI);
+		List<String> timeline = new ArrayList<>();
+		AtomicInteger step = new AtomicInteger(1);
+		AtomicBoolean breaking = new AtomicBoolean(false);
+
+		// Reports are consumed and dropped right away so that only a few APIs are retained at any time
+		Roseau.history(versions, this::buildAPI, this::compare, report -> {
+			DetachedReport filtered = DetachedReport.of(filterReport(report));
+			Path from = versions.get(step.get() - 1).getLocation();
+			Path to = versions.get(step.getAndIncrement()).getLocation();
+			List<DetachedReport.Entry> bcs = printStep(from.getFileName(), to.getFileName(), filtered, formatter);
+			if (!bcs.isEmpty()) {
+				breaking.set(true);
+			}
+			bcs.forEach(bc -> timeline.add("%s;%s;%s;%s;%s;%s;%s".formatted(from, to,
+				bc.type(), bc.symbol(), bc.kind(), bc.kind().getNature(), bc.location())));
+		}, ForkJoinPool.commonPool());
+		console.printlnVerbose("Diffed %d versions (%d ms)".formatted(versions.size(), sw.elapsed().toMillis()));
+
+		options.reports().forEach(reportOption -> writeTimeline(timeline, reportOption));
+		return breaking.get();
+	}
+
+	private boolean doBisect(List<Library> versions) {
+		Stopwatch sw = Stopwatch.createStarted();
+		Predicate<BreakingChange> query = reportable
+			.and(bc -> symbol == null || bc.impactedSymbol().getQualifiedName().equals(symbol))
+			.and(bc -> kind == null || bc.kind() == kind);
+
+		OptionalInt first = Roseau.bisect(versions, this::buildAPI, query, deadline);
+		console.printlnVerbose("Bisected %d versions (%d ms)".formatted(versions.size(), sw.elapsed().toMillis()));
+
+		first.ifPresentOrElse(
+			i -> console.println("First breaking version: %s (%d/%d)".formatted(
+				versions.get(i).getLocation(), i + 1, versions.size())),
+			() -> console.println("No version introduces the breaking change")
+		);
+		return first.isPresent();
+	}
+
+	private boolean doDiffs(Library v1, List<Library> candidates) {
+		buildClasspath(Stream.concat(Stream.of(v1), candidates.stream()).toList());
+		Stopwatch sw = Stopwatch.createStarted();
+		CliFormatter formatter = new CliFormatter(plain ? CliFormatter.Mode.PLAIN : CliFormatter.Mode.ANSI);
+
+		// Reports are detached as soon as they are computed so that finished diffs do not retain their candidate API
+		List<DetachedReport> reports = Roseau.diff(v1, candidates, this::buildAPI, this::compare,
+			report -> DetachedReport.of(filterReport(report)), ForkJoinPool.commonPool());
+
+		boolean breaking = false;
+		for (int i = 0; i < candidates.size(); i++) {
+			DetachedReport filtered = reports.get(i);
+			List<DetachedReport.Entry> bcs = printStep(v1.getLocation(), candidates.get(i).getLocation(), filtered,
+				formatter);
+			breaking |= !bcs.isEmpty();
+		}
+		console.printlnVerbose("Diffed %d versions (%d ms)".formatted(candidates.size(), sw.elapsed().toMillis()));
+
+		return breaking;
+	}
+
+	private List<DetachedReport.Entry> printStep(Path from, Path to, DetachedReport filtered, CliFormatter formatter) {
+		List<DetachedReport.Entry> bcs = filtered.breakingChanges();
+		console.println("%s → %s: %d breaking changes (%d binary-breaking, %d source-breaking)".formatted(
+			from, to, bcs.size(), filtered.getBinaryBreakingChanges().size(), filtered.getSourceBreakingChanges().size()));
+		if (!bcs.isEmpty()) {
+			console.println(format(formatter, BreakingChangesFormatterFactory.CLI, filtered));
+		}
+		return bcs;
+	}
+
+	private void writeTimeline(List<String> timeline, RoseauOptions.Report reportOption) {
+		if (reportOption.format() != BreakingChangesFormatterFactory.CSV) {
+			throw new RoseauException("Only --format CSV is supported in --history mode");
+		}
+
+		Path path = reportOption.file();
+		try {
+			if (path.getParent() != null) {
+				Files.createDirectories(path.getParent());
+			}
+			List<String> lines = new ArrayList<>();
+			lines.add(HISTORY_CSV_HEADER + ";" + CsvFormatter.HEADER);
+			lines.addAll(timeline);
+			Files.write(path, lines, StandardCharsets.UTF_8);
+			console.printlnVerbose("Timeline has been written to %s".formatted(path));
+		} catch (IOException e) {
+			throw new RoseauException("Error writing timeline to %s".formatted(path), e);
+		}
+	}
+
 	private static List<Path> buildClasspathFromString(String cp) {
 		if (cp == null) {
 			return List.of();
@@ -145,19 +344,103 @@ public final class RoseauCLI implements Callable<Integer> {
 			.toList();
 	}
 
+	private List<Library> buildCandidates(RoseauOptions options) {
+		if (v2 == null || v2.size() < 2) {
+			return List.of(options.v2().mergeWith(options.common()).toLibrary(classpathCache));
+		}
+
+		// Candidates share the --v2 classpath and exclusions
+		return v2.stream()
+			.map(candidate -> new RoseauOptions.Library(candidate, options.v2().classpath(), options.v2().excludes(), null)
+				.mergeWith(options.common()).toLibrary(classpathCache))
+			.toList();
+	}
+
+	private List<Library> buildVersions(String versionsString, RoseauOptions options) {
+		// Versions share the common classpath and exclusions
+		return buildVersionsFromString(versionsString).stream()
+			.map(version -> new RoseauOptions.Library(version, null, null, null)
+				.mergeWith(options.common()).toLibrary(classpathCache))
+			.toList();
+	}
+
+	private static List<Path> buildClientsFromString(String clientsString) {
+		return buildVersionsFromString(clientsString).stream()
+			.flatMap(client -> {
+				if (!Files.isDirectory(client)) {
+					return Stream.of(client);
+				}
+				try (Stream<Path> files = Files.walk(client)) {
+					return files.filter(file -> Files.isRegularFile(file) && file.toString().endsWith(".jar"))
+						.sorted()
+						.toList()
+						.stream();
+				} catch (IOException e) {
+					throw new RoseauException("Cannot list clients in %s".formatted(client), e);
+				}
+			})
+			.toList();
+	}
+
+	private static List<Path> buildVersionsFromString(String versions) {
+		return Arrays.stream(versions.split(","))
+			.filter(p -> !p.isBlank())
+			.map(Path::of)
+			.toList();
+	}
+
 	private void writeReport(RoseauReport report, BreakingChangesFormatterFactory format, Path path) {
 		try {
 			if (path.getParent() != null) {
 				Files.createDirectories(path.getParent());
 			}
 			BreakingChangesFormatter fmt = BreakingChangesFormatterFactory.newBreakingChangesFormatter(format);
-			Files.writeString(path, fmt.format(report), StandardCharsets.UTF_8);
+			Files.writeString(path, format(fmt, format, report), StandardCharsets.UTF_8);
 			console.printlnVerbose("Report has been written to %s".formatted(path));
 		} catch (IOException e) {
 			throw new RoseauException("Error writing report to %s".formatted(path), e);
 		}
 	}
 
+	private static String format(BreakingChangesFormatter formatter, BreakingChangesFormatterFactory format,
+	                             RoseauReport report) {
+		long start = Metrics.startReportFormatting();
+		String formatted = formatter.format(report);
+		Metrics.reportFormatted(format.name(), start);
+		return formatted;
+	}
+
+	private static String format(DetachedReportFormatter formatter, BreakingChangesFormatterFactory format,
+	                             DetachedReport report) {
+		long start = Metrics.startReportFormatting();
+		String formatted = formatter.format(report);
+		Metrics.reportFormatted(format.name(), start);
+		return formatted;
+	}
+
+	private void printProfile(ProfilingMetrics metrics) {
+		console.println("Slowest types:");
+		metrics.slowestTypes(profile).forEach(t -> console.println(formatTiming(t)));
+		console.println("Slowest rules:");
+		metrics.slowestRules(profile).forEach(t -> console.println(formatTiming(t)));
+		console.println("Slowest JAR entries:");
+		metrics.slowestEntries(profile).forEach(t -> console.println(formatTiming(t)));
+		console.println("Parsing:");
+		metrics.parsing().forEach(t -> console.println(formatTiming(t)));
+		console.println("Formatting:");
+		metrics.formatting().forEach(t -> console.println(formatTiming(t)));
+		console.println("Type resolution:");
+		metrics.resolutionRates().forEach(r -> console.println("  %s: %d resolved, %d unresolved".formatted(
+			r.name(), r.hits(), r.misses())));
+		console.println("Analyzer caches:");
+		metrics.cacheHitRates().forEach(r -> console.println("  %s: %.1f%% hits (%d/%d)".formatted(
+			r.name(), r.rate() * 100, r.hits(), r.hits() + r.misses())));
+	}
+
+	private static String formatTiming(ProfilingMetrics.Timing timing) {
+		return "  %s: %d ms (%d calls)".formatted(timing.name(), timing.total().toMillis(), timing.count());
+	}
+
 	private void writeApiReport(API api, Path apiPath) {
 		try {
 			if (apiPath.getParent() != null) {
@@ -170,22 +453,28 @@ public final class RoseauCLI implements Callable<Integer> {
 		}
 	}
 
-	private RoseauReport filterReport(RoseauReport report, RoseauOptions.Diff diffOptions) {
-		List<BreakingChange> bcs = diffOptions.sourceOnly()
-			? report.getSourceBreakingChanges()
+	private RoseauReport filterReport(RoseauReport report) {
+		List<BreakingChange> bcs = report.getBreakingChanges().stream()
+			.filter(reportable)
+			.toList();
+
+		return new RoseauReport(report.v1(), report.v2(), bcs, report.getUnanalyzedTypes());
+	}
+
+	private static Predicate<BreakingChange> makeReportable(RoseauOptions.Diff diffOptions) {
+		Predicate<BreakingChange> reportable = diffOptions.sourceOnly()
+			? bc -> bc.kind().isSourceBreaking()
 			: diffOptions.binaryOnly()
-				? report.getBinaryBreakingChanges()
-				: report.getBreakingChanges();
+				? bc -> bc.kind().isBinaryBreaking()
+				: _ -> true;
 
 		Path ignorePath = diffOptions.ignore();
 		if (ignorePath != null && Files.isRegularFile(ignorePath)) {
 			IgnoredCsvFile ignoredFile = new IgnoredCsvFile(ignorePath);
-			bcs = bcs.stream()
-				.filter(bc -> !ignoredFile.isIgnored(bc))
-				.toList();
+			reportable = reportable.and(bc -> !ignoredFile.isIgnored(bc));
 		}
 
-		return new RoseauReport(report.v1(), report.v2(), bcs);
+		return reportable;
 	}
 
 	private void checkOptions(RoseauOptions options) {
@@ -199,6 +488,25 @@ public final class RoseauCLI implements Callable<Integer> {
 			throw new RoseauException("Specify either --source-only or --binary-only");
 		}
 
+		if (failFast) {
+			checkFailFastOptions(options);
+		}
+
+		if (clients != null) {
+			checkClientsOptions();
+		}
+
+		if (mode.history != null) {
+			checkVersionsOptions("--history", mode.history, options);
+			return;
+		}
+
+		if (mode.bisect != null) {
+			checkVersionsOptions("--bisect", mode.bisect, options);
+			checkBisectOptions(options);
+			return;
+		}
+
 		if (v1Path == null || !Files.exists(v1Path)) {
 			throw new RoseauException("Cannot find v1: %s".formatted(v1Path));
 		}
@@ -212,6 +520,10 @@ public final class RoseauCLI implements Callable<Integer> {
 			throw new RoseauException("Cannot find v2: %s".formatted(v2Path));
 		}
 
+		if (mode.diff && v2 != null && v2.size() > 1) {
+			checkCandidatesOptions(options);
+		}
+
 		if (reportPath != null && format == null) {
 			throw new RoseauException("--format option required with --report");
 		}
@@ -237,6 +549,89 @@ public final class RoseauCLI implements Callable<Integer> {
 		}
 	}
 
+	private void checkVersionsOptions(String option, String versionsString, RoseauOptions options) {
+		List<Path> versions = buildVersionsFromString(versionsString);
+		if (versions.size() < 2) {
+			throw new RoseauException("%s requires at least two versions".formatted(option));
+		}
+
+		versions.forEach(version -> {
+			if (!Files.exists(version)) {
+				throw new RoseauException("Cannot find version: %s".formatted(version));
+			}
+		});
+
+		if (reportPath != null && format == null) {
+			throw new RoseauException("--format option required with --report");
+		}
+
+		Path pomPath = options.common().classpath().pom();
+		if (pomPath != null && !Files.isRegularFile(pomPath)) {
+			throw new RoseauException("Cannot find pom: %s".formatted(pomPath));
+		}
+
+		Path ignoredPath = options.diff().ignore();
+		if (ignoredPath != null && !Files.isRegularFile(ignoredPath)) {
+			throw new RoseauException("Cannot find ignored CSV: %s".formatted(ignoredPath));
+		}
+	}
+
+	private void checkBisectOptions(RoseauOptions options) {
+		if (symbol == null && kind == null) {
+			throw new RoseauException("--bisect requires --symbol and/or --kind");
+		}
+
+		if (!options.reports().isEmpty()) {
+			throw new RoseauException("Reports are not supported in --bisect mode");
+		}
+	}
+
+	private void checkCandidatesOptions(RoseauOptions options) {
+		v2.forEach(candidate -> {
+			if (!Files.exists(candidate)) {
+				throw new RoseauException("Cannot find v2: %s".formatted(candidate));
+			}
+		});
+
+		if (failFast) {
+			throw new RoseauException("--fail-fast does not support several --v2");
+		}
+
+		if (!options.reports().isEmpty() || options.v1().apiReport() != null || options.v2().apiReport() != null) {
+			throw new RoseauException("Reports are not supported with several --v2");
+		}
+	}
+
+	private void checkClientsOptions() {
+		if (!mode.diff) {
+			throw new RoseauException("--clients is only supported in --diff mode");
+		}
+
+		if (failFast || (v2 != null && v2.size() > 1)) {
+			throw new RoseauException("--clients does not support --fail-fast or several --v2");
+		}
+
+		buildVersionsFromString(clients).forEach(client -> {
+			if (!Files.exists(client)) {
+				throw new RoseauException("Cannot find client: %s".formatted(client));
+			}
+		});
+	}
+
+	private void checkFailFastOptions(RoseauOptions options) {
+		if (!mode.diff) {
+			throw new RoseauException("--fail-fast is only supported in --diff mode");
+		}
+
+		if (!failMode) {
+			throw new RoseauException("--fail-fast requires --fail-on-bc");
+		}
+
+		if (!options.reports().isEmpty()) {
+			throw new RoseauException("--fail-fast does not produce reports");
+		}
+	}
+
 	private RoseauOptions makeCliOptions() {
 		// No CLI option (yet?) for API exclusions
 		RoseauOptions.Exclude noExclusions = new RoseauOptions.Exclude(List.of(), List.of());
@@ -245,7 +640,7 @@ public final class RoseauCLI implements Callable<Integer> {
 		RoseauOptions.Library v1Cli = new RoseauOptions.Library(
 			v1, new RoseauOptions.Classpath(v1Pom, buildClasspathFromString(v1Classpath)), noExclusions, apiJson);
 		RoseauOptions.Library v2Cli = new RoseauOptions.Library(
-			v2, new RoseauOptions.Classpath(v2Pom, buildClasspathFromString(v2Classpath)), noExclusions, null);
+			v2 != null ? v2.getFirst() : null, new RoseauOptions.Classpath(v2Pom, buildClasspathFromString(v2Classpath)), noExclusions, null);
 		boolean cliSourceOnly = Boolean.TRUE.equals(sourceOnly);
 		boolean cliBinaryOnly = Boolean.TRUE.equals(binaryOnly);
 		RoseauOptions.Diff diffCli = new RoseauOptions.Diff(ignoredCsv, cliSourceOnly, cliBinaryOnly);
@@ -255,25 +650,32 @@ public final class RoseauCLI implements Callable<Integer> {
 		return new RoseauOptions(commonCli, v1Cli, v2Cli, diffCli, reportsCli);
 	}
 
-	private void buildClasspath(Library library) {
+	private void buildClasspath(List<Library> libraries) {
 		Stopwatch sw = Stopwatch.createStarted();
-		if (library.getPom() != null && Files.isRegularFile(library.getPom())) {
+		if (libraries.stream().anyMatch(library -> library.getPom() != null && Files.isRegularFile(library.getPom()))) {
 			console.printVerbose("Building classpath... ");
 		}
-		List<Path> classpath = library.getClasspath();
-		console.printlnVerbose("%d classpath entries for %s (%d ms)".formatted(classpath.size(), library.getLocation(),
-			sw.elapsed().toMillis()));
 
-		if (classpath.isEmpty()) {
-			console.printlnErr("Warning: no classpath provided, results may be inaccurate");
+		// Resolving a pom.xml may fork Maven; resolve all classpaths concurrently up front
+		List<CompletableFuture<List<Path>>> futures = libraries.stream()
+			.map(library -> CompletableFuture.supplyAsync(() -> library.getClasspath(deadline)))
+			.toList();
+		for (int i = 0; i < libraries.size(); i++) {
+			List<Path> classpath = futures.get(i).join();
+			console.printlnVerbose("%d classpath entries for %s (%d ms)".formatted(classpath.size(),
+				libraries.get(i).getLocation(), sw.elapsed().toMillis()));
+
+			if (classpath.isEmpty()) {
+				console.printlnErr("Warning: no classpath provided, results may be inaccurate");
+			}
 		}
 	}
 
 	private void doApi(Library library, RoseauOptions.Library libraryOptions) {
-		buildClasspath(library);
+		buildClasspath(List.of(library));
 		Stopwatch sw = Stopwatch.createStarted();
 		console.printVerbose("Building API... ");
-		API api = Roseau.buildAPI(library);
+		API api = buildAPI(library);
 		console.printlnVerbose(" %d types (%d ms)".formatted(api.getLibraryTypes().getAllTypes().size(),
 			sw.elapsed().toMillis()));
 		if (libraryOptions.apiReport() != null) {
@@ -282,10 +684,11 @@ public final class RoseauCLI implements Callable<Integer> {
 	}
 
 	private boolean doDiff(Library v1, Library v2, RoseauOptions options) {
-		buildClasspath(v1);
-		buildClasspath(v2);
-		RoseauReport report = filterReport(diff(v1, v2), options.diff());
-		console.println(new CliFormatter(plain ? CliFormatter.Mode.PLAIN : CliFormatter.Mode.ANSI).format(report));
+		buildClasspath(List.of(v1, v2));
+		RoseauReport report = filterReport(diff(v1, v2));
+		CliFormatter formatter = new CliFormatter(plain ? CliFormatter.Mode.PLAIN : CliFormatter.Mode.ANSI);
+		console.println(format(formatter, BreakingChangesFormatterFactory.CLI, report));
+		report.getUnanalyzedTypes().forEach(type -> console.printlnVerbose("Not analyzed: " + type.getQualifiedName()));
 
 		if (options.v1().apiReport() != null) {
 			writeApiReport(report.v1(), options.v1().apiReport());
@@ -297,9 +700,35 @@ public final class RoseauCLI implements Callable<Integer> {
 			writeReport(report, reportOption.format(), reportOption.file())
 		);
 
+		if (clients != null) {
+			return doClients(report);
+		}
+
 		return !report.getBreakingChanges().isEmpty();
 	}
 
+	private boolean doClients(RoseauReport report) {
+		List<Path> jars = buildClientsFromString(clients);
+		Stopwatch sw = Stopwatch.createStarted();
+		console.printVerbose("Scanning clients... ");
+		List<ClientImpact> impacted = Roseau.findImpactedClients(report, jars).stream()
+			.filter(ClientImpact::isImpacted)
+			.toList();
+		console.printlnVerbose("%d clients (%d ms)".formatted(jars.size(), sw.elapsed().toMillis()));
+
+		console.println("%d/%d clients impacted".formatted(impacted.size(), jars.size()));
+		impacted.forEach(impact -> {
+			console.println("%s: %d uses of breaking changes".formatted(impact.client(), impact.hits().size()));
+			impact.hits().forEach(hit -> console.println("  %s%s%s uses %s %s".formatted(
+				hit.type(),
+				hit.member().isEmpty() ? "" : "." + hit.member(),
+				hit.line() >= 0 ? ":" + hit.line() : "",
+				hit.breakingChange().symbol(),
+				hit.breakingChange().kind())));
+		});
+		return !impacted.isEmpty();
+	}
+
 	@Override
 	public Integer call() {
 		Console.Verbosity verbosity = verbosityLevel == null
@@ -310,6 +739,7 @@ public final class RoseauCLI implements Callable<Integer> {
 			default -> Console.Verbosity.DEBUG;
 		};
 
+		boolean failed = false;
 		try {
 			console = new Console(spec.commandLine().getOut(), spec.commandLine().getErr(), verbosity);
 
@@ -319,26 +749,65 @@ public final class RoseauCLI implements Callable<Integer> {
 				Configurator.setAllLevels(LogManager.getRootLogger().getName(), Level.INFO);
 			}
 
+			if (profile != null) {
+				profiler = new ProfilingMetrics();
+				Metrics.register(profiler);
+			}
+
+			if (timeout != null) {
+				if (timeout <= 0) {
+					throw new RoseauException("--timeout must be positive");
+				}
+				deadline = Deadline.after(Duration.ofSeconds(timeout));
+			}
+
 			RoseauOptions cliOptions = makeCliOptions();
 			RoseauOptions fileOptions = config != null && Files.isRegularFile(config)
 				? RoseauOptions.load(config)
 				: RoseauOptions.newDefault();
 			RoseauOptions options = fileOptions.mergeWith(cliOptions);
 			checkOptions(options);
+			reportable = makeReportable(options.diff());
 			console.printlnDebug("Options are " + options);
 
 			if (mode.api) {
-				Library libraryV1 = options.v1().mergeWith(options.common()).toLibrary();
+				Library libraryV1 = options.v1().mergeWith(options.common()).toLibrary(classpathCache);
 				console.printlnDebug("v1 = " + libraryV1);
 				doApi(libraryV1, options.v1());
 			}
 
 			if (mode.diff) {
-				Library libraryV1 = options.v1().mergeWith(options.common()).toLibrary();
-				Library libraryV2 = options.v2().mergeWith(options.common()).toLibrary();
+				Library libraryV1 = options.v1().mergeWith(options.common()).toLibrary(classpathCache);
+				List<Library> candidates = buildCandidates(options);
 				console.printlnDebug("v1 = " + libraryV1);
-				console.printlnDebug("v2 = " + libraryV2);
-				boolean breaking = doDiff(libraryV1, libraryV2, options);
+				console.printlnDebug("v2 = " + candidates);
+				boolean breaking = failFast
+					? doCheck(libraryV1, candidates.getFirst())
+					: candidates.size() > 1
+						? doDiffs(libraryV1, candidates)
+						: doDiff(libraryV1, candidates.getFirst(), options);
+
+				if (breaking && failMode) {
+					return ExitCode.BREAKING.code();
+				}
+			}
+
+			if (mode.history != null) {
+				List<Library> versions = buildVersions(mode.history, options);
+				console.printlnDebug("versions = " + versions);
+				buildClasspath(versions);
+				boolean breaking = doHistory(versions, options);
+
+				if (breaking && failMode) {
+					return ExitCode.BREAKING.code();
+				}
+			}
+
+			if (mode.bisect != null) {
+				List<Library> versions = buildVersions(mode.bisect, options);
+				console.printlnDebug("versions = " + versions);
+				buildClasspath(versions);
+				boolean breaking = doBisect(versions);
 
 				if (breaking && failMode) {
 					return ExitCode.BREAKING.code();
@@ -347,6 +816,7 @@ public final class RoseauCLI implements Callable<Integer> {
 
 			return ExitCode.SUCCESS.code();
 		} catch (RuntimeException e) {
+			failed = true;
 			if (verbosity.level >= Console.Verbosity.VERBOSE.level) {
 				console.printStackTrace(e);
 			} else {
@@ -357,6 +827,14 @@ public final class RoseauCLI implements Callable<Integer> {
 				console.printlnErr("Use -v/-vv for detailed error logs.");
 			}
 			return ExitCode.ERROR.code();
+		} finally {
+			if (profiler != null) {
+				Metrics.unregister(profiler);
+				// A failed run's partial timings would only be misleading
+				if (!failed) {
+					printProfile(profiler);
+				}
+			}
 		}
 	}
 
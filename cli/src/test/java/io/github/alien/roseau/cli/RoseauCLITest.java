@@ -5,12 +5,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import picocli.CommandLine;
 
+import javax.tools.ToolProvider;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.io.Writer;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -32,7 +35,7 @@ class RoseauCLITest {
 	void no_mode() {
 		var exitCode = cmd.execute("--v1=src/test/resources/test-project-v1/src");
 
-		assertThat(err.toString()).contains("Missing required argument (specify one of these): (--api | --diff)");
+		assertThat(err.toString()).contains("Missing required argument (specify one of these): (--api | --diff | --history=<path>[,<path>...] | --bisect=<path>[,<path>...])");
 		assertThat(exitCode).isEqualTo(ExitCode.ERROR.code());
 	}
 
@@ -85,6 +88,129 @@ class RoseauCLITest {
 		assertThat(exitCode).isEqualTo(ExitCode.SUCCESS.code());
 	}
 
+	@Test
+	void compact_jar_diff() {
+		var exitCode = cmd.execute("--v1=src/test/resources/test-project-v1/test-project-v1.jar",
+			"--v2=src/test/resources/test-project-v2/test-project-v2.jar",
+			"--diff",
+			"--compact",
+			"--plain");
+
+		assertThat(out.toString()).contains("pkg.T.m() METHOD_REMOVED");
+		assertThat(out.toString()).contains("pkg.T FORMAL_TYPE_PARAMETER_REMOVED");
+		assertThat(exitCode).isEqualTo(ExitCode.SUCCESS.code());
+	}
+
+	@Test
+	void detect_moves_diff() {
+		var exitCode = cmd.execute("--v1=src/test/resources/moves-v1/src",
+			"--v2=src/test/resources/moves-v2/src",
+			"--diff",
+			"--detect-moves",
+			"--plain");
+
+		assertThat(out.toString()).contains("a.C TYPE_REMOVED");
+		assertThat(out.toString()).contains("moved to b.C");
+		assertThat(out.toString()).contains("pkg.R.m(java.lang.String) METHOD_REMOVED");
+		assertThat(out.toString()).contains("renamed to renamed(java.lang.String)");
+		assertThat(exitCode).isEqualTo(ExitCode.SUCCESS.code());
+	}
+
+	@Test
+	void moves_not_detected_by_default() {
+		var exitCode = cmd.execute("--v1=src/test/resources/moves-v1/src",
+			"--v2=src/test/resources/moves-v2/src",
+			"--diff",
+			"--plain");
+
+		assertThat(out.toString()).contains("a.C TYPE_REMOVED");
+		assertThat(out.toString()).doesNotContain("moved to", "renamed to");
+		assertThat(exitCode).isEqualTo(ExitCode.SUCCESS.code());
+	}
+
+	@Test
+	void clients_diff(@TempDir Path tempDir) throws IOException {
+		var clients = tempDir.resolve("clients");
+		buildClient(tempDir, clients.resolve("broken.jar"), "Broken", "public class Broken { void use(pkg.T<?> t) { t.m(); } }");
+		buildClient(tempDir, clients.resolve("safe.jar"), "Safe", "public class Safe { void use(Object o) { o.toString(); } }");
+
+		var exitCode = cmd.execute("--v1=src/test/resources/test-project-v1/test-project-v1.jar",
+			"--v2=src/test/resources/test-project-v2/test-project-v2.jar",
+			"--diff",
+			"--clients=" + clients,
+			"--plain");
+
+		assertThat(out.toString()).contains("pkg.T.m() METHOD_REMOVED");
+		assertThat(out.toString()).contains("1/2 clients impacted");
+		assertThat(out.toString()).contains("Broken.use(pkg.T):1 uses pkg.T.m() METHOD_REMOVED");
+		assertThat(out.toString()).doesNotContain("safe.jar:");
+		assertThat(exitCode).isEqualTo(ExitCode.SUCCESS.code());
+	}
+
+	@Test
+	void clients_outside_diff() {
+		var exitCode = cmd.execute("--v1=src/test/resources/test-project-v1/test-project-v1.jar",
+			"--api",
+			"--api-json=api.json",
+			"--clients=src/test/resources/test-project-v1");
+
+		assertThat(err.toString()).contains("--clients is only supported in --diff mode");
+		assertThat(exitCode).isEqualTo(ExitCode.ERROR.code());
+	}
+
+	@Test
+	void diff_within_timeout() {
+		var exitCode = cmd.execute("--v1=src/test/resources/test-project-v1/test-project-v1.jar",
+			"--v2=src/test/resources/test-project-v2/test-project-v2.jar",
+			"--diff",
+			"--timeout=60",
+			"--plain");
+
+		assertThat(out.toString()).contains("pkg.T.m() METHOD_REMOVED");
+		assertThat(out.toString()).doesNotContain("Incomplete report");
+		assertThat(exitCode).isEqualTo(ExitCode.SUCCESS.code());
+	}
+
+	@Test
+	void invalid_timeout() {
+		var exitCode = cmd.execute("--v1=src/test/resources/test-project-v1/test-project-v1.jar",
+			"--v2=src/test/resources/test-project-v2/test-project-v2.jar",
+			"--diff",
+			"--timeout=0");
+
+		assertThat(err.toString()).contains("--timeout must be positive");
+		assertThat(exitCode).isEqualTo(ExitCode.ERROR.code());
+	}
+
+	@Test
+	void profile_diff() {
+		var exitCode = cmd.execute("--v1=src/test/resources/test-project-v1/test-project-v1.jar",
+			"--v2=src/test/resources/test-project-v2/test-project-v2.jar",
+			"--diff",
+			"--profile=3",
+			"--plain");
+
+		assertThat(out.toString())
+			.contains("pkg.T.m() METHOD_REMOVED")
+			.contains("Slowest types:")
+			.contains("Slowest rules:")
+			.contains("Analyzer caches:")
+			.containsPattern("pkg\\.T: \\d+ ms \\(1 calls\\)");
+		assertThat(exitCode).isEqualTo(ExitCode.SUCCESS.code());
+	}
+
+	@Test
+	void failed_run_does_not_print_profile() {
+		var exitCode = cmd.execute("--v1=src/test/resources/test-project-v1/test-project-v1.jar",
+			"--v2=src/test/resources/test-project-v2/test-project-v2.jar",
+			"--diff",
+			"--timeout=0",
+			"--profile");
+
+		assertThat(out.toString()).doesNotContain("Slowest types:");
+		assertThat(exitCode).isEqualTo(ExitCode.ERROR.code());
+	}
+
 	@Test
 	void non_local_members_show_containing_type() {
 		var exitCode = cmd.execute("--v1=src/test/resources/inheritance-v1/src",
@@ -194,6 +320,69 @@ class RoseauCLITest {
 		assertThat(exitCode).isEqualTo(ExitCode.SUCCESS.code());
 	}
 
+	@Test
+	void fail_fast_with_breaking_changes() {
+		var exitCode = cmd.execute("--v1=src/test/resources/test-project-v1/src",
+			"--v2=src/test/resources/test-project-v2/src",
+			"--diff",
+			"--fail-on-bc",
+			"--fail-fast",
+			"--binary-only");
+
+		assertThat(out.toString()).contains("Found breaking change");
+		assertThat(exitCode).isEqualTo(ExitCode.BREAKING.code());
+	}
+
+	@Test
+	void fail_fast_without_breaking_changes() {
+		var exitCode = cmd.execute("--v1=src/test/resources/test-project-v1/src",
+			"--v2=src/test/resources/test-project-v1/src",
+			"--diff",
+			"--fail-on-bc",
+			"--fail-fast");
+
+		assertThat(out.toString()).contains("No breaking change found");
+		assertThat(exitCode).isEqualTo(ExitCode.SUCCESS.code());
+	}
+
+	@Test
+	void several_v2_diff() {
+		var exitCode = cmd.execute("--v1=src/test/resources/test-project-v1/test-project-v1.jar",
+			"--v2=src/test/resources/test-project-v1/test-project-v1.jar",
+			"--v2=src/test/resources/test-project-v2/test-project-v2.jar",
+			"--diff",
+			"--fail-on-bc",
+			"--plain");
+
+		assertThat(out.toString())
+			.contains("test-project-v1.jar: 0 breaking changes")
+			.contains("test-project-v2.jar: 3 breaking changes")
+			.contains("pkg.T.m() METHOD_REMOVED");
+		assertThat(exitCode).isEqualTo(ExitCode.BREAKING.code());
+	}
+
+	@Test
+	void several_v2_invalid_version() {
+		var exitCode = cmd.execute("--v1=src/test/resources/test-project-v1/test-project-v1.jar",
+			"--v2=src/test/resources/test-project-v2/test-project-v2.jar",
+			"--v2=src/test/resources/invalid-path",
+			"--diff");
+
+		assertThat(err.toString()).contains("Cannot find v2: src/test/resources/invalid-path");
+		assertThat(exitCode).isEqualTo(ExitCode.ERROR.code());
+	}
+
+	@Test
+	void fail_fast_requires_fail_on_bc() {
+		var exitCode = cmd.execute("--v1=src/test/resources/test-project-v1/src",
+			"--v2=src/test/resources/test-project-v2/src",
+			"--diff",
+			"--fail-fast");
+
+		assertThat(err.toString()).contains("--fail-fast requires --fail-on-bc");
+		assertThat(exitCode).isEqualTo(ExitCode.ERROR.code());
+	}
+
 	// --- APIs --- //
 	@Test
 	void write_api_no_file() {
@@ -289,6 +478,111 @@ class RoseauCLITest {
 		assertThat(exitCode).isEqualTo(ExitCode.ERROR.code());
 	}
 
+	// --- History --- //
+	@Test
+	void simple_history() {
+		var exitCode = cmd.execute("--history=src/test/resources/test-project-v1/test-project-v1.jar," +
+				"src/test/resources/test-project-v2/test-project-v2.jar," +
+				"src/test/resources/test-project-v1/test-project-v1.jar",
+			"--plain");
+
+		assertThat(out.toString())
+			.contains("test-project-v1.jar → test-project-v2.jar:")
+			.contains("test-project-v2.jar → test-project-v1.jar:")
+			.contains("pkg.T.m() METHOD_REMOVED");
+		assertThat(exitCode).isEqualTo(ExitCode.SUCCESS.code());
+	}
+
+	@Test
+	void history_fail_mode_with_breaking_changes() {
+		var exitCode = cmd.execute("--history=src/test/resources/test-project-v1/test-project-v1.jar," +
+				"src/test/resources/test-project-v1/test-project-v1.jar," +
+				"src/test/resources/test-project-v2/test-project-v2.jar",
+			"--fail-on-bc");
+
+		assertThat(out.toString()).contains("test-project-v1.jar → test-project-v1.jar: 0 breaking changes");
+		assertThat(exitCode).isEqualTo(ExitCode.BREAKING.code());
+	}
+
+	@Test
+	void history_single_version() {
+		var exitCode = cmd.execute("--history=src/test/resources/test-project-v1/test-project-v1.jar");
+
+		assertThat(err.toString()).contains("--history requires at least two versions");
+		assertThat(exitCode).isEqualTo(ExitCode.ERROR.code());
+	}
+
+	@Test
+	void history_invalid_version() {
+		var exitCode = cmd.execute("--history=src/test/resources/test-project-v1/test-project-v1.jar," +
+			"src/test/resources/invalid-path");
+
+		assertThat(err.toString()).contains("Cannot find version:");
+		assertThat(exitCode).isEqualTo(ExitCode.ERROR.code());
+	}
+
+	@Test
+	void write_history_timeline(@TempDir Path tempDir) throws IOException {
+		var reportFile = tempDir.resolve("timeline.csv");
+		var exitCode = cmd.execute("--history=src/test/resources/test-project-v1/test-project-v1.jar," +
+				"src/test/resources/test-project-v2/test-project-v2.jar," +
+				"src/test/resources/test-project-v1/test-project-v1.jar",
+			"--report=" + reportFile,
+			"--format=CSV");
+
+		assertThat(Files.readAllLines(reportFile))
+			.first().isEqualTo("from;to;type;symbol;kind;nature;location");
+		assertThat(Files.readString(reportFile))
+			.containsPattern("test-project-v1.jar;.*test-project-v2.jar;pkg.T;pkg.T.m\\(\\);METHOD_REMOVED");
+		assertThat(exitCode).isEqualTo(ExitCode.SUCCESS.code());
+	}
+
+	@Test
+	void write_history_timeline_unsupported_format(@TempDir Path tempDir) {
+		var reportFile = tempDir.resolve("timeline.json");
+		var exitCode = cmd.execute("--history=src/test/resources/test-project-v1/test-project-v1.jar," +
+				"src/test/resources/test-project-v2/test-project-v2.jar",
+			"--report=" + reportFile,
+			"--format=JSON");
+
+		assertThat(err.toString()).contains("Only --format CSV is supported in --history mode");
+		assertThat(exitCode).isEqualTo(ExitCode.ERROR.code());
+	}
+
+	// --- Bisect --- //
+	@Test
+	void bisect_first_breaking_version() {
+		var exitCode = cmd.execute("--bisect=src/test/resources/test-project-v1/test-project-v1.jar," +
+				"src/test/resources/test-project-v1/test-project-v1.jar," +
+				"src/test/resources/test-project-v2/test-project-v2.jar",
+			"--symbol=pkg.T.m()",
+			"--kind=METHOD_REMOVED",
+			"--fail-on-bc");
+
+		assertThat(out.toString()).containsPattern("First breaking version: .*test-project-v2.jar \\(3/3\\)");
+		assertThat(exitCode).isEqualTo(ExitCode.BREAKING.code());
+	}
+
+	@Test
+	void bisect_no_breaking_version() {
+		var exitCode = cmd.execute("--bisect=src/test/resources/test-project-v1/test-project-v1.jar," +
+				"src/test/resources/test-project-v2/test-project-v2.jar",
+			"--kind=TYPE_REMOVED",
+			"--fail-on-bc");
+
+		assertThat(out.toString()).contains("No version introduces the breaking change");
+		assertThat(exitCode).isEqualTo(ExitCode.SUCCESS.code());
+	}
+
+	@Test
+	void bisect_requires_query() {
+		var exitCode = cmd.execute("--bisect=src/test/resources/test-project-v1/test-project-v1.jar," +
+			"src/test/resources/test-project-v2/test-project-v2.jar");
+
+		assertThat(err.toString()).contains("--bisect requires --symbol and/or --kind");
+		assertThat(exitCode).isEqualTo(ExitCode.ERROR.code());
+	}
+
 	// --- Reports --- //
 	@Test
 	void diff_without_report() {
@@ -573,4 +867,22 @@ class RoseauCLITest {
 		assertThat(err.toString()).contains("Invalid path to library");
 		assertThat(exitCode).isEqualTo(ExitCode.ERROR.code());
 	}
+
+	// Compiles a single class against test-project-v1 and packages it as a client JAR
+	private static void buildClient(Path tempDir, Path jar, String className, String source) throws IOException {
+		var classes = Files.createDirectories(tempDir.resolve("classes").resolve(className));
+		var file = classes.resolve(className + ".java");
+		Files.writeString(file, source);
+		var compiler = ToolProvider.getSystemJavaCompiler();
+		var result = compiler.run(null, null, null, "-sourcepath", "src/test/resources/test-project-v1/src",
+			"-implicit:none", "-d", classes.toString(), file.toString());
+		assertThat(result).isZero();
+
+		Files.createDirectories(jar.getParent());
+		try (var out = new JarOutputStream(Files.newOutputStream(jar))) {
+			out.putNextEntry(new JarEntry(className + ".class"));
+			out.write(Files.readAllBytes(classes.resolve(className + ".class")));
+			out.closeEntry();
+		}
+	}
 }
@@ -0,0 +1,6 @@
+package a;
+
+public class C {
+	public int f;
+	public void m() {}
+}
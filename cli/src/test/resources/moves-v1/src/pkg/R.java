@@ -0,0 +1,6 @@
+package pkg;
+
+public class R {
+	public int m(String s) { return 0; }
+	public void n() {}
+}
@@ -0,0 +1,6 @@
+package b;
+
+public class C {
+	public int f;
+	public void m() {}
+}
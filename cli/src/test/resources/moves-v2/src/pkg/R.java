@@ -0,0 +1,6 @@
+package pkg;
+
+public class R {
+	public int renamed(String s) { return 0; }
+	public void n() {}
+}
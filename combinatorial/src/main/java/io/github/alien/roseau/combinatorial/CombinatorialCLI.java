@@ -4,6 +4,7 @@ import io.github.alien.roseau.combinatorial.mode.CLIMode;
 import io.github.alien.roseau.combinatorial.mode.CombinatorialBenchmark;
 import io.github.alien.roseau.combinatorial.mode.GenerateClient;
 import io.github.alien.roseau.combinatorial.utils.ExplorerUtils;
+import io.github.alien.roseau.combinatorial.v2.Shard;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import picocli.CommandLine;
@@ -29,6 +30,16 @@ public final class CombinatorialCLI implements Callable<Integer> {
 		defaultValue = "false")
 	private boolean skipPreviousV2Failures;
 
+	@CommandLine.Option(names = { "-r", "--resume" },
+		description = "Skip all strategies already journaled by a previous or concurrent run in the output directory; only for BENCH mode; defaults to false",
+		defaultValue = "false")
+	private boolean resume;
+
+	@CommandLine.Option(names = { "--shard" },
+		description = "Only benchmark the k-th of n disjoint shards of the strategies, formatted as k/n; only for BENCH mode; defaults to 1/1",
+		defaultValue = "1/1")
+	private String shard;
+
 	@CommandLine.Option(names = { "--api" },
 		description = "Path to the API sources to use for the client generation; only and mandatory for CLIENT mode")
 	private Path apiPath;
@@ -58,6 +69,8 @@ public final class CombinatorialCLI implements Callable<Integer> {
 				threads = availableProcessors;
 				LOGGER.info("Using available processors: {}", availableProcessors);
 			}
+
+			Shard.parse(shard);
 		}
 
 		if (mode == CLIMode.CLIENT) {
@@ -77,7 +90,7 @@ public final class CombinatorialCLI implements Callable<Integer> {
 			checkArguments();
 
 			if (mode == CLIMode.BENCH) {
-				new CombinatorialBenchmark(threads, skipPreviousV2Failures, outputPath, tmpOutputPath).run();
+				new CombinatorialBenchmark(threads, skipPreviousV2Failures, resume, Shard.parse(shard), outputPath, tmpOutputPath).run();
 			} else if (mode == CLIMode.CLIENT) {
 				new GenerateClient(apiPath, outputPath, tmpOutputPath).run();
 			}
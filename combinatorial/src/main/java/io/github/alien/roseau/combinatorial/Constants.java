@@ -13,6 +13,7 @@ public final class Constants {
 	public static final String ERRORS_FOLDER = "errors";
 	public static final String IMPOSSIBLE_STRATEGIES_FOLDER = "impossible_strategies";
 	public static final String RESULTS_FOLDER = "results";
+	public static final String CHECKPOINTS_FOLDER = "checkpoints";
 
 	public static Path getFailedStrategiesPath(Path outputPath) {
 		return outputPath.resolve(ERRORS_FOLDER);
@@ -25,4 +26,8 @@ public final class Constants {
 	public static Path getResultsPath(Path outputPath) {
 		return outputPath.resolve(RESULTS_FOLDER);
 	}
+
+	public static Path getCheckpointsPath(Path outputPath) {
+		return outputPath.resolve(CHECKPOINTS_FOLDER);
+	}
 }
@@ -28,13 +28,19 @@ import io.github.alien.roseau.combinatorial.builder.RecordComponentBuilder;
 import io.github.alien.roseau.combinatorial.builder.TypeBuilder;
 
 import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -95,8 +101,6 @@ public final class CombinatorialApi {
 
 	static final List<Boolean> isHidingAndOverridingValues = List.of(/*true, */false);
 
-	static List<ClassBuilder> classBuilders = new ArrayList<>();
-	static List<InterfaceBuilder> interfaceBuilders = new ArrayList<>();
 
 	static final String apiPackageName = "api";
 
@@ -105,17 +109,39 @@ public final class CombinatorialApi {
 	static final int enumValuesCount = 2;
 	static final int paramsCount = 1;
 
-	static int symbolCounter = 0;
-	static int constructorCounter = 0;
-	static int methodCounter = 0;
+	private final Library library;
 
 	final Map<String, TypeBuilder> typeStore = new HashMap<>();
+	private final List<ClassBuilder> classBuilders = new ArrayList<>();
+	private final List<InterfaceBuilder> interfaceBuilders = new ArrayList<>();
+
+	private int symbolCounter = 0;
+	private int constructorCounter = 0;
+
+	/**
+	 * The numbers of symbols and methods generated so far, from which member names and round-robin choices derive.
+	 */
+	private static final class Counters {
+		int symbols;
+		int methods;
+
+		Counters(int symbols, int methods) {
+			this.symbols = symbols;
+			this.methods = methods;
+		}
+	}
+
+	/**
+	 * @param apiPath the existing directory the generated API is written to
+	 */
+	public CombinatorialApi(Path apiPath) {
+		library = Library.of(apiPath);
+	}
 
 	public API build() {
 		createTypes();
 
-		weaveFields();
-		weaveMethods();
+		weaveMembers();
 
 		createHierarchies();
 
@@ -129,71 +155,127 @@ public final class CombinatorialApi {
 		createEnums();
 	}
 
-	private void weaveFields() {
-		typeStore.forEach((fqn, t) ->
-			fieldVisibilities(t).forEach(visibility ->
-				fieldModifiers(t).forEach(modifiers ->
-					fieldTypes.forEach(type -> {
-						var builder = new FieldBuilder();
-						builder.qualifiedName = t.qualifiedName + ".f" + ++symbolCounter;
-						builder.visibility = visibility;
-						builder.modifiers = toEnumSet(modifiers, Modifier.class);
-						builder.type = type;
-						builder.containingType = typeReferenceFactory.createTypeReference(t.qualifiedName);
-						t.fields.add(builder);
-					})
-				)
-			)
-		);
+	/*
+	 * Members only depend on their type and on the counters: weaving each type from zero first tells how far it moves
+	 * the counters, so that every type can then be woven in parallel from its own offsets, with the same members as a
+	 * sequential weaving.
+	 */
+	private void weaveMembers() {
+		var types = List.copyOf(typeStore.values());
+		var start = new Counters(symbolCounter, 0);
+
+		var fieldsStarts = offsets(types, CombinatorialApi::fieldsOf, start);
+		IntStream.range(0, types.size()).parallel()
+			.forEach(i -> types.get(i).fields.addAll(fieldsOf(types.get(i), fieldsStarts.get(i))));
+
+		var methodsStarts = offsets(types, CombinatorialApi::methodsOf, fieldsStarts.getLast());
+		IntStream.range(0, types.size()).parallel()
+			.forEach(i -> types.get(i).methods.addAll(methodsOf(types.get(i), methodsStarts.get(i))));
+
+		checkSequentialWeaving(start, methodsStarts.getLast());
+
+		symbolCounter = methodsStarts.getLast().symbols;
 	}
 
-	private void weaveMethods() {
-		var paramsCountToMethodsParamsTypes = getParamsCountToParamsTypesMap();
+	/*
+	 * Weaves all types again one after the other, in the iteration order of the type store, as the fields then the
+	 * methods used to be woven: the members of every type and the final counters must be the same as the parallel ones.
+	 */
+	private void checkSequentialWeaving(Counters start, Counters end) {
+		var counters = new Counters(start.symbols, start.methods);
+		var fields = new HashMap<String, List<String>>();
+		typeStore.forEach((fqn, t) -> fields.put(fqn, fieldSignaturesOf(fieldsOf(t, counters))));
+		var methods = new HashMap<String, List<String>>();
+		typeStore.forEach((fqn, t) -> methods.put(fqn, methodSignaturesOf(methodsOf(t, counters))));
 
-		typeStore.forEach((fqn, t) ->
-			methodVisibilities(t).forEach(visibility ->
-				methodModifiers(t).forEach(modifiers -> {
-					// Parameters different types and count
-					IntStream.range(0, paramsCount + 1).forEach(methodParamsCount -> {
-						var methodsParamsTypesForParamsCount = paramsCountToMethodsParamsTypes.get(methodParamsCount);
-						if (methodParamsCount > 1) {
-							methodsParamsTypesForParamsCount = List.of(methodsParamsTypesForParamsCount.get(methodCounter % methodsParamsTypesForParamsCount.size()));
-						}
+		typeStore.forEach((fqn, t) -> {
+			if (!fields.get(fqn).equals(fieldSignaturesOf(t.fields)) || !methods.get(fqn).equals(methodSignaturesOf(t.methods))) {
+				throw new IllegalStateException("Members of %s differ from a sequential weaving".formatted(fqn));
+			}
+		});
 
-						methodsParamsTypesForParamsCount.forEach(methodParamsTypes -> {
-							var parameters = new ArrayList<ParameterBuilder>();
-							IntStream.range(0, methodParamsTypes.size()).forEach(paramIndex -> {
-								var param = methodParamsTypes.get(paramIndex % methodParamsTypes.size());
-								parameters.add(generateParameterBuilder("p" + paramIndex, param, false));
-							});
+		if (counters.symbols != end.symbols || counters.methods != end.methods) {
+			throw new IllegalStateException("Counters %d/%d differ from a sequential weaving's %d/%d".formatted(
+				end.symbols, end.methods, counters.symbols, counters.methods));
+		}
+	}
 
-							createMethodAndAddToType(visibility, modifiers, parameters, t);
-						});
-					});
+	private static List<String> fieldSignaturesOf(List<FieldBuilder> fields) {
+		return fields.stream()
+			.map(f -> "%s %s %s %s".formatted(f.visibility, f.modifiers, f.type, f.qualifiedName))
+			.toList();
+	}
 
-					// Varargs
-					IntStream.range(1, paramsCount + 1).forEach(methodParamsCount ->
-						fieldTypes.forEach(varArgsParamType -> {
-							var methodsParamsTypesForParamsCount = paramsCountToMethodsParamsTypes.get(methodParamsCount - 1);
-							var methodParamsTypes = methodsParamsTypesForParamsCount.get(methodCounter % methodsParamsTypesForParamsCount.size());
-							var parameters = new ArrayList<ParameterBuilder>();
+	private static List<String> methodSignaturesOf(List<MethodBuilder> methods) {
+		return methods.stream()
+			.map(m -> "%s %s %s %s%s throws %s".formatted(m.visibility, m.modifiers, m.type, m.qualifiedName,
+				m.parameters.stream().map(p -> p.type + (p.isVarargs ? "..." : "")).toList(), m.thrownExceptions))
+			.toList();
+	}
 
-							IntStream.range(0, methodParamsTypes.size()).forEach(paramIndex -> {
-								var param = methodParamsTypes.get(paramIndex % methodParamsTypes.size());
-								parameters.add(generateParameterBuilder("p" + paramIndex, param, false));
-							});
+	// The counters each type starts from, followed by the counters once all types are woven
+	private static List<Counters> offsets(List<TypeBuilder> types, BiConsumer<TypeBuilder, Counters> weaver, Counters start) {
+		var moves = types.parallelStream()
+			.map(t -> {
+				var counters = new Counters(0, 0);
+				weaver.accept(t, counters);
+				return counters;
+			})
+			.toList();
+
+		var offsets = new ArrayList<Counters>(List.of(start));
+		moves.forEach(move -> offsets.add(new Counters(offsets.getLast().symbols + move.symbols, offsets.getLast().methods + move.methods)));
+		return offsets;
+	}
+
+	private static List<FieldBuilder> fieldsOf(TypeBuilder t, Counters counters) {
+		var fields = new ArrayList<FieldBuilder>();
+		fieldVisibilities(t).forEach(visibility ->
+			fieldModifiers(t).forEach(modifiers ->
+				fieldTypes.forEach(type -> {
+					var builder = new FieldBuilder();
+					builder.qualifiedName = t.qualifiedName + ".f" + ++counters.symbols;
+					builder.visibility = visibility;
+					builder.modifiers = toEnumSet(modifiers, Modifier.class);
+					builder.type = type;
+					builder.containingType = typeReferenceFactory.createTypeReference(t.qualifiedName);
+					fields.add(builder);
+				})
+			)
+		);
 
-							parameters.add(generateParameterBuilder("p" + methodParamsCount, varArgsParamType, true));
+		return fields;
+	}
 
-							createMethodAndAddToType(visibility, modifiers, parameters, t);
-						})
-					);
+	private static List<MethodBuilder> methodsOf(TypeBuilder t, Counters counters) {
+		var paramsCountToMethodsParamsTypes = getParamsCountToParamsTypesMap();
 
-					// Overloading
-					var overloadedQualifiedName = t.qualifiedName + ".m" + ++symbolCounter;
-					IntStream.range(0, paramsCount + 1).forEach(methodParamsCount -> {
-						var methodsParamsTypesForParamsCount = paramsCountToMethodsParamsTypes.get(methodParamsCount);
-						var methodParamsTypes = methodsParamsTypesForParamsCount.get(methodCounter % methodsParamsTypesForParamsCount.size());
+		var methods = new ArrayList<MethodBuilder>();
+		methodVisibilities(t).forEach(visibility ->
+			methodModifiers(t).forEach(modifiers -> {
+				// Parameters different types and count
+				IntStream.range(0, paramsCount + 1).forEach(methodParamsCount -> {
+					var methodsParamsTypesForParamsCount = paramsCountToMethodsParamsTypes.get(methodParamsCount);
+					if (methodParamsCount > 1) {
+						methodsParamsTypesForParamsCount = List.of(methodsParamsTypesForParamsCount.get(counters.methods % methodsParamsTypesForParamsCount.size()));
+					}
+
+					methodsParamsTypesForParamsCount.forEach(methodParamsTypes -> {
+						var parameters = new ArrayList<ParameterBuilder>();
+						IntStream.range(0, methodParamsTypes.size()).forEach(paramIndex -> {
+							var param = methodParamsTypes.get(paramIndex % methodParamsTypes.size());
+							parameters.add(generateParameterBuilder("p" + paramIndex, param, false));
+						});
+
+						methods.add(createMethod(visibility, modifiers, parameters, t, counters));
+					});
+				});
+
+				// Varargs
+				IntStream.range(1, paramsCount + 1).forEach(methodParamsCount ->
+					fieldTypes.forEach(varArgsParamType -> {
+						var methodsParamsTypesForParamsCount = paramsCountToMethodsParamsTypes.get(methodParamsCount - 1);
+						var methodParamsTypes = methodsParamsTypesForParamsCount.get(counters.methods % methodsParamsTypesForParamsCount.size());
 						var parameters = new ArrayList<ParameterBuilder>();
 
 						IntStream.range(0, methodParamsTypes.size()).forEach(paramIndex -> {
@@ -201,11 +283,30 @@ public final class CombinatorialApi {
 							parameters.add(generateParameterBuilder("p" + paramIndex, param, false));
 						});
 
-						createMethodAndAddToType(overloadedQualifiedName, visibility, modifiers, parameters, t);
+						parameters.add(generateParameterBuilder("p" + methodParamsCount, varArgsParamType, true));
+
+						methods.add(createMethod(visibility, modifiers, parameters, t, counters));
+					})
+				);
+
+				// Overloading
+				var overloadedQualifiedName = t.qualifiedName + ".m" + ++counters.symbols;
+				IntStream.range(0, paramsCount + 1).forEach(methodParamsCount -> {
+					var methodsParamsTypesForParamsCount = paramsCountToMethodsParamsTypes.get(methodParamsCount);
+					var methodParamsTypes = methodsParamsTypesForParamsCount.get(counters.methods % methodsParamsTypesForParamsCount.size());
+					var parameters = new ArrayList<ParameterBuilder>();
+
+					IntStream.range(0, methodParamsTypes.size()).forEach(paramIndex -> {
+						var param = methodParamsTypes.get(paramIndex % methodParamsTypes.size());
+						parameters.add(generateParameterBuilder("p" + paramIndex, param, false));
 					});
-				})
-			)
+
+					methods.add(createMethod(overloadedQualifiedName, visibility, modifiers, parameters, t, counters));
+				});
+			})
 		);
+
+		return methods;
 	}
 
 	private void createHierarchies() {
@@ -243,11 +344,58 @@ public final class CombinatorialApi {
 	}
 
 	private API getAPI() {
-		var types = new LibraryTypes(Library.of(Path.of("v1")),
-			typeStore.values().stream().map(TypeBuilder::make).collect(Collectors.toSet()));
+		return getAPI(typeStore.values());
+	}
+
+	/*
+	 * Analyses of a type only need the type and its supertypes: building an API out of them instead of the whole
+	 * store keeps the cost of each analysis independent of the number of types generated so far.
+	 */
+	private API getAPI(TypeBuilder type) {
+		var hierarchy = new LinkedHashMap<String, TypeBuilder>();
+		var pending = new ArrayDeque<TypeBuilder>(List.of(type));
+		while (!pending.isEmpty()) {
+			var builder = pending.poll();
+			if (hierarchy.putIfAbsent(builder.qualifiedName, builder) != null) continue;
+
+			var supertypes = new ArrayList<TypeReference<?>>(builder.implementedInterfaces);
+			if (builder instanceof ClassBuilder cls && cls.superClass != null)
+				supertypes.add(cls.superClass);
+			supertypes.stream()
+				.map(ref -> typeStore.get(ref.getQualifiedName()))
+				.filter(Objects::nonNull)
+				.forEach(pending::add);
+		}
+
+		return getAPI(hierarchy.values());
+	}
+
+	private API getAPI(Collection<TypeBuilder> builders) {
+		var types = new LibraryTypes(library, builders.stream().map(TypeBuilder::make).collect(Collectors.toSet()));
 		return types.toAPI();
 	}
 
+	/*
+	 * Unlike HierarchyProvider#getAllMethodsToImplement, which only considers the methods exported to clients, the
+	 * API's own subtypes must also implement the protected abstract methods of effectively final supertypes, e.g.,
+	 * sealed classes.
+	 */
+	private Set<MethodDecl> getMethodsToImplement(TypeBuilder builder, TypeDecl type) {
+		var api = getAPI(builder);
+		return Stream.concat(
+				type.getDeclaredMethods().stream(),
+				api.getAllSuperTypes(type).stream()
+					.map(api.resolver()::resolve)
+					.flatMap(t -> t.map(TypeDecl::getDeclaredMethods).orElseGet(Set::of).stream()))
+			.filter(m -> !m.isPrivate())
+			.collect(Collectors.toMap(api::getErasure, Function.identity(), (m1, m2) -> api.isOverriding(m1, m2) ? m1 : m2))
+			.values().stream()
+			.filter(m -> api.resolver().resolve(m.getContainingType()).map(TypeDecl::isInterface).orElse(false)
+				? !m.isDefault() && !m.isStatic()
+				: m.isAbstract())
+			.collect(Collectors.toSet());
+	}
+
 	private void createInterfaces() {
 		topLevelVisibilities.forEach(visibility ->
 			interfaceModifiers.forEach(modifiers -> {
@@ -420,10 +568,9 @@ public final class CombinatorialApi {
 							.forEach(f -> clsBuilder.fields.add(generateFieldForTypeDeclBuilder(f, clsBuilder)));
 					}
 
-					var currentApi = getAPI();
 					var methodsToGenerate = new HashMap<String, MethodBuilder>();
 					if (!clsBuilder.modifiers.contains(ABSTRACT) && superCls.isAbstract()) {
-						currentApi.getAllMethodsToImplement(superCls)
+						getMethodsToImplement(superClsBuilder, superCls)
 							.forEach(m -> methodsToGenerate.put(m.getSignature(), generateMethodForTypeDeclBuilder(m, clsBuilder)));
 					}
 					if (isHidingAndOverriding) {
@@ -442,7 +589,7 @@ public final class CombinatorialApi {
 
 						clsBuilder.implementedInterfaces.add(typeReferenceFactory.createTypeReference(implementingIntf.getQualifiedName()));
 						if (!clsBuilder.modifiers.contains(ABSTRACT)) {
-							currentApi.getAllMethodsToImplement(implementingIntf)
+							getMethodsToImplement(implementingIntfBuilder, implementingIntf)
 								.forEach(m -> {
 									if (!methodsToGenerate.containsKey(m.getSignature())) {
 										methodsToGenerate.put(m.getSignature(), generateMethodForTypeDeclBuilder(m, clsBuilder));
@@ -567,7 +714,7 @@ public final class CombinatorialApi {
 		});
 
 		if (lastParamIsVarargs) {
-			var currentApi = getAPI();
+			var currentApi = getAPI(classBuilder);
 			var currentConstructor = constructorBuilder.make();
 			var constructorsWithSameErasure = classBuilder.constructors.stream()
 				.filter(c -> currentApi.haveSameErasure(c.make(), currentConstructor))
@@ -591,7 +738,7 @@ public final class CombinatorialApi {
 
 			builder.implementedInterfaces.add(typeReferenceFactory.createTypeReference(implementingIntf.getQualifiedName()));
 			if (!builder.modifiers.contains(ABSTRACT)) {
-				getAPI().getAllMethodsToImplement(implementingIntf)
+				getMethodsToImplement(implementingIntfBuilder, implementingIntf)
 					.forEach(m -> builder.methods.add(generateMethodForTypeDeclBuilder(m, builder)));
 			}
 
@@ -614,11 +761,11 @@ public final class CombinatorialApi {
 		});
 	}
 
-	private static void createMethodAndAddToType(AccessModifier visibility, Set<Modifier> modifiers, List<ParameterBuilder> parameters, TypeBuilder type) {
-		createMethodAndAddToType(type.qualifiedName + ".m" + ++symbolCounter, visibility, modifiers, parameters, type);
+	private static MethodBuilder createMethod(AccessModifier visibility, Set<Modifier> modifiers, List<ParameterBuilder> parameters, TypeBuilder type, Counters counters) {
+		return createMethod(type.qualifiedName + ".m" + ++counters.symbols, visibility, modifiers, parameters, type, counters);
 	}
 
-	private static void createMethodAndAddToType(String qualifiedName, AccessModifier visibility, Set<Modifier> modifiers, List<ParameterBuilder> parameters, TypeBuilder type) {
+	private static MethodBuilder createMethod(String qualifiedName, AccessModifier visibility, Set<Modifier> modifiers, List<ParameterBuilder> parameters, TypeBuilder type, Counters counters) {
 		var methodBuilder = new MethodBuilder();
 
 		methodBuilder.visibility = visibility;
@@ -626,11 +773,11 @@ public final class CombinatorialApi {
 		methodBuilder.parameters = parameters;
 		methodBuilder.containingType = typeReferenceFactory.createTypeReference(type.qualifiedName);
 		methodBuilder.qualifiedName = qualifiedName;
-		methodBuilder.type = methodReturnTypes.get(methodCounter % methodReturnTypes.size());
-		methodBuilder.thrownExceptions = thrownExceptions.get(methodCounter % thrownExceptions.size());
+		methodBuilder.type = methodReturnTypes.get(counters.methods % methodReturnTypes.size());
+		methodBuilder.thrownExceptions = thrownExceptions.get(counters.methods % thrownExceptions.size());
+		counters.methods++;
 
-		type.methods.add(methodBuilder);
-		methodCounter++;
+		return methodBuilder;
 	}
 
 	private static void addEnumValuesToEnumBuilder(EnumBuilder enumBuilder) {
@@ -2,6 +2,7 @@ package io.github.alien.roseau.combinatorial.api;
 
 import io.github.alien.roseau.api.model.API;
 import io.github.alien.roseau.combinatorial.AbstractStep;
+import io.github.alien.roseau.combinatorial.Constants;
 import io.github.alien.roseau.combinatorial.StepExecutionException;
 import io.github.alien.roseau.combinatorial.writer.ApiWriter;
 
@@ -20,7 +21,7 @@ public final class GenerateCombinatorialApi extends AbstractStep {
 			throw new StepExecutionException(this.getClass().getSimpleName(), "Failed to create output hierarchy");
 
 		try {
-			var combinatorialApi = new CombinatorialApi();
+			var combinatorialApi = new CombinatorialApi(outputPath.resolve(Constants.API_FOLDER));
 			api = combinatorialApi.build();
 
 			apiWriter.write(api);
@@ -8,57 +8,89 @@ import io.github.alien.roseau.api.model.EnumDecl;
 import io.github.alien.roseau.api.model.InterfaceDecl;
 import io.github.alien.roseau.api.model.LibraryTypes;
 import io.github.alien.roseau.api.model.RecordDecl;
+import io.github.alien.roseau.api.model.TypeDecl;
 import io.github.alien.roseau.api.model.reference.CachingTypeReferenceFactory;
 import io.github.alien.roseau.api.model.reference.TypeReferenceFactory;
+import io.github.alien.roseau.combinatorial.Constants;
 
 import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
 
+/**
+ * A copy-on-write builder deriving a new API from a baseline one. Types of the baseline are only turned into
+ * {@link TypeBuilder} instances when they are first retrieved through {@link #getMutableType(String)}; every other
+ * {@link TypeDecl} is shared as is between the baseline and the built API.
+ */
 public final class ApiBuilder implements Builder<API> {
-	public final Map<String, TypeBuilder> allTypes = new HashMap<>();
+	private final LibraryTypes baseline;
+	private final Map<String, TypeBuilder> mutableTypes = new HashMap<>();
+	private final Set<String> removedTypes = new HashSet<>();
 
 	public final TypeReferenceFactory typeReferenceFactory;
 
 	public ApiBuilder(TypeReferenceFactory typeReferenceFactory) {
+		this(null, typeReferenceFactory);
+	}
+
+	private ApiBuilder(LibraryTypes baseline, TypeReferenceFactory typeReferenceFactory) {
+		this.baseline = baseline;
 		this.typeReferenceFactory = typeReferenceFactory;
 	}
 
 	@Override
 	public API make() {
-		var types = new LibraryTypes(Library.of(Path.of("api")),
-			allTypes.values().stream().map(TypeBuilder::make).collect(Collectors.toSet()));
-		return types.toAPI();
+		var types = new HashSet<TypeDecl>();
+		if (baseline != null) {
+			baseline.getAllTypes().forEach(type -> {
+				if (!removedTypes.contains(type.getQualifiedName()) && !mutableTypes.containsKey(type.getQualifiedName()))
+					types.add(type);
+			});
+		}
+		mutableTypes.values().forEach(type -> types.add(type.make()));
+
+		// Derived APIs are never written to the baseline's location, but they describe the same library
+		var library = baseline != null ? baseline.getLibrary() : Library.of(Path.of(Constants.API_FOLDER));
+		return new LibraryTypes(library, types).toAPI();
 	}
 
-	public static ApiBuilder from(API api) {
-		var factory = new CachingTypeReferenceFactory();
-		var apiBuilder = new ApiBuilder(factory);
+	/**
+	 * Returns the builder of the given type, copying it from the baseline on first access.
+	 *
+	 * @param qualifiedName the qualified name of the type
+	 * @return the builder of the type, or {@code null} if there is no such mutable type
+	 */
+	public TypeBuilder getMutableType(String qualifiedName) {
+		var mutableType = mutableTypes.get(qualifiedName);
+		if (mutableType != null || removedTypes.contains(qualifiedName)) return mutableType;
+
+		var baselineType = baseline != null ? baseline.findType(qualifiedName).orElse(null) : null;
+		mutableType = switch (baselineType) {
+			case EnumDecl enumDecl -> EnumBuilder.from(enumDecl);
+			case RecordDecl recordDecl -> RecordBuilder.from(recordDecl);
+			case ClassDecl classDecl -> ClassBuilder.from(classDecl);
+			case AnnotationDecl _ -> null;
+			case InterfaceDecl interfaceDecl -> InterfaceBuilder.from(interfaceDecl);
+			case null -> null;
+		};
+		if (mutableType != null) mutableTypes.put(qualifiedName, mutableType);
 
-		api.getLibraryTypes().getAllTypes().forEach(typeDecl -> {
-			switch (typeDecl) {
-				case EnumDecl enumDecl:
-					var enumBuilder = EnumBuilder.from(enumDecl);
-					apiBuilder.allTypes.put(enumDecl.getQualifiedName(), enumBuilder);
-					break;
-				case RecordDecl recordDecl:
-					var recordBuilder = RecordBuilder.from(recordDecl);
-					apiBuilder.allTypes.put(recordDecl.getQualifiedName(), recordBuilder);
-					break;
-				case ClassDecl classDecl:
-					var classBuilder = ClassBuilder.from(classDecl);
-					apiBuilder.allTypes.put(classDecl.getQualifiedName(), classBuilder);
-					break;
-				case AnnotationDecl _:
-					break;
-				case InterfaceDecl interfaceDecl:
-					var interfaceBuilder = InterfaceBuilder.from(interfaceDecl);
-					apiBuilder.allTypes.put(interfaceDecl.getQualifiedName(), interfaceBuilder);
-					break;
-			}
-		});
+		return mutableType;
+	}
 
-		return apiBuilder;
+	public void putType(TypeBuilder type) {
+		removedTypes.remove(type.qualifiedName);
+		mutableTypes.put(type.qualifiedName, type);
+	}
+
+	public void removeType(String qualifiedName) {
+		mutableTypes.remove(qualifiedName);
+		removedTypes.add(qualifiedName);
+	}
+
+	public static ApiBuilder from(API api) {
+		return new ApiBuilder(api.getLibraryTypes(), new CachingTypeReferenceFactory());
 	}
 }
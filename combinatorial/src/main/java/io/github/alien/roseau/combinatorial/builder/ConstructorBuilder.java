@@ -16,6 +16,8 @@ public final class ConstructorBuilder extends ExecutableBuilder {
 		var builder = new ConstructorBuilder();
 
 		builder.mutateWithDecl(constructorDecl);
+		// Generated constructors are named after their type
+		builder.qualifiedName = constructorDecl.getContainingType().getQualifiedName();
 
 		return builder;
 	}
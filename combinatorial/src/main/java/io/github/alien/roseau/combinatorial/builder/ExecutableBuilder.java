@@ -14,6 +14,8 @@ public abstract sealed class ExecutableBuilder extends TypeMemberBuilder permits
 
 	protected void mutateWithDecl(ExecutableDecl decl) {
 		super.mutateWithDecl(decl);
+		// ExecutableDecl#getQualifiedName() includes the signature, which isn't part of the name the decl was built with
+		qualifiedName = "%s.%s".formatted(decl.getContainingType().getQualifiedName(), decl.getSimpleName());
 
 		parameters = new ArrayList<>(decl.getParameters().stream().map(ParameterBuilder::from).toList());
 		formalTypeParameters = new ArrayList<>(decl.getFormalTypeParameters());
@@ -18,6 +18,12 @@ public final class ClientGeneratorVisitor extends AbstractApiVisitor {
 
 	@Override
 	public Visit symbol(Symbol it) {
+		switch (it) {
+			case TypeDecl t: writer.useSliceOf(t); break;
+			case TypeMemberDecl m: getContainingTypeFromTypeMember(m).ifPresent(writer::useSliceOf); break;
+			default: break;
+		}
+
 		if (api.isExported(it)) {
 			switch (it) {
 				case EnumDecl e: generateTypeClients(e); break;
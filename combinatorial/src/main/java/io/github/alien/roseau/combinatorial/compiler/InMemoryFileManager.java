@@ -0,0 +1,164 @@
+package io.github.alien.roseau.combinatorial.compiler;
+
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+
+/**
+ * A file manager keeping the class files produced by the compiler in memory instead of writing them to disk. It can
+ * also serve in-memory class files on the class path, e.g., the unchanged classes of a previous compilation.
+ */
+final class InMemoryFileManager extends ForwardingJavaFileManager<StandardJavaFileManager> {
+	private final Map<String, ByteArrayOutputStream> classes = new TreeMap<>();
+	private final Map<String, byte[]> classpath;
+
+	InMemoryFileManager(StandardJavaFileManager fileManager) {
+		this(fileManager, Map.of());
+	}
+
+	/**
+	 * @param classpath the class files to add to the class path, indexed by binary name
+	 */
+	InMemoryFileManager(StandardJavaFileManager fileManager, Map<String, byte[]> classpath) {
+		super(fileManager);
+		this.classpath = classpath;
+	}
+
+	@Override
+	public Iterable<JavaFileObject> list(Location location, String packageName, Set<JavaFileObject.Kind> kinds,
+	                                     boolean recurse) throws IOException {
+		var files = super.list(location, packageName, kinds, recurse);
+		if (location != StandardLocation.CLASS_PATH || !kinds.contains(JavaFileObject.Kind.CLASS) || classpath.isEmpty())
+			return files;
+
+		var found = new ArrayList<JavaFileObject>();
+		files.forEach(found::add);
+		classpath.forEach((binaryName, bytes) -> {
+			var pkg = binaryName.lastIndexOf('.') < 0 ? "" : binaryName.substring(0, binaryName.lastIndexOf('.'));
+			if (pkg.equals(packageName) || (recurse && pkg.startsWith(packageName + ".")))
+				found.add(new ClassFile(binaryName, bytes));
+		});
+		return found;
+	}
+
+	@Override
+	public String inferBinaryName(Location location, JavaFileObject file) {
+		if (file instanceof ClassFile classFile) return classFile.binaryName;
+		return super.inferBinaryName(location, file);
+	}
+
+	@Override
+	public JavaFileObject getJavaFileForOutput(Location location, String className, JavaFileObject.Kind kind,
+	                                           FileObject sibling) throws IOException {
+		if (kind != JavaFileObject.Kind.CLASS) {
+			return super.getJavaFileForOutput(location, className, kind, sibling);
+		}
+
+		return new SimpleJavaFileObject(uri(className, kind), kind) {
+			@Override
+			public OutputStream openOutputStream() {
+				var out = new ByteArrayOutputStream();
+				classes.put(className, out);
+				return out;
+			}
+		};
+	}
+
+	/**
+	 * Reads the class files of a JAR.
+	 *
+	 * @return the class files, indexed by binary name
+	 */
+	static Map<String, byte[]> readJar(Path jarPath) throws IOException {
+		var classes = new HashMap<String, byte[]>();
+		try (var jar = new JarFile(jarPath.toFile())) {
+			for (var entry : Collections.list(jar.entries())) {
+				var name = entry.getName();
+				if (!name.endsWith(JavaFileObject.Kind.CLASS.extension)) continue;
+
+				try (var in = jar.getInputStream(entry)) {
+					var binaryName = name.substring(0, name.length() - JavaFileObject.Kind.CLASS.extension.length());
+					classes.put(binaryName.replace('/', '.'), in.readAllBytes());
+				}
+			}
+		}
+		return classes;
+	}
+
+	/**
+	 * Packages the given class files in a JAR.
+	 *
+	 * @param classes the class files, indexed by binary name
+	 * @return the bytes of the JAR
+	 */
+	static byte[] toJar(Map<String, byte[]> classes) throws IOException {
+		var bytes = new ByteArrayOutputStream();
+		try (var jar = new JarOutputStream(bytes)) {
+			for (var entry : new TreeMap<>(classes).entrySet()) {
+				jar.putNextEntry(new JarEntry(entry.getKey().replace('.', '/') + JavaFileObject.Kind.CLASS.extension));
+				jar.write(entry.getValue());
+				jar.closeEntry();
+			}
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Returns the class files produced so far.
+	 *
+	 * @return the class files, indexed by binary name
+	 */
+	Map<String, byte[]> getClasses() {
+		var compiled = new HashMap<String, byte[]>();
+		classes.forEach((binaryName, out) -> compiled.put(binaryName, out.toByteArray()));
+		return compiled;
+	}
+
+	static JavaFileObject source(String qualifiedName, String code) {
+		return new SimpleJavaFileObject(uri(qualifiedName, JavaFileObject.Kind.SOURCE), JavaFileObject.Kind.SOURCE) {
+			@Override
+			public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+				return code;
+			}
+		};
+	}
+
+	private static URI uri(String name, JavaFileObject.Kind kind) {
+		return URI.create("mem:///%s%s".formatted(name.replace('.', '/'), kind.extension));
+	}
+
+	private static final class ClassFile extends SimpleJavaFileObject {
+		private final String binaryName;
+		private final byte[] bytes;
+
+		ClassFile(String binaryName, byte[] bytes) {
+			super(uri(binaryName, Kind.CLASS), Kind.CLASS);
+			this.binaryName = binaryName;
+			this.bytes = bytes;
+		}
+
+		@Override
+		public InputStream openInputStream() {
+			return new ByteArrayInputStream(bytes);
+		}
+	}
+}
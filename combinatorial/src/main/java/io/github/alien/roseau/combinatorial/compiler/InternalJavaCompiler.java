@@ -17,11 +17,24 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.lang.reflect.InvocationTargetException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.jar.JarEntry;
 import java.util.jar.JarOutputStream;
 import java.util.stream.Collectors;
@@ -29,6 +42,15 @@ import java.util.stream.Collectors;
 public final class InternalJavaCompiler {
 	private static final Logger LOGGER = LogManager.getLogger(InternalJavaCompiler.class);
 
+	private static final Duration LINK_TIMEOUT = Duration.ofSeconds(10);
+	private static final Duration LINK_GRACE_PERIOD = Duration.ofSeconds(1);
+	private static final int MAX_LEAKED_CLIENT_RUNS = 16;
+
+	/**
+	 * The client runs that outlived their timeout, shared by all the compilers since they all run in the same JVM.
+	 */
+	private static final Set<Thread> LEAKED_CLIENT_RUNS = ConcurrentHashMap.newKeySet();
+
 	private final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
 
 	public List<Diagnostic<? extends JavaFileObject>> packageApiToJar(Path apiPath, Path jarPath) {
@@ -49,7 +71,7 @@ public final class InternalJavaCompiler {
 		return List.of();
 	}
 
-	public List<Diagnostic<? extends JavaFileObject>> compileClientWithApi(Path clientPath, String clientFilename, Path apiJarPath, Path binPath) {
+	public List<Diagnostic<? extends JavaFileObject>> compileClientWithApi(Path clientPath, Path apiJarPath, Path binPath) {
 		if (!ExplorerUtils.cleanOrCreateDirectory(binPath))
 			return List.of(new InternalDiagnostic("Couldn't clean or create client binary directory"));
 
@@ -58,8 +80,8 @@ public final class InternalJavaCompiler {
 		try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
 			fileManager.setLocation(StandardLocation.CLASS_OUTPUT, List.of(binPath.toFile()));
 
-			File clientFile = clientPath.resolve("%s.java".formatted(clientFilename)).toFile();
-			Iterable<? extends JavaFileObject> compilationUnits = fileManager.getJavaFileObjectsFromFiles(List.of(clientFile));
+			var clientFiles = ExplorerUtils.getFilesInPath(clientPath, "java");
+			Iterable<? extends JavaFileObject> compilationUnits = fileManager.getJavaFileObjectsFromFiles(clientFiles);
 			List<String> options = List.of("-source", "21", "-cp", apiJarPath.toString());
 			JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null, compilationUnits);
 			task.call();
@@ -72,20 +94,144 @@ public final class InternalJavaCompiler {
 				.toList();
 	}
 
-	public List<Diagnostic<? extends JavaFileObject>> linkClientWithApi(Path clientBinPath, Path apiJarPath, String clientFilename, String packageName) {
-		var classPaths = "%s:%s".formatted(clientBinPath, apiJarPath);
+	/**
+	 * Incrementally compiles an API in memory: only the given sources are compiled, against the classes of a previous
+	 * compilation, and the resulting classes are overlaid on the previous ones in the JAR written to {@code jarPath}.
+	 * The previous classes of recompiled and removed top-level types, including their nested and anonymous classes, are
+	 * hidden from the compilation and left out of the JAR.
+	 *
+	 * @param sources      the code of each recompiled top-level type, indexed by qualified name
+	 * @param baseClasses  the classes of the previous compilation, indexed by binary name
+	 * @param removedTypes the qualified names of the top-level types removed since the previous compilation
+	 * @param jarPath      where to write the JAR
+	 * @return the classes of the JAR, indexed by binary name, so that they need not be read back
+	 * @throws RuntimeException if the API doesn't compile or the JAR cannot be written
+	 */
+	public Map<String, byte[]> packageApiToJar(Map<String, String> sources, Map<String, byte[]> baseClasses, Set<String> removedTypes, Path jarPath) {
+		var classes = new HashMap<String, byte[]>();
+		baseClasses.forEach((binaryName, bytes) -> {
+			var topLevelName = binaryName.contains("$") ? binaryName.substring(0, binaryName.indexOf('$')) : binaryName;
+			if (!sources.containsKey(topLevelName) && !removedTypes.contains(topLevelName))
+				classes.put(binaryName, bytes);
+		});
+
+		DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+
+		try (var fileManager = new InMemoryFileManager(compiler.getStandardFileManager(diagnostics, null, null), Map.copyOf(classes))) {
+			var compilationUnits = sources.entrySet().stream()
+					.map(e -> InMemoryFileManager.source(e.getKey(), e.getValue()))
+					.toList();
+			if (!compilationUnits.isEmpty())
+				compiler.getTask(null, fileManager, diagnostics, null, null, compilationUnits).call();
+
+			var errors = errorsOf(diagnostics);
+			if (!errors.isEmpty())
+				throw new RuntimeException("Couldn't package API: " + formatCompilerErrors(errors));
+
+			classes.putAll(fileManager.getClasses());
+			Files.createDirectories(jarPath.getParent());
+			Files.write(jarPath, InMemoryFileManager.toJar(classes));
+		} catch (IOException e) {
+			throw new RuntimeException("Unknown error while packaging API to JAR", e);
+		}
+
+		return Map.copyOf(classes);
+	}
+
+	/**
+	 * Reads the classes of a JAR, e.g., to reuse them in subsequent incremental compilations.
+	 *
+	 * @param jarPath the JAR to read
+	 * @return the classes of the JAR, indexed by binary name
+	 */
+	public Map<String, byte[]> readClasses(Path jarPath) {
+		try {
+			return Map.copyOf(InMemoryFileManager.readJar(jarPath));
+		} catch (IOException e) {
+			throw new RuntimeException("Couldn't read classes of " + jarPath, e);
+		}
+	}
+
+	/**
+	 * Compiles the given client sources against an API JAR, keeping the produced class files in memory only.
+	 *
+	 * @param clientSources the code of each client class, indexed by qualified name
+	 * @param apiJarPath    the API JAR the client is compiled against
+	 * @return the compilation errors, if any
+	 */
+	public List<Diagnostic<? extends JavaFileObject>> compileClientWithApi(Map<String, String> clientSources, Path apiJarPath) {
+		DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
 
-		ProcessBuilder pb = new ProcessBuilder("java", "-cp", classPaths, "%s.%s".formatted(packageName, clientFilename));
-		pb.redirectErrorStream(true);
+		try (var fileManager = new InMemoryFileManager(compiler.getStandardFileManager(diagnostics, null, null))) {
+			var compilationUnits = clientSources.entrySet().stream()
+					.map(e -> InMemoryFileManager.source(e.getKey(), e.getValue()))
+					.toList();
+			List<String> options = List.of("-source", "21", "-cp", apiJarPath.toString());
+			compiler.getTask(null, fileManager, diagnostics, options, null, compilationUnits).call();
+		} catch (Exception e) {
+			return List.of(new InternalDiagnostic("Unknown error while compiling client"));
+		}
+
+		return errorsOf(diagnostics);
+	}
+
+	/**
+	 * Links and runs the client's entry point against an API JAR in the current JVM. The client and API classes are
+	 * loaded in a disposable class loader that only sees the platform classes, so that neither the benchmark nor
+	 * previous runs leak into the run. The run is interrupted after {@link #LINK_TIMEOUT}.
+	 * <p>
+	 * Running in process is only safe for the generated clients, which merely call into the generated API: nothing
+	 * prevents a client from calling {@link System#exit(int)}, writing to the benchmark's standard streams, or changing
+	 * the state of platform classes. A client that ignores interrupts cannot be stopped either, and its thread keeps
+	 * running. Such leaked runs are tracked, and once {@link #MAX_LEAKED_CLIENT_RUNS} of them are still alive, this
+	 * method refuses to run more clients.
+	 *
+	 * @param clientBinPath  the directory containing the compiled client
+	 * @param apiJarPath     the API JAR the client is linked against
+	 * @param clientFilename the simple name of the client class
+	 * @param packageName    the package of the client class
+	 * @return the error thrown by the client, e.g., a {@link LinkageError}, if any
+	 * @throws LeakedClientRunsException if too many previous runs are still running after their timeout
+	 */
+	public List<Diagnostic<? extends JavaFileObject>> linkClientWithApi(Path clientBinPath, Path apiJarPath, String clientFilename, String packageName) {
+		LEAKED_CLIENT_RUNS.removeIf(thread -> !thread.isAlive());
+		if (LEAKED_CLIENT_RUNS.size() >= MAX_LEAKED_CLIENT_RUNS)
+			throw new LeakedClientRunsException("%d client runs are still running after timing out"
+					.formatted(LEAKED_CLIENT_RUNS.size()));
 
+		var urls = new URL[2];
 		try {
-			Process process = pb.start();
-			int exitCode = process.waitFor();
+			urls[0] = clientBinPath.toUri().toURL();
+			urls[1] = apiJarPath.toUri().toURL();
+		} catch (MalformedURLException e) {
+			return List.of(new InternalDiagnostic("Unknown error while linking client"));
+		}
 
-			if (exitCode != 0) {
-				return List.of(new InternalDiagnostic(new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8)));
+		try (var loader = new URLClassLoader(urls, ClassLoader.getPlatformClassLoader())) {
+			var run = new FutureTask<Void>(() -> {
+				var client = Class.forName("%s.%s".formatted(packageName, clientFilename), true, loader);
+				client.getMethod("main", String[].class).invoke(null, (Object) new String[0]);
+				return null;
+			});
+			var thread = Thread.ofPlatform().daemon().name("link-" + clientFilename).start(run);
+
+			try {
+				run.get(LINK_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+			} catch (TimeoutException e) {
+				thread.interrupt();
+				if (!thread.join(LINK_GRACE_PERIOD)) {
+					LEAKED_CLIENT_RUNS.add(thread);
+					LOGGER.warn("Client {} ignored its interruption and is still running", clientFilename);
+				}
+				return List.of(new InternalDiagnostic("Timed out while linking client"));
+			} catch (ExecutionException e) {
+				var cause = e.getCause() instanceof InvocationTargetException ite ? ite.getCause() : e.getCause();
+				return List.of(new InternalDiagnostic(cause.toString()));
 			}
-		} catch (InterruptedException | IOException e) {
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return List.of(new InternalDiagnostic("Interrupted while linking client"));
+		} catch (IOException e) {
 			return List.of(new InternalDiagnostic("Unknown error while linking client"));
 		}
 
@@ -176,7 +322,7 @@ public final class InternalJavaCompiler {
 	private void compileClient(Path clientSourcePath, Path clientBinPath, Path apiJarPath) {
 		LOGGER.info("------- Compiling client ------");
 
-		var errors = compileClientWithApi(clientSourcePath, Constants.CLIENT_FILENAME, apiJarPath, clientBinPath);
+		var errors = compileClientWithApi(clientSourcePath, apiJarPath, clientBinPath);
 
 		if (!errors.isEmpty())
 			throw new RuntimeException("Couldn't compile client:\n" + formatCompilerErrors(errors));
@@ -184,6 +330,12 @@ public final class InternalJavaCompiler {
 		LOGGER.info("------- Client compiled -------");
 	}
 
+	private static List<Diagnostic<? extends JavaFileObject>> errorsOf(DiagnosticCollector<JavaFileObject> diagnostics) {
+		return diagnostics.getDiagnostics().stream()
+				.filter(d -> d.getKind() == Diagnostic.Kind.ERROR)
+				.toList();
+	}
+
 	private static String formatCompilerErrors(List<?> errors) {
 		return errors.stream().map(Object::toString).collect(Collectors.joining(System.lineSeparator()));
 	}
@@ -0,0 +1,11 @@
+package io.github.alien.roseau.combinatorial.compiler;
+
+/**
+ * Thrown when too many client runs ignored their timeout and are still running in the benchmark's JVM, which can no
+ * longer be trusted to run the remaining clients.
+ */
+public class LeakedClientRunsException extends RuntimeException {
+	public LeakedClientRunsException(String message) {
+		super(message);
+	}
+}
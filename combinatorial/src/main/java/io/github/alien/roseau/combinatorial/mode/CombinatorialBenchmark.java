@@ -6,6 +6,7 @@ import io.github.alien.roseau.combinatorial.StepExecutionException;
 import io.github.alien.roseau.combinatorial.api.GenerateCombinatorialApi;
 import io.github.alien.roseau.combinatorial.client.GenerateApiClient;
 import io.github.alien.roseau.combinatorial.v2.GenerateNewVersionsAndLaunchBenchmark;
+import io.github.alien.roseau.combinatorial.v2.Shard;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -16,13 +17,17 @@ public final class CombinatorialBenchmark extends AbstractStep {
 
 	private final int maxParallelAnalysis;
 	private final boolean skipPreviousFailures;
+	private final boolean resume;
+	private final Shard shard;
 	private final Path tmpOutputPath;
 
-	public CombinatorialBenchmark(int threads, boolean skipPreviousFailures, Path outputPath, Path tmpOutputPath) {
+	public CombinatorialBenchmark(int threads, boolean skipPreviousFailures, boolean resume, Shard shard, Path outputPath, Path tmpOutputPath) {
 		super(outputPath);
 
 		this.maxParallelAnalysis = Math.max(1, threads - 2);
 		this.skipPreviousFailures = skipPreviousFailures;
+		this.resume = resume;
+		this.shard = shard;
 		this.tmpOutputPath = tmpOutputPath;
 	}
 
@@ -37,7 +42,7 @@ public final class CombinatorialBenchmark extends AbstractStep {
 		var clientGeneration = new GenerateApiClient(api, outputPath.resolve(Constants.CLIENT_FOLDER));
 		clientGeneration.run();
 
-		var newVersionsAndBenchmarkStep = new GenerateNewVersionsAndLaunchBenchmark(api, maxParallelAnalysis, skipPreviousFailures, outputPath, tmpOutputPath);
+		var newVersionsAndBenchmarkStep = new GenerateNewVersionsAndLaunchBenchmark(api, maxParallelAnalysis, skipPreviousFailures, resume, shard, outputPath, tmpOutputPath);
 		newVersionsAndBenchmarkStep.run();
 
 		LOGGER.info("\nCombinatorial benchmark took {} ms", System.currentTimeMillis() - currentNow);
@@ -4,6 +4,7 @@ import io.github.alien.roseau.api.model.*;
 import io.github.alien.roseau.api.model.reference.*;
 import io.github.alien.roseau.api.visit.AbstractApiVisitor;
 import io.github.alien.roseau.api.visit.Visit;
+import io.github.alien.roseau.combinatorial.v2.breaker.BreakerContext;
 import io.github.alien.roseau.combinatorial.v2.breaker.cls.*;
 import io.github.alien.roseau.combinatorial.v2.breaker.ctr.*;
 import io.github.alien.roseau.combinatorial.v2.breaker.enmVal.*;
@@ -20,6 +21,7 @@ public final class BreakingChangesGeneratorVisitor extends AbstractApiVisitor {
 	private final API api;
 
 	private final NewApiQueue queue;
+	private final BreakerContext context;
 
 	private final TypeReferenceFactory typeReferenceFactory = new CachingTypeReferenceFactory();
 
@@ -39,9 +41,10 @@ public final class BreakingChangesGeneratorVisitor extends AbstractApiVisitor {
 			.concat(types.stream(), Stream.of(new PrimitiveTypeReference("void")))
 			.toList();
 
-	public BreakingChangesGeneratorVisitor(API api, NewApiQueue queue) {
+	public BreakingChangesGeneratorVisitor(API api, NewApiQueue queue, BreakerContext context) {
 		this.api = api;
 		this.queue = queue;
+		this.context = context;
 	}
 
 	public Visit symbol(Symbol it) {
@@ -81,148 +84,148 @@ public final class BreakingChangesGeneratorVisitor extends AbstractApiVisitor {
 	}
 
 	private void breakTypeDecl(TypeDecl t) {
-		new RemoveTypeStrategy<>(t, queue, api).breakApi();
+		new RemoveTypeStrategy<>(t, queue, api).breakApi(context);
 
-		new ReduceVisibilityTypeStrategy<>(AccessModifier.PACKAGE_PRIVATE, t, queue, api).breakApi();
+		new ReduceVisibilityTypeStrategy<>(AccessModifier.PACKAGE_PRIVATE, t, queue, api).breakApi(context);
 
-		new AddImplementedInterfaceTypeStrategy<>(t, queue, api).breakApi();
+		new AddImplementedInterfaceTypeStrategy<>(t, queue, api).breakApi(context);
 		for (var interfaceTypeRef : t.getImplementedInterfaces()) {
-			new RemoveImplementedInterfaceTypeStrategy<>(interfaceTypeRef.getQualifiedName(), t, queue, api).breakApi();
+			new RemoveImplementedInterfaceTypeStrategy<>(interfaceTypeRef.getQualifiedName(), t, queue, api).breakApi(context);
 		}
 	}
 
 	private void breakRecordDecl(RecordDecl r) {
-		new AddModifierTypeStrategy<>(Modifier.FINAL, r, queue, api).breakApi();
-		new RemoveModifierTypeStrategy<>(Modifier.FINAL, r, queue, api).breakApi();
+		new AddModifierTypeStrategy<>(Modifier.FINAL, r, queue, api).breakApi(context);
+		new RemoveModifierTypeStrategy<>(Modifier.FINAL, r, queue, api).breakApi(context);
 
 		for (var paramType: types) {
-			new AddRecordComponentStrategy(paramType, false, r, queue, api).breakApi();
-			new AddRecordComponentStrategy(paramType, true, r, queue, api).breakApi();
+			new AddRecordComponentStrategy(paramType, false, r, queue, api).breakApi(context);
+			new AddRecordComponentStrategy(paramType, true, r, queue, api).breakApi(context);
 		}
 
 		for (var recordComponentIndex = 0; recordComponentIndex < r.getRecordComponents().size(); recordComponentIndex++) {
 			for (var type : types) {
-				new ChangeRecordComponentStrategy(recordComponentIndex, type, false, r, queue, api).breakApi();
-				new ChangeRecordComponentStrategy(recordComponentIndex, type, true, r, queue, api).breakApi();
+				new ChangeRecordComponentStrategy(recordComponentIndex, type, false, r, queue, api).breakApi(context);
+				new ChangeRecordComponentStrategy(recordComponentIndex, type, true, r, queue, api).breakApi(context);
 			}
 
-			new RemoveRecordComponentStrategy(recordComponentIndex, r, queue, api).breakApi();
+			new RemoveRecordComponentStrategy(recordComponentIndex, r, queue, api).breakApi(context);
 		}
 	}
 
 	private void breakClassDecl(ClassDecl c) {
-		new AddModifierTypeStrategy<>(Modifier.ABSTRACT, c, queue, api).breakApi();
-		new RemoveModifierTypeStrategy<>(Modifier.ABSTRACT, c, queue, api).breakApi();
-		new AddModifierTypeStrategy<>(Modifier.FINAL, c, queue, api).breakApi();
-		new RemoveModifierTypeStrategy<>(Modifier.FINAL, c, queue, api).breakApi();
-		new AddModifierTypeStrategy<>(Modifier.SEALED, c, queue, api).breakApi();
-		new RemoveModifierTypeStrategy<>(Modifier.SEALED, c, queue, api).breakApi();
-		new AddModifierTypeStrategy<>(Modifier.NON_SEALED, c, queue, api).breakApi();
-		new RemoveModifierTypeStrategy<>(Modifier.NON_SEALED, c, queue, api).breakApi();
-
-		new AddAbstractMethodTypeStrategy<>(c, queue, api).breakApi();
-
-		new AddSuperClassClassStrategy(c, queue, api).breakApi();
-		new RemoveSuperClassClassStrategy(c, queue, api).breakApi();
+		new AddModifierTypeStrategy<>(Modifier.ABSTRACT, c, queue, api).breakApi(context);
+		new RemoveModifierTypeStrategy<>(Modifier.ABSTRACT, c, queue, api).breakApi(context);
+		new AddModifierTypeStrategy<>(Modifier.FINAL, c, queue, api).breakApi(context);
+		new RemoveModifierTypeStrategy<>(Modifier.FINAL, c, queue, api).breakApi(context);
+		new AddModifierTypeStrategy<>(Modifier.SEALED, c, queue, api).breakApi(context);
+		new RemoveModifierTypeStrategy<>(Modifier.SEALED, c, queue, api).breakApi(context);
+		new AddModifierTypeStrategy<>(Modifier.NON_SEALED, c, queue, api).breakApi(context);
+		new RemoveModifierTypeStrategy<>(Modifier.NON_SEALED, c, queue, api).breakApi(context);
+
+		new AddAbstractMethodTypeStrategy<>(c, queue, api).breakApi(context);
+
+		new AddSuperClassClassStrategy(c, queue, api).breakApi(context);
+		new RemoveSuperClassClassStrategy(c, queue, api).breakApi(context);
 	}
 
 	private void breakInterfaceDecl(InterfaceDecl i) {
-		new AddModifierTypeStrategy<>(Modifier.ABSTRACT, i, queue, api).breakApi();
-		new RemoveModifierTypeStrategy<>(Modifier.ABSTRACT, i, queue, api).breakApi();
-		new AddModifierTypeStrategy<>(Modifier.SEALED, i, queue, api).breakApi();
-		new RemoveModifierTypeStrategy<>(Modifier.SEALED, i, queue, api).breakApi();
-		new AddModifierTypeStrategy<>(Modifier.NON_SEALED, i, queue, api).breakApi();
-		new RemoveModifierTypeStrategy<>(Modifier.NON_SEALED, i, queue, api).breakApi();
-
-		new AddAbstractMethodTypeStrategy<>(i, queue, api).breakApi();
+		new AddModifierTypeStrategy<>(Modifier.ABSTRACT, i, queue, api).breakApi(context);
+		new RemoveModifierTypeStrategy<>(Modifier.ABSTRACT, i, queue, api).breakApi(context);
+		new AddModifierTypeStrategy<>(Modifier.SEALED, i, queue, api).breakApi(context);
+		new RemoveModifierTypeStrategy<>(Modifier.SEALED, i, queue, api).breakApi(context);
+		new AddModifierTypeStrategy<>(Modifier.NON_SEALED, i, queue, api).breakApi(context);
+		new RemoveModifierTypeStrategy<>(Modifier.NON_SEALED, i, queue, api).breakApi(context);
+
+		new AddAbstractMethodTypeStrategy<>(i, queue, api).breakApi(context);
 	}
 
 	private void breakConstructorDecl(ConstructorDecl c) {
-		new RemoveConstructorStrategy(c, queue, api).breakApi();
+		new RemoveConstructorStrategy(c, queue, api).breakApi(context);
 
-		new ChangeVisibilityConstructorStrategy(AccessModifier.PUBLIC, c, queue, api).breakApi();
-		new ChangeVisibilityConstructorStrategy(AccessModifier.PROTECTED, c, queue, api).breakApi();
-		new ChangeVisibilityConstructorStrategy(AccessModifier.PACKAGE_PRIVATE, c, queue, api).breakApi();
-		new ChangeVisibilityConstructorStrategy(AccessModifier.PRIVATE, c, queue, api).breakApi();
+		new ChangeVisibilityConstructorStrategy(AccessModifier.PUBLIC, c, queue, api).breakApi(context);
+		new ChangeVisibilityConstructorStrategy(AccessModifier.PROTECTED, c, queue, api).breakApi(context);
+		new ChangeVisibilityConstructorStrategy(AccessModifier.PACKAGE_PRIVATE, c, queue, api).breakApi(context);
+		new ChangeVisibilityConstructorStrategy(AccessModifier.PRIVATE, c, queue, api).breakApi(context);
 
 		for (var type : types) {
-			new AddParameterConstructorStrategy(type, false, c, queue, api).breakApi();
-			new AddParameterConstructorStrategy(type, true, c, queue, api).breakApi();
+			new AddParameterConstructorStrategy(type, false, c, queue, api).breakApi(context);
+			new AddParameterConstructorStrategy(type, true, c, queue, api).breakApi(context);
 		}
 
 		for (var paramIndex = 0; paramIndex < c.getParameters().size(); paramIndex++) {
 			for (var type : types) {
-				new ChangeParameterConstructorStrategy(paramIndex, type, false, c, queue, api).breakApi();
-				new ChangeParameterConstructorStrategy(paramIndex, type, true, c, queue, api).breakApi();
+				new ChangeParameterConstructorStrategy(paramIndex, type, false, c, queue, api).breakApi(context);
+				new ChangeParameterConstructorStrategy(paramIndex, type, true, c, queue, api).breakApi(context);
 			}
 
-			new RemoveParameterConstructorStrategy(paramIndex, c, queue, api).breakApi();
+			new RemoveParameterConstructorStrategy(paramIndex, c, queue, api).breakApi(context);
 		}
 
-		new AddExceptionConstructorStrategy(TypeReference.IO_EXCEPTION, c, queue, api).breakApi();
-		new RemoveExceptionConstructorStrategy(TypeReference.IO_EXCEPTION, c, queue, api).breakApi();
+		new AddExceptionConstructorStrategy(TypeReference.IO_EXCEPTION, c, queue, api).breakApi(context);
+		new RemoveExceptionConstructorStrategy(TypeReference.IO_EXCEPTION, c, queue, api).breakApi(context);
 	}
 
 	private void breakEnumValueDecl(EnumValueDecl eV) {
-		new RemoveEnumValueStrategy(eV, queue, api).breakApi();
+		new RemoveEnumValueStrategy(eV, queue, api).breakApi(context);
 	}
 
 	private void breakFieldDecl(FieldDecl f) {
-		new RemoveFieldStrategy(f, queue, api).breakApi();
+		new RemoveFieldStrategy(f, queue, api).breakApi(context);
 
-		new ChangeVisibilityFieldStrategy(AccessModifier.PUBLIC, f, queue, api).breakApi();
-		new ChangeVisibilityFieldStrategy(AccessModifier.PROTECTED, f, queue, api).breakApi();
-		new ChangeVisibilityFieldStrategy(AccessModifier.PACKAGE_PRIVATE, f, queue, api).breakApi();
-		new ChangeVisibilityFieldStrategy(AccessModifier.PRIVATE, f, queue, api).breakApi();
+		new ChangeVisibilityFieldStrategy(AccessModifier.PUBLIC, f, queue, api).breakApi(context);
+		new ChangeVisibilityFieldStrategy(AccessModifier.PROTECTED, f, queue, api).breakApi(context);
+		new ChangeVisibilityFieldStrategy(AccessModifier.PACKAGE_PRIVATE, f, queue, api).breakApi(context);
+		new ChangeVisibilityFieldStrategy(AccessModifier.PRIVATE, f, queue, api).breakApi(context);
 
-		new AddModifierFieldStrategy(Modifier.FINAL, f, queue, api).breakApi();
-		new RemoveModifierFieldStrategy(Modifier.FINAL, f, queue, api).breakApi();
-		new AddModifierFieldStrategy(Modifier.STATIC, f, queue, api).breakApi();
-		new RemoveModifierFieldStrategy(Modifier.STATIC, f, queue, api).breakApi();
+		new AddModifierFieldStrategy(Modifier.FINAL, f, queue, api).breakApi(context);
+		new RemoveModifierFieldStrategy(Modifier.FINAL, f, queue, api).breakApi(context);
+		new AddModifierFieldStrategy(Modifier.STATIC, f, queue, api).breakApi(context);
+		new RemoveModifierFieldStrategy(Modifier.STATIC, f, queue, api).breakApi(context);
 
 		for (var paramType: types) {
-			new ChangeTypeFieldStrategy(paramType, f, queue, api).breakApi();
+			new ChangeTypeFieldStrategy(paramType, f, queue, api).breakApi(context);
 		}
 	}
 
 	private void breakMethodDecl(MethodDecl m) {
-		new RemoveMethodStrategy(m, queue, api).breakApi();
-
-		new ChangeVisibilityMethodStrategy(AccessModifier.PUBLIC, m, queue, api).breakApi();
-		new ChangeVisibilityMethodStrategy(AccessModifier.PROTECTED, m, queue, api).breakApi();
-		new ChangeVisibilityMethodStrategy(AccessModifier.PACKAGE_PRIVATE, m, queue, api).breakApi();
-		new ChangeVisibilityMethodStrategy(AccessModifier.PRIVATE, m, queue, api).breakApi();
-
-		new AddModifierMethodStrategy(Modifier.ABSTRACT, m, queue, api).breakApi();
-		new RemoveModifierMethodStrategy(Modifier.ABSTRACT, m, queue, api).breakApi();
-		new AddModifierMethodStrategy(Modifier.DEFAULT, m, queue, api).breakApi();
-		new RemoveModifierMethodStrategy(Modifier.DEFAULT, m, queue, api).breakApi();
-		new AddModifierMethodStrategy(Modifier.FINAL, m, queue, api).breakApi();
-		new RemoveModifierMethodStrategy(Modifier.FINAL, m, queue, api).breakApi();
-		new AddModifierMethodStrategy(Modifier.STATIC, m, queue, api).breakApi();
-		new RemoveModifierMethodStrategy(Modifier.STATIC, m, queue, api).breakApi();
-		new AddModifierMethodStrategy(Modifier.SYNCHRONIZED, m, queue, api).breakApi();
-		new RemoveModifierMethodStrategy(Modifier.SYNCHRONIZED, m, queue, api).breakApi();
+		new RemoveMethodStrategy(m, queue, api).breakApi(context);
+
+		new ChangeVisibilityMethodStrategy(AccessModifier.PUBLIC, m, queue, api).breakApi(context);
+		new ChangeVisibilityMethodStrategy(AccessModifier.PROTECTED, m, queue, api).breakApi(context);
+		new ChangeVisibilityMethodStrategy(AccessModifier.PACKAGE_PRIVATE, m, queue, api).breakApi(context);
+		new ChangeVisibilityMethodStrategy(AccessModifier.PRIVATE, m, queue, api).breakApi(context);
+
+		new AddModifierMethodStrategy(Modifier.ABSTRACT, m, queue, api).breakApi(context);
+		new RemoveModifierMethodStrategy(Modifier.ABSTRACT, m, queue, api).breakApi(context);
+		new AddModifierMethodStrategy(Modifier.DEFAULT, m, queue, api).breakApi(context);
+		new RemoveModifierMethodStrategy(Modifier.DEFAULT, m, queue, api).breakApi(context);
+		new AddModifierMethodStrategy(Modifier.FINAL, m, queue, api).breakApi(context);
+		new RemoveModifierMethodStrategy(Modifier.FINAL, m, queue, api).breakApi(context);
+		new AddModifierMethodStrategy(Modifier.STATIC, m, queue, api).breakApi(context);
+		new RemoveModifierMethodStrategy(Modifier.STATIC, m, queue, api).breakApi(context);
+		new AddModifierMethodStrategy(Modifier.SYNCHRONIZED, m, queue, api).breakApi(context);
+		new RemoveModifierMethodStrategy(Modifier.SYNCHRONIZED, m, queue, api).breakApi(context);
 
 		for (var type : returnTypes) {
-			new ChangeTypeMethodStrategy(type, m, queue, api).breakApi();
+			new ChangeTypeMethodStrategy(type, m, queue, api).breakApi(context);
 		}
 
 		for (var type : types) {
-			new AddParameterMethodStrategy(type, false, m, queue, api).breakApi();
-			new AddParameterMethodStrategy(type, true, m, queue, api).breakApi();
+			new AddParameterMethodStrategy(type, false, m, queue, api).breakApi(context);
+			new AddParameterMethodStrategy(type, true, m, queue, api).breakApi(context);
 		}
 
 		for (var paramIndex = 0; paramIndex < m.getParameters().size(); paramIndex++) {
 			for (var type : types) {
-				new ChangeParameterMethodStrategy(paramIndex, type, false, m, queue, api).breakApi();
-				new ChangeParameterMethodStrategy(paramIndex, type, true, m, queue, api).breakApi();
+				new ChangeParameterMethodStrategy(paramIndex, type, false, m, queue, api).breakApi(context);
+				new ChangeParameterMethodStrategy(paramIndex, type, true, m, queue, api).breakApi(context);
 			}
 
-			new RemoveParameterMethodStrategy(paramIndex, m, queue, api).breakApi();
+			new RemoveParameterMethodStrategy(paramIndex, m, queue, api).breakApi(context);
 		}
 
-		new AddExceptionMethodStrategy(TypeReference.IO_EXCEPTION, m, queue, api).breakApi();
-		new RemoveExceptionMethodStrategy(TypeReference.IO_EXCEPTION, m, queue, api).breakApi();
+		new AddExceptionMethodStrategy(TypeReference.IO_EXCEPTION, m, queue, api).breakApi(context);
+		new RemoveExceptionMethodStrategy(TypeReference.IO_EXCEPTION, m, queue, api).breakApi(context);
 	}
 }
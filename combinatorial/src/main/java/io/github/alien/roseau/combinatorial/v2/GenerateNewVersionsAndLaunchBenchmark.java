@@ -7,31 +7,56 @@ import io.github.alien.roseau.combinatorial.StepExecutionException;
 import io.github.alien.roseau.combinatorial.compiler.InternalJavaCompiler;
 import io.github.alien.roseau.combinatorial.utils.ExplorerUtils;
 import io.github.alien.roseau.combinatorial.v2.benchmark.Benchmark;
+import io.github.alien.roseau.combinatorial.v2.benchmark.BenchmarkMetrics;
+import io.github.alien.roseau.combinatorial.v2.benchmark.result.ToolStatistics;
+import io.github.alien.roseau.combinatorial.v2.benchmark.tool.RoseauTool;
 import io.github.alien.roseau.combinatorial.v2.benchmark.writer.AbstractWriter;
 import io.github.alien.roseau.combinatorial.v2.benchmark.writer.FailedStrategiesWriter;
 import io.github.alien.roseau.combinatorial.v2.benchmark.writer.ImpossibleStrategiesWriter;
 import io.github.alien.roseau.combinatorial.v2.benchmark.writer.ResultsWriter;
+import io.github.alien.roseau.combinatorial.v2.breaker.BreakerContext;
 import io.github.alien.roseau.combinatorial.v2.filter.PreviousFailuresFilter;
+import io.github.alien.roseau.combinatorial.v2.filter.ResumeFilter;
+import io.github.alien.roseau.combinatorial.v2.filter.ShardFilter;
+import io.github.alien.roseau.combinatorial.v2.filter.StrategyFilter;
+import io.github.alien.roseau.combinatorial.v2.journal.CheckpointJournal;
+import io.github.alien.roseau.combinatorial.v2.queue.AbstractQueue;
+import io.github.alien.roseau.combinatorial.v2.queue.FailedStrategyQueue;
+import io.github.alien.roseau.combinatorial.v2.queue.ImpossibleStrategyQueue;
 import io.github.alien.roseau.combinatorial.v2.queue.NewApiQueue;
+import io.github.alien.roseau.combinatorial.v2.queue.ResultsProcessQueue;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
 
 public final class GenerateNewVersionsAndLaunchBenchmark extends AbstractStep {
 	private static final Logger LOGGER = LogManager.getLogger(GenerateNewVersionsAndLaunchBenchmark.class);
+	private static final long PROGRESS_PERIOD_SECONDS = 10;
 
 	private final API v1Api;
 	private final int maxParallelAnalysis;
 
 	private final NewApiQueue newApiQueue;
+	private final ResultsProcessQueue resultsQueue = new ResultsProcessQueue();
+	private final FailedStrategyQueue failedStrategyQueue = new FailedStrategyQueue();
+	private final ImpossibleStrategyQueue impossibleStrategyQueue = new ImpossibleStrategyQueue();
 
-	private final Map<Benchmark, Thread> benchmarkThreads = new HashMap<>();
-	private final List<AbstractWriter<?>> writers = new ArrayList<>();
+	private final List<Benchmark> benchmarks = new ArrayList<>();
+	private final Map<AbstractWriter<?>, Thread> writerThreads = new LinkedHashMap<>();
+	private final BenchmarkMetrics metrics = new BenchmarkMetrics();
+	private final ToolStatistics toolStatistics = new ToolStatistics();
+	private final CheckpointJournal journal;
+	private final List<StrategyFilter> strategyFilters;
 
 	private final InternalJavaCompiler compiler = new InternalJavaCompiler();
 
@@ -41,7 +66,7 @@ public final class GenerateNewVersionsAndLaunchBenchmark extends AbstractStep {
 	private final Path clientSourcePath;
 	private final Path clientBinPath;
 
-	public GenerateNewVersionsAndLaunchBenchmark(API v1Api, int maxParallelAnalysis, boolean skipPreviousFailures, Path outputPath, Path tmpOutputPath) {
+	public GenerateNewVersionsAndLaunchBenchmark(API v1Api, int maxParallelAnalysis, boolean skipPreviousFailures, boolean resume, Shard shard, Path outputPath, Path tmpOutputPath) {
 		super(outputPath);
 
 		this.v1Api = v1Api;
@@ -49,13 +74,19 @@ public final class GenerateNewVersionsAndLaunchBenchmark extends AbstractStep {
 
 		newApiQueue = new NewApiQueue(maxParallelAnalysis);
 
-		tmpPath = tmpOutputPath;
+		// Shards running on the same machine must not clean each other's temporary files
+		tmpPath = shard.isAll() ? tmpOutputPath : tmpOutputPath.resolve("shard-%d-of-%d".formatted(shard.index(), shard.count()));
 		v1SourcesPath = outputPath.resolve(Constants.API_FOLDER);
 		v1JarPath = tmpPath.resolve(Path.of(Constants.JAR_FOLDER, "v1.jar"));
 		clientSourcePath = outputPath.resolve(Constants.CLIENT_FOLDER);
 		clientBinPath = tmpPath.resolve(Constants.BINARIES_FOLDER);
 
-		PreviousFailuresFilter.initialize(skipPreviousFailures, outputPath);
+		journal = new CheckpointJournal(outputPath, shard);
+		strategyFilters = List.of(
+				new ShardFilter(shard),
+				new ResumeFilter(resume, outputPath),
+				new PreviousFailuresFilter(skipPreviousFailures, outputPath)
+		);
 
 		ExplorerUtils.cleanOrCreateDirectory(tmpPath);
 	}
@@ -64,63 +95,109 @@ public final class GenerateNewVersionsAndLaunchBenchmark extends AbstractStep {
 		try {
 			compiler.checkClientCompilesWithApi(clientSourcePath, v1SourcesPath, clientBinPath, v1JarPath);
 
-			initializeBenchmarkThreads();
-			initializeWritersThreads();
-
-			var visitor = new BreakingChangesGeneratorVisitor(v1Api, newApiQueue);
-			visitor.$(v1Api).visit();
-
-			informAllThreadsGenerationIsOver();
+			try (var benchmarkExecutor = Executors.newFixedThreadPool(maxParallelAnalysis);
+			     var toolsExecutor = Executors.newFixedThreadPool(maxParallelAnalysis);
+			     var reporter = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().factory())) {
+				reporter.scheduleAtFixedRate(this::reportProgress, PROGRESS_PERIOD_SECONDS, PROGRESS_PERIOD_SECONDS, SECONDS);
+
+				try {
+					metrics.informPipelineStarted();
+					initializeBenchmarkThreads(benchmarkExecutor, toolsExecutor);
+					initializeWritersThreads();
+
+					var visitor = new BreakingChangesGeneratorVisitor(v1Api, newApiQueue,
+							new BreakerContext(impossibleStrategyQueue, metrics, strategyFilters));
+					visitor.$(v1Api).visit();
+				} finally {
+					informAllThreadsGenerationIsOver(benchmarkExecutor);
+					reporter.shutdownNow();
+					// The latencies of the strategies benchmarked so far are kept even if the benchmark fails
+					toolStatistics.write(Constants.getResultsPath(outputPath));
+				}
+			}
+
+			reportProgress();
+			if (Stream.of(newApiQueue, resultsQueue, failedStrategyQueue, impossibleStrategyQueue).anyMatch(AbstractQueue::isAborted))
+				throw new IllegalStateException("Benchmark was aborted");
 		} catch (Exception e) {
 			throw new StepExecutionException(this.getClass().getSimpleName(), e.getMessage());
 		}
 	}
 
-	private void initializeBenchmarkThreads() {
+	// Benchmarks are CPU-bound (compilation, analyses): they run on as many platform threads as requested
+	private void initializeBenchmarkThreads(ExecutorService benchmarkExecutor, ExecutorService toolsExecutor) {
 		LOGGER.info("-- Starting benchmark threads --");
 
+		// Tools only read the v1 API, so it is extracted once for all benchmarks
+		var v1ExtractedApi = RoseauTool.extractApi(v1JarPath);
+
 		for (int i = 0; i < maxParallelAnalysis; i++) {
 			var benchmark = new Benchmark(
 					String.valueOf(i),
 					newApiQueue,
+					resultsQueue,
+					failedStrategyQueue,
+					v1Api,
+					v1ExtractedApi,
 					clientBinPath, clientSourcePath,
 					v1JarPath,
-					tmpPath
+					tmpPath,
+					toolsExecutor,
+					toolStatistics,
+					metrics
 			);
-			var thread = new Thread(benchmark);
-			thread.start();
+			benchmarkExecutor.execute(benchmark);
 
-			benchmarkThreads.put(benchmark, thread);
+			benchmarks.add(benchmark);
 		}
 
 		LOGGER.info("--- All bench threads started --\n");
 	}
 
+	// Writers mostly wait for results and for the disk: they run on virtual threads
 	private void initializeWritersThreads() {
 		LOGGER.info("---- Starting writers threads ---");
 
-		writers.add(new FailedStrategiesWriter(outputPath));
-		writers.add(new ImpossibleStrategiesWriter(outputPath));
-		writers.add(new ResultsWriter(outputPath));
-
+		var writers = List.of(
+				new FailedStrategiesWriter(outputPath, failedStrategyQueue, journal),
+				new ImpossibleStrategiesWriter(outputPath, impossibleStrategyQueue, journal),
+				new ResultsWriter(outputPath, resultsQueue, metrics, journal)
+		);
 		for (var writer : writers)
-			new Thread(writer).start();
+			writerThreads.put(writer, Thread.ofVirtual().start(writer));
 
 		LOGGER.info("---- All writers threads started ----\n");
 	}
 
-	private void informAllThreadsGenerationIsOver() {
-		for (var benchmark : benchmarkThreads.keySet())
-			benchmark.informApisGenerationIsOver();
+	/*
+	 * Stages are shut down in pipeline order: each one drains its input queue before the queues it feeds are closed,
+	 * so that every generated strategy ends up in the results.
+	 */
+	private void informAllThreadsGenerationIsOver(ExecutorService benchmarkExecutor) throws InterruptedException {
+		metrics.informGenerationIsOver();
+		newApiQueue.close();
 
-		for (var thread : benchmarkThreads.values())
-			try { thread.join(); } catch (InterruptedException _) {}
+		benchmarkExecutor.close();
 
 		LOGGER.info("-- All bench threads finished --");
-		int totalErrors = benchmarkThreads.keySet().stream().mapToInt(Benchmark::getErrorsCount).sum();
+		int totalErrors = benchmarks.stream().mapToInt(Benchmark::getErrorsCount).sum();
 		LOGGER.info("Total benchmark errors: {}", totalErrors);
 
-		for (var writer : writers)
+		for (var writer : writerThreads.keySet())
 			writer.informNoMoreBenchmark();
+		for (var thread : writerThreads.values())
+			thread.join();
+
+		journal.close();
+	}
+
+	private void reportProgress() {
+		var queueDepths = new LinkedHashMap<String, Integer>();
+		queueDepths.put("apis", newApiQueue.size());
+		queueDepths.put("results", resultsQueue.size());
+		queueDepths.put("failures", failedStrategyQueue.size());
+		queueDepths.put("impossible", impossibleStrategyQueue.size());
+
+		LOGGER.info(metrics.report(queueDepths));
 	}
 }
@@ -0,0 +1,55 @@
+package io.github.alien.roseau.combinatorial.v2;
+
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+/**
+ * One of {@code count} disjoint parts of the strategies, so that several processes can split a benchmark run. The
+ * part a strategy belongs to only depends on its name, which is the same in every process for a given API.
+ *
+ * @param index the 1-based index of the shard
+ * @param count the number of shards
+ */
+public record Shard(int index, int count) {
+	public static final Shard ALL = new Shard(1, 1);
+
+	public Shard {
+		if (count < 1 || index < 1 || index > count)
+			throw new IllegalArgumentException("Invalid shard %d/%d: expected 1 <= k <= n".formatted(index, count));
+	}
+
+	/**
+	 * Parses a shard formatted as {@code k/n}.
+	 *
+	 * @param shard the shard to parse
+	 * @return the parsed shard
+	 * @throws IllegalArgumentException if the shard is malformed
+	 */
+	public static Shard parse(String shard) {
+		var parts = shard.split("/");
+		if (parts.length != 2)
+			throw new IllegalArgumentException("Invalid shard %s: expected k/n".formatted(shard));
+
+		try {
+			return new Shard(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+		} catch (NumberFormatException _) {
+			throw new IllegalArgumentException("Invalid shard %s: expected k/n".formatted(shard));
+		}
+	}
+
+	public boolean isAll() {
+		return count == 1;
+	}
+
+	// String.hashCode() is stable across JVMs too, but spreads similar names poorly over a few shards
+	public boolean contains(String strategy) {
+		var crc = new CRC32();
+		crc.update(strategy.getBytes(StandardCharsets.UTF_8));
+		return crc.getValue() % count == index - 1;
+	}
+
+	@Override
+	public String toString() {
+		return "%d/%d".formatted(index, count);
+	}
+}
@@ -1,45 +1,71 @@
 package io.github.alien.roseau.combinatorial.v2.benchmark;
 
+import io.github.alien.roseau.api.analysis.TypeUsageIndex;
 import io.github.alien.roseau.api.model.API;
+import io.github.alien.roseau.api.model.TypeDecl;
+import io.github.alien.roseau.api.model.TypeMemberDecl;
 import io.github.alien.roseau.combinatorial.Constants;
-import io.github.alien.roseau.combinatorial.utils.ExplorerUtils;
+import io.github.alien.roseau.combinatorial.v2.benchmark.BenchmarkMetrics.Stage;
 import io.github.alien.roseau.combinatorial.v2.benchmark.result.ToolResult;
+import io.github.alien.roseau.combinatorial.v2.benchmark.result.ToolStatistics;
 import io.github.alien.roseau.combinatorial.v2.benchmark.tool.AbstractTool;
+import io.github.alien.roseau.combinatorial.v2.benchmark.tool.JapicmpTool;
+import io.github.alien.roseau.combinatorial.v2.benchmark.tool.RevapiTool;
 import io.github.alien.roseau.combinatorial.v2.benchmark.tool.RoseauTool;
 import io.github.alien.roseau.combinatorial.compiler.InternalJavaCompiler;
+import io.github.alien.roseau.combinatorial.compiler.LeakedClientRunsException;
 import io.github.alien.roseau.combinatorial.v2.queue.FailedStrategyQueue;
 import io.github.alien.roseau.combinatorial.v2.queue.NewApiQueue;
 import io.github.alien.roseau.combinatorial.v2.queue.ResultsProcessQueue;
+import io.github.alien.roseau.combinatorial.utils.ExplorerUtils;
 import io.github.alien.roseau.combinatorial.writer.ApiWriter;
+import io.github.alien.roseau.combinatorial.writer.ClientWriter;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.javatuples.Pair;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
 
 public final class Benchmark implements Runnable {
 	private static final Logger LOGGER = LogManager.getLogger(Benchmark.class);
 
+	private static final Set<TypeUsageIndex.Kind> SUPERTYPE_USAGES = EnumSet.of(
+			TypeUsageIndex.Kind.SUPERCLASS, TypeUsageIndex.Kind.SUPERINTERFACE, TypeUsageIndex.Kind.PERMITTED_TYPE);
+
 	private final String id;
 
-	private final Path benchmarkWorkingPath;
+	private final API v1Api;
+	private final Map<String, byte[]> v1Classes;
 	private final Path clientBinPath;
-	private final Path clientSourcePath;
-	private final Path v2SourcesPath;
+	private final Map<String, String> clientSlices;
 	private final Path v2JarPath;
 
-	private final FailedStrategyQueue failedStrategyQueue = FailedStrategyQueue.getInstance();
-	private final ResultsProcessQueue resultsQueue = ResultsProcessQueue.getInstance();
+	private final FailedStrategyQueue failedStrategyQueue;
+	private final ResultsProcessQueue resultsQueue;
+	private final BenchmarkMetrics metrics;
 
 	private final NewApiQueue apiQueue;
 
 	private final List<AbstractTool> tools;
+	private final ExecutorService toolsExecutor;
+	private final ToolStatistics toolStatistics;
 
-	private final ApiWriter apiWriter;
-
-	private boolean isNewApisGenerationOngoing = true;
 	private int errorsCount = 0;
 
 	private final InternalJavaCompiler compiler = new InternalJavaCompiler();
@@ -47,122 +73,246 @@ public final class Benchmark implements Runnable {
 	public Benchmark(
 			String id,
 			NewApiQueue apiQueue,
+			ResultsProcessQueue resultsQueue,
+			FailedStrategyQueue failedStrategyQueue,
+			API v1Api,
+			API v1ExtractedApi,
 			Path clientBinPath,
 			Path clientSourcePath,
 			Path v1JarPath,
-			Path tmpPath
+			Path tmpPath,
+			ExecutorService toolsExecutor,
+			ToolStatistics toolStatistics,
+			BenchmarkMetrics metrics
 	) {
 		LOGGER.info("Creating Benchmark {}", id);
 		this.id = id;
 
-		this.benchmarkWorkingPath = tmpPath.resolve(id);
+		this.v1Api = v1Api;
+		this.v1Classes = compiler.readClasses(v1JarPath);
 		this.clientBinPath = clientBinPath;
-		this.clientSourcePath = clientSourcePath;
-		this.v2SourcesPath = benchmarkWorkingPath.resolve(Constants.API_FOLDER);
-		this.v2JarPath = benchmarkWorkingPath.resolve(Path.of(Constants.JAR_FOLDER, "v2.jar"));
+		this.clientSlices = readClientSlices(clientSourcePath);
+		this.v2JarPath = tmpPath.resolve(Path.of(id, Constants.JAR_FOLDER, "v2.jar"));
 
 		this.apiQueue = apiQueue;
+		this.resultsQueue = resultsQueue;
+		this.failedStrategyQueue = failedStrategyQueue;
 
 		this.tools = List.of(
-//				new JapicmpTool(v1JarPath, v2JarPath),
-//				new RevapiTool(v1JarPath, v2JarPath),
-				new RoseauTool(v1JarPath, v2JarPath)
+				new JapicmpTool(v1JarPath, v2JarPath),
+				new RevapiTool(v1JarPath, v2JarPath),
+				new RoseauTool(v1JarPath, v2JarPath, v1ExtractedApi)
 		);
-
-		this.apiWriter = new ApiWriter(benchmarkWorkingPath);
+		this.toolsExecutor = toolsExecutor;
+		this.toolStatistics = toolStatistics;
+		this.metrics = metrics;
 	}
 
+	// Runs until the API queue is closed and drained
 	@Override
 	public void run() {
-		while (isNewApisGenerationOngoing || apiQueue.hasStillWork()) {
-			var strategyAndApi = apiQueue.poll();
-			if (strategyAndApi == null) break;
-			var strategy = strategyAndApi.getValue0();
-			var v2Api = strategyAndApi.getValue1();
-
-			try {
-				LOGGER.info("--------------------------------");
-				LOGGER.info("Running Benchmark Thread n°{}", id);
-				LOGGER.info("Breaking Change: {}", strategy);
-
-				generateNewApiSourcesAndJar(v2Api);
-				var groundTruth = generateGroundTruth();
-				runToolsAnalysis(strategy, groundTruth);
-
-				LOGGER.info("Benchmark Thread n°{} finished", id);
-				LOGGER.info("--------------------------------\n");
-			} catch (Exception e) {
-				errorsCount++;
-				failedStrategyQueue.put(strategy, e.getMessage());
-				LOGGER.info("Benchmark Thread n°{} failed: {}", id, e.getMessage());
-			}
+		try {
+			Pair<String, API> strategyAndApi;
+			while ((strategyAndApi = apiQueue.poll()) != null)
+				benchmark(strategyAndApi.getValue0(), strategyAndApi.getValue1());
+		} catch (LeakedClientRunsException | CancellationException e) {
+			// The strategy is not recorded as failed, so that resuming runs it again
+			LOGGER.error("Benchmark Thread n°{} aborts the benchmark: {}", id, e.getMessage());
+			apiQueue.abort();
 		}
 	}
 
-	public void informApisGenerationIsOver() {
-		isNewApisGenerationOngoing = false;
+	private void benchmark(String strategy, API v2Api) {
+		try {
+			LOGGER.info("--------------------------------");
+			LOGGER.info("Running Benchmark Thread n°{}", id);
+			LOGGER.info("Breaking Change: {}", strategy);
+
+			var start = metrics.start();
+			var removedTypes = findRemovedTypes(v2Api);
+			var recompiledTypes = findTypesToRecompile(v2Api, removedTypes);
+			var v2Classes = generateNewApiSourcesAndJar(v2Api, recompiledTypes, removedTypes);
+			metrics.record(Stage.COMPILATION, start);
+
+			start = metrics.start();
+			var impactedTypes = new HashSet<>(recompiledTypes);
+			impactedTypes.addAll(removedTypes);
+			var groundTruth = generateGroundTruth(impactedTypes);
+			metrics.record(Stage.GROUND_TRUTH, start);
+
+			start = metrics.start();
+			runToolsAnalysis(strategy, groundTruth, v2Classes);
+			metrics.record(Stage.TOOLS, start);
+
+			LOGGER.info("Benchmark Thread n°{} finished", id);
+			LOGGER.info("--------------------------------\n");
+		} catch (LeakedClientRunsException | CancellationException e) {
+			// The benchmark cannot go on: a queue was aborted or client runs pile up
+			throw e;
+		} catch (Exception e) {
+			errorsCount++;
+			metrics.recordFailure();
+			failedStrategyQueue.put(strategy, e.getMessage());
+			LOGGER.info("Benchmark Thread n°{} failed: {}", id, e.getMessage());
+		}
 	}
 
 	public int getErrorsCount() {
 		return errorsCount;
 	}
 
-	private void generateNewApiSourcesAndJar(API api) {
-		ExplorerUtils.cleanOrCreateDirectory(benchmarkWorkingPath);
-
+	// Sources and binaries stay in memory: only the JAR the tools analyze is written to disk
+	private Map<String, byte[]> generateNewApiSourcesAndJar(API api, Set<String> recompiledTypes, Set<String> removedTypes) {
 		LOGGER.info("Generating new API Sources");
-		if (!apiWriter.createOutputHierarchy())
-			throw new RuntimeException("Failed to create new api sources hierarchy");
-		apiWriter.write(api);
-		LOGGER.info("Generated to {}", v2SourcesPath);
-
-		LOGGER.info("Generating new API Jar");
-		var errors = compiler.packageApiToJar(v2SourcesPath, v2JarPath);
-		if (!errors.isEmpty())
-			throw new RuntimeException("Failed to package new api to jar");
+		var sources = ApiWriter.print(api, recompiledTypes);
+
+		LOGGER.info("Generating new API Jar ({} types recompiled)", sources.size());
+		var classes = compiler.packageApiToJar(sources, v1Classes, removedTypes, v2JarPath);
 		LOGGER.info("Generated to {}", v2JarPath);
+
+		return classes;
+	}
+
+	private Set<String> findRemovedTypes(API api) {
+		return v1Api.getLibraryTypes().getAllTypes().stream()
+				.map(TypeDecl::getQualifiedName)
+				.filter(name -> api.getLibraryTypes().findType(name).isEmpty())
+				.collect(Collectors.toSet());
 	}
 
-	private ToolResult generateGroundTruth() {
+	/*
+	 * Mutated APIs share their untouched types with v1, so the types that are not shared were changed by the strategy.
+	 * They are recompiled along with the types whose declaration mentions a changed or removed type and, transitively,
+	 * the subtypes of the latter, which may no longer compile, e.g., when an abstract method is added to a supertype.
+	 * All the others are taken from v1's classes.
+	 */
+	private Set<String> findTypesToRecompile(API api, Set<String> removedTypes) {
+		var v1Types = v1Api.getLibraryTypes();
+		var pending = new ArrayDeque<>(removedTypes);
+		var recompiled = new HashSet<String>();
+		api.getLibraryTypes().getAllTypes().stream()
+				.filter(type -> v1Types.findType(type.getQualifiedName()).orElse(null) != type)
+				.forEach(type -> {
+					pending.add(type.getQualifiedName());
+					recompiled.add(type.getQualifiedName());
+				});
+
+		var visited = new HashSet<>(pending);
+		while (!pending.isEmpty()) {
+			for (var usage : api.getTypeUsages().getUsages(pending.poll())) {
+				var user = usage.symbol() instanceof TypeMemberDecl member
+						? member.getContainingType().getQualifiedName()
+						: usage.symbol().getQualifiedName();
+				recompiled.add(user);
+				if (SUPERTYPE_USAGES.contains(usage.kind()) && visited.add(user))
+					pending.add(user);
+			}
+		}
+
+		return recompiled;
+	}
+
+	// Client slices, indexed by simple name, each exercising the symbols of one top-level API type
+	private static Map<String, String> readClientSlices(Path clientSourcePath) {
+		var slices = new HashMap<String, String>();
+		for (var file : ExplorerUtils.getFilesInPath(clientSourcePath, "java")) {
+			var className = file.getName().substring(0, file.getName().length() - ".java".length());
+			if (className.equals(Constants.CLIENT_FILENAME)) continue;
+
+			try {
+				slices.put(className, Files.readString(file.toPath()));
+			} catch (IOException e) {
+				throw new RuntimeException("Couldn't read client sources", e);
+			}
+		}
+		return Map.copyOf(slices);
+	}
+
+	/*
+	 * Only the client slices of the types impacted by the strategy are compiled and linked: the other slices only use
+	 * types that are identical in v1 and v2.
+	 */
+	private ToolResult generateGroundTruth(Set<String> impactedTypes) {
 		LOGGER.info("Generating Ground Truth");
 
 		long startTime = System.currentTimeMillis();
 
-		var tmpClientsBinPath = benchmarkWorkingPath.resolve(Constants.BINARIES_FOLDER);
-		var sourceErrors = compiler.compileClientWithApi(clientSourcePath, Constants.CLIENT_FILENAME, v2JarPath, tmpClientsBinPath);
-		var isSourceBreaking = !sourceErrors.isEmpty();
-
-		var binaryErrors = compiler.linkClientWithApi(clientBinPath, v2JarPath, Constants.CLIENT_FILENAME, Constants.CLIENT_FOLDER);
-		var isBinaryBreaking = !binaryErrors.isEmpty();
+		var slices = impactedTypes.stream()
+				.map(name -> name.contains("$") ? name.substring(0, name.indexOf('$')) : name)
+				.map(ClientWriter::getSliceName)
+				.distinct()
+				.filter(clientSlices::containsKey)
+				.toList();
+		LOGGER.info("Compiling and linking {} client slices", slices.size());
+
+		var sliceSources = slices.stream().collect(Collectors.toMap(
+				slice -> "%s.%s".formatted(Constants.CLIENT_FOLDER, slice), clientSlices::get));
+		var isSourceBreaking = !sliceSources.isEmpty() && !compiler.compileClientWithApi(sliceSources, v2JarPath).isEmpty();
+
+		// Linking blocks until the client run completes or times out, so it must not run in the common pool. All runs
+		// are awaited before the next strategy overwrites v2.jar.
+		var pendingLinks = slices.stream()
+				.map(slice -> CompletableFuture.supplyAsync(() ->
+						!compiler.linkClientWithApi(clientBinPath, v2JarPath, slice, Constants.CLIENT_FOLDER).isEmpty(),
+						toolsExecutor))
+				.toList();
+		awaitAll(pendingLinks);
+		var isBinaryBreaking = pendingLinks.stream().anyMatch(Benchmark::await);
 
 		long executionTime = System.currentTimeMillis() - startTime;
 		return new ToolResult("Ground Truth", executionTime, isBinaryBreaking, isSourceBreaking);
 	}
 
-	private void runToolsAnalysis(String strategy, ToolResult groundTruth) {
+	// Waits for all the futures, including the ones that fail, so that none of them still reads v2.jar afterward
+	private static void awaitAll(List<? extends CompletableFuture<?>> futures) {
+		CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).exceptionally(_ -> null).join();
+	}
+
+	// Rethrows the exception a completed future failed with, e.g., a LeakedClientRunsException
+	private static <T> T await(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) throw cause;
+			throw e;
+		}
+	}
+
+	private void runToolsAnalysis(String strategy, ToolResult groundTruth, Map<String, byte[]> v2Classes) {
 		LOGGER.info("--------------------------------");
 		LOGGER.info("     Running Tools Analysis");
 
-		var results = new ArrayList<>(Collections.singletonList(groundTruth));
-		for (var tool : tools) {
-			LOGGER.info("--------------------------------");
-			LOGGER.info(" Running {}", tool.getClass().getSimpleName());
+		// Tools only read the JARs and the in-memory classes, so they all analyze the strategy at the same time
+		var pendingResults = tools.stream()
+				.map(tool -> CompletableFuture.supplyAsync(() -> tool.detectBreakingChanges(v2Classes), toolsExecutor))
+				.toList();
 
-			var result = tool.detectBreakingChanges();
-			if (result == null) {
-				LOGGER.info(" Tool Result: N/A");
-				continue;
+		var results = new ArrayList<>(Collections.singletonList(groundTruth));
+		try {
+			for (int i = 0; i < tools.size(); i++) {
+				LOGGER.info("--------------------------------");
+				LOGGER.info(" Running {}", tools.get(i).getClass().getSimpleName());
+
+				var result = await(pendingResults.get(i));
+				if (result == null) {
+					LOGGER.info(" Tool Result: N/A");
+					continue;
+				}
+
+				results.add(result);
+				toolStatistics.record(result);
+
+				LOGGER.info(" Execution Time    : {}ms", result.executionTime());
+				LOGGER.info(" Source Tool Result: {}", result.isSourceBreaking() ? "Breaking" : "Not Breaking");
+				LOGGER.info(" Source Expected   : {}", groundTruth.isSourceBreaking() ? "Breaking" : "Not Breaking");
+				LOGGER.info(" Source Result     : {}", result.isSourceBreaking() == groundTruth.isSourceBreaking() ? "OK" : "KO");
+				LOGGER.info(" Binary Tool Result: {}", result.isBinaryBreaking() ? "Breaking" : "Not Breaking");
+				LOGGER.info(" Binary Expected   : {}", groundTruth.isBinaryBreaking() ? "Breaking" : "Not Breaking");
+				LOGGER.info(" Binary Result     : {}", result.isBinaryBreaking() == groundTruth.isBinaryBreaking() ? "OK" : "KO");
 			}
-
-			results.add(result);
-
-			LOGGER.info(" Execution Time    : {}ms", result.executionTime());
-			LOGGER.info(" Source Tool Result: {}", result.isSourceBreaking() ? "Breaking" : "Not Breaking");
-			LOGGER.info(" Source Expected   : {}", groundTruth.isSourceBreaking() ? "Breaking" : "Not Breaking");
-			LOGGER.info(" Source Result     : {}", result.isSourceBreaking() == groundTruth.isSourceBreaking() ? "OK" : "KO");
-			LOGGER.info(" Binary Tool Result: {}", result.isBinaryBreaking() ? "Breaking" : "Not Breaking");
-			LOGGER.info(" Binary Expected   : {}", groundTruth.isBinaryBreaking() ? "Breaking" : "Not Breaking");
-			LOGGER.info(" Binary Result     : {}", result.isBinaryBreaking() == groundTruth.isBinaryBreaking() ? "OK" : "KO");
+		} finally {
+			// A failed tool must not leave the other ones analyzing v2.jar while the next strategy overwrites it
+			awaitAll(pendingResults);
 		}
 
 		LOGGER.info("--------------------------------");
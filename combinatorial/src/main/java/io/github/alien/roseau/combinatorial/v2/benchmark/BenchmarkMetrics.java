@@ -0,0 +1,112 @@
+package io.github.alien.roseau.combinatorial.v2.benchmark;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Throughput of the benchmark pipeline. Each stage records the strategies it processed along with the time spent on
+ * them, so that progress reports show where the benchmark spends its time and how long it should still run.
+ */
+public final class BenchmarkMetrics {
+	/**
+	 * The successive stages a strategy goes through.
+	 */
+	public enum Stage {
+		GENERATION("generate"),
+		COMPILATION("compile"),
+		GROUND_TRUTH("ground truth"),
+		TOOLS("tools"),
+		RESULTS("results");
+
+		private final String label;
+
+		Stage(String label) {
+			this.label = label;
+		}
+	}
+
+	private final Map<Stage, LongAdder> counts = new EnumMap<>(Stage.class);
+	private final Map<Stage, LongAdder> nanos = new EnumMap<>(Stage.class);
+	private final LongAdder failures = new LongAdder();
+
+	private volatile long startTime = System.nanoTime();
+	private volatile boolean isGenerationOver = false;
+
+	public BenchmarkMetrics() {
+		for (var stage : Stage.values()) {
+			counts.put(stage, new LongAdder());
+			nanos.put(stage, new LongAdder());
+		}
+	}
+
+	public long start() {
+		return System.nanoTime();
+	}
+
+	/**
+	 * Records that a strategy went through the given stage.
+	 *
+	 * @param stage the stage
+	 * @param start the value returned by {@link #start()} when the stage started
+	 */
+	public void record(Stage stage, long start) {
+		nanos.get(stage).add(System.nanoTime() - start);
+		counts.get(stage).increment();
+	}
+
+	public void recordFailure() {
+		failures.increment();
+	}
+
+	// Elapsed time and throughputs only cover the pipeline, not the preparation of the run
+	public void informPipelineStarted() {
+		startTime = System.nanoTime();
+	}
+
+	public void informGenerationIsOver() {
+		isGenerationOver = true;
+	}
+
+	/**
+	 * Summarizes the progress of the benchmark: the throughput and mean duration of each stage, the depth of the
+	 * queues between stages, and, once all strategies are generated, the estimated remaining time.
+	 *
+	 * @param queueDepths the number of pending items of each queue, indexed by queue name
+	 * @return the progress report
+	 */
+	public String report(Map<String, Integer> queueDepths) {
+		var elapsed = Duration.ofNanos(System.nanoTime() - startTime);
+		var seconds = Math.max(elapsed.toMillis(), 1) / 1000d;
+
+		var stages = counts.keySet().stream()
+				.map(stage -> {
+					var count = counts.get(stage).sum();
+					var mean = count == 0 ? 0 : nanos.get(stage).sum() / count / 1_000_000;
+					return "%s %d (%.1f/s, %dms)".formatted(stage.label, count, count / seconds, mean);
+				})
+				.collect(Collectors.joining(", "));
+		var queues = queueDepths.entrySet().stream()
+				.map(e -> "%s %d".formatted(e.getKey(), e.getValue()))
+				.collect(Collectors.joining(", "));
+
+		return "Benchmark progress after %s: %s, failed %d | queues: %s | ETA %s".formatted(
+				format(elapsed), stages, failures.sum(), queues, estimateRemainingTime(seconds));
+	}
+
+	// Strategies are only counted once generated, so nothing sensible can be estimated before generation is over
+	private String estimateRemainingTime(double seconds) {
+		var done = counts.get(Stage.RESULTS).sum() + failures.sum();
+		if (!isGenerationOver || done == 0)
+			return "unknown";
+
+		var remaining = Math.max(counts.get(Stage.GENERATION).sum() - done, 0);
+		return format(Duration.ofMillis((long) (remaining * seconds * 1000 / done)));
+	}
+
+	private static String format(Duration duration) {
+		return "%d:%02d:%02d".formatted(duration.toHours(), duration.toMinutesPart(), duration.toSecondsPart());
+	}
+}
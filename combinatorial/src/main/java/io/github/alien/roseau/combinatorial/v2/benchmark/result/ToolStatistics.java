@@ -0,0 +1,79 @@
+package io.github.alien.roseau.combinatorial.v2.benchmark.result;
+
+import io.github.alien.roseau.combinatorial.utils.ExplorerUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Latency distribution of each tool over all the benchmarked strategies. The first runs of each tool are discarded
+ * as warm-up: they mostly measure class loading and JIT compilation, not the analysis itself.
+ */
+public final class ToolStatistics {
+	private static final Logger LOGGER = LogManager.getLogger(ToolStatistics.class);
+	private static final int WARMUP_RUNS = 5;
+
+	private final Map<String, Latencies> latencies = new ConcurrentHashMap<>();
+
+	private static final class Latencies {
+		private int runs = 0;
+		private final List<Long> samples = new ArrayList<>();
+
+		synchronized void add(long executionTime) {
+			if (++runs > WARMUP_RUNS)
+				samples.add(executionTime);
+		}
+
+		synchronized List<Long> sorted() {
+			return samples.stream().sorted().toList();
+		}
+	}
+
+	public void record(ToolResult result) {
+		latencies.computeIfAbsent(result.toolName(), _ -> new Latencies()).add(result.executionTime());
+	}
+
+	/**
+	 * Writes the p50, p95, and max latency of each tool, in milliseconds, next to the results of the benchmark.
+	 *
+	 * @param resultsPath the directory of the results
+	 */
+	public void write(Path resultsPath) {
+		if (!ExplorerUtils.createDirectoryIfNecessary(resultsPath)) {
+			LOGGER.error("Error while creating {}", resultsPath);
+			return;
+		}
+
+		var file = resultsPath.resolve("latencies-%d.csv".formatted(System.currentTimeMillis()));
+		try (var writer = new FileWriter(file.toFile())) {
+			writer.write("Tool,Warm-up Runs,Samples,p50,p95,Max\n");
+			for (var entry : new TreeMap<>(latencies).entrySet()) {
+				var samples = entry.getValue().sorted();
+				var line = samples.isEmpty()
+						? "%s,%d,0,,,".formatted(entry.getKey(), WARMUP_RUNS)
+						: "%s,%d,%d,%d,%d,%d".formatted(entry.getKey(), WARMUP_RUNS, samples.size(),
+								percentile(samples, 50), percentile(samples, 95), samples.getLast());
+
+				writer.write(line + "\n");
+				LOGGER.info("Latencies (ms): {}", line);
+			}
+		} catch (IOException e) {
+			LOGGER.error("Error while writing latencies");
+			LOGGER.error(e);
+		}
+	}
+
+	// Nearest-rank percentile of sorted samples
+	private static long percentile(List<Long> sorted, int percentile) {
+		var rank = (int) Math.ceil(percentile / 100d * sorted.size());
+		return sorted.get(Math.max(rank, 1) - 1);
+	}
+}
@@ -3,6 +3,7 @@ package io.github.alien.roseau.combinatorial.v2.benchmark.tool;
 import io.github.alien.roseau.combinatorial.v2.benchmark.result.ToolResult;
 
 import java.nio.file.Path;
+import java.util.Map;
 
 public sealed abstract class AbstractTool permits JapicmpTool, RevapiTool, RoseauTool {
 	protected final Path v1Path;
@@ -13,5 +14,12 @@ public sealed abstract class AbstractTool permits JapicmpTool, RevapiTool, Rosea
 		this.v2Path = v2Path;
 	}
 
-	public abstract ToolResult detectBreakingChanges();
+	/**
+	 * Compares the v1 and v2 JARs.
+	 *
+	 * @param v2Classes the classes of the v2 JAR, indexed by binary name, for tools able to analyze them from memory;
+	 *                  the others read the JAR at {@code v2Path}
+	 * @return the breaking changes detected by the tool, or null if it failed
+	 */
+	public abstract ToolResult detectBreakingChanges(Map<String, byte[]> v2Classes);
 }
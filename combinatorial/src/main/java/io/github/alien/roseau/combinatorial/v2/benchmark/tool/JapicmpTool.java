@@ -20,6 +20,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 public final class JapicmpTool extends AbstractTool {
 	public JapicmpTool(Path v1Path, Path v2Path) {
@@ -27,7 +28,7 @@ public final class JapicmpTool extends AbstractTool {
 	}
 
 	@Override
-	public ToolResult detectBreakingChanges() {
+	public ToolResult detectBreakingChanges(Map<String, byte[]> v2Classes) {
 		long startTime = System.currentTimeMillis();
 
 		Options opts = Options.newDefault();
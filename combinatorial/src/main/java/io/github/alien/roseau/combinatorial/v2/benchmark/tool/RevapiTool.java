@@ -9,6 +9,7 @@ import org.revapi.java.JavaApiAnalyzer;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 public final class RevapiTool extends AbstractTool {
 	public RevapiTool(Path v1Path, Path v2Path) {
@@ -16,7 +17,7 @@ public final class RevapiTool extends AbstractTool {
 	}
 
 	@Override
-	public ToolResult detectBreakingChanges() {
+	public ToolResult detectBreakingChanges(Map<String, byte[]> v2Classes) {
 		long startTime = System.currentTimeMillis();
 
 		var revapi = Revapi.builder()
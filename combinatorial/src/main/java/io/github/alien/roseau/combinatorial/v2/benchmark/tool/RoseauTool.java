@@ -2,28 +2,50 @@ package io.github.alien.roseau.combinatorial.v2.benchmark.tool;
 
 import io.github.alien.roseau.Library;
 import io.github.alien.roseau.Roseau;
+import io.github.alien.roseau.api.model.API;
 import io.github.alien.roseau.api.model.factory.DefaultApiFactory;
 import io.github.alien.roseau.api.model.reference.CachingTypeReferenceFactory;
 import io.github.alien.roseau.combinatorial.v2.benchmark.result.ToolResult;
 import io.github.alien.roseau.extractors.asm.AsmTypesExtractor;
 
 import java.nio.file.Path;
+import java.util.Map;
 
+/**
+ * Runs Roseau on the v1 API, extracted once and shared by all the benchmark threads, and on the in-memory classes of
+ * v2: the reported execution time only covers the extraction of v2 and the diff.
+ */
 public final class RoseauTool extends AbstractTool {
-	public RoseauTool(Path v1Path, Path v2Path) {
+	private final API v1Api;
+
+	public RoseauTool(Path v1Path, Path v2Path, API v1Api) {
 		super(v1Path, v2Path);
+
+		this.v1Api = v1Api;
+	}
+
+	/**
+	 * Extracts the API of a JAR, e.g., the v1 API shared by all the benchmark threads. The API is frozen so that the
+	 * threads diffing against it concurrently do not each recompute its exported members.
+	 *
+	 * @param jarPath the JAR to analyze
+	 * @return the extracted, frozen API
+	 */
+	public static API extractApi(Path jarPath) {
+		return new AsmTypesExtractor(new DefaultApiFactory(new CachingTypeReferenceFactory()))
+			.extractTypes(Library.of(jarPath))
+			.toAPI()
+			.freeze();
 	}
 
 	@Override
-	public ToolResult detectBreakingChanges() {
+	public ToolResult detectBreakingChanges(Map<String, byte[]> v2Classes) {
 		long startTime = System.currentTimeMillis();
 
-		var types1 = new AsmTypesExtractor(new DefaultApiFactory(new CachingTypeReferenceFactory()))
-			.extractTypes(Library.of(v1Path));
 		var types2 = new AsmTypesExtractor(new DefaultApiFactory(new CachingTypeReferenceFactory()))
-			.extractTypes(Library.of(v2Path));
+			.extractTypes(Library.of(v2Path), v2Classes);
 
-		var report = Roseau.diff(types1.toAPI(), types2.toAPI());
+		var report = Roseau.diff(v1Api, types2.toAPI());
 		var breakingChanges = report.getBreakingChanges();
 		var isBinaryBreaking = breakingChanges.stream().anyMatch(bC -> bC.kind().isBinaryBreaking());
 		var isSourceBreaking = breakingChanges.stream().anyMatch(bC -> bC.kind().isSourceBreaking());
@@ -1,9 +1,12 @@
 package io.github.alien.roseau.combinatorial.v2.benchmark.writer;
 
 import io.github.alien.roseau.combinatorial.utils.ExplorerUtils;
+import io.github.alien.roseau.combinatorial.v2.journal.CheckpointJournal;
+import io.github.alien.roseau.combinatorial.v2.journal.CheckpointJournal.Outcome;
 import io.github.alien.roseau.combinatorial.v2.queue.AbstractQueue;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.javatuples.Pair;
 
 import java.io.FileWriter;
 import java.nio.file.Path;
@@ -12,36 +15,44 @@ public sealed abstract class AbstractWriter<T> implements Runnable permits Faile
 	protected static final Logger LOGGER = LogManager.getLogger(AbstractWriter.class);
 
 	private final AbstractQueue<T> queue;
+	private final Outcome outcome;
+	private final CheckpointJournal journal;
 
 	protected final Path filePath;
 	protected FileWriter fileWriter = null;
 
-	protected boolean isBenchmarkStillOngoing = true;
-
-	protected AbstractWriter(Path filePath, AbstractQueue<T> queue) {
+	protected AbstractWriter(Path filePath, AbstractQueue<T> queue, Outcome outcome, CheckpointJournal journal) {
 		this.filePath = filePath;
 		this.queue = queue;
+		this.outcome = outcome;
+		this.journal = journal;
 	}
 
+	// Runs until the queue is closed and drained. A writer that dies aborts its queue, so that producers fail instead of
+	// waiting forever for room in it.
 	@Override
 	public void run() {
-		while (isBenchmarkStillOngoing || queue.hasStillWork()) {
-			var strategyAndData = queue.poll();
-			if (strategyAndData == null) continue;
-
-			var strategy = strategyAndData.getValue0();
-			var data = strategyAndData.getValue1();
-
-			addToFile(strategy, data);
+		try {
+			Pair<String, T> strategyAndData;
+			while ((strategyAndData = queue.poll()) != null) {
+				var strategy = strategyAndData.getValue0();
+				var data = strategyAndData.getValue1();
+
+				addToFile(strategy, data);
+				if (flushFile())
+					journal.record(strategy, outcome);
+			}
+		} catch (RuntimeException e) {
+			LOGGER.error("Writer of {} failed: {}", filePath, e.getMessage());
+			queue.abort();
+			throw e;
+		} finally {
+			closeFile();
 		}
-
-		closeFile();
 	}
 
 	public void informNoMoreBenchmark() {
-		isBenchmarkStillOngoing = false;
-
-		run();
+		queue.close();
 	}
 
 	protected abstract void addToFile(String strategy, T data);
@@ -62,6 +73,19 @@ public sealed abstract class AbstractWriter<T> implements Runnable permits Faile
 		}
 	}
 
+	// A strategy is only journaled once its line is on disk, so that resuming never loses it
+	private boolean flushFile() {
+		if (fileWriter == null) return false;
+
+		try {
+			fileWriter.flush();
+			return true;
+		} catch (Exception e) {
+			LOGGER.error("Error while flushing file");
+			return false;
+		}
+	}
+
 	private void closeFile() {
 		LOGGER.info("----- Closing file -----");
 
@@ -1,13 +1,15 @@
 package io.github.alien.roseau.combinatorial.v2.benchmark.writer;
 
 import io.github.alien.roseau.combinatorial.Constants;
+import io.github.alien.roseau.combinatorial.v2.journal.CheckpointJournal;
+import io.github.alien.roseau.combinatorial.v2.journal.CheckpointJournal.Outcome;
 import io.github.alien.roseau.combinatorial.v2.queue.FailedStrategyQueue;
 
 import java.nio.file.Path;
 
 public final class FailedStrategiesWriter extends AbstractWriter<String> {
-	public FailedStrategiesWriter(Path outputPath) {
-		super(Constants.getFailedStrategiesPath(outputPath), FailedStrategyQueue.getInstance());
+	public FailedStrategiesWriter(Path outputPath, FailedStrategyQueue queue, CheckpointJournal journal) {
+		super(Constants.getFailedStrategiesPath(outputPath), queue, Outcome.FAILED, journal);
 
 		LOGGER.info("Creating FailedStrategiesWriter");
 	}
@@ -1,13 +1,15 @@
 package io.github.alien.roseau.combinatorial.v2.benchmark.writer;
 
 import io.github.alien.roseau.combinatorial.Constants;
+import io.github.alien.roseau.combinatorial.v2.journal.CheckpointJournal;
+import io.github.alien.roseau.combinatorial.v2.journal.CheckpointJournal.Outcome;
 import io.github.alien.roseau.combinatorial.v2.queue.ImpossibleStrategyQueue;
 
 import java.nio.file.Path;
 
 public final class ImpossibleStrategiesWriter extends AbstractWriter<String> {
-	public ImpossibleStrategiesWriter(Path outputPath) {
-		super(Constants.getImpossibleStrategiesPath(outputPath), ImpossibleStrategyQueue.getInstance());
+	public ImpossibleStrategiesWriter(Path outputPath, ImpossibleStrategyQueue queue, CheckpointJournal journal) {
+		super(Constants.getImpossibleStrategiesPath(outputPath), queue, Outcome.IMPOSSIBLE, journal);
 
 		LOGGER.info("Creating ImpossibleStrategiesWriter");
 	}
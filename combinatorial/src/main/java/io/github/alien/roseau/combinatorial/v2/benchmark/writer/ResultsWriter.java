@@ -1,7 +1,11 @@
 package io.github.alien.roseau.combinatorial.v2.benchmark.writer;
 
 import io.github.alien.roseau.combinatorial.Constants;
+import io.github.alien.roseau.combinatorial.v2.benchmark.BenchmarkMetrics;
+import io.github.alien.roseau.combinatorial.v2.benchmark.BenchmarkMetrics.Stage;
 import io.github.alien.roseau.combinatorial.v2.benchmark.result.ToolResult;
+import io.github.alien.roseau.combinatorial.v2.journal.CheckpointJournal;
+import io.github.alien.roseau.combinatorial.v2.journal.CheckpointJournal.Outcome;
 import io.github.alien.roseau.combinatorial.v2.queue.ResultsProcessQueue;
 
 import java.nio.file.Path;
@@ -10,14 +14,23 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 public final class ResultsWriter extends AbstractWriter<List<ToolResult>> {
-	public ResultsWriter(Path outputPath) {
-		super(Constants.getResultsPath(outputPath), ResultsProcessQueue.getInstance());
+	private final BenchmarkMetrics metrics;
+
+	public ResultsWriter(Path outputPath, ResultsProcessQueue queue, BenchmarkMetrics metrics, CheckpointJournal journal) {
+		super(Constants.getResultsPath(outputPath), queue, Outcome.BENCHMARKED, journal);
+		this.metrics = metrics;
 
 		LOGGER.info("Creating ResultsWriter");
 	}
 
 	@Override
 	protected void addToFile(String strategy, List<ToolResult> results) {
+		var start = metrics.start();
+		writeResults(strategy, results);
+		metrics.record(Stage.RESULTS, start);
+	}
+
+	private void writeResults(String strategy, List<ToolResult> results) {
 		var sortedResults = results.stream().sorted(Comparator.comparing(ToolResult::toolName)).toList();
 		if (fileWriter == null) {
 			var toolNames = results.stream().map(t -> "%s Binary,%s Source".formatted(t.toolName(), t.toolName())).toList();
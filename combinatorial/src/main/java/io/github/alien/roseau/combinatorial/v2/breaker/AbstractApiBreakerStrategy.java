@@ -2,21 +2,16 @@ package io.github.alien.roseau.combinatorial.v2.breaker;
 
 import io.github.alien.roseau.api.model.API;
 import io.github.alien.roseau.combinatorial.builder.ApiBuilder;
-import io.github.alien.roseau.combinatorial.v2.filter.PreviousFailuresFilter;
-import io.github.alien.roseau.combinatorial.v2.filter.StrategyFilter;
-import io.github.alien.roseau.combinatorial.v2.queue.ImpossibleStrategyQueue;
+import io.github.alien.roseau.combinatorial.v2.benchmark.BenchmarkMetrics.Stage;
 import io.github.alien.roseau.combinatorial.v2.queue.NewApiQueue;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.List;
+import java.util.concurrent.CancellationException;
 
 public abstract class AbstractApiBreakerStrategy {
 	protected static final Logger LOGGER = LogManager.getLogger(AbstractApiBreakerStrategy.class);
 
-	private static final ImpossibleStrategyQueue impossibleStrategyQueue = ImpossibleStrategyQueue.getInstance();
-	private static final List<StrategyFilter> strategyFilters = List.of(PreviousFailuresFilter.getInstance());
-
 	private final NewApiQueue newApiQueue;
 	private final String strategyName;
 
@@ -28,17 +23,31 @@ public abstract class AbstractApiBreakerStrategy {
 		this.api = api;
 	}
 
-	public void breakApi() {
-		if (strategyFilters.stream().anyMatch(filter -> filter.ignores(strategyName))) return;
+	/**
+	 * Generates the new API of this strategy and puts it in the new API queue.
+	 *
+	 * @param context the state of the benchmark run
+	 * @throws CancellationException if the benchmark was aborted
+	 */
+	public void breakApi(BreakerContext context) {
+		if (context.ignores(strategyName)) return;
 
 		try {
+			var metrics = context.metrics();
+			var start = metrics.start();
 			var mutableApi = ApiBuilder.from(api);
 
 			applyBreakToMutableApi(mutableApi);
 
-			newApiQueue.put(strategyName, mutableApi.make());
+			var newApi = mutableApi.make();
+			metrics.record(Stage.GENERATION, start);
+
+			newApiQueue.put(strategyName, newApi);
 		} catch (ImpossibleChangeException _) {
-			impossibleStrategyQueue.put(strategyName, null);
+			context.impossibleStrategyQueue().put(strategyName, null);
+		} catch (CancellationException e) {
+			// The benchmark was aborted: stop generating strategies
+			throw e;
 		} catch (Exception e) {
 			LOGGER.error("Failed to apply breaking changes for strategy {}", strategyName);
 			LOGGER.error(e.getMessage());
@@ -0,0 +1,28 @@
+package io.github.alien.roseau.combinatorial.v2.breaker;
+
+import io.github.alien.roseau.combinatorial.v2.benchmark.BenchmarkMetrics;
+import io.github.alien.roseau.combinatorial.v2.filter.StrategyFilter;
+import io.github.alien.roseau.combinatorial.v2.queue.ImpossibleStrategyQueue;
+
+import java.util.List;
+
+/**
+ * The state of a benchmark run shared by all its strategies.
+ *
+ * @param impossibleStrategyQueue the queue recording the strategies that cannot be applied to the API
+ * @param metrics                 the metrics of the run
+ * @param filters                 the filters of the strategies the run must not generate
+ */
+public record BreakerContext(
+		ImpossibleStrategyQueue impossibleStrategyQueue,
+		BenchmarkMetrics metrics,
+		List<StrategyFilter> filters
+) {
+	public BreakerContext {
+		filters = List.copyOf(filters);
+	}
+
+	public boolean ignores(String strategyName) {
+		return filters.stream().anyMatch(filter -> filter.ignores(strategyName));
+	}
+}
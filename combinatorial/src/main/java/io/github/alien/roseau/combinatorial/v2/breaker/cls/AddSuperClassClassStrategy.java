@@ -25,7 +25,7 @@ public final class AddSuperClassClassStrategy extends AbstractTpStrategy<ClassDe
 		newClass.visibility = AccessModifier.PUBLIC;
 
 		var mutableClass = getMutableClass(mutableApi);
-		mutableApi.allTypes.put(newClass.qualifiedName, newClass);
+		mutableApi.putType(newClass);
 		mutableClass.superClass = mutableApi.typeReferenceFactory.createTypeReference(newClass.qualifiedName);
 	}
 }
@@ -13,7 +13,7 @@ abstract class AbstractRcdStrategy extends AbstractTpStrategy<RecordDecl> {
 	}
 
 	protected RecordBuilder getMutableBuilderFromMutableApi(ApiBuilder mutableApi) {
-		var containingType = mutableApi.allTypes.get(tp.getQualifiedName());
+		var containingType = mutableApi.getMutableType(tp.getQualifiedName());
 		if (containingType == null) throw new RuntimeException();
 
 		if (containingType instanceof RecordBuilder recordBuilder) return recordBuilder;
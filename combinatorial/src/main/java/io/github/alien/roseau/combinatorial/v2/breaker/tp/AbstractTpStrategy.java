@@ -9,8 +9,6 @@ import io.github.alien.roseau.combinatorial.builder.TypeBuilder;
 import io.github.alien.roseau.combinatorial.v2.breaker.AbstractApiBreakerStrategy;
 import io.github.alien.roseau.combinatorial.v2.queue.NewApiQueue;
 
-import java.util.List;
-
 public abstract class AbstractTpStrategy<T extends TypeDecl> extends AbstractApiBreakerStrategy {
 	protected final T tp;
 
@@ -21,14 +19,14 @@ public abstract class AbstractTpStrategy<T extends TypeDecl> extends AbstractApi
 	}
 
 	protected TypeBuilder getMutableType(ApiBuilder mutableApi) {
-		var mutableType = mutableApi.allTypes.get(tp.getQualifiedName());
+		var mutableType = mutableApi.getMutableType(tp.getQualifiedName());
 		if (mutableType == null) throw new RuntimeException();
 
 		return mutableType;
 	}
 
 	protected ClassBuilder getMutableClass(ApiBuilder mutableApi) {
-		var mutableType = mutableApi.allTypes.get(tp.getQualifiedName());
+		var mutableType = mutableApi.getMutableType(tp.getQualifiedName());
 		if (mutableType == null) throw new RuntimeException();
 
 		if (mutableType instanceof ClassBuilder classBuilder) return classBuilder;
@@ -37,17 +35,11 @@ public abstract class AbstractTpStrategy<T extends TypeDecl> extends AbstractApi
 	}
 
 	protected InterfaceBuilder getMutableInterface(ApiBuilder mutableApi) {
-		var mutableType = mutableApi.allTypes.get(tp.getQualifiedName());
+		var mutableType = mutableApi.getMutableType(tp.getQualifiedName());
 		if (mutableType == null) throw new RuntimeException();
 
 		if (mutableType instanceof InterfaceBuilder interfaceBuilder) return interfaceBuilder;
 
 		throw new RuntimeException();
 	}
-
-	protected List<TypeBuilder> getAllOtherMutableTypes(ApiBuilder mutableApi) {
-		return mutableApi.allTypes.values().stream()
-				.filter(t -> !t.qualifiedName.equals(tp.getQualifiedName()))
-				.toList();
-	}
 }
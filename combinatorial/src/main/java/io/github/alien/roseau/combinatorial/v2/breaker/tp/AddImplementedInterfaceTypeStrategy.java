@@ -21,7 +21,7 @@ public final class AddImplementedInterfaceTypeStrategy<T extends TypeDecl> exten
 		newInterface.visibility = AccessModifier.PUBLIC;
 
 		var mutableType = getMutableType(mutableApi);
-		mutableApi.allTypes.put(newInterface.qualifiedName, newInterface);
+		mutableApi.putType(newInterface);
 		mutableType.implementedInterfaces.add(mutableApi.typeReferenceFactory.createTypeReference(newInterface.qualifiedName));
 	}
 }
@@ -23,7 +23,7 @@ public final class AddModifierTypeStrategy<T extends TypeDecl> extends AbstractT
 
 		LOGGER.info("Adding {} modifier to {}", modifier, tp.getSimpleName());
 
-		var mutableType = mutableApi.allTypes.get(tp.getQualifiedName());
+		var mutableType = mutableApi.getMutableType(tp.getQualifiedName());
 		mutableType.modifiers.add(modifier);
 	}
 }
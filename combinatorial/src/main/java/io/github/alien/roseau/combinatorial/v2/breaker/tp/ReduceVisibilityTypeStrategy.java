@@ -23,7 +23,7 @@ public final class ReduceVisibilityTypeStrategy<T extends TypeDecl> extends Abst
 
 		LOGGER.info("Reducing {} visibility to {}", tp.getQualifiedName(), StringUtils.splitSpecialCharsAndCapitalize(accessModifier.name()));
 
-		var mutableType = mutableApi.allTypes.get(tp.getQualifiedName());
+		var mutableType = mutableApi.getMutableType(tp.getQualifiedName());
 		mutableType.visibility = accessModifier;
 	}
 }
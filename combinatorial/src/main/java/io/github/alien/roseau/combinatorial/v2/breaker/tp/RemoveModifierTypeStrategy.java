@@ -23,7 +23,7 @@ public final class RemoveModifierTypeStrategy<T extends TypeDecl> extends Abstra
 
 		LOGGER.info("Removing {} modifier from {}", StringUtils.splitSpecialCharsAndCapitalize(modifier.name()), tp.getSimpleName());
 
-		var mutableType = mutableApi.allTypes.get(tp.getQualifiedName());
+		var mutableType = mutableApi.getMutableType(tp.getQualifiedName());
 		mutableType.modifiers.remove(modifier);
 	}
 }
@@ -15,6 +15,6 @@ public final class RemoveTypeStrategy<T extends TypeDecl> extends AbstractTpStra
 	protected void applyBreakToMutableApi(ApiBuilder mutableApi) {
 		LOGGER.info("Removing type {}", StringUtils.getPrettyQualifiedName(tp));
 
-		mutableApi.allTypes.remove(tp.getQualifiedName());
+		mutableApi.removeType(tp.getQualifiedName());
 	}
 }
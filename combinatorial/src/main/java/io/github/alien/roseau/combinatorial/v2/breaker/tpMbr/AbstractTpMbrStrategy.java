@@ -16,7 +16,7 @@ public abstract class AbstractTpMbrStrategy<T extends TypeMemberDecl> extends Ab
 	}
 
 	protected TypeBuilder getContainingTypeFromMutableApi(ApiBuilder mutableApi) {
-		var containingType = mutableApi.allTypes.get(tpMbr.getContainingType().getQualifiedName());
+		var containingType = mutableApi.getMutableType(tpMbr.getContainingType().getQualifiedName());
 		if (containingType == null) throw new RuntimeException();
 
 		return containingType;
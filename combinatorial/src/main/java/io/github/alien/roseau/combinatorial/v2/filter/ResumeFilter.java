@@ -0,0 +1,25 @@
+package io.github.alien.roseau.combinatorial.v2.filter;
+
+import io.github.alien.roseau.combinatorial.v2.journal.CheckpointJournal;
+
+import java.nio.file.Path;
+
+public final class ResumeFilter extends StrategyFilter {
+	private final Path outputPath;
+
+	public ResumeFilter(boolean isEnabled, Path outputPath) {
+		super(isEnabled);
+
+		this.outputPath = outputPath;
+
+		fillStrategiesFilter();
+	}
+
+	// Whatever their outcome, journaled strategies are over
+	@Override
+	protected void fillStrategiesFilter() {
+		if (!isEnabled) return;
+
+		strategiesFilter.addAll(CheckpointJournal.read(outputPath).keySet());
+	}
+}
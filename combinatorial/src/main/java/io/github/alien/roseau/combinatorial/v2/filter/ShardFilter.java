@@ -0,0 +1,25 @@
+package io.github.alien.roseau.combinatorial.v2.filter;
+
+import io.github.alien.roseau.combinatorial.v2.Shard;
+
+public final class ShardFilter extends StrategyFilter {
+	private final Shard shard;
+
+	public ShardFilter(Shard shard) {
+		super(!shard.isAll());
+
+		this.shard = shard;
+	}
+
+	// Shards are computed on the fly from strategy names, which are only known during generation
+	@Override
+	protected void fillStrategiesFilter() {
+	}
+
+	@Override
+	public boolean ignores(String strategyName) {
+		if (!isEnabled) return false;
+
+		return !shard.contains(strategyName);
+	}
+}
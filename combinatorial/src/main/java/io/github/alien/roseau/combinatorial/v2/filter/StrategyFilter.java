@@ -3,7 +3,7 @@ package io.github.alien.roseau.combinatorial.v2.filter;
 import java.util.HashSet;
 import java.util.Set;
 
-public sealed abstract class StrategyFilter permits OnlyFilter, PreviousFailuresFilter {
+public sealed abstract class StrategyFilter permits OnlyFilter, PreviousFailuresFilter, ResumeFilter, ShardFilter {
 	protected Set<String> strategiesFilter = new HashSet<>();
 
 	protected final boolean isEnabled;
@@ -0,0 +1,115 @@
+package io.github.alien.roseau.combinatorial.v2.journal;
+
+import io.github.alien.roseau.combinatorial.Constants;
+import io.github.alien.roseau.combinatorial.utils.ExplorerUtils;
+import io.github.alien.roseau.combinatorial.v2.Shard;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An append-only journal of the strategies whose benchmark is over, shared by all the processes benchmarking into
+ * the same output directory. Each process appends to its own file, one line per strategy, once the outcome of the
+ * strategy is flushed to the corresponding CSV file: reading all the journals tells exactly which strategies an
+ * interrupted run still has to benchmark. Each run creates its own journal.
+ */
+public final class CheckpointJournal {
+	private static final Logger LOGGER = LogManager.getLogger(CheckpointJournal.class);
+	private static final String EXTENSION = ".journal";
+
+	/**
+	 * How the benchmark of a strategy ended.
+	 */
+	public enum Outcome {
+		BENCHMARKED,
+		FAILED,
+		IMPOSSIBLE
+	}
+
+	private final Path journalPath;
+	private FileWriter fileWriter = null;
+
+	public CheckpointJournal(Path outputPath, Shard shard) {
+		journalPath = Constants.getCheckpointsPath(outputPath).resolve("shard-%d-of-%d-%d-%d%s".formatted(
+				shard.index(), shard.count(), ProcessHandle.current().pid(), System.currentTimeMillis(), EXTENSION));
+	}
+
+	/**
+	 * Appends the outcome of a strategy to the journal of this process.
+	 */
+	public synchronized void record(String strategy, Outcome outcome) {
+		try {
+			if (fileWriter == null) {
+				if (!ExplorerUtils.createDirectoryIfNecessary(journalPath.getParent()))
+					throw new IOException("Couldn't create " + journalPath.getParent());
+				fileWriter = new FileWriter(journalPath.toFile(), true);
+			}
+
+			fileWriter.write("%s %s\n".formatted(outcome, strategy));
+			fileWriter.flush();
+		} catch (IOException e) {
+			LOGGER.error("Error while journaling strategy {}", strategy);
+			LOGGER.error(e);
+		}
+	}
+
+	public synchronized void close() {
+		if (fileWriter != null) {
+			try {
+				fileWriter.close();
+				fileWriter = null;
+			} catch (IOException e) {
+				LOGGER.error("Error while closing journal");
+			}
+		}
+	}
+
+	/**
+	 * Reads the journals of all the previous and ongoing runs in the output directory. A strategy benchmarked after
+	 * failing in another run is considered benchmarked. A line that was being written when its process stopped is
+	 * ignored.
+	 *
+	 * @param outputPath the output directory of the benchmark
+	 * @return the outcome of every journaled strategy
+	 */
+	public static Map<String, Outcome> read(Path outputPath) {
+		var journals = Constants.getCheckpointsPath(outputPath).toFile()
+				.listFiles((_, name) -> name.endsWith(EXTENSION));
+		if (journals == null) return Map.of();
+
+		var outcomes = new HashMap<String, Outcome>();
+		for (var journal : journals) {
+			try {
+				var content = Files.readString(journal.toPath());
+				var lines = content.substring(0, content.lastIndexOf('\n') + 1).lines();
+				lines.forEach(line -> {
+					var separator = line.indexOf(' ');
+					if (separator < 0) return;
+
+					var outcome = parseOutcome(line.substring(0, separator));
+					if (outcome != null)
+						outcomes.merge(line.substring(separator + 1), outcome, (a, b) -> a.compareTo(b) <= 0 ? a : b);
+				});
+			} catch (IOException e) {
+				LOGGER.error("Error while reading journal {}", journal);
+				LOGGER.error(e);
+			}
+		}
+
+		return outcomes;
+	}
+
+	private static Outcome parseOutcome(String outcome) {
+		return Arrays.stream(Outcome.values())
+				.filter(o -> o.name().equals(outcome))
+				.findFirst()
+				.orElse(null);
+	}
+}
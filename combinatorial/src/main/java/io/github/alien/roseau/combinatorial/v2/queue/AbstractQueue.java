@@ -3,34 +3,94 @@ package io.github.alien.roseau.combinatorial.v2.queue;
 import org.javatuples.Pair;
 
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
 
-import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
+/**
+ * A queue between two stages of the benchmark pipeline. Producers block when a bounded queue is full, and consumers
+ * keep polling until the queue is {@link #close() closed} and drained, so that no item is lost when a stage is slower
+ * than the previous one. A consumer that cannot go on {@link #abort() aborts} the queue, so that its producers fail
+ * instead of waiting forever for room in the queue.
+ */
 public abstract sealed class AbstractQueue<T> permits FailedStrategyQueue, ImpossibleStrategyQueue, NewApiQueue, ResultsProcessQueue {
+	/**
+	 * The capacity of the queues consumed by writers, which only block producers when the disk cannot keep up.
+	 */
+	protected static final int WRITER_QUEUE_CAPACITY = 1024;
+	private static final long POLL_INTERVAL_MS = 100;
+
 	private final BlockingQueue<Pair<String, T>> queue;
 
+	private volatile boolean closed = false;
+	private volatile boolean aborted = false;
+
 	public AbstractQueue(BlockingQueue<Pair<String, T>> queue) {
 		this.queue = queue;
 	}
 
+	/**
+	 * Waits for room in the queue to put an item.
+	 *
+	 * @param strategy the strategy the item belongs to
+	 * @param data     the item
+	 * @throws CancellationException if the queue is aborted
+	 */
 	public void put(String strategy, T data) {
+		var item = new Pair<>(strategy, data);
 		try {
-			queue.put(new Pair<>(strategy, data));
+			while (!queue.offer(item, POLL_INTERVAL_MS, MILLISECONDS)) {
+				if (aborted) throw new CancellationException("%s was aborted".formatted(getClass().getSimpleName()));
+			}
 		} catch (InterruptedException e) {
 			Thread.currentThread().interrupt();
 		}
 	}
 
+	/**
+	 * Waits for the next item of the queue.
+	 *
+	 * @return the next item, or null if the queue is closed and drained or the thread is interrupted
+	 */
 	public Pair<String, T> poll() {
 		try {
-			return queue.poll(5, SECONDS);
+			while (true) {
+				var item = queue.poll(POLL_INTERVAL_MS, MILLISECONDS);
+				if (item != null) return item;
+				if (aborted || (closed && queue.isEmpty())) return null;
+			}
 		} catch (InterruptedException e) {
 			Thread.currentThread().interrupt();
 			return null;
 		}
 	}
 
+	/**
+	 * Informs consumers that no more items will be put in the queue.
+	 */
+	public void close() {
+		closed = true;
+	}
+
+	/**
+	 * Informs producers that the items of this queue will no longer be consumed: the pending items are discarded, and
+	 * items put from now on are rejected.
+	 */
+	public void abort() {
+		aborted = true;
+		closed = true;
+		queue.clear();
+	}
+
+	public boolean isAborted() {
+		return aborted;
+	}
+
 	public boolean hasStillWork() {
 		return !queue.isEmpty();
 	}
+
+	public int size() {
+		return queue.size();
+	}
 }
@@ -3,16 +3,7 @@ package io.github.alien.roseau.combinatorial.v2.queue;
 import java.util.concurrent.LinkedBlockingQueue;
 
 public final class FailedStrategyQueue extends AbstractQueue<String> {
-	private static FailedStrategyQueue _instance = null;
-
-	private FailedStrategyQueue() {
-		super(new LinkedBlockingQueue<>());
-	}
-
-	public static FailedStrategyQueue getInstance() {
-		if (_instance == null) {
-			_instance = new FailedStrategyQueue();
-		}
-		return _instance;
+	public FailedStrategyQueue() {
+		super(new LinkedBlockingQueue<>(WRITER_QUEUE_CAPACITY));
 	}
 }
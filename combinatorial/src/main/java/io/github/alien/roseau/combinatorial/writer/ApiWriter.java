@@ -1,32 +1,79 @@
 package io.github.alien.roseau.combinatorial.writer;
 
 import io.github.alien.roseau.api.model.API;
+import io.github.alien.roseau.api.model.TypeDecl;
 import io.github.alien.roseau.combinatorial.api.ApiPrettyPrinter;
 import io.github.alien.roseau.combinatorial.Constants;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
 
 public final class ApiWriter extends AbstractWriter {
 	public ApiWriter(Path outputDir) {
 		super(outputDir.resolve(Constants.API_FOLDER));
 	}
 
+	/**
+	 * Pretty-prints the types of the API to the output directory.
+	 *
+	 * @param api the API to write
+	 * @throws UncheckedIOException if a type cannot be written
+	 * @throws IllegalStateException if a type cannot be printed
+	 */
 	public void write(API api) {
-		var prettyPrinter = new ApiPrettyPrinter(api);
-
-		api.getLibraryTypes().getAllTypes().forEach(t -> {
+		print(api).forEach((qualifiedName, code) -> {
+			var filePath = outputDir.resolve(qualifiedName.replace('.', '/') + ".java");
 			try {
-				var code = prettyPrinter.$(t).print();
+				Files.createDirectories(filePath.getParent());
+				Files.writeString(filePath, code);
+			} catch (IOException e) {
+				throw new UncheckedIOException("Failed to write type %s to %s".formatted(qualifiedName, filePath), e);
+			}
+		});
+	}
+
+	/**
+	 * Pretty-prints the types of the API without writing them to disk.
+	 *
+	 * @param api the API to print
+	 * @return the code of each type, indexed by qualified name
+	 * @throws IllegalStateException if a type cannot be printed
+	 */
+	public static Map<String, String> print(API api) {
+		return print(api, api.getLibraryTypes().getAllTypes());
+	}
 
-				var filePath = outputDir.resolve(t.getQualifiedName().replace('.', '/') + ".java");
-				var file = filePath.toFile();
-				file.getParentFile().mkdirs();
+	/**
+	 * Pretty-prints the given types of the API without writing them to disk.
+	 *
+	 * @param api            the API to print
+	 * @param qualifiedNames the qualified names of the types to print
+	 * @return the code of each type, indexed by qualified name
+	 * @throws IllegalStateException if a type cannot be printed
+	 */
+	public static Map<String, String> print(API api, Set<String> qualifiedNames) {
+		return print(api, qualifiedNames.stream().flatMap(name -> api.getLibraryTypes().findType(name).stream()).toList());
+	}
 
-				Files.writeString(filePath, code);
-			} catch (Exception e) {
-				e.printStackTrace();
+	private static Map<String, String> print(API api, Collection<TypeDecl> types) {
+		var prettyPrinter = new ApiPrettyPrinter(api);
+		var sources = new LinkedHashMap<String, String>();
+
+		types.forEach(t -> {
+			try {
+				sources.put(t.getQualifiedName(), prettyPrinter.$(t).print());
+			} catch (RuntimeException e) {
+				// A missing type would only surface later as a confusing compilation error
+				throw new IllegalStateException("Failed to print type %s".formatted(t.getQualifiedName()), e);
 			}
 		});
+
+		return sources;
 	}
 }
@@ -21,11 +21,8 @@ public final class ClientWriter extends AbstractWriter {
 
 	private final API api;
 
-	private final Map<String, InnerType> _innerTypes = new HashMap<>();
-	private final Set<String> _exceptions = new HashSet<>();
-	private final List<String> _notThrowingInstructions = new ArrayList<>();
-	private final List<String> _throwingInstructions = new ArrayList<>();
-	private final List<String> _tryCatchInstructions = new ArrayList<>();
+	private final Map<String, Slice> _slices = new TreeMap<>();
+	private Slice _slice;
 
 	public ClientWriter(Path clientOutputDir, API api) {
 		super(clientOutputDir);
@@ -33,6 +30,33 @@ public final class ClientWriter extends AbstractWriter {
 		this.api = api;
 	}
 
+	/**
+	 * Returns the name of the client class exercising the symbols of the given top-level type. Each such slice has its
+	 * own entry point, and the {@link Constants#CLIENT_FILENAME} class runs them all.
+	 *
+	 * @param qualifiedName the qualified name of the top-level type
+	 * @return the simple name of the client slice
+	 */
+	public static String getSliceName(String qualifiedName) {
+		return "%sClient".formatted(StringUtils.splitSpecialCharsAndCapitalize(qualifiedName));
+	}
+
+	/**
+	 * Directs the code generated by subsequent calls to the client slice of the top-level type enclosing {@code typeDecl}.
+	 *
+	 * @param typeDecl the type whose symbols are about to be exercised
+	 */
+	public void useSliceOf(TypeDecl typeDecl) {
+		var topLevelType = typeDecl;
+		while (topLevelType.getEnclosingType().isPresent()) {
+			var enclosingType = topLevelType.getEnclosingType().flatMap(eT -> api.resolver().resolve(eT));
+			if (enclosingType.isEmpty()) break;
+			topLevelType = enclosingType.get();
+		}
+
+		_slice = _slices.computeIfAbsent(getSliceName(topLevelType.getQualifiedName()), _ -> new Slice());
+	}
+
 	public void writeClassInheritance(ClassDecl classDecl) {
 		var necessaryMethods = implementNecessaryMethods(classDecl);
 
@@ -111,7 +135,7 @@ public final class ClientWriter extends AbstractWriter {
 	}
 
 	public void writeExceptionThrows(ClassDecl classDecl) {
-		this._exceptions.add(StringUtils.cleanQualifiedNameForType(classDecl));
+		_slice.exceptions.add(StringUtils.cleanQualifiedNameForType(classDecl));
 	}
 
 	public void writeEnumValueRead(EnumValueDecl enumValueDecl, EnumDecl containingEnum) {
@@ -311,56 +335,77 @@ public final class ClientWriter extends AbstractWriter {
 
 	public void writeClientFile() {
 		try {
-			var innerTypesCode = _innerTypes.values().stream()
-					.map(InnerType::generateTypeCode)
-					.collect(Collectors.joining("\n\n\t"));
-			var sortedExceptions = formatExceptionNames(_exceptions.stream().toList());
-			var exceptionsCode = sortedExceptions.isBlank() ? "" : " throws %s".formatted(sortedExceptions);
-
-			List<String> mainCalls = new ArrayList<>();
-			List<String> methodsInstructions = new ArrayList<>();
-			dispatchInstructionsToMethodsAndInvokeThem(
-					"callInstructionsWithoutException",
-					_notThrowingInstructions,
-					mainCalls,
-					methodsInstructions
-			);
-			dispatchInstructionsToMethodsAndInvokeThem(
-					"callInstructionsWithException",
-					_throwingInstructions,
-					exceptionsCode,
-					CALL_INSTRUCTIONS_WITH_EXCEPTION_TEMPLATE,
-					mainCalls,
-					methodsInstructions
-			);
-			dispatchInstructionsToMethodsAndInvokeThem(
-					"callInstructionsWithTryCatch",
-					_tryCatchInstructions,
-					mainCalls,
-					methodsInstructions
-			);
-
-			var mainCode = concatDeclarations("\n\t\t", false, mainCalls.toArray(String[]::new));
-			var methodsCode = concatDeclarations("\n", false, methodsInstructions.toArray(String[]::new));
+			var packageName = outputDir.toFile().getName();
+			for (var slice : _slices.entrySet()) {
+				writeClientFile(slice.getKey(), generateSliceCode(packageName, slice.getKey(), slice.getValue()));
+			}
 
-			var fullCode = FULL_CLIENT_FILE_TEMPLATE.formatted(
-					outputDir.toFile().getName(),
+			var mainCode = _slices.keySet().stream()
+					.map("%s.main(args);"::formatted)
+					.collect(Collectors.joining("\n\t\t"));
+			writeClientFile(Constants.CLIENT_FILENAME, FULL_CLIENT_FILE_TEMPLATE.formatted(
+					packageName,
 					Constants.CLIENT_FILENAME,
-					innerTypesCode,
-					exceptionsCode,
+					"",
+					" throws Exception",
 					mainCode,
-					methodsCode
-			).getBytes();
-
-			var filePath = outputDir.resolve("%s.java".formatted(Constants.CLIENT_FILENAME));
-			filePath.toFile().getParentFile().mkdirs();
-
-			Files.write(filePath, fullCode);
+					""
+			));
 		} catch (IOException e) {
 			LOGGER.error("Error writing client code to file: {}", e.getMessage());
 		}
 	}
 
+	private void writeClientFile(String className, String code) throws IOException {
+		var filePath = outputDir.resolve("%s.java".formatted(className));
+		filePath.toFile().getParentFile().mkdirs();
+
+		Files.writeString(filePath, code);
+	}
+
+	private String generateSliceCode(String packageName, String sliceName, Slice slice) {
+		var innerTypesCode = slice.innerTypes.values().stream()
+				.map(InnerType::generateTypeCode)
+				.collect(Collectors.joining("\n\n\t"));
+		var sortedExceptions = formatExceptionNames(slice.exceptions.stream().toList());
+		var exceptionsCode = sortedExceptions.isBlank() ? "" : " throws %s".formatted(sortedExceptions);
+
+		List<String> mainCalls = new ArrayList<>();
+		List<String> methodsInstructions = new ArrayList<>();
+		dispatchInstructionsToMethodsAndInvokeThem(
+				"callInstructionsWithoutException",
+				slice.notThrowingInstructions,
+				mainCalls,
+				methodsInstructions
+		);
+		dispatchInstructionsToMethodsAndInvokeThem(
+				"callInstructionsWithException",
+				slice.throwingInstructions,
+				exceptionsCode,
+				CALL_INSTRUCTIONS_WITH_EXCEPTION_TEMPLATE,
+				mainCalls,
+				methodsInstructions
+		);
+		dispatchInstructionsToMethodsAndInvokeThem(
+				"callInstructionsWithTryCatch",
+				slice.tryCatchInstructions,
+				mainCalls,
+				methodsInstructions
+		);
+
+		var mainCode = concatDeclarations("\n\t\t", false, mainCalls.toArray(String[]::new));
+		var methodsCode = concatDeclarations("\n", false, methodsInstructions.toArray(String[]::new));
+
+		return FULL_CLIENT_FILE_TEMPLATE.formatted(
+				packageName,
+				sliceName,
+				innerTypesCode,
+				exceptionsCode,
+				mainCode,
+				methodsCode
+		);
+	}
+
 	private void dispatchInstructionsToMethodsAndInvokeThem(String instructionsName, List<String> instructions, String exceptionsCode, String template, List<String> mainCalls, List<String> methodsInstructions) {
 		int maxLinesByMethod = 1000;
 
@@ -391,16 +436,16 @@ public final class ClientWriter extends AbstractWriter {
 	}
 
 	private void insertDeclarationsToInnerType(TypeDecl superType, String typeName, boolean isInterface, String constructors, String methods) {
-		if (!_innerTypes.containsKey(typeName)) {
+		if (!_slice.innerTypes.containsKey(typeName)) {
 			var innerType = new InnerType();
 			innerType.typeName = typeName;
 			innerType.superType = superType;
 			innerType.isTypeInterface = isInterface;
 
-			_innerTypes.put(typeName, innerType);
+			_slice.innerTypes.put(typeName, innerType);
 		}
 
-		var innerType = _innerTypes.get(typeName);
+		var innerType = _slice.innerTypes.get(typeName);
 		if (!constructors.isBlank()) innerType.constructors.add(constructors);
 		if (!methods.isBlank()) innerType.methods.add(methods);
 	}
@@ -410,13 +455,13 @@ public final class ClientWriter extends AbstractWriter {
 	}
 
 	private void addInstructionToClientMain(List<String> exceptions, String code) {
-		this._exceptions.addAll(exceptions);
+		_slice.exceptions.addAll(exceptions);
 
 		if (exceptions.isEmpty()) {
-			this._notThrowingInstructions.add(code);
+			_slice.notThrowingInstructions.add(code);
 		} else {
-			this._throwingInstructions.add(code);
-			this._tryCatchInstructions.add("try { %s } catch (%s ignored) {}".formatted(code, formatExceptionNames(exceptions, " | ")));
+			_slice.throwingInstructions.add(code);
+			_slice.tryCatchInstructions.add("try { %s } catch (%s ignored) {}".formatted(code, formatExceptionNames(exceptions, " | ")));
 		}
 	}
 
@@ -764,6 +809,14 @@ public final class ClientWriter extends AbstractWriter {
 		return formatExceptionNames(exceptions, ", ");
 	}
 
+	private static final class Slice {
+		public final Map<String, InnerType> innerTypes = new HashMap<>();
+		public final Set<String> exceptions = new HashSet<>();
+		public final List<String> notThrowingInstructions = new ArrayList<>();
+		public final List<String> throwingInstructions = new ArrayList<>();
+		public final List<String> tryCatchInstructions = new ArrayList<>();
+	}
+
 	private static final class InnerType {
 		public String typeName;
 		public TypeDecl superType;
@@ -0,0 +1,98 @@
+package io.github.alien.roseau;
+
+import com.google.common.base.Preconditions;
+
+import java.time.Duration;
+
+/**
+ * A time budget shared by the different steps of an analysis: classpath resolution, type extraction, and diffing.
+ * Long-running steps regularly check whether their deadline {@link #isExpired() expired} and stop early if so. A
+ * deadline can also be {@link #cancel() cancelled} explicitly, e.g., to abort the sibling tasks of a failed one.
+ * <p>
+ * Deadlines are thread-safe and can be shared by concurrent tasks.
+ */
+public final class Deadline {
+	private final long expiresAt;
+	private final boolean bounded;
+	private volatile boolean cancelled;
+
+	private Deadline(long expiresAt, boolean bounded) {
+		this.expiresAt = expiresAt;
+		this.bounded = bounded;
+	}
+
+	/**
+	 * Creates a deadline that only expires when cancelled.
+	 *
+	 * @return the new deadline
+	 */
+	public static Deadline none() {
+		return new Deadline(0L, false);
+	}
+
+	/**
+	 * Creates a deadline expiring once {@code budget} has elapsed from now.
+	 *
+	 * @param budget the time budget (must be positive)
+	 * @return the new deadline
+	 */
+	public static Deadline after(Duration budget) {
+		Preconditions.checkArgument(budget != null && budget.isPositive(), "Invalid time budget %s", budget);
+		return new Deadline(System.nanoTime() + budget.toNanos(), true);
+	}
+
+	/**
+	 * Whether the time budget elapsed or this deadline was cancelled.
+	 *
+	 * @return true if the work subject to this deadline should stop
+	 */
+	public boolean isExpired() {
+		return cancelled || (bounded && System.nanoTime() - expiresAt >= 0L);
+	}
+
+	/**
+	 * Whether this deadline has a time budget, as opposed to {@link #none()}.
+	 *
+	 * @return true if this deadline expires by itself
+	 */
+	public boolean isBounded() {
+		return bounded;
+	}
+
+	/**
+	 * Returns the remaining time before this deadline expires: {@link Duration#ZERO} if it already expired, and
+	 * an effectively infinite duration if it is not {@link #isBounded() bounded}.
+	 *
+	 * @return the remaining time
+	 */
+	public Duration remaining() {
+		if (isExpired()) {
+			return Duration.ZERO;
+		}
+		return bounded ? Duration.ofNanos(expiresAt - System.nanoTime()) : Duration.ofSeconds(Long.MAX_VALUE);
+	}
+
+	/**
+	 * Expires this deadline right away.
+	 */
+	public void cancel() {
+		cancelled = true;
+	}
+
+	/**
+	 * Throws a {@link RoseauException} if this deadline expired.
+	 *
+	 * @param step a description of the step being performed, used in the exception's message
+	 * @throws RoseauException if this deadline expired
+	 */
+	public void check(String step) {
+		if (isExpired()) {
+			throw new RoseauException("Time budget exceeded while %s".formatted(step));
+		}
+	}
+
+	@Override
+	public String toString() {
+		return bounded ? "Deadline[remaining=%s]".formatted(remaining()) : "Deadline[none]";
+	}
+}
@@ -1,7 +1,6 @@
 package io.github.alien.roseau;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
-import com.google.common.base.Suppliers;
 import io.github.alien.roseau.extractors.ExtractorType;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -13,7 +12,6 @@ import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.function.Supplier;
 import java.util.stream.Stream;
 import java.util.zip.ZipFile;
 
@@ -29,39 +27,41 @@ import java.util.zip.ZipFile;
  *   <li>A {@code module-info.java}. In this case, the directory containing the module is used as root directory</li>
  *   <li>A JAR file containing at most one {@code module-info.java} file</li>
  * </ul>
- * A library can be complemented with a custom classpath or a {@code pom.xml} file for dependency resolution. The
- * extractor used to parse and infer types can be customized. Use {@link #of(Path)} or {@link #builder()} to create new
+ * A library can be complemented with a custom classpath or a {@code pom.xml} file for dependency resolution, whose
+ * result can be cached on disk. The extractor used to parse and infer types can be customized. Use {@link #of(Path)} or {@link #builder()} to create new
  * instances.
  */
 public final class Library {
 	private final Path location;
 	private final List<Path> customClasspath;
 	private final Path pom;
+	private final Path classpathCache;
 	private final ExtractorType extractorType;
 	private final RoseauOptions.Exclude exclusions;
 	@JsonIgnore
-	private final Supplier<List<Path>> classpath;
+	private volatile List<Path> classpath;
 
 	private static final Logger LOGGER = LogManager.getLogger(Library.class);
 
 	/**
 	 * Use the provided {@link #of(Path)} or {@link #builder()} instead.
 	 */
-	private Library(Path location, List<Path> customClasspath, Path pom, ExtractorType extractorType,
-	                RoseauOptions.Exclude exclusions) {
+	private Library(Path location, List<Path> customClasspath, Path pom, Path classpathCache,
+	                ExtractorType extractorType, RoseauOptions.Exclude exclusions) {
 		this.location = location.toAbsolutePath();
 		this.customClasspath = List.copyOf(customClasspath);
 		this.pom = pom;
+		this.classpathCache = classpathCache;
 		this.extractorType = extractorType;
 		this.exclusions = exclusions;
-		this.classpath = Suppliers.memoize(this::resolveClasspath);
 	}
 
-	private List<Path> resolveClasspath() {
+	private List<Path> resolveClasspath(Deadline deadline) {
 		List<Path> resolved = new ArrayList<>(customClasspath);
 		if (pom != null && Files.isRegularFile(pom)) {
-			MavenClasspathBuilder builder = new MavenClasspathBuilder();
-			resolved.addAll(builder.buildClasspath(pom));
+			// Try to resolve dependencies offline first, and only fork Maven if something is missing
+			resolved.addAll(new LocalRepositoryClasspathBuilder().buildClasspath(pom).orElseGet(() ->
+				new MavenClasspathBuilder(classpathCache).buildClasspath(pom, deadline)));
 		}
 		return resolved.stream()
 			.<Path>mapMulti((p, downstream) -> {
@@ -107,13 +107,44 @@ public final class Library {
 	 * @return the resolved classpath, including custom classpath and pom-inferred classpath
 	 */
 	public List<Path> getClasspath() {
-		return classpath.get();
+		return getClasspath(Deadline.none());
+	}
+
+	/**
+	 * Resolves the classpath on first access, giving up on {@code pom.xml} resolution once {@code deadline} expires.
+	 * A classpath resolved past the deadline may be incomplete and is not memoized, so the next access resolves it
+	 * again.
+	 *
+	 * @param deadline the deadline after which classpath resolution is aborted
+	 * @return the resolved classpath, including custom classpath and pom-inferred classpath
+	 */
+	public List<Path> getClasspath(Deadline deadline) {
+		List<Path> cp = classpath;
+		if (cp == null) {
+			synchronized (this) {
+				cp = classpath;
+				if (cp == null) {
+					cp = resolveClasspath(deadline);
+					if (!deadline.isExpired()) {
+						classpath = cp;
+					}
+				}
+			}
+		}
+		return cp;
 	}
 
 	public Path getPom() {
 		return pom;
 	}
 
+	/**
+	 * @return the directory caching the classpath resolved from the {@code pom.xml} file, or {@code null} if disabled
+	 */
+	public Path getClasspathCache() {
+		return classpathCache;
+	}
+
 	public ExtractorType getExtractorType() {
 		return extractorType;
 	}
@@ -183,6 +214,7 @@ public final class Library {
 		private Path location;
 		private List<Path> classpath = List.of();
 		private Path pom;
+		private Path classpathCache;
 		private RoseauOptions.Exclude exclusions = new RoseauOptions.Exclude(List.of(), List.of());
 
 		private Builder() {
@@ -222,6 +254,18 @@ public final class Library {
 			return this;
 		}
 
+		/**
+		 * Sets the directory where the classpath resolved from the {@code pom.xml} file is cached across runs. Caching is
+		 * disabled by default.
+		 *
+		 * @param classpathCache the cache directory, or {@code null} to disable caching
+		 * @return this builder
+		 */
+		public Builder classpathCache(Path classpathCache) {
+			this.classpathCache = classpathCache;
+			return this;
+		}
+
 		/**
 		 * Sets the names/types and annotations to exclude from the API.
 		 *
@@ -283,7 +327,7 @@ public final class Library {
 
 			// Default extractors
 			ExtractorType extractorType = isSources(location) ? ExtractorType.JDT : ExtractorType.ASM;
-			return new Library(location, classpath, pom, extractorType, exclusions);
+			return new Library(location, classpath, pom, classpathCache, extractorType, exclusions);
 		}
 	}
 }
@@ -0,0 +1,429 @@
+package io.github.alien.roseau;
+
+import com.google.common.base.Preconditions;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.w3c.dom.Element;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Infers the classpath of a Maven library in-process and offline, directly from the local Maven repository, without
+ * forking Maven or accessing the network. This implementation parses the supplied {@code pom.xml} file and supports
+ * parent POMs, properties, {@code dependencyManagement} (including BOM imports), scopes, optional dependencies, and
+ * exclusions. Transitive dependencies are mediated as Maven does: the nearest declaration wins.
+ * <p>
+ * Resolution gives up whenever something cannot be resolved offline or is not supported (a missing POM or JAR, an
+ * unresolved property, a version range, etc.); clients should then fall back to {@link MavenClasspathBuilder}.
+ * Profiles are ignored.
+ */
+public class LocalRepositoryClasspathBuilder {
+	private final Path localRepository;
+	private final Map<Path, RawModel> rawModels = new ConcurrentHashMap<>();
+	private final Map<Path, Model> models = new ConcurrentHashMap<>();
+
+	private static final Logger LOGGER = LogManager.getLogger(LocalRepositoryClasspathBuilder.class);
+	private static final Pattern PROPERTY = Pattern.compile("\\$\\{([^}]+)}");
+	private static final int MAX_PARENT_DEPTH = 32;
+	private static final Set<String> NON_TRANSITIVE_SCOPES = Set.of("test", "provided", "system", "import");
+
+	/**
+	 * Creates a new builder resolving artifacts from the default local repository.
+	 */
+	public LocalRepositoryClasspathBuilder() {
+		this(PomFiles.localRepository());
+	}
+
+	/**
+	 * Creates a new builder resolving artifacts from the given local repository.
+	 *
+	 * @param localRepository the root of the local Maven repository
+	 */
+	public LocalRepositoryClasspathBuilder(Path localRepository) {
+		Preconditions.checkNotNull(localRepository);
+		this.localRepository = localRepository;
+	}
+
+	/**
+	 * Returns the classpath of the supplied {@code pom.xml} file, including the dependencies of all scopes and their
+	 * transitive dependencies.
+	 *
+	 * @param pom the {@code pom.xml} file
+	 * @return the resolved classpath, or an empty optional if some artifact cannot be resolved offline
+	 */
+	public Optional<List<Path>> buildClasspath(Path pom) {
+		Preconditions.checkNotNull(pom);
+
+		if (!Files.isRegularFile(pom)) {
+			LOGGER.warn("Invalid pom.xml file {}", pom);
+			return Optional.empty();
+		}
+
+		try {
+			Model root = effectiveModel(loadRawModel(pom.toAbsolutePath().normalize(), 0));
+			List<Path> cp = new ArrayList<>();
+			for (Dependency dep : resolve(root)) {
+				artifactPath(dep).ifPresent(cp::add);
+			}
+			LOGGER.debug("Resolved classpath from {} offline: {} entries", pom, cp.size());
+			return Optional.of(cp);
+		} catch (UnresolvableException e) {
+			LOGGER.debug("Cannot resolve classpath from {} offline: {}", pom, e.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	private List<Dependency> resolve(Model root) throws UnresolvableException {
+		record Node(Dependency dependency, Set<String> exclusions) {
+		}
+
+		Map<String, Dependency> selected = new LinkedHashMap<>();
+		Deque<Node> queue = new ArrayDeque<>();
+		root.dependencies().forEach(dep -> queue.add(new Node(dep, dep.exclusions())));
+
+		// Breadth-first traversal implements Maven's "nearest wins" mediation
+		while (!queue.isEmpty()) {
+			Node node = queue.poll();
+			Dependency dep = node.dependency();
+			if (selected.putIfAbsent(dep.conflictKey(), dep) != null || "system".equals(dep.scope())) {
+				continue;
+			}
+
+			Model model = loadRepositoryModel(dep.groupId(), dep.artifactId(), dep.version());
+			for (Dependency child : model.dependencies()) {
+				if (!child.isTransitive() || isExcluded(child, node.exclusions())) {
+					continue;
+				}
+
+				// The root's dependencyManagement takes precedence over transitive declarations
+				Dependency managed = root.management().get(child.managementKey());
+				Dependency effective = managed != null ? child.overriddenBy(managed) : child;
+				Set<String> exclusions = new HashSet<>(node.exclusions());
+				exclusions.addAll(effective.exclusions());
+				queue.add(new Node(effective, exclusions));
+			}
+		}
+
+		return List.copyOf(selected.values());
+	}
+
+	private Optional<Path> artifactPath(Dependency dep) throws UnresolvableException {
+		if ("system".equals(dep.scope())) {
+			return Optional.ofNullable(dep.systemPath()).map(Path::of).filter(Files::isRegularFile);
+		}
+		if ("pom".equals(dep.type())) {
+			return Optional.empty();
+		}
+
+		String classifier = dep.classifier() != null ? dep.classifier()
+			: "test-jar".equals(dep.type()) ? "tests" : null;
+		String fileName = classifier != null
+			? "%s-%s-%s.jar".formatted(dep.artifactId(), dep.version(), classifier)
+			: "%s-%s.jar".formatted(dep.artifactId(), dep.version());
+		Path jar = PomFiles.artifactDirectory(localRepository, dep.groupId(), dep.artifactId(), dep.version())
+			.resolve(fileName);
+		if (!Files.isRegularFile(jar)) {
+			throw new UnresolvableException("missing JAR " + jar);
+		}
+		return Optional.of(jar);
+	}
+
+	private Model loadRepositoryModel(String groupId, String artifactId, String version)
+		throws UnresolvableException {
+		String gav = "%s:%s:%s".formatted(groupId, artifactId, version);
+		if (version.startsWith("[") || version.startsWith("(")) {
+			throw new UnresolvableException("version ranges are not supported: " + gav);
+		}
+
+		Path pom = PomFiles.artifactPom(localRepository, groupId, artifactId, version);
+		if (!Files.isRegularFile(pom)) {
+			throw new UnresolvableException("missing POM for " + gav);
+		}
+
+		return loadModel(pom);
+	}
+
+	private Model loadModel(Path pom) throws UnresolvableException {
+		Model cached = models.get(pom);
+		if (cached != null) {
+			return cached;
+		}
+
+		Model model = effectiveModel(loadRawModel(pom, 0));
+		models.put(pom, model);
+		return model;
+	}
+
+	/**
+	 * Interpolates the raw model with its own properties, only once inheritance is done, and applies its
+	 * {@code dependencyManagement} to its dependencies.
+	 */
+	private Model effectiveModel(RawModel raw) throws UnresolvableException {
+		// Explicit (and inherited) entries take precedence over imported BOMs
+		Map<String, Dependency> management = new HashMap<>();
+		List<Dependency> imports = new ArrayList<>();
+		for (Dependency declared : raw.management()) {
+			Dependency dep = declared.interpolate(raw.properties());
+			if ("import".equals(dep.scope()) && "pom".equals(dep.type())) {
+				imports.add(dep);
+			} else {
+				management.put(dep.managementKey(), dep);
+			}
+		}
+		for (Dependency bom : imports) {
+			requireVersion(bom);
+			loadRepositoryModel(bom.groupId(), bom.artifactId(), bom.version()).management()
+				.forEach(management::putIfAbsent);
+		}
+
+		Map<String, Dependency> dependencies = new LinkedHashMap<>();
+		for (Dependency declared : raw.dependencies()) {
+			Dependency dep = declared.interpolate(raw.properties());
+			Dependency managed = management.get(dep.managementKey());
+			Dependency effective = managed != null ? dep.managedBy(managed) : dep;
+			requireVersion(effective);
+			dependencies.put(effective.managementKey(), effective);
+		}
+
+		return new Model(Map.copyOf(management), List.copyOf(dependencies.values()));
+	}
+
+	/**
+	 * Loads a POM and merges it with its parents, without interpolating anything: as in Maven, inherited declarations
+	 * are interpolated with the properties of the inheriting project, not those of the parent.
+	 */
+	private RawModel loadRawModel(Path pom, int depth) throws UnresolvableException {
+		if (depth > MAX_PARENT_DEPTH) {
+			throw new UnresolvableException("too many parents for " + pom);
+		}
+
+		RawModel cached = rawModels.get(pom);
+		if (cached != null) {
+			return cached;
+		}
+
+		Element project = parse(pom);
+		RawModel parent = null;
+		if (PomFiles.childElement(project, "parent") != null) {
+			Path parentPom = findParent(pom, project)
+				.orElseThrow(() -> new UnresolvableException("missing parent POM of " + pom));
+			parent = loadRawModel(parentPom, depth + 1);
+		}
+
+		String groupId = Optional.ofNullable(PomFiles.childText(project, "groupId"))
+			.orElse(parent != null ? parent.groupId() : null);
+		String artifactId = PomFiles.childText(project, "artifactId");
+		String version = Optional.ofNullable(PomFiles.childText(project, "version"))
+			.orElse(parent != null ? parent.version() : null);
+		if (groupId == null || artifactId == null || version == null) {
+			throw new UnresolvableException("incomplete coordinates in " + pom);
+		}
+
+		Map<String, String> properties = new HashMap<>();
+		List<Dependency> management = new ArrayList<>();
+		List<Dependency> dependencies = new ArrayList<>();
+		if (parent != null) {
+			properties.putAll(parent.properties());
+			properties.put("project.parent.groupId", parent.groupId());
+			properties.put("project.parent.version", parent.version());
+			management.addAll(parent.management());
+			dependencies.addAll(parent.dependencies());
+		}
+		Element propertiesElement = PomFiles.childElement(project, "properties");
+		if (propertiesElement != null) {
+			PomFiles.childElements(propertiesElement)
+				.forEach(p -> properties.put(p.getTagName(), p.getTextContent().trim()));
+		}
+		properties.put("project.groupId", groupId);
+		properties.put("project.artifactId", artifactId);
+		properties.put("project.version", version);
+		properties.put("pom.groupId", groupId);
+		properties.put("pom.artifactId", artifactId);
+		properties.put("pom.version", version);
+		properties.put("project.basedir", pom.getParent().toString());
+		properties.put("basedir", pom.getParent().toString());
+
+		Element dependencyManagement = PomFiles.childElement(project, "dependencyManagement");
+		if (dependencyManagement != null) {
+			management.addAll(parseDependencies(PomFiles.childElement(dependencyManagement, "dependencies")));
+		}
+		dependencies.addAll(parseDependencies(PomFiles.childElement(project, "dependencies")));
+
+		RawModel model = new RawModel(groupId, version, Map.copyOf(properties), List.copyOf(management),
+			List.copyOf(dependencies));
+		rawModels.put(pom, model);
+		return model;
+	}
+
+	private Optional<Path> findParent(Path pom, Element project) throws UnresolvableException {
+		try {
+			return PomFiles.findParent(pom, project, localRepository);
+		} catch (IOException e) {
+			throw new UnresolvableException(e.getMessage());
+		}
+	}
+
+	private static List<Dependency> parseDependencies(Element dependencies) {
+		if (dependencies == null) {
+			return List.of();
+		}
+
+		List<Dependency> parsed = new ArrayList<>();
+		for (Element dep : PomFiles.childElements(dependencies)) {
+			Set<String> exclusions = new HashSet<>();
+			Element exclusionsElement = PomFiles.childElement(dep, "exclusions");
+			if (exclusionsElement != null) {
+				for (Element exclusion : PomFiles.childElements(exclusionsElement)) {
+					exclusions.add("%s:%s".formatted(
+						PomFiles.childText(exclusion, "groupId"), PomFiles.childText(exclusion, "artifactId")));
+				}
+			}
+
+			parsed.add(new Dependency(
+				PomFiles.childText(dep, "groupId"),
+				PomFiles.childText(dep, "artifactId"),
+				PomFiles.childText(dep, "version"),
+				Optional.ofNullable(PomFiles.childText(dep, "type")).orElse("jar"),
+				PomFiles.childText(dep, "classifier"),
+				PomFiles.childText(dep, "scope"),
+				"true".equals(PomFiles.childText(dep, "optional")),
+				PomFiles.childText(dep, "systemPath"),
+				Set.copyOf(exclusions)));
+		}
+		return parsed;
+	}
+
+	private static String interpolate(String value, Map<String, String> properties) throws UnresolvableException {
+		if (value == null) {
+			return null;
+		}
+
+		String current = value;
+		for (int i = 0; i < MAX_PARENT_DEPTH && current.contains("${"); i++) {
+			Matcher matcher = PROPERTY.matcher(current);
+			StringBuilder sb = new StringBuilder();
+			while (matcher.find()) {
+				String name = matcher.group(1);
+				String replacement = properties.containsKey(name) ? properties.get(name)
+					: name.startsWith("env.") ? System.getenv(name.substring(4))
+					: System.getProperty(name);
+				if (replacement == null) {
+					throw new UnresolvableException("unresolved property " + name);
+				}
+				matcher.appendReplacement(sb, Matcher.quoteReplacement(replacement));
+			}
+			matcher.appendTail(sb);
+			current = sb.toString();
+		}
+
+		if (current.contains("${")) {
+			throw new UnresolvableException("recursive property in " + value);
+		}
+		return current;
+	}
+
+	private static boolean isExcluded(Dependency dep, Set<String> exclusions) {
+		return exclusions.stream().anyMatch(exclusion -> {
+			String[] parts = exclusion.split(":", 2);
+			return ("*".equals(parts[0]) || parts[0].equals(dep.groupId())) &&
+				("*".equals(parts[1]) || parts[1].equals(dep.artifactId()));
+		});
+	}
+
+	private static void requireVersion(Dependency dep) throws UnresolvableException {
+		if (dep.version() == null) {
+			throw new UnresolvableException("missing version for %s:%s".formatted(dep.groupId(), dep.artifactId()));
+		}
+	}
+
+	private static Element parse(Path pom) throws UnresolvableException {
+		try {
+			return PomFiles.parse(pom);
+		} catch (IOException e) {
+			throw new UnresolvableException("cannot parse %s: %s".formatted(pom, e.getMessage()));
+		}
+	}
+
+	/**
+	 * A POM merged with its parents, whose declarations are not interpolated yet
+	 */
+	private record RawModel(String groupId, String version, Map<String, String> properties,
+	                        List<Dependency> management, List<Dependency> dependencies) {
+	}
+
+	/**
+	 * The effective dependencies and dependency management of a POM
+	 */
+	private record Model(Map<String, Dependency> management, List<Dependency> dependencies) {
+	}
+
+	private record Dependency(String groupId, String artifactId, String version, String type, String classifier,
+	                          String scope, boolean optional, String systemPath, Set<String> exclusions) {
+		boolean isTransitive() {
+			return !optional && (scope == null || !NON_TRANSITIVE_SCOPES.contains(scope));
+		}
+
+		String managementKey() {
+			return "%s:%s:%s:%s".formatted(groupId, artifactId, type, classifier);
+		}
+
+		String conflictKey() {
+			return "%s:%s:%s".formatted(groupId, artifactId, classifier);
+		}
+
+		Dependency interpolate(Map<String, String> properties) throws UnresolvableException {
+			Set<String> interpolatedExclusions = new HashSet<>();
+			for (String exclusion : exclusions) {
+				interpolatedExclusions.add(LocalRepositoryClasspathBuilder.interpolate(exclusion, properties));
+			}
+			return new Dependency(
+				LocalRepositoryClasspathBuilder.interpolate(groupId, properties),
+				LocalRepositoryClasspathBuilder.interpolate(artifactId, properties),
+				LocalRepositoryClasspathBuilder.interpolate(version, properties),
+				LocalRepositoryClasspathBuilder.interpolate(type, properties),
+				LocalRepositoryClasspathBuilder.interpolate(classifier, properties),
+				LocalRepositoryClasspathBuilder.interpolate(scope, properties),
+				optional,
+				LocalRepositoryClasspathBuilder.interpolate(systemPath, properties),
+				Set.copyOf(interpolatedExclusions));
+		}
+
+		// Transitive dependencies take their version and scope from the root's dependencyManagement
+		Dependency overriddenBy(Dependency managed) {
+			Set<String> allExclusions = new HashSet<>(exclusions);
+			allExclusions.addAll(managed.exclusions());
+			return new Dependency(groupId, artifactId, managed.version() != null ? managed.version() : version, type,
+				classifier, managed.scope() != null ? managed.scope() : scope, optional,
+				managed.systemPath() != null ? managed.systemPath() : systemPath, Set.copyOf(allExclusions));
+		}
+
+		Dependency managedBy(Dependency managed) {
+			Set<String> allExclusions = new HashSet<>(exclusions);
+			allExclusions.addAll(managed.exclusions());
+			return new Dependency(groupId, artifactId, version != null ? version : managed.version(), type, classifier,
+				scope != null ? scope : managed.scope(), optional, systemPath != null ? systemPath : managed.systemPath(),
+				Set.copyOf(allExclusions));
+		}
+	}
+
+	private static final class UnresolvableException extends Exception {
+		UnresolvableException(String message) {
+			super(message);
+		}
+	}
+}
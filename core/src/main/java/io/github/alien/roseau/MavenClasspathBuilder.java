@@ -2,6 +2,8 @@ package io.github.alien.roseau;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.maven.shared.invoker.DefaultInvocationRequest;
@@ -12,8 +14,13 @@ import org.apache.maven.shared.invoker.Invoker;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
@@ -23,21 +30,84 @@ import java.util.Properties;
 /**
  * Utility class to automatically infer the classpath of a Maven library. This implementation attempts to retrieve the
  * classpath from a supplied {@code pom.xml} file using {@code mvn dependency:build-classpath}.
+ * <p>
+ * As forking Maven is expensive, resolved classpaths can optionally be cached on disk. Cache entries are keyed by a
+ * hash of the {@code pom.xml}, its chain of parent POMs, the user's {@code settings.xml}, and the location of the local
+ * repository. Each entry records the size and modification time of the JARs it lists and of their POMs in the local
+ * repository; it is discarded as soon as one of them is missing or changed, e.g., when a snapshot is re-installed.
  */
 public class MavenClasspathBuilder {
+	private final Path cacheDirectory;
+
 	private static final Logger LOGGER = LogManager.getLogger(MavenClasspathBuilder.class);
+	private static final int MAX_PARENT_DEPTH = 32;
+
+	/**
+	 * Creates a new builder that does not cache resolved classpaths.
+	 */
+	public MavenClasspathBuilder() {
+		this(null);
+	}
+
+	/**
+	 * Creates a new builder that caches resolved classpaths in the given directory.
+	 *
+	 * @param cacheDirectory the directory storing cached classpaths, or {@code null} to disable caching
+	 */
+	public MavenClasspathBuilder(Path cacheDirectory) {
+		this.cacheDirectory = cacheDirectory;
+	}
 
 	/**
-	 * Returns the classpath of the supplied {@code pom.xml} file using {@code mvn dependency:build-classpath}.
+	 * Returns the classpath of the supplied {@code pom.xml} file, either from the cache or using
+	 * {@code mvn dependency:build-classpath}.
 	 *
 	 * @param pom the {@code pom.xml} file
 	 * @return the retrieved classpath or an empty list if something went wrong
 	 */
 	public List<Path> buildClasspath(Path pom) {
+		return buildClasspath(pom, Deadline.none());
+	}
+
+	/**
+	 * Returns the classpath of the supplied {@code pom.xml} file, either from the cache or using
+	 * {@code mvn dependency:build-classpath}. The forked Maven process is killed if it outlives {@code deadline}.
+	 *
+	 * @param pom      the {@code pom.xml} file
+	 * @param deadline the deadline after which classpath resolution is aborted
+	 * @return the retrieved classpath or an empty list if something went wrong or the deadline expired
+	 */
+	public List<Path> buildClasspath(Path pom, Deadline deadline) {
 		Preconditions.checkNotNull(pom);
+		Preconditions.checkNotNull(deadline);
 
 		if (!Files.isRegularFile(pom)) {
 			LOGGER.warn("Invalid pom.xml file {}", pom);
+			return List.of();
+		}
+
+		if (cacheDirectory == null) {
+			return invokeMaven(pom, deadline);
+		}
+
+		Path cacheFile = cacheDirectory.resolve(cacheKey(pom) + ".classpath");
+		Optional<List<Path>> cached = readCache(cacheFile);
+		if (cached.isPresent()) {
+			LOGGER.debug("Retrieved cached classpath for {}: {} entries", pom, cached.get().size());
+			return cached.get();
+		}
+
+		List<Path> cp = invokeMaven(pom, deadline);
+		if (!cp.isEmpty()) {
+			writeCache(cacheFile, cp);
+		}
+		return cp;
+	}
+
+	private static List<Path> invokeMaven(Path pom, Deadline deadline) {
+		if (deadline.isExpired()) {
+			LOGGER.warn("Time budget exceeded; skipping classpath resolution for {}", pom);
+			return List.of();
 		}
 
 		String random = Long.toHexString(Double.doubleToLongBits(Math.random()));
@@ -47,6 +117,11 @@ public class MavenClasspathBuilder {
 
 			if (mvnExecutable.isPresent()) {
 				InvocationRequest request = makeClasspathRequest(pom, classpathFile);
+				if (deadline.isBounded()) {
+					// Rounded up so that Maven is given at least a second
+					request.setTimeoutInSeconds((int) Math.min(Integer.MAX_VALUE,
+						(deadline.remaining().toMillis() + 999L) / 1000L));
+				}
 				Invoker invoker = new DefaultInvoker();
 				invoker.setMavenExecutable(mvnExecutable.get());
 				InvocationResult result = invoker.execute(request);
@@ -80,6 +155,116 @@ public class MavenClasspathBuilder {
 		return List.of();
 	}
 
+	private static Optional<List<Path>> readCache(Path cacheFile) {
+		if (!Files.isRegularFile(cacheFile)) {
+			return Optional.empty();
+		}
+
+		try {
+			List<String> lines = Files.readAllLines(cacheFile, StandardCharsets.UTF_8).stream()
+				.filter(line -> !line.isBlank())
+				.toList();
+			List<Path> cp = new ArrayList<>(lines.size());
+			for (String line : lines) {
+				String[] fields = line.split("\t", 2);
+				Path jar = Path.of(fields[0]);
+				if (fields.length < 2 || !Files.isRegularFile(jar) || !fields[1].equals(stamp(jar))) {
+					LOGGER.debug("Discarding stale cached classpath {}", cacheFile);
+					return Optional.empty();
+				}
+				cp.add(jar);
+			}
+			return Optional.of(List.copyOf(cp));
+		} catch (IOException | InvalidPathException e) {
+			LOGGER.warn("Couldn't read cached classpath {}", cacheFile, e);
+		}
+
+		return Optional.empty();
+	}
+
+	private static void writeCache(Path cacheFile, List<Path> cp) {
+		try {
+			Files.createDirectories(cacheFile.getParent());
+			// Write then move so that concurrent resolutions never observe a partial entry
+			Path tmp = Files.createTempFile(cacheFile.getParent(), "classpath-", ".tmp");
+			List<String> lines = new ArrayList<>(cp.size());
+			for (Path jar : cp) {
+				lines.add("%s\t%s".formatted(jar.toAbsolutePath(), stamp(jar)));
+			}
+			Files.write(tmp, lines, StandardCharsets.UTF_8);
+			Files.move(tmp, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			LOGGER.warn("Couldn't cache classpath to {}", cacheFile, e);
+		}
+	}
+
+	/**
+	 * Identifies the current state of a classpath entry and, if it lives in the local repository, of its POM, which
+	 * declares the entry's own dependencies.
+	 */
+	private static String stamp(Path jar) throws IOException {
+		Path versionDirectory = jar.toAbsolutePath().getParent();
+		Path artifactDirectory = versionDirectory != null ? versionDirectory.getParent() : null;
+		if (artifactDirectory == null) {
+			return fileStamp(jar);
+		}
+
+		Path pom = versionDirectory.resolve("%s-%s.pom".formatted(
+			artifactDirectory.getFileName(), versionDirectory.getFileName()));
+		return Files.isRegularFile(pom)
+			? "%s\t%s".formatted(fileStamp(jar), fileStamp(pom))
+			: fileStamp(jar);
+	}
+
+	private static String fileStamp(Path file) throws IOException {
+		BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+		return "%d:%d".formatted(attributes.size(), attributes.lastModifiedTime().toMillis());
+	}
+
+	private static String cacheKey(Path pom) {
+		Hasher hasher = Hashing.sha256().newHasher();
+		Path localRepository = PomFiles.localRepository();
+		hasher.putString(localRepository.toAbsolutePath().toString(), StandardCharsets.UTF_8);
+		hashFile(hasher, Path.of(System.getProperty("user.home"), ".m2", "settings.xml"));
+		parentChain(pom, localRepository).forEach(file -> hashFile(hasher, file));
+		return hasher.hash().toString();
+	}
+
+	private static void hashFile(Hasher hasher, Path file) {
+		try {
+			if (Files.isRegularFile(file)) {
+				hasher.putBytes(Files.readAllBytes(file));
+			}
+		} catch (IOException e) {
+			// Unlikely; worst case we miss the cache entry
+			hasher.putString(file.toAbsolutePath().toString(), StandardCharsets.UTF_8);
+		}
+	}
+
+	/**
+	 * Returns the given POM and the chain of its parent POMs that can be located either through their
+	 * {@code relativePath} or in the local repository.
+	 */
+	private static List<Path> parentChain(Path pom, Path localRepository) {
+		List<Path> chain = new ArrayList<>();
+		Path current = pom.toAbsolutePath().normalize();
+		while (current != null && chain.size() < MAX_PARENT_DEPTH && !chain.contains(current)) {
+			chain.add(current);
+			current = findParent(current, localRepository);
+		}
+		return chain;
+	}
+
+	private static Path findParent(Path pom, Path localRepository) {
+		try {
+			return PomFiles.findParent(pom, PomFiles.parse(pom), localRepository).orElse(null);
+		} catch (IOException e) {
+			// Malformed POMs will make Maven fail anyway
+			LOGGER.debug("Couldn't resolve parent of {}", pom, e);
+			return null;
+		}
+	}
+
 	private static InvocationRequest makeClasspathRequest(Path pom, Path classpathFile) {
 		InvocationRequest request = new DefaultInvocationRequest();
 		request.setPomFile(pom.toAbsolutePath().toFile());
@@ -0,0 +1,135 @@
+package io.github.alien.roseau;
+
+import com.google.common.base.Strings;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.xml.sax.SAXException;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Helpers shared by the classpath builders to read {@code pom.xml} files and locate them in the local Maven
+ * repository.
+ */
+final class PomFiles {
+	private PomFiles() {
+
+	}
+
+	/**
+	 * Returns the local Maven repository: the {@code maven.repo.local} system property if set,
+	 * {@code ~/.m2/repository} otherwise.
+	 */
+	static Path localRepository() {
+		String property = System.getProperty("maven.repo.local");
+		return !Strings.isNullOrEmpty(property)
+			? Path.of(property)
+			: Path.of(System.getProperty("user.home"), ".m2", "repository");
+	}
+
+	static Path artifactDirectory(Path localRepository, String groupId, String artifactId, String version) {
+		return localRepository.resolve(groupId.replace('.', '/')).resolve(artifactId).resolve(version);
+	}
+
+	static Path artifactPom(Path localRepository, String groupId, String artifactId, String version) {
+		return artifactDirectory(localRepository, groupId, artifactId, version)
+			.resolve("%s-%s.pom".formatted(artifactId, version));
+	}
+
+	/**
+	 * Parses the given {@code pom.xml} file.
+	 *
+	 * @return the {@code <project>} element
+	 * @throws IOException if the file cannot be read or parsed
+	 */
+	static Element parse(Path pom) throws IOException {
+		try {
+			DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+			factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+			return factory.newDocumentBuilder().parse(pom.toFile()).getDocumentElement();
+		} catch (ParserConfigurationException | SAXException e) {
+			throw new IOException("Cannot parse %s: %s".formatted(pom, e.getMessage()), e);
+		}
+	}
+
+	/**
+	 * Locates the parent POM of a project, either through its {@code relativePath} or in the local repository. As
+	 * Maven does, a POM found through {@code relativePath} is only used if its coordinates match the declared ones.
+	 *
+	 * @param pom             the project's {@code pom.xml} file
+	 * @param project         the project's {@code <project>} element
+	 * @param localRepository the local Maven repository
+	 * @return the parent POM, or an empty optional if the project has no parent or it cannot be found
+	 * @throws IOException if a candidate parent POM cannot be read or parsed
+	 */
+	static Optional<Path> findParent(Path pom, Element project, Path localRepository) throws IOException {
+		Element parent = childElement(project, "parent");
+		if (parent == null) {
+			return Optional.empty();
+		}
+
+		String groupId = childText(parent, "groupId");
+		String artifactId = childText(parent, "artifactId");
+		String version = childText(parent, "version");
+		if (groupId == null || artifactId == null || version == null) {
+			return Optional.empty();
+		}
+
+		String relativePath = Optional.ofNullable(childText(parent, "relativePath")).orElse("../pom.xml");
+		if (!relativePath.isBlank()) {
+			Path relative = pom.resolveSibling(relativePath).normalize();
+			Path candidate = Files.isDirectory(relative) ? relative.resolve("pom.xml") : relative;
+			if (Files.isRegularFile(candidate) && hasCoordinates(parse(candidate), groupId, artifactId, version)) {
+				return Optional.of(candidate);
+			}
+		}
+
+		Path inRepository = artifactPom(localRepository, groupId, artifactId, version);
+		return Files.isRegularFile(inRepository) ? Optional.of(inRepository) : Optional.empty();
+	}
+
+	// groupId and version may be inherited from the project's own parent
+	private static boolean hasCoordinates(Element project, String groupId, String artifactId, String version) {
+		Element parent = childElement(project, "parent");
+		String projectGroupId = Optional.ofNullable(childText(project, "groupId"))
+			.orElse(parent != null ? childText(parent, "groupId") : null);
+		String projectVersion = Optional.ofNullable(childText(project, "version"))
+			.orElse(parent != null ? childText(parent, "version") : null);
+		return Objects.equals(groupId, projectGroupId) &&
+			Objects.equals(artifactId, childText(project, "artifactId")) &&
+			Objects.equals(version, projectVersion);
+	}
+
+	static List<Element> childElements(Element element) {
+		List<Element> children = new ArrayList<>();
+		for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling()) {
+			if (child instanceof Element e) {
+				children.add(e);
+			}
+		}
+		return children;
+	}
+
+	static Element childElement(Element element, String name) {
+		for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling()) {
+			if (child instanceof Element e && name.equals(e.getTagName())) {
+				return e;
+			}
+		}
+		return null;
+	}
+
+	static String childText(Element element, String name) {
+		Element child = childElement(element, name);
+		return child != null ? child.getTextContent().trim() : null;
+	}
+}
@@ -4,6 +4,7 @@ import com.google.common.base.Preconditions;
 import com.google.common.base.Stopwatch;
 import io.github.alien.roseau.api.model.API;
 import io.github.alien.roseau.api.model.LibraryTypes;
+import io.github.alien.roseau.api.model.MethodDecl;
 import io.github.alien.roseau.api.model.factory.ApiFactory;
 import io.github.alien.roseau.api.model.factory.DefaultApiFactory;
 import io.github.alien.roseau.api.model.reference.CachingTypeReferenceFactory;
@@ -15,9 +16,15 @@ import io.github.alien.roseau.diff.ApiDiffer;
 import io.github.alien.roseau.diff.ApiWalker;
 import io.github.alien.roseau.diff.DefaultSymbolMatcher;
 import io.github.alien.roseau.diff.BreakingChangeAnalyzer;
+import io.github.alien.roseau.diff.MoveDetectingSymbolMatcher;
 import io.github.alien.roseau.diff.RoseauReport;
+import io.github.alien.roseau.diff.SymbolMatcher;
+import io.github.alien.roseau.diff.changes.BreakingChange;
+import io.github.alien.roseau.diff.changes.BreakingChangeDetails;
+import io.github.alien.roseau.diff.rules.DefaultRuleSet;
 import io.github.alien.roseau.extractors.ExtractorType;
 import io.github.alien.roseau.extractors.TypesExtractor;
+import io.github.alien.roseau.extractors.asm.AsmClientScanner;
 import io.github.alien.roseau.extractors.asm.AsmTypesExtractor;
 import io.github.alien.roseau.extractors.incremental.ChangedFiles;
 import io.github.alien.roseau.extractors.incremental.HashFunction;
@@ -25,13 +32,26 @@ import io.github.alien.roseau.extractors.incremental.HashingChangedFilesProvider
 import io.github.alien.roseau.extractors.incremental.IncrementalTypesExtractor;
 import io.github.alien.roseau.extractors.jdt.IncrementalJdtTypesExtractor;
 import io.github.alien.roseau.extractors.jdt.JdtTypesExtractor;
+import io.github.alien.roseau.impact.ClientImpact;
+import io.github.alien.roseau.impact.ImpactIndex;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
 
 /**
  * Entry point utilities for building APIs and computing breaking changes between versions.
@@ -50,9 +70,37 @@ public final class Roseau {
 	 * @return the built API model
 	 */
 	public static API buildAPI(Library library) {
+		return buildAPI(library, defaultApiFactory());
+	}
+
+	/**
+	 * Builds an {@link API} model from the given {@link Library} using a custom {@link ApiFactory}, e.g., a compact
+	 * {@link DefaultApiFactory} for large libraries.
+	 *
+	 * @param library the library to analyze (must not be null)
+	 * @param factory the factory used to create the API's symbols (must not be null)
+	 * @return the built API model
+	 */
+	public static API buildAPI(Library library, ApiFactory factory) {
+		return buildAPI(library, factory, Deadline.none());
+	}
+
+	/**
+	 * Builds an {@link API} model from the given {@link Library}, aborting classpath resolution and type extraction
+	 * once {@code deadline} expires.
+	 *
+	 * @param library  the library to analyze (must not be null)
+	 * @param factory  the factory used to create the API's symbols (must not be null)
+	 * @param deadline the deadline after which the build is aborted (must not be null)
+	 * @return the built API model
+	 * @throws RoseauException if the deadline expired before the API was built
+	 */
+	public static API buildAPI(Library library, ApiFactory factory, Deadline deadline) {
 		Preconditions.checkNotNull(library);
-		ApiFactory factory = defaultApiFactory();
-		return toAPI(library, extractTypes(library, factory), factory);
+		Preconditions.checkNotNull(factory);
+		Preconditions.checkNotNull(deadline);
+		library.getClasspath(deadline);
+		return toAPI(library, extractTypes(library, factory, deadline), factory);
 	}
 
 	/**
@@ -63,19 +111,125 @@ public final class Roseau {
 	 * @return a {@link RoseauReport} containing the list of breaking changes
 	 */
 	public static RoseauReport diff(API v1, API v2) {
+		return diff(v1, v2, new DefaultSymbolMatcher());
+	}
+
+	/**
+	 * Computes a diff between two API versions using a custom {@link SymbolMatcher}. Removed types and methods that
+	 * the matcher identifies as moved or renamed are reported with the corresponding
+	 * {@link BreakingChangeDetails.TypeMoved} and {@link BreakingChangeDetails.MethodRenamed} details.
+	 *
+	 * @param v1      the baseline API (must not be null)
+	 * @param v2      the target API to compare against (must not be null)
+	 * @param matcher the matcher pairing the symbols of both APIs, e.g., a {@link MoveDetectingSymbolMatcher}
+	 * @return a {@link RoseauReport} containing the list of breaking changes
+	 */
+	public static RoseauReport diff(API v1, API v2, SymbolMatcher matcher) {
+		return diff(v1, v2, matcher, Deadline.none());
+	}
+
+	/**
+	 * Computes a diff between two API versions within a time budget. Once {@code deadline} expires, the remaining
+	 * types are skipped and the resulting report is {@link RoseauReport#isComplete() incomplete}: it lists the
+	 * breaking changes found so far and the {@link RoseauReport#getUnanalyzedTypes() types that were not analyzed}.
+	 *
+	 * @param v1       the baseline API (must not be null)
+	 * @param v2       the target API to compare against (must not be null)
+	 * @param matcher  the matcher pairing the symbols of both APIs (must not be null)
+	 * @param deadline the deadline after which remaining types are skipped (must not be null)
+	 * @return a possibly incomplete {@link RoseauReport} containing the list of breaking changes
+	 */
+	public static RoseauReport diff(API v1, API v2, SymbolMatcher matcher, Deadline deadline) {
+		return diff(v1, v2, matcher, deadline, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Computes a diff between two API versions within a time budget, running the analysis on the given pool, e.g., a
+	 * {@code new ForkJoinPool(parallelism)} to control the number of threads dedicated to diffing.
+	 *
+	 * @param v1       the baseline API (must not be null)
+	 * @param v2       the target API to compare against (must not be null)
+	 * @param matcher  the matcher pairing the symbols of both APIs (must not be null)
+	 * @param deadline the deadline after which remaining types are skipped (must not be null)
+	 * @param pool     the pool running the analysis (must not be null)
+	 * @return a possibly incomplete {@link RoseauReport} containing the list of breaking changes
+	 */
+	public static RoseauReport diff(API v1, API v2, SymbolMatcher matcher, Deadline deadline, ForkJoinPool pool) {
 		Preconditions.checkNotNull(v1);
 		Preconditions.checkNotNull(v2);
+		Preconditions.checkNotNull(matcher);
+		Preconditions.checkNotNull(deadline);
+		Preconditions.checkNotNull(pool);
 
 		Stopwatch sw = Stopwatch.createStarted();
-		ApiWalker walker = new ApiWalker(v1, v2, new DefaultSymbolMatcher());
+		ApiWalker walker = new ApiWalker(v1, v2, matcher, deadline, pool);
 		ApiDiffer<RoseauReport> differ = new BreakingChangeAnalyzer(v1, v2);
-		RoseauReport report = walker.walk(differ);
+		RoseauReport report = describeMoves(walker.walk(differ), matcher);
 		LOGGER.debug("Diffing APIs took {}ms ({} breaking changes)",
 			() -> sw.elapsed().toMillis(), () -> report.getBreakingChanges().size());
+		if (!report.isComplete()) {
+			LOGGER.warn("Time budget exceeded: {} types were not analyzed", report.getUnanalyzedTypes().size());
+		}
 
 		return report;
 	}
 
+	private static RoseauReport describeMoves(RoseauReport report, SymbolMatcher matcher) {
+		if (!matcher.detectsMoves()) {
+			return report;
+		}
+
+		API v2 = report.v2();
+		List<BreakingChange> bcs = report.getAllBreakingChanges().stream()
+			.map(bc -> switch (bc.kind()) {
+				case TYPE_REMOVED -> matcher.matchMovedType(v2, bc.impactedType())
+					.map(moved -> new BreakingChange(bc.kind(), bc.impactedType(), bc.impactedSymbol(), moved,
+						new BreakingChangeDetails.TypeMoved(moved)))
+					.orElse(bc);
+				case METHOD_REMOVED -> bc.impactedSymbol() instanceof MethodDecl method
+					? v2.findExportedType(bc.impactedType().getQualifiedName())
+						.flatMap(type -> matcher.matchRenamedMethod(v2, type, method))
+						.map(renamed -> new BreakingChange(bc.kind(), bc.impactedType(), method, renamed,
+							new BreakingChangeDetails.MethodRenamed(renamed)))
+						.orElse(bc)
+					: bc;
+				default -> bc;
+			})
+			.toList();
+
+		boolean moved = !bcs.equals(report.getAllBreakingChanges());
+		return moved ? new RoseauReport(report.v1(), v2, bcs, report.getUnanalyzedTypes()) : report;
+	}
+
+	/**
+	 * Looks for any breaking change between two API versions satisfying the given filter, excluding the symbols
+	 * excluded from {@code v1}. The diff is cut short as soon as one is found, which makes this method much cheaper
+	 * than {@link #diff(API, API)} when one only needs to know whether a version is breaking, e.g., in a CI gate.
+	 *
+	 * @param v1     the baseline API (must not be null)
+	 * @param v2     the target API to compare against (must not be null)
+	 * @param filter the breaking changes of interest, e.g., binary-breaking changes only (must not be null)
+	 * @return one of the breaking changes satisfying {@code filter}, or empty if there is none
+	 */
+	public static Optional<BreakingChange> findBreakingChange(API v1, API v2, Predicate<BreakingChange> filter) {
+		Preconditions.checkNotNull(v1);
+		Preconditions.checkNotNull(v2);
+		Preconditions.checkNotNull(filter);
+
+		Stopwatch sw = Stopwatch.createStarted();
+		Predicate<BreakingChange> reportable = bc ->
+			!v1.isExcluded(bc.impactedSymbol()) && !v1.isExcluded(bc.impactedType()) && filter.test(bc);
+		ApiWalker walker = new ApiWalker(v1, v2, new DefaultSymbolMatcher());
+		ApiDiffer<RoseauReport> differ = new BreakingChangeAnalyzer(v1, v2, new DefaultRuleSet(), reportable);
+		Optional<BreakingChange> found = walker.walk(differ).getAllBreakingChanges().stream()
+			.filter(reportable)
+			.findFirst();
+		LOGGER.debug("Looking for a breaking change took {}ms (found: {})",
+			() -> sw.elapsed().toMillis(), found::isPresent);
+
+		return found;
+	}
+
 	/**
 	 * Builds both APIs in parallel using the provided {@link Executor} and computes their diff.
 	 *
@@ -85,24 +239,68 @@ public final class Roseau {
 	 * @return a {@link RoseauReport} containing the list of breaking changes
 	 */
 	public static RoseauReport diff(Library v1, Library v2, Executor executor) {
+		return diff(v1, v2, executor, Deadline.none());
+	}
+
+	/**
+	 * Builds both APIs in parallel using the provided {@link Executor} and computes their diff within a time budget.
+	 * If building either API fails or exceeds the deadline, the other build is aborted as well. If the deadline
+	 * expires while diffing, the returned report is {@link RoseauReport#isComplete() incomplete}.
+	 *
+	 * @param v1       the baseline library (must not be null)
+	 * @param v2       the target library (must not be null)
+	 * @param executor the executor to use
+	 * @param deadline the deadline after which the analysis stops (must not be null)
+	 * @return a possibly incomplete {@link RoseauReport} containing the list of breaking changes
+	 * @throws RoseauException if the APIs could not be built, e.g., because the deadline expired
+	 * @see #diff(API, API, SymbolMatcher, Deadline)
+	 */
+	public static RoseauReport diff(Library v1, Library v2, Executor executor, Deadline deadline) {
 		Preconditions.checkNotNull(v1);
 		Preconditions.checkNotNull(v2);
+		Preconditions.checkNotNull(deadline);
 
 		Stopwatch sw = Stopwatch.createStarted();
-		CompletableFuture<API> futureV1 = CompletableFuture.supplyAsync(() -> buildAPI(v1), executor);
-		CompletableFuture<API> futureV2 = CompletableFuture.supplyAsync(() -> buildAPI(v2), executor);
+		CompletableFuture<API> futureV1 = CompletableFuture.supplyAsync(
+			() -> buildAPI(v1, defaultApiFactory(), deadline), executor);
+		CompletableFuture<API> futureV2 = CompletableFuture.supplyAsync(
+			() -> buildAPI(v2, defaultApiFactory(), deadline), executor);
+		// A failed build makes the other one pointless
+		futureV1.exceptionally(_ -> {
+			deadline.cancel();
+			return null;
+		});
+		futureV2.exceptionally(_ -> {
+			deadline.cancel();
+			return null;
+		});
 
 		try {
 			API api1 = futureV1.join();
 			API api2 = futureV2.join();
 			LOGGER.debug("Building APIs in parallel took {}ms ({} vs {} types)",
 				() -> sw.elapsed().toMillis(), () -> api1.getExportedTypes().size(), () -> api2.getExportedTypes().size());
-			return diff(api1, api2);
+			return diff(api1, api2, new DefaultSymbolMatcher(), deadline);
 		} catch (RuntimeException e) {
 			throw new RoseauException("Failed to build diff", e);
 		}
 	}
 
+	/**
+	 * Builds both APIs in parallel using the default {@link ForkJoinPool#commonPool()} and computes their diff within
+	 * the given time budget.
+	 *
+	 * @param v1     the baseline library (must not be null)
+	 * @param v2     the target library (must not be null)
+	 * @param budget the maximal duration of the analysis (must be positive)
+	 * @return a possibly incomplete {@link RoseauReport} containing the list of breaking changes
+	 * @throws RoseauException if the APIs could not be built within the time budget
+	 * @see #diff(Library, Library, Executor, Deadline)
+	 */
+	public static RoseauReport diff(Library v1, Library v2, Duration budget) {
+		return diff(v1, v2, ForkJoinPool.commonPool(), Deadline.after(budget));
+	}
+
 	/**
 	 * Builds both APIs in parallel using the default {@link ForkJoinPool#commonPool()} and computes their diff.
 	 *
@@ -114,6 +312,232 @@ public final class Roseau {
 		return diff(v1, v2, ForkJoinPool.commonPool());
 	}
 
+	/**
+	 * Compares a baseline library against many candidate versions, e.g., feature branches or snapshots. The baseline
+	 * API is built and {@link API#freeze() frozen} once, then shared by all diffs. Candidate APIs are built and diffed
+	 * concurrently on the provided {@link Executor}.
+	 *
+	 * @param v1         the baseline library (must not be null)
+	 * @param candidates the candidate versions to compare against the baseline (must not be null or empty)
+	 * @param executor   the executor to use
+	 * @return the report of each candidate, in the same order as {@code candidates}
+	 */
+	public static List<RoseauReport> diff(Library v1, List<Library> candidates, Executor executor) {
+		return diff(v1, candidates, Roseau::buildAPI, Roseau::diff, Function.identity(), executor);
+	}
+
+	/**
+	 * Compares a baseline library against many candidate versions using custom strategies to build and diff their
+	 * APIs. The baseline API is built and {@link API#freeze() frozen} once, then shared by all diffs. Each report is
+	 * passed to {@code mapper} as soon as it is computed; mapping it to a lighter representation, e.g., a
+	 * {@link io.github.alien.roseau.diff.DetachedReport}, releases the candidate API right away.
+	 *
+	 * @param v1         the baseline library (must not be null)
+	 * @param candidates the candidate versions to compare against the baseline (must not be null or empty)
+	 * @param builder    builds the API of a library (must not be null)
+	 * @param differ     computes the report between the baseline API and a candidate API (must not be null)
+	 * @param mapper     maps each report to the returned result (must not be null)
+	 * @param executor   the executor to use
+	 * @param <R>        the type of results
+	 * @return the mapped report of each candidate, in the same order as {@code candidates}
+	 */
+	public static <R> List<R> diff(Library v1, List<Library> candidates, Function<Library, API> builder,
+	                               BiFunction<API, API, RoseauReport> differ, Function<RoseauReport, R> mapper,
+	                               Executor executor) {
+		Preconditions.checkNotNull(v1);
+		Preconditions.checkArgument(candidates != null && !candidates.isEmpty(), "At least one candidate is required");
+		Preconditions.checkNotNull(builder);
+		Preconditions.checkNotNull(differ);
+		Preconditions.checkNotNull(mapper);
+		Preconditions.checkNotNull(executor);
+		candidates.forEach(Preconditions::checkNotNull);
+
+		Stopwatch sw = Stopwatch.createStarted();
+		CompletableFuture<API> baseline = CompletableFuture.supplyAsync(() -> builder.apply(v1).freeze(), executor);
+		List<CompletableFuture<R>> reports = candidates.stream()
+			.map(candidate -> CompletableFuture.supplyAsync(() -> builder.apply(candidate), executor)
+				.thenCombineAsync(baseline, (api2, api1) -> mapper.apply(differ.apply(api1, api2)), executor))
+			.toList();
+
+		try {
+			List<R> result = reports.stream().map(CompletableFuture::join).toList();
+			LOGGER.debug("Diffing {} candidates took {}ms", candidates::size, () -> sw.elapsed().toMillis());
+			return result;
+		} catch (RuntimeException e) {
+			reports.forEach(report -> report.cancel(true));
+			throw new RoseauException("Failed to build diff", e);
+		}
+	}
+
+	/**
+	 * Computes the breaking changes between each pair of consecutive versions in a library's release history
+	 * (v1 → v2, v2 → v3, etc.). Each API is built exactly once, and building version k+1 is pipelined with diffing
+	 * versions k-1 → k on the provided {@link Executor}. Versions that are no longer needed are released as soon as
+	 * possible, so that at most three APIs are retained at any time, provided {@code consumer} does not retain the
+	 * reports it receives.
+	 *
+	 * @param versions the successive versions of the library, oldest first (must contain at least two versions)
+	 * @param consumer the consumer receiving the report of each pair of consecutive versions, in order
+	 * @param executor the executor used to build APIs
+	 */
+	public static void history(List<Library> versions, Consumer<RoseauReport> consumer, Executor executor) {
+		history(versions, Roseau::buildAPI, Roseau::diff, consumer, executor);
+	}
+
+	/**
+	 * Computes the breaking changes between each pair of consecutive versions in a library's release history using
+	 * custom strategies to build and diff their APIs, e.g., to bound them with a {@link Deadline}. See
+	 * {@link #history(List, Consumer, Executor)}.
+	 *
+	 * @param versions the successive versions of the library, oldest first (must contain at least two versions)
+	 * @param builder  builds the API of a library (must not be null)
+	 * @param differ   computes the report between two consecutive APIs (must not be null)
+	 * @param consumer the consumer receiving the report of each pair of consecutive versions, in order
+	 * @param executor the executor used to build APIs
+	 */
+	public static void history(List<Library> versions, Function<Library, API> builder,
+	                           BiFunction<API, API, RoseauReport> differ, Consumer<RoseauReport> consumer,
+	                           Executor executor) {
+		Preconditions.checkArgument(versions != null && versions.size() >= 2, "At least two versions are required");
+		Preconditions.checkNotNull(builder);
+		Preconditions.checkNotNull(differ);
+		Preconditions.checkNotNull(consumer);
+		Preconditions.checkNotNull(executor);
+		versions.forEach(Preconditions::checkNotNull);
+
+		Stopwatch sw = Stopwatch.createStarted();
+		CompletableFuture<API> previous = CompletableFuture.supplyAsync(() -> builder.apply(versions.get(0)), executor);
+		CompletableFuture<API> current = CompletableFuture.supplyAsync(() -> builder.apply(versions.get(1)), executor);
+
+		CompletableFuture<API> next = null;
+		try {
+			for (int i = 1; i < versions.size(); i++) {
+				Library nextVersion = i + 1 < versions.size() ? versions.get(i + 1) : null;
+				next = nextVersion != null
+					? CompletableFuture.supplyAsync(() -> builder.apply(nextVersion), executor)
+					: null;
+				consumer.accept(differ.apply(previous.join(), current.join()));
+				previous = current;
+				current = next;
+			}
+			LOGGER.debug("Diffing {} versions took {}ms", versions::size, () -> sw.elapsed().toMillis());
+		} catch (RuntimeException e) {
+			if (current != null) {
+				current.cancel(true);
+			}
+			if (next != null) {
+				next.cancel(true);
+			}
+			throw new RoseauException("Failed to compute history", e);
+		}
+	}
+
+	/**
+	 * Computes the breaking changes between each pair of consecutive versions in a library's release history using
+	 * the default {@link ForkJoinPool#commonPool()}. Note that the returned reports retain all the APIs; use
+	 * {@link #history(List, Consumer, Executor)} to keep memory bounded on long histories.
+	 *
+	 * @param versions the successive versions of the library, oldest first (must contain at least two versions)
+	 * @return the reports of each pair of consecutive versions, in order
+	 */
+	public static List<RoseauReport> history(List<Library> versions) {
+		List<RoseauReport> reports = new ArrayList<>();
+		history(versions, reports::add, ForkJoinPool.commonPool());
+		return reports;
+	}
+
+	/**
+	 * Finds the first version of a library that introduced a breaking change matching {@code query} with respect to
+	 * the first version, the baseline. Versions are bisected, assuming that once introduced, the breaking change is
+	 * present in all subsequent versions. Only O(log n) versions are thus built, each at most once, and compared
+	 * against the {@link API#freeze() frozen} baseline using {@link #findBreakingChange(API, API, Predicate)}.
+	 *
+	 * @param versions the successive versions of the library, oldest first (must contain at least two versions)
+	 * @param query    the breaking change to look for, e.g., a given kind on a given symbol (must not be null)
+	 * @return the index of the first version introducing the breaking change in {@code versions}, or empty if even
+	 * the last version does not introduce it
+	 */
+	public static OptionalInt bisect(List<Library> versions, Predicate<BreakingChange> query) {
+		return bisect(versions, Roseau::buildAPI, query, Deadline.none());
+	}
+
+	/**
+	 * Finds the first version of a library that introduced a breaking change matching {@code query} using a custom
+	 * strategy to build the APIs. See {@link #bisect(List, Predicate)}.
+	 *
+	 * @param versions the successive versions of the library, oldest first (must contain at least two versions)
+	 * @param builder  builds the API of a library (must not be null)
+	 * @param query    the breaking change to look for, e.g., a given kind on a given symbol (must not be null)
+	 * @param deadline the deadline after which bisecting stops (must not be null)
+	 * @return the index of the first version introducing the breaking change in {@code versions}, or empty if even
+	 * the last version does not introduce it
+	 * @throws RoseauException if the deadline expires before the first breaking version is found
+	 */
+	public static OptionalInt bisect(List<Library> versions, Function<Library, API> builder,
+	                                 Predicate<BreakingChange> query, Deadline deadline) {
+		Preconditions.checkArgument(versions != null && versions.size() >= 2, "At least two versions are required");
+		Preconditions.checkNotNull(builder);
+		Preconditions.checkNotNull(query);
+		Preconditions.checkNotNull(deadline);
+		versions.forEach(Preconditions::checkNotNull);
+
+		Stopwatch sw = Stopwatch.createStarted();
+		API baseline = builder.apply(versions.getFirst()).freeze();
+		AtomicInteger built = new AtomicInteger(1);
+		IntPredicate isBreaking = i -> {
+			deadline.check("bisecting " + versions.get(i).getLocation());
+			built.incrementAndGet();
+			return findBreakingChange(baseline, builder.apply(versions.get(i)), query).isPresent();
+		};
+
+		try {
+			int lo = 1;
+			int hi = versions.size() - 1;
+			if (!isBreaking.test(hi)) {
+				return OptionalInt.empty();
+			}
+
+			// Invariant: versions[hi] is breaking, all versions before lo are not
+			while (lo < hi) {
+				int mid = (lo + hi) >>> 1;
+				if (isBreaking.test(mid)) {
+					hi = mid;
+				} else {
+					lo = mid + 1;
+				}
+			}
+
+			return OptionalInt.of(lo);
+		} finally {
+			LOGGER.debug("Bisecting {} versions took {}ms ({} versions built)",
+				versions::size, () -> sw.elapsed().toMillis(), built::get);
+		}
+	}
+
+	/**
+	 * Finds the uses of the breaking changes of a report in client JARs. The report's impacted symbols are indexed
+	 * once, and clients are scanned concurrently using the default {@link ForkJoinPool#commonPool()}; classes that do
+	 * not reference any impacted type are discarded without being fully parsed.
+	 *
+	 * @param report  the report whose breaking changes are looked for, see {@link RoseauReport#getBreakingChanges()}
+	 * @param clients the client JARs to scan
+	 * @return the impact on each client, in the order of {@code clients}
+	 * @throws RoseauException if a client JAR cannot be read
+	 */
+	public static List<ClientImpact> findImpactedClients(RoseauReport report, List<Path> clients) {
+		Preconditions.checkNotNull(report);
+		Preconditions.checkNotNull(clients);
+		clients.forEach(Preconditions::checkNotNull);
+
+		Stopwatch sw = Stopwatch.createStarted();
+		AsmClientScanner scanner = new AsmClientScanner(ImpactIndex.of(report));
+		List<ClientImpact> impacts = clients.parallelStream()
+			.map(scanner::scan)
+			.toList();
+		LOGGER.debug("Scanning {} clients took {}ms", clients::size, () -> sw.elapsed().toMillis());
+		return impacts;
+	}
+
 	/**
 	 * Performs an incremental build of the target API when possible and computes the diff. The baseline API is fully
 	 * built. The target API is incrementally built from the baseline based on changed files.
@@ -151,11 +575,11 @@ public final class Roseau {
 		}
 	}
 
-	private static LibraryTypes extractTypes(Library library, ApiFactory factory) {
+	private static LibraryTypes extractTypes(Library library, ApiFactory factory, Deadline deadline) {
 		TypesExtractor extractor = library.getExtractorType().newExtractor(factory);
 
 		Stopwatch sw = Stopwatch.createStarted();
-		LibraryTypes types = extractor.extractTypes(library);
+		LibraryTypes types = extractor.extractTypes(library, deadline);
 		LOGGER.debug("Extracting types from library {} using {} took {}ms ({} types)",
 			library::getLocation, library::getExtractorType, () -> sw.elapsed().toMillis(),
 			() -> types.getAllTypes().size());
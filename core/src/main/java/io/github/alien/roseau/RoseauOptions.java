@@ -62,10 +62,21 @@ public record RoseauOptions(Common common, Library v1, Library v2, Diff diff, Li
 		}
 
 		public io.github.alien.roseau.Library toLibrary() {
+			return toLibrary(null);
+		}
+
+		/**
+		 * Builds the library, caching the classpath resolved from its {@code pom.xml} in {@code classpathCache}.
+		 *
+		 * @param classpathCache the cache directory, or {@code null} to disable caching
+		 * @return the library
+		 */
+		public io.github.alien.roseau.Library toLibrary(Path classpathCache) {
 			return io.github.alien.roseau.Library.builder()
 				.location(location)
 				.classpath(classpath.jars())
 				.pom(classpath.pom())
+				.classpathCache(classpathCache)
 				.exclusions(excludes)
 				.build();
 		}
@@ -5,9 +5,12 @@ import com.google.common.cache.CacheBuilder;
 import io.github.alien.roseau.api.model.FieldDecl;
 import io.github.alien.roseau.api.model.MethodDecl;
 import io.github.alien.roseau.api.model.TypeDecl;
+import io.github.alien.roseau.metrics.Metrics;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
 
 public abstract class CachingApiAnalyzer implements ApiAnalyzer {
 	private final Cache<String, Map<String, MethodDecl>> methodsCache =
@@ -18,11 +21,40 @@ public abstract class CachingApiAnalyzer implements ApiAnalyzer {
 		CacheBuilder.newBuilder()
 			.maximumSize(2_000L)
 			.build();
+	// Never evicted, and only ever replaced as a whole once computed
+	private volatile Map<String, Map<String, MethodDecl>> frozenMethods = Map.of();
+	private volatile Map<String, Map<String, FieldDecl>> frozenFields = Map.of();
+
+	/**
+	 * Computes the exported methods and fields of the given types once and for all. Subsequent lookups for these
+	 * types are served from immutable maps that are never evicted.
+	 *
+	 * @param types the types whose members should be computed
+	 */
+	protected void freeze(Collection<TypeDecl> types) {
+		frozenMethods = types.parallelStream().collect(Collectors.toUnmodifiableMap(
+			TypeDecl::getQualifiedName, this::getExportedMethodsByErasure, (m1, _) -> m1));
+		frozenFields = types.parallelStream().collect(Collectors.toUnmodifiableMap(
+			TypeDecl::getQualifiedName, this::getExportedFieldsByName, (f1, _) -> f1));
+	}
 
 	@Override
 	public Map<String, MethodDecl> getExportedMethodsByErasure(TypeDecl type) {
 		try {
-			return methodsCache.get(type.getQualifiedName(), () -> ApiAnalyzer.super.getExportedMethodsByErasure(type));
+			Map<String, MethodDecl> frozen = frozenMethods.get(type.getQualifiedName());
+			if (frozen != null) {
+				Metrics.analyzerCacheAccessed("methods", true);
+				return frozen;
+			}
+
+			// The loader flags misses so that hits cost a single lookup
+			boolean[] missed = {false};
+			Map<String, MethodDecl> cached = methodsCache.get(type.getQualifiedName(), () -> {
+				missed[0] = true;
+				return ApiAnalyzer.super.getExportedMethodsByErasure(type);
+			});
+			Metrics.analyzerCacheAccessed("methods", !missed[0]);
+			return cached;
 		} catch (ExecutionException _) {
 			return Map.of();
 		}
@@ -31,7 +63,20 @@ public abstract class CachingApiAnalyzer implements ApiAnalyzer {
 	@Override
 	public Map<String, FieldDecl> getExportedFieldsByName(TypeDecl type) {
 		try {
-			return fieldsCache.get(type.getQualifiedName(), () -> ApiAnalyzer.super.getExportedFieldsByName(type));
+			Map<String, FieldDecl> frozen = frozenFields.get(type.getQualifiedName());
+			if (frozen != null) {
+				Metrics.analyzerCacheAccessed("fields", true);
+				return frozen;
+			}
+
+			// The loader flags misses so that hits cost a single lookup
+			boolean[] missed = {false};
+			Map<String, FieldDecl> cached = fieldsCache.get(type.getQualifiedName(), () -> {
+				missed[0] = true;
+				return ApiAnalyzer.super.getExportedFieldsByName(type);
+			});
+			Metrics.analyzerCacheAccessed("fields", !missed[0]);
+			return cached;
 		} catch (ExecutionException _) {
 			return Map.of();
 		}
@@ -0,0 +1,167 @@
+package io.github.alien.roseau.api.analysis;
+
+import com.google.common.base.Preconditions;
+import io.github.alien.roseau.api.model.ClassDecl;
+import io.github.alien.roseau.api.model.ExecutableDecl;
+import io.github.alien.roseau.api.model.FormalTypeParameter;
+import io.github.alien.roseau.api.model.MethodDecl;
+import io.github.alien.roseau.api.model.Symbol;
+import io.github.alien.roseau.api.model.TypeDecl;
+import io.github.alien.roseau.api.model.reference.ArrayTypeReference;
+import io.github.alien.roseau.api.model.reference.ITypeReference;
+import io.github.alien.roseau.api.model.reference.PrimitiveTypeReference;
+import io.github.alien.roseau.api.model.reference.TypeParameterReference;
+import io.github.alien.roseau.api.model.reference.TypeReference;
+import io.github.alien.roseau.api.model.reference.WildcardTypeReference;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * An inverted index from the qualified name of every type referenced in a set of type declarations to the symbols
+ * whose declaration mentions it, e.g., methods returning the type or classes extending it. Type arguments, array
+ * components, and wildcard bounds are indexed as well, so that a method returning {@code List<Foo>} is a usage of both
+ * {@code java.util.List} and {@code Foo}. Type parameters are not types and are not indexed: a method returning
+ * {@code List<T>} is only a usage of {@code java.util.List}, and of the bounds of {@code T} as
+ * {@link Kind#TYPE_PARAMETER_BOUND}.
+ * <p>
+ * Only declared members are indexed, not inherited ones. Indexes are immutable and built in one parallel pass.
+ */
+public final class TypeUsageIndex {
+	private static final Comparator<TypeUsage> USAGE_ORDER = Comparator
+		.comparing((TypeUsage usage) -> usage.symbol().getQualifiedName())
+		.thenComparing(TypeUsage::kind);
+
+	private final Map<String, List<TypeUsage>> usages;
+
+	private TypeUsageIndex(Map<String, List<TypeUsage>> usages) {
+		this.usages = usages;
+	}
+
+	/**
+	 * The different places where a type can be mentioned in a declaration.
+	 */
+	public enum Kind {
+		SUPERCLASS,
+		SUPERINTERFACE,
+		PERMITTED_TYPE,
+		TYPE_PARAMETER_BOUND,
+		FIELD_TYPE,
+		RETURN_TYPE,
+		PARAMETER_TYPE,
+		THROWN_EXCEPTION
+	}
+
+	/**
+	 * A mention of a type in the declaration of a symbol.
+	 *
+	 * @param symbol the type, field, or executable whose declaration mentions the type
+	 * @param kind   where the type is mentioned in the declaration
+	 */
+	public record TypeUsage(Symbol symbol, Kind kind) {
+		public TypeUsage {
+			Preconditions.checkNotNull(symbol);
+			Preconditions.checkNotNull(kind);
+		}
+	}
+
+	/**
+	 * Indexes the type references found in the given types and in their declared members.
+	 *
+	 * @param types the types to index
+	 * @return the new index
+	 */
+	public static TypeUsageIndex of(Collection<TypeDecl> types) {
+		Preconditions.checkNotNull(types);
+		Map<String, List<TypeUsage>> usages = types.parallelStream()
+			.flatMap(type -> usagesOf(type).stream())
+			.collect(Collectors.groupingByConcurrent(Map.Entry::getKey,
+				Collectors.mapping(Map.Entry::getValue, Collectors.toList())));
+		return new TypeUsageIndex(usages.entrySet().parallelStream()
+			.collect(Collectors.toUnmodifiableMap(Map.Entry::getKey,
+				e -> e.getValue().stream().distinct().sorted(USAGE_ORDER).toList())));
+	}
+
+	/**
+	 * Returns the symbols whose declaration mentions the given type.
+	 *
+	 * @param qualifiedName the qualified name of the type
+	 * @return the usages of the type, ordered by symbol and kind, possibly empty
+	 */
+	public List<TypeUsage> getUsages(String qualifiedName) {
+		Preconditions.checkNotNull(qualifiedName);
+		return usages.getOrDefault(qualifiedName, List.of());
+	}
+
+	/**
+	 * Returns the symbols whose declaration mentions the given type in one of the given ways.
+	 *
+	 * @param qualifiedName the qualified name of the type
+	 * @param kinds         the kinds of usages to retain
+	 * @return the matching usages of the type, ordered by symbol and kind, possibly empty
+	 */
+	public List<TypeUsage> getUsages(String qualifiedName, Set<Kind> kinds) {
+		Preconditions.checkNotNull(kinds);
+		return getUsages(qualifiedName).stream()
+			.filter(usage -> kinds.contains(usage.kind()))
+			.toList();
+	}
+
+	/**
+	 * Returns the qualified names of all the types mentioned in the indexed declarations.
+	 *
+	 * @return the referenced types
+	 */
+	public Set<String> getReferencedTypes() {
+		return usages.keySet();
+	}
+
+	private static List<Map.Entry<String, TypeUsage>> usagesOf(TypeDecl type) {
+		List<Map.Entry<String, TypeUsage>> found = new ArrayList<>();
+		if (type instanceof ClassDecl cls) {
+			if (cls.getSuperClass() != null) {
+				collect(cls.getSuperClass(), type, Kind.SUPERCLASS, found);
+			}
+			cls.getDeclaredConstructors().forEach(cons -> collectExecutable(cons, found));
+		}
+		type.getImplementedInterfaces().forEach(intf -> collect(intf, type, Kind.SUPERINTERFACE, found));
+		type.getPermittedTypes().forEach(permitted -> collect(permitted, type, Kind.PERMITTED_TYPE, found));
+		collectBounds(type.getFormalTypeParameters(), type, found);
+		type.getDeclaredFields().forEach(field -> collect(field.getType(), field, Kind.FIELD_TYPE, found));
+		type.getDeclaredMethods().forEach(method -> collectExecutable(method, found));
+		return found;
+	}
+
+	private static void collectExecutable(ExecutableDecl executable, List<Map.Entry<String, TypeUsage>> found) {
+		if (executable instanceof MethodDecl) {
+			collect(executable.getType(), executable, Kind.RETURN_TYPE, found);
+		}
+		executable.getParameters().forEach(p -> collect(p.type(), executable, Kind.PARAMETER_TYPE, found));
+		executable.getThrownExceptions().forEach(exc -> collect(exc, executable, Kind.THROWN_EXCEPTION, found));
+		collectBounds(executable.getFormalTypeParameters(), executable, found);
+	}
+
+	private static void collectBounds(List<FormalTypeParameter> parameters, Symbol symbol,
+	                                  List<Map.Entry<String, TypeUsage>> found) {
+		parameters.forEach(ftp -> ftp.bounds().forEach(b -> collect(b, symbol, Kind.TYPE_PARAMETER_BOUND, found)));
+	}
+
+	private static void collect(ITypeReference reference, Symbol symbol, Kind kind,
+	                            List<Map.Entry<String, TypeUsage>> found) {
+		switch (reference) {
+			case TypeReference<?> ref -> {
+				found.add(Map.entry(ref.getQualifiedName(), new TypeUsage(symbol, kind)));
+				ref.typeArguments().forEach(ta -> collect(ta, symbol, kind, found));
+			}
+			case ArrayTypeReference(var component, var _) -> collect(component, symbol, kind, found);
+			case WildcardTypeReference(var bounds, var _) -> bounds.forEach(b -> collect(b, symbol, kind, found));
+			case PrimitiveTypeReference _, TypeParameterReference _ -> {
+			}
+		}
+	}
+}
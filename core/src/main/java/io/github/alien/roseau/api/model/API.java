@@ -3,15 +3,20 @@ package io.github.alien.roseau.api.model;
 import com.google.common.base.Preconditions;
 import io.github.alien.roseau.Library;
 import io.github.alien.roseau.api.analysis.CachingApiAnalyzer;
+import io.github.alien.roseau.api.analysis.TypeUsageIndex;
 import io.github.alien.roseau.api.model.reference.TypeReference;
 import io.github.alien.roseau.api.resolution.TypeResolver;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
@@ -26,6 +31,9 @@ public final class API extends CachingApiAnalyzer {
 	private final LibraryTypes libraryTypes;
 	private final TypeResolver typeResolver;
 	private final Set<Pattern> namePatterns;
+	private volatile boolean frozen;
+	private volatile ExportedTypes exportedTypes;
+	private volatile TypeUsageIndex typeUsages;
 
 	private static final Logger LOGGER = LogManager.getLogger(API.class);
 
@@ -85,9 +93,7 @@ public final class API extends CachingApiAnalyzer {
 	 * @return The list of exported {@link TypeDecl}
 	 */
 	public List<TypeDecl> getExportedTypes() {
-		return libraryTypes.getAllTypes().stream()
-			.filter(this::isExported)
-			.toList();
+		return exportedTypes().types();
 	}
 
 	/**
@@ -97,8 +103,109 @@ public final class API extends CachingApiAnalyzer {
 	 * @return An {@link Optional} indicating whether the type was found
 	 */
 	public Optional<TypeDecl> findExportedType(String qualifiedName) {
-		return libraryTypes.findType(qualifiedName)
-			.filter(this::isExported);
+		return Optional.ofNullable(exportedTypes().byName().get(qualifiedName));
+	}
+
+	/**
+	 * Exported type declarations grouped by package, packages being sorted by name.
+	 *
+	 * @return The exported {@link TypeDecl} of each package
+	 */
+	public Map<String, List<TypeDecl>> getExportedTypesByPackage() {
+		return exportedTypes().byPackage();
+	}
+
+	private ExportedTypes exportedTypes() {
+		ExportedTypes exported = exportedTypes;
+		if (exported == null) {
+			synchronized (this) {
+				exported = exportedTypes;
+				if (exported == null) {
+					exported = ExportedTypes.of(libraryTypes.getAllTypes().parallelStream()
+						.filter(this::isExported)
+						.toList());
+					exportedTypes = exported;
+				}
+			}
+		}
+		return exported;
+	}
+
+	// Export status only depends on the library's types, which never change once extracted
+	private record ExportedTypes(
+		List<TypeDecl> types,
+		Map<String, TypeDecl> byName,
+		Map<String, List<TypeDecl>> byPackage
+	) {
+		static ExportedTypes of(List<TypeDecl> types) {
+			TreeMap<String, List<TypeDecl>> byPackage = types.stream()
+				.collect(Collectors.groupingBy(TypeDecl::getPackageName, TreeMap::new, Collectors.toUnmodifiableList()));
+			return new ExportedTypes(types,
+				types.stream().collect(Collectors.toUnmodifiableMap(TypeDecl::getQualifiedName, Function.identity())),
+				Collections.unmodifiableSortedMap(byPackage));
+		}
+	}
+
+	/**
+	 * Precomputes the exported members of all exported types, so that this API can be shared by many concurrent diffs,
+	 * e.g., as the common baseline of one-to-many comparisons, without recomputing them for each diff. Freezing is
+	 * idempotent, and analysis results are identical before and after freezing.
+	 *
+	 * @return this API
+	 */
+	public API freeze() {
+		if (!frozen) {
+			synchronized (this) {
+				if (!frozen) {
+					freeze(getExportedTypes());
+					frozen = true;
+				}
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Checks whether {@link #freeze()} has been called on this API.
+	 *
+	 * @return true if this API is frozen
+	 */
+	public boolean isFrozen() {
+		return frozen;
+	}
+
+	/**
+	 * Returns the inverted index of the types referenced in this API's declarations, exported or not. The index is
+	 * built on first access in one parallel pass over all types, and cached afterward.
+	 *
+	 * @return the {@link TypeUsageIndex} of this API
+	 */
+	public TypeUsageIndex getTypeUsages() {
+		TypeUsageIndex index = typeUsages;
+		if (index == null) {
+			synchronized (this) {
+				index = typeUsages;
+				if (index == null) {
+					index = TypeUsageIndex.of(libraryTypes.getAllTypes());
+					typeUsages = index;
+				}
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * Returns the exported types and members whose declaration mentions the given type, e.g., to find out which
+	 * exported methods expose a type in their signature, or which exported types leak an internal class.
+	 *
+	 * @param qualifiedName the qualified name of the type
+	 * @return the exported usages of the type, possibly empty
+	 * @see #getTypeUsages()
+	 */
+	public List<TypeUsageIndex.TypeUsage> findExportedUsages(String qualifiedName) {
+		return getTypeUsages().getUsages(qualifiedName).stream()
+			.filter(usage -> isExported(usage.symbol()))
+			.toList();
 	}
 
 	public Library getLibrary() {
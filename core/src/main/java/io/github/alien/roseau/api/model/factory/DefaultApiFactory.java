@@ -1,6 +1,9 @@
 package io.github.alien.roseau.api.model.factory;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import com.google.common.collect.Sets;
 import io.github.alien.roseau.api.model.AccessModifier;
 import io.github.alien.roseau.api.model.Annotation;
 import io.github.alien.roseau.api.model.AnnotationDecl;
@@ -27,12 +30,45 @@ import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
+/**
+ * The default {@link ApiFactory}, creating plain API symbols.
+ * <br>
+ * In compact mode, the factory trades a few hash lookups for a smaller heap footprint on large APIs: names and paths
+ * are interned, small immutable collections and {@link Annotation} instances are shared between symbols, and modifier
+ * sets are canonicalized by their bit mask so that symbols with the same modifiers point to the same set. Shared
+ * components are weakly interned: they are reclaimed along with the symbols using them.
+ */
 public final class DefaultApiFactory implements ApiFactory {
 	private final TypeReferenceFactory references;
+	private final boolean compact;
+	private final Interner<Object> interner;
 
-	public DefaultApiFactory(TypeReferenceFactory references) {
+	/**
+	 * One shared immutable modifier set per bit mask of {@link Modifier#ordinal()}
+	 */
+	private static final AtomicReferenceArray<Set<Modifier>> MODIFIER_SETS =
+		new AtomicReferenceArray<>(1 << Modifier.values().length);
+
+	/**
+	 * Creates a new factory in compact mode or not.
+	 *
+	 * @param references the type reference factory to use
+	 * @param compact    whether to intern and share the created symbols' components
+	 */
+	public DefaultApiFactory(TypeReferenceFactory references, boolean compact) {
 		this.references = Preconditions.checkNotNull(references);
+		this.compact = compact;
+		this.interner = compact ? Interners.newWeakInterner() : null;
+	}
+
+	public DefaultApiFactory(TypeReferenceFactory references) {
+		this(references, false);
+	}
+
+	public boolean isCompact() {
+		return compact;
 	}
 
 	@Override
@@ -42,7 +78,8 @@ public final class DefaultApiFactory implements ApiFactory {
 
 	@Override
 	public SourceLocation location(Path file, int line) {
-		return new SourceLocation(file, line);
+		// Locations are mostly unique; only share their paths
+		return new SourceLocation(compact && file != null ? intern(file) : file, line);
 	}
 
 	@Override
@@ -64,8 +101,9 @@ public final class DefaultApiFactory implements ApiFactory {
 	                             TypeReference<ClassDecl> superClass,
 	                             Set<ConstructorDecl> constructors,
 	                             Set<TypeReference<TypeDecl>> permittedTypes) {
-		return new ClassDecl(qualifiedName, visibility, modifiers, annotations, location, implementedInterfaces,
-			formalTypeParameters, fields, methods, enclosingType, superClass, constructors, permittedTypes);
+		return new ClassDecl(name(qualifiedName), visibility, modifiers(modifiers), shared(annotations), location,
+			shared(implementedInterfaces), shared(formalTypeParameters), fields, methods, enclosingType, superClass,
+			constructors, shared(permittedTypes));
 	}
 
 	@Override
@@ -80,8 +118,9 @@ public final class DefaultApiFactory implements ApiFactory {
 	                                     Set<MethodDecl> methods,
 	                                     TypeReference<TypeDecl> enclosingType,
 	                                     Set<TypeReference<TypeDecl>> permittedTypes) {
-		return new InterfaceDecl(qualifiedName, visibility, modifiers, annotations, location, implementedInterfaces,
-			formalTypeParameters, fields, methods, enclosingType, permittedTypes);
+		return new InterfaceDecl(name(qualifiedName), visibility, modifiers(modifiers), shared(annotations), location,
+			shared(implementedInterfaces), shared(formalTypeParameters), fields, methods, enclosingType,
+			shared(permittedTypes));
 	}
 
 	@Override
@@ -96,8 +135,8 @@ public final class DefaultApiFactory implements ApiFactory {
 	                           TypeReference<TypeDecl> enclosingType,
 	                           Set<ConstructorDecl> constructors) {
 		// We only store enum values as fields for now
-		return new EnumDecl(qualifiedName, visibility, modifiers, annotations, location, implementedInterfaces,
-			fields, methods, enclosingType, constructors, Set.of());
+		return new EnumDecl(name(qualifiedName), visibility, modifiers(modifiers), shared(annotations), location,
+			shared(implementedInterfaces), fields, methods, enclosingType, constructors, Set.of());
 	}
 
 	@Override
@@ -113,8 +152,9 @@ public final class DefaultApiFactory implements ApiFactory {
 	                               TypeReference<TypeDecl> enclosingType,
 	                               Set<ConstructorDecl> constructors) {
 		// We only store record components as fields for now
-		return new RecordDecl(qualifiedName, visibility, modifiers, annotations, location, implementedInterfaces,
-			formalTypeParameters, fields, methods, enclosingType, constructors, List.of());
+		return new RecordDecl(name(qualifiedName), visibility, modifiers(modifiers), shared(annotations), location,
+			shared(implementedInterfaces), shared(formalTypeParameters), fields, methods, enclosingType, constructors,
+			List.of());
 	}
 
 	@Override
@@ -127,8 +167,8 @@ public final class DefaultApiFactory implements ApiFactory {
 	                                       Set<AnnotationMethodDecl> annotationMethods,
 	                                       TypeReference<TypeDecl> enclosingType,
 	                                       Set<ElementType> targets) {
-		return new AnnotationDecl(qualifiedName, visibility, modifiers, annotations, location, fields,
-			annotationMethods, enclosingType, targets);
+		return new AnnotationDecl(name(qualifiedName), visibility, modifiers(modifiers), shared(annotations), location,
+			fields, annotationMethods, enclosingType, targets);
 	}
 
 	@Override
@@ -139,7 +179,8 @@ public final class DefaultApiFactory implements ApiFactory {
 	                             SourceLocation location,
 	                             TypeReference<TypeDecl> containingType,
 	                             ITypeReference type) {
-		return new FieldDecl(qualifiedName, visibility, modifiers, annotations, location, containingType, type);
+		return new FieldDecl(name(qualifiedName), visibility, modifiers(modifiers), shared(annotations), location,
+			containingType, type);
 	}
 
 	@Override
@@ -153,8 +194,8 @@ public final class DefaultApiFactory implements ApiFactory {
 	                               List<ParameterDecl> parameters,
 	                               List<FormalTypeParameter> formalTypeParameters,
 	                               Set<ITypeReference> thrownExceptions) {
-		return new MethodDecl(qualifiedName, visibility, modifiers, annotations, location, containingType, returnType,
-			parameters, formalTypeParameters, thrownExceptions);
+		return new MethodDecl(name(qualifiedName), visibility, modifiers(modifiers), shared(annotations), location,
+			containingType, returnType, parameters, shared(formalTypeParameters), shared(thrownExceptions));
 	}
 
 	@Override
@@ -164,7 +205,8 @@ public final class DefaultApiFactory implements ApiFactory {
 	                                                   TypeReference<TypeDecl> containingType,
 	                                                   ITypeReference returnType,
 	                                                   boolean hasDefaultValue) {
-		return new AnnotationMethodDecl(qualifiedName, annotations, location, containingType, returnType, hasDefaultValue);
+		return new AnnotationMethodDecl(name(qualifiedName), shared(annotations), location, containingType, returnType,
+			hasDefaultValue);
 	}
 
 	@Override
@@ -178,27 +220,68 @@ public final class DefaultApiFactory implements ApiFactory {
 	                                         List<ParameterDecl> parameters,
 	                                         List<FormalTypeParameter> formalTypeParameters,
 	                                         Set<ITypeReference> thrownExceptions) {
-		return new ConstructorDecl(qualifiedName, visibility, modifiers, annotations, location, containingType, type,
-			parameters, formalTypeParameters, thrownExceptions);
+		return new ConstructorDecl(name(qualifiedName), visibility, modifiers(modifiers), shared(annotations), location,
+			containingType, type, parameters, shared(formalTypeParameters), shared(thrownExceptions));
 	}
 
 	@Override
 	public ModuleDecl createModule(String qualifiedName, Set<String> exports) {
-		return new ModuleDecl(qualifiedName, exports);
+		return new ModuleDecl(name(qualifiedName), exports);
 	}
 
 	@Override
 	public FormalTypeParameter createFormalTypeParameter(String name, List<ITypeReference> bounds) {
-		return new FormalTypeParameter(name, bounds);
+		return compact
+			? intern(new FormalTypeParameter(name(name), shared(bounds)))
+			: new FormalTypeParameter(name, bounds);
 	}
 
 	@Override
 	public ParameterDecl createParameter(String name, ITypeReference type, boolean isVarargs) {
-		return new ParameterDecl(name, type, isVarargs);
+		// ParameterDecl's equality ignores names: only share the name
+		return new ParameterDecl(name(name), type, isVarargs);
 	}
 
 	@Override
 	public Annotation createAnnotation(TypeReference<AnnotationDecl> actualAnnotation, Map<String, String> values) {
-		return new Annotation(actualAnnotation, values);
+		return compact
+			? intern(new Annotation(actualAnnotation, values))
+			: new Annotation(actualAnnotation, values);
+	}
+
+	private String name(String name) {
+		// The JVM's string table shares names between the APIs being built and drops those no longer referenced
+		return compact ? name.intern() : name;
+	}
+
+	private Set<Modifier> modifiers(Set<Modifier> modifiers) {
+		if (!compact) {
+			return modifiers;
+		}
+
+		int mask = 0;
+		for (Modifier modifier : modifiers) {
+			mask |= 1 << modifier.ordinal();
+		}
+
+		Set<Modifier> shared = MODIFIER_SETS.get(mask);
+		if (shared == null) {
+			MODIFIER_SETS.compareAndSet(mask, null, Sets.immutableEnumSet(modifiers));
+			shared = MODIFIER_SETS.get(mask);
+		}
+		return shared;
+	}
+
+	private <T> Set<T> shared(Set<T> set) {
+		return compact ? intern(Set.copyOf(set)) : set;
+	}
+
+	private <T> List<T> shared(List<T> list) {
+		return compact ? intern(List.copyOf(list)) : list;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T intern(T object) {
+		return (T) interner.intern(object);
 	}
 }
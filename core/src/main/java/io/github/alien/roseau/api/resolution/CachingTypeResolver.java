@@ -4,6 +4,7 @@ import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import io.github.alien.roseau.api.model.TypeDecl;
 import io.github.alien.roseau.api.model.reference.TypeReference;
+import io.github.alien.roseau.metrics.Metrics;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -61,7 +62,12 @@ public class CachingTypeResolver implements TypeResolver {
 
 	private <T extends TypeDecl> ResolvedType resolveType(String qualifiedName, Class<T> type) {
 		return typeProviders.stream()
-			.map(provider -> provider.findType(qualifiedName, type))
+			.map(provider -> {
+				long start = Metrics.startTypeResolution();
+				Optional<T> resolved = provider.findType(qualifiedName, type);
+				Metrics.typeResolved(provider, qualifiedName, resolved.isPresent(), start);
+				return resolved;
+			})
 			.flatMap(Optional::stream)
 			.findFirst()
 			.map(ResolvedType::new)
@@ -14,6 +14,23 @@ import io.github.alien.roseau.api.model.TypeDecl;
 public interface ApiDiffer<T> {
 	T get();
 
+	/**
+	 * Whether this differ already gathered everything it needs, in which case walkers may skip the remaining symbols.
+	 *
+	 * @return true if the walk can be cut short
+	 */
+	default boolean isDone() {
+		return false;
+	}
+
+	/**
+	 * Called for the types that walkers did not analyze because their deadline expired.
+	 *
+	 * @param type the skipped type, either from the baseline or the new API
+	 */
+	default void onSkippedType(TypeDecl type) {
+	}
+
 	void onMatchedType(TypeDecl oldType, TypeDecl newType);
 
 	void onTypeKindChanged(TypeDecl oldType, TypeDecl newType);
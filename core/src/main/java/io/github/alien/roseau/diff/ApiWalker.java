@@ -1,6 +1,7 @@
 package io.github.alien.roseau.diff;
 
 import com.google.common.base.Preconditions;
+import io.github.alien.roseau.Deadline;
 import io.github.alien.roseau.api.model.API;
 import io.github.alien.roseau.api.model.AnnotationDecl;
 import io.github.alien.roseau.api.model.AnnotationMethodDecl;
@@ -9,24 +10,94 @@ import io.github.alien.roseau.api.model.EnumDecl;
 import io.github.alien.roseau.api.model.InterfaceDecl;
 import io.github.alien.roseau.api.model.RecordDecl;
 import io.github.alien.roseau.api.model.TypeDecl;
+import io.github.alien.roseau.metrics.Metrics;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+
+/**
+ * Walks two {@link API} instances in parallel, pairing their symbols with a {@link SymbolMatcher} and notifying an
+ * {@link ApiDiffer} sink of every matched, removed, and added symbol.
+ * <br>
+ * The walk runs as fork-join tasks on a {@link ForkJoinPool}: one task per type and, for types exporting more than
+ * {@link #MEMBER_GRAIN} fields or methods, one task per chunk of members, so that a single huge type does not
+ * serialize its whole member walk on one worker. Sinks must therefore accept concurrent callbacks, including for
+ * members of the same type. Diffs sharing a pool interleave at the granularity of these tasks.
+ */
 public final class ApiWalker {
+	/**
+	 * The maximum number of members of a type walked sequentially by a single task.
+	 */
+	static final int MEMBER_GRAIN = 128;
+
 	private final API v1;
 	private final API v2;
 	private final SymbolMatcher matcher;
+	private final Deadline deadline;
+	private final ForkJoinPool pool;
 
 	public ApiWalker(API v1, API v2, SymbolMatcher matcher) {
+		this(v1, v2, matcher, Deadline.none());
+	}
+
+	/**
+	 * Creates a walker that stops analyzing new types once {@code deadline} expires. Types that are not analyzed are
+	 * reported to the sink through {@link ApiDiffer#onSkippedType(TypeDecl)}; types being analyzed when the deadline
+	 * expires are completed.
+	 *
+	 * @param v1       the baseline API
+	 * @param v2       the new API
+	 * @param matcher  the matcher pairing the symbols of both APIs
+	 * @param deadline the deadline after which remaining types are skipped
+	 */
+	public ApiWalker(API v1, API v2, SymbolMatcher matcher, Deadline deadline) {
+		this(v1, v2, matcher, deadline, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Creates a walker running on the given pool, e.g., a {@code new ForkJoinPool(parallelism)} to bound the number of
+	 * threads used by the walk or to isolate it from other users of the common pool.
+	 *
+	 * @param v1       the baseline API
+	 * @param v2       the new API
+	 * @param matcher  the matcher pairing the symbols of both APIs
+	 * @param deadline the deadline after which remaining types are skipped
+	 * @param pool     the pool running the walk
+	 */
+	public ApiWalker(API v1, API v2, SymbolMatcher matcher, Deadline deadline, ForkJoinPool pool) {
 		Preconditions.checkNotNull(v1);
 		Preconditions.checkNotNull(v2);
 		Preconditions.checkNotNull(matcher);
+		Preconditions.checkNotNull(deadline);
+		Preconditions.checkNotNull(pool);
 		this.v1 = v1;
 		this.v2 = v2;
 		this.matcher = matcher;
+		this.deadline = deadline;
+		this.pool = pool;
 	}
 
 	public <T> T walk(ApiDiffer<T> sink) {
 		Preconditions.checkNotNull(sink);
-		v1.getExportedTypes().parallelStream().forEach(t1 -> {
+		pool.invoke(ForkJoinTask.adapt(() -> walkTypes(sink)));
+		return sink.get();
+	}
+
+	private <T> void walkTypes(ApiDiffer<T> sink) {
+		forEach(v1.getExportedTypes(), 1, t1 -> {
+			if (sink.isDone()) {
+				return;
+			}
+			if (deadline.isExpired()) {
+				sink.onSkippedType(t1);
+				return;
+			}
+
+			long start = Metrics.startTypeWalk();
 			matcher.matchType(v2, t1).ifPresentOrElse(
 				t2 -> {
 					if (t1.getClass().equals(t2.getClass())) {
@@ -38,37 +109,55 @@ public final class ApiWalker {
 				},
 				() -> onRemovedType(sink, t1)
 			);
+			Metrics.typeWalked(t1.getQualifiedName(), start);
 		});
 
-		v2.getExportedTypes().parallelStream()
-			.filter(t2 -> matcher.matchType(v1, t2).isEmpty())
-			.forEach(t2 -> onAddedType(sink, t2));
-
-		return sink.get();
+		forEach(v2.getExportedTypes(), 1, t2 -> {
+			if (sink.isDone() || matcher.matchType(v1, t2).isPresent()) {
+				return;
+			}
+			if (deadline.isExpired()) {
+				sink.onSkippedType(t2);
+			} else {
+				onAddedType(sink, t2);
+			}
+		});
 	}
 
 	private <T> void walkMembers(TypeDecl t1, TypeDecl t2, ApiDiffer<T> sink) {
-		v1.getExportedFields(t1).forEach(f1 ->
+		forEach(v1.getExportedFields(t1), MEMBER_GRAIN, f1 ->
 			matcher.matchField(v2, t2, f1).ifPresentOrElse(
 				f2 -> sink.onMatchedField(t1, t2, f1, f2),
 				() -> sink.onRemovedField(t1, f1)
 			)
 		);
 
-		v2.getExportedFields(t2).stream()
-			.filter(f2 -> matcher.matchField(v1, t1, f2).isEmpty())
-			.forEach(f2 -> sink.onAddedField(t2, f2));
+		forEach(v2.getExportedFields(t2), MEMBER_GRAIN, f2 -> {
+			if (matcher.matchField(v1, t1, f2).isEmpty()) {
+				sink.onAddedField(t2, f2);
+			}
+		});
+
+		if (sink.isDone()) {
+			return;
+		}
 
-		v1.getExportedMethods(t1).forEach(m1 ->
+		forEach(v1.getExportedMethods(t1), MEMBER_GRAIN, m1 ->
 			matcher.matchMethod(v2, t2, m1).ifPresentOrElse(
 				m2 -> sink.onMatchedMethod(t1, t2, m1, m2),
 				() -> sink.onRemovedMethod(t1, m1)
 			)
 		);
 
-		v2.getExportedMethods(t2).stream()
-			.filter(m2 -> matcher.matchMethod(v1, t1, m2).isEmpty())
-			.forEach(m2 -> sink.onAddedMethod(t2, m2));
+		forEach(v2.getExportedMethods(t2), MEMBER_GRAIN, m2 -> {
+			if (matcher.matchMethod(v1, t1, m2).isEmpty()) {
+				sink.onAddedMethod(t2, m2);
+			}
+		});
+
+		if (sink.isDone()) {
+			return;
+		}
 
 		if (t1 instanceof ClassDecl c1 && t2 instanceof ClassDecl c2) {
 			c1.getDeclaredConstructors().forEach(cons1 ->
@@ -97,6 +186,45 @@ public final class ApiWalker {
 		}
 	}
 
+	/**
+	 * Applies {@code action} to every element, sequentially if there are at most {@code grain} of them, or as fork-join
+	 * subtasks of at most {@code grain} elements otherwise. Subtasks run on the pool of the calling task.
+	 */
+	private static <E> void forEach(Collection<E> elements, int grain, Consumer<E> action) {
+		if (elements.size() <= grain) {
+			elements.forEach(action);
+		} else {
+			new ForEachTask<>(List.copyOf(elements), 0, elements.size(), grain, action).invoke();
+		}
+	}
+
+	private static final class ForEachTask<E> extends RecursiveAction {
+		private final transient List<E> elements;
+		private final int from;
+		private final int to;
+		private final int grain;
+		private final transient Consumer<E> action;
+
+		ForEachTask(List<E> elements, int from, int to, int grain, Consumer<E> action) {
+			this.elements = elements;
+			this.from = from;
+			this.to = to;
+			this.grain = grain;
+			this.action = action;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= grain) {
+				elements.subList(from, to).forEach(action);
+			} else {
+				int mid = (from + to) >>> 1;
+				invokeAll(new ForEachTask<>(elements, from, mid, grain, action),
+					new ForEachTask<>(elements, mid, to, grain, action));
+			}
+		}
+	}
+
 	private static <T> void onMatchedType(ApiDiffer<T> sink, TypeDecl t1, TypeDecl t2) {
 		sink.onMatchedType(t1, t2);
 		switch (t1) {
@@ -13,15 +13,18 @@ import io.github.alien.roseau.api.model.MethodDecl;
 import io.github.alien.roseau.api.model.RecordDecl;
 import io.github.alien.roseau.api.model.TypeDecl;
 import io.github.alien.roseau.api.model.TypeMemberDecl;
+import io.github.alien.roseau.diff.changes.BreakingChange;
 import io.github.alien.roseau.diff.rules.DefaultRuleSet;
 import io.github.alien.roseau.diff.rules.MemberRule;
 import io.github.alien.roseau.diff.rules.MemberRuleContext;
 import io.github.alien.roseau.diff.rules.RuleSet;
 import io.github.alien.roseau.diff.rules.TypeRule;
 import io.github.alien.roseau.diff.rules.TypeRuleContext;
+import io.github.alien.roseau.metrics.Metrics;
 
 import java.util.List;
 import java.util.function.BiConsumer;
+import java.util.function.Predicate;
 
 /**
  * Computes the list of breaking changes between two {@link API} instances.
@@ -34,12 +37,31 @@ public class BreakingChangeAnalyzer implements ApiDiffer<RoseauReport> {
 	private final API v2;
 	private final RuleSet ruleSet;
 	private final RoseauReport.Builder builder;
+	private volatile boolean done;
 
 	public BreakingChangeAnalyzer(API v1, API v2, RuleSet ruleSet) {
+		this(v1, v2, ruleSet, _ -> false);
+	}
+
+	/**
+	 * Creates an analyzer that stops as soon as a breaking change satisfying {@code stopOn} is found. The resulting
+	 * report is then partial and only guaranteed to contain at least one such breaking change.
+	 *
+	 * @param v1      the baseline API
+	 * @param v2      the target API
+	 * @param ruleSet the rules to apply
+	 * @param stopOn  the condition a breaking change must satisfy to stop the analysis
+	 */
+	public BreakingChangeAnalyzer(API v1, API v2, RuleSet ruleSet, Predicate<BreakingChange> stopOn) {
 		this.v1 = Preconditions.checkNotNull(v1);
 		this.v2 = Preconditions.checkNotNull(v2);
 		this.ruleSet = ruleSet;
-		this.builder = RoseauReport.builder(v1, v2);
+		Preconditions.checkNotNull(stopOn);
+		this.builder = new RoseauReport.Builder(v1, v2, bc -> {
+			if (!done && stopOn.test(bc)) {
+				done = true;
+			}
+		});
 	}
 
 	public BreakingChangeAnalyzer(API v1, API v2) {
@@ -51,6 +73,16 @@ public class BreakingChangeAnalyzer implements ApiDiffer<RoseauReport> {
 		return builder.build();
 	}
 
+	@Override
+	public boolean isDone() {
+		return done;
+	}
+
+	@Override
+	public void onSkippedType(TypeDecl type) {
+		builder.skippedType(type);
+	}
+
 	@Override
 	public void onMatchedType(TypeDecl oldType, TypeDecl newType) {
 		applyTypeRules(ruleSet.getTypeRules(), (rule, ctx) -> rule.onMatched(oldType, newType, ctx));
@@ -235,12 +267,20 @@ public class BreakingChangeAnalyzer implements ApiDiffer<RoseauReport> {
 	private <T extends TypeDecl> void applyTypeRules(List<TypeRule<T>> rules,
 	                                                 BiConsumer<TypeRule<T>, TypeRuleContext> action) {
 		TypeRuleContext context = new TypeRuleContext(v1, v2, builder);
-		rules.forEach(rule -> action.accept(rule, context));
+		rules.forEach(rule -> {
+			long start = Metrics.startRuleEvaluation();
+			action.accept(rule, context);
+			Metrics.ruleEvaluated(rule, start);
+		});
 	}
 
 	private <T extends TypeMemberDecl> void applyMemberRules(List<MemberRule<T>> rules, TypeDecl oldType, TypeDecl newType,
 	                                                         BiConsumer<MemberRule<T>, MemberRuleContext> action) {
 		MemberRuleContext context = new MemberRuleContext(v1, v2, oldType, newType, builder);
-		rules.forEach(rule -> action.accept(rule, context));
+		rules.forEach(rule -> {
+			long start = Metrics.startRuleEvaluation();
+			action.accept(rule, context);
+			Metrics.ruleEvaluated(rule, start);
+		});
 	}
 }
@@ -0,0 +1,250 @@
+package io.github.alien.roseau.diff;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.Preconditions;
+import io.github.alien.roseau.api.model.ExecutableDecl;
+import io.github.alien.roseau.api.model.SourceLocation;
+import io.github.alien.roseau.api.model.Symbol;
+import io.github.alien.roseau.api.model.TypeDecl;
+import io.github.alien.roseau.diff.changes.BreakingChange;
+import io.github.alien.roseau.diff.changes.BreakingChangeDetails;
+import io.github.alien.roseau.diff.changes.BreakingChangeKind;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * A detached view of a {@link RoseauReport} that only retains the names, kinds, locations, and details of its
+ * breaking changes. Unlike {@link RoseauReport}, it holds no reference to the underlying {@link
+ * io.github.alien.roseau.api.model.API}s, so that batch jobs can keep many reports around without pinning their
+ * models in memory. Detached reports can be merged, serialized to Json, and formatted by
+ * {@link io.github.alien.roseau.diff.formatter.DetachedReportFormatter}s.
+ *
+ * @param v1              the location of the baseline library
+ * @param v2              the location of the compared library
+ * @param breakingChanges the detached breaking changes, ordered as in {@link RoseauReport}
+ * @param unanalyzedTypes the qualified names of the types that were not analyzed, see
+ *                        {@link RoseauReport#getUnanalyzedTypes()}
+ */
+public record DetachedReport(
+	String v1,
+	String v2,
+	List<Entry> breakingChanges,
+	List<String> unanalyzedTypes
+) {
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+
+	static {
+		// Derived getters such as isBinaryBreaking() are not part of the Json representation
+		MAPPER.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE);
+		MAPPER.setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+		MAPPER.setVisibility(PropertyAccessor.CREATOR, JsonAutoDetect.Visibility.ANY);
+	}
+
+	public DetachedReport {
+		Preconditions.checkNotNull(v1);
+		Preconditions.checkNotNull(v2);
+		Preconditions.checkNotNull(breakingChanges);
+		breakingChanges = breakingChanges.stream()
+			.distinct()
+			.sorted(Comparator.comparing(Entry::type).thenComparing(Entry::symbol).thenComparing(Entry::kind))
+			.toList();
+		unanalyzedTypes = unanalyzedTypes == null
+			? List.of()
+			: unanalyzedTypes.stream().distinct().sorted().toList();
+	}
+
+	public DetachedReport(String v1, String v2, List<Entry> breakingChanges) {
+		this(v1, v2, breakingChanges, List.of());
+	}
+
+	/**
+	 * A detached {@link BreakingChange}.
+	 *
+	 * @param type      the qualified name of the impacted type
+	 * @param symbol    the qualified name of the impacted symbol
+	 * @param kind      the kind of breaking change
+	 * @param newSymbol the qualified name of the corresponding symbol in the new version, if any, or null
+	 * @param local     whether the impacted symbol is declared in the impacted type
+	 * @param location  the location of the breaking change, see {@link BreakingChange#getLocation()}
+	 * @param details   a textual description of the details of the breaking change, possibly empty
+	 */
+	public record Entry(
+		String type,
+		String symbol,
+		BreakingChangeKind kind,
+		String newSymbol,
+		boolean local,
+		SourceLocation location,
+		String details
+	) {
+		public Entry {
+			Preconditions.checkNotNull(type);
+			Preconditions.checkNotNull(symbol);
+			Preconditions.checkNotNull(kind);
+			// Keep identity comparisons against NO_LOCATION working after deserialization
+			location = location == null || location.equals(SourceLocation.NO_LOCATION)
+				? SourceLocation.NO_LOCATION
+				: location;
+			details = Objects.requireNonNullElse(details, "");
+		}
+
+		/**
+		 * Detaches the given breaking change from its API.
+		 *
+		 * @param bc the breaking change to detach
+		 * @return the detached breaking change
+		 */
+		public static Entry of(BreakingChange bc) {
+			return new Entry(bc.impactedType().getQualifiedName(), bc.impactedSymbol().getQualifiedName(), bc.kind(),
+				bc.newSymbol() != null ? printSymbol(bc.newSymbol()) : null, bc.isLocal(), bc.getLocation(),
+				describe(bc.details()));
+		}
+	}
+
+	/**
+	 * Detaches the breaking changes of the given report that are not excluded, see
+	 * {@link RoseauReport#getBreakingChanges()}.
+	 *
+	 * @param report the report to detach
+	 * @return the detached report
+	 */
+	public static DetachedReport of(RoseauReport report) {
+		Preconditions.checkNotNull(report);
+		return new DetachedReport(
+			String.valueOf(report.v1().getLibraryTypes().getLibrary().getLocation()),
+			String.valueOf(report.v2().getLibraryTypes().getLibrary().getLocation()),
+			report.getBreakingChanges().stream().map(Entry::of).toList(),
+			report.getUnanalyzedTypes().stream().map(TypeDecl::getQualifiedName).toList());
+	}
+
+	public List<Entry> getBinaryBreakingChanges() {
+		return breakingChanges.stream()
+			.filter(bc -> bc.kind().isBinaryBreaking())
+			.toList();
+	}
+
+	public List<Entry> getSourceBreakingChanges() {
+		return breakingChanges.stream()
+			.filter(bc -> bc.kind().isSourceBreaking())
+			.toList();
+	}
+
+	public boolean isBinaryBreaking() {
+		return breakingChanges.stream().anyMatch(bc -> bc.kind().isBinaryBreaking());
+	}
+
+	public boolean isSourceBreaking() {
+		return breakingChanges.stream().anyMatch(bc -> bc.kind().isSourceBreaking());
+	}
+
+	/**
+	 * Whether all types were analyzed, see {@link RoseauReport#isComplete()}.
+	 *
+	 * @return true if this report is complete
+	 */
+	public boolean isComplete() {
+		return unanalyzedTypes.isEmpty();
+	}
+
+	/**
+	 * Returns a new report only retaining the breaking changes matching the given predicate.
+	 *
+	 * @param predicate the breaking changes to retain
+	 * @return the filtered report
+	 */
+	public DetachedReport filter(Predicate<Entry> predicate) {
+		Preconditions.checkNotNull(predicate);
+		return new DetachedReport(v1, v2, breakingChanges.stream().filter(predicate).toList(), unanalyzedTypes);
+	}
+
+	/**
+	 * Merges this report with another report comparing the same two libraries, e.g., computed on a different subset
+	 * of the API. Duplicate breaking changes are only retained once. The merged report is incomplete if either report
+	 * is.
+	 *
+	 * @param other the report to merge with
+	 * @return the merged report
+	 * @throws IllegalArgumentException if the reports do not compare the same libraries
+	 */
+	public DetachedReport merge(DetachedReport other) {
+		Preconditions.checkNotNull(other);
+		Preconditions.checkArgument(v1.equals(other.v1()) && v2.equals(other.v2()),
+			"Cannot merge reports of %s → %s and %s → %s", v1, v2, other.v1(), other.v2());
+		return new DetachedReport(v1, v2,
+			Stream.concat(breakingChanges.stream(), other.breakingChanges().stream()).toList(),
+			Stream.concat(unanalyzedTypes.stream(), other.unanalyzedTypes().stream()).toList());
+	}
+
+	/**
+	 * Merges the given reports comparing the same two libraries.
+	 *
+	 * @param reports the reports to merge; must not be empty
+	 * @return the merged report
+	 * @see #merge(DetachedReport)
+	 */
+	public static DetachedReport merge(Collection<DetachedReport> reports) {
+		Preconditions.checkArgument(!reports.isEmpty(), "No report to merge");
+		return reports.stream().reduce(DetachedReport::merge).orElseThrow();
+	}
+
+	/**
+	 * Serializes the report as Json to the specified file.
+	 *
+	 * @param jsonFile the {@link Path} to write to
+	 * @throws IOException if serialization fails
+	 */
+	public void writeJson(Path jsonFile) throws IOException {
+		MAPPER.writerWithDefaultPrettyPrinter().writeValue(jsonFile.toFile(), this);
+	}
+
+	/**
+	 * Parses the given Json file as a new report.
+	 *
+	 * @param jsonFile the {@link Path} to read Json from
+	 * @return the report read from the Json file
+	 * @throws IOException if the file cannot be parsed
+	 */
+	public static DetachedReport fromJson(Path jsonFile) throws IOException {
+		return MAPPER.readValue(jsonFile.toFile(), DetachedReport.class);
+	}
+
+	private static String printSymbol(Symbol symbol) {
+		return symbol instanceof ExecutableDecl e
+			? "%s.%s".formatted(e.getContainingType().getQualifiedName(), e.getSignature())
+			: symbol.getQualifiedName();
+	}
+
+	private static String describe(BreakingChangeDetails details) {
+		return switch (details) {
+			case BreakingChangeDetails.None() -> "";
+			case BreakingChangeDetails.MethodReturnTypeChanged(var oldType, var newType) ->
+				"%s → %s".formatted(oldType, newType);
+			case BreakingChangeDetails.FieldTypeChanged(var oldType, var newType) -> "%s → %s".formatted(oldType, newType);
+			case BreakingChangeDetails.TypeNewAbstractMethod(var newMethod) -> newMethod.getSignature();
+			case BreakingChangeDetails.TypeSupertypeRemoved(var type) -> type.getQualifiedName();
+			case BreakingChangeDetails.AnnotationTargetRemoved(var target) -> target.name();
+			case BreakingChangeDetails.AnnotationNewMethodWithoutDefault(var newMethod) -> newMethod.getSignature();
+			case BreakingChangeDetails.TypeKindChanged(var oldType, var newType) ->
+				"%s → %s".formatted(oldType.getSimpleName(), newType.getSimpleName());
+			case BreakingChangeDetails.MethodNoLongerThrowsCheckedException(var exc) -> exc.getQualifiedName();
+			case BreakingChangeDetails.MethodNowThrowsCheckedException(var exc) -> exc.getQualifiedName();
+			case BreakingChangeDetails.FormalTypeParametersAdded(var ftp) -> ftp.name();
+			case BreakingChangeDetails.FormalTypeParametersRemoved(var ftp) -> ftp.name();
+			case BreakingChangeDetails.FormalTypeParametersChanged(var oldFtp, var newFtp) ->
+				"%s → %s".formatted(oldFtp.name(), newFtp.name());
+			case BreakingChangeDetails.MethodParameterGenericsChanged(var oldType, var newType) ->
+				"%s → %s".formatted(oldType, newType);
+			case BreakingChangeDetails.TypeMoved(var newType) -> "moved to %s".formatted(newType.getQualifiedName());
+			case BreakingChangeDetails.MethodRenamed(var newMethod) -> "renamed to %s".formatted(newMethod.getSignature());
+		};
+	}
+}
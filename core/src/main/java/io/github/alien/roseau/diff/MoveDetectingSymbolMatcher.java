@@ -0,0 +1,233 @@
+package io.github.alien.roseau.diff;
+
+import com.google.common.base.Preconditions;
+import io.github.alien.roseau.api.model.API;
+import io.github.alien.roseau.api.model.MethodDecl;
+import io.github.alien.roseau.api.model.TypeDecl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * A {@link SymbolMatcher} that, in addition to matching symbols by name, detects types that were moved or renamed
+ * between two APIs, as well as methods that were renamed within a type.
+ * <p>
+ * Types are compared on their shape, i.e., their kind and the signatures of their declared members. Identical shapes
+ * are paired through their fingerprint. Remaining types are bucketed using MinHash locality-sensitive hashing over
+ * their shapes, and only types sharing a bucket are compared, so that detection remains near-linear even with
+ * thousands of removed and added types. Methods are paired when they are the only removed and added methods of their
+ * type with a given signature, regardless of their name.
+ * <p>
+ * Moves and renames do not affect name-based matching: a moved type is still a breaking change, and is reported as
+ * such with additional details pointing to its new location.
+ */
+public class MoveDetectingSymbolMatcher extends DefaultSymbolMatcher {
+	/**
+	 * The minimal Jaccard similarity between two type shapes for them to be considered a move.
+	 */
+	static final double SIMILARITY_THRESHOLD = 0.7d;
+	// 8 bands of 4 rows: pairs above ~0.6 similarity share a bucket with high probability
+	private static final int BANDS = 8;
+	private static final int ROWS = 4;
+	// Larger groups of identical or similar types are too ambiguous to pair anything but same-named types
+	private static final int MAX_AMBIGUITY = 64;
+
+	private final API v1;
+	private final API v2;
+	private final Map<String, TypeDecl> movedTo = new HashMap<>();
+	private final Map<String, TypeDecl> movedFrom = new HashMap<>();
+	private final Map<String, Map<String, MethodDecl>> renamedMethods = new ConcurrentHashMap<>();
+
+	public MoveDetectingSymbolMatcher(API v1, API v2) {
+		Preconditions.checkNotNull(v1);
+		Preconditions.checkNotNull(v2);
+		this.v1 = v1;
+		this.v2 = v2;
+		detectMovedTypes();
+	}
+
+	@Override
+	public boolean detectsMoves() {
+		return true;
+	}
+
+	@Override
+	public Optional<TypeDecl> matchMovedType(API api, TypeDecl type) {
+		if (api == v2) {
+			return Optional.ofNullable(movedTo.get(type.getQualifiedName()));
+		}
+		if (api == v1) {
+			return Optional.ofNullable(movedFrom.get(type.getQualifiedName()));
+		}
+		return Optional.empty();
+	}
+
+	@Override
+	public Optional<MethodDecl> matchRenamedMethod(API api, TypeDecl type, MethodDecl method) {
+		if (api != v2) {
+			return Optional.empty();
+		}
+
+		Map<String, MethodDecl> renamed = renamedMethods.computeIfAbsent(type.getQualifiedName(), _ ->
+			v1.findExportedType(type.getQualifiedName())
+				.map(oldType -> detectRenamedMethods(oldType, type))
+				.orElse(Map.of()));
+		return Optional.ofNullable(renamed.get(v1.getErasure(method)));
+	}
+
+	private Map<String, MethodDecl> detectRenamedMethods(TypeDecl oldType, TypeDecl newType) {
+		Map<String, List<MethodDecl>> removed = v1.getExportedMethods(oldType).stream()
+			.filter(m1 -> v2.findMethod(newType, v1.getErasure(m1)).isEmpty())
+			.collect(Collectors.groupingBy(MoveDetectingSymbolMatcher::methodFingerprint));
+		Map<String, List<MethodDecl>> added = v2.getExportedMethods(newType).stream()
+			.filter(m2 -> v1.findMethod(oldType, v2.getErasure(m2)).isEmpty())
+			.collect(Collectors.groupingBy(MoveDetectingSymbolMatcher::methodFingerprint));
+
+		// Only unambiguous renames are reported
+		return removed.entrySet().stream()
+			.filter(e -> e.getValue().size() == 1 && added.getOrDefault(e.getKey(), List.of()).size() == 1)
+			.collect(Collectors.toUnmodifiableMap(
+				e -> v1.getErasure(e.getValue().getFirst()),
+				e -> added.get(e.getKey()).getFirst()));
+	}
+
+	private void detectMovedTypes() {
+		List<TypeDecl> removed = v1.getExportedTypes().stream()
+			.filter(t1 -> v2.findExportedType(t1.getQualifiedName()).isEmpty())
+			.toList();
+		List<TypeDecl> added = v2.getExportedTypes().stream()
+			.filter(t2 -> v1.findExportedType(t2.getQualifiedName()).isEmpty())
+			.toList();
+		if (removed.isEmpty() || added.isEmpty()) {
+			return;
+		}
+
+		Map<TypeDecl, Set<String>> shapes = new HashMap<>();
+		removed.forEach(t1 -> shapes.put(t1, typeShape(t1)));
+		added.forEach(t2 -> shapes.put(t2, typeShape(t2)));
+
+		// Types with identical shapes are paired first
+		Map<Set<String>, List<TypeDecl>> addedByShape = added.stream()
+			.collect(Collectors.groupingBy(shapes::get));
+		Map<Set<String>, Long> removedByShape = removed.stream()
+			.collect(Collectors.groupingBy(shapes::get, Collectors.counting()));
+		List<Candidate> candidates = new ArrayList<>();
+		removed.forEach(t1 -> {
+			List<TypeDecl> sameShape = addedByShape.getOrDefault(shapes.get(t1), List.of());
+			boolean unambiguous = sameShape.size() == 1 && removedByShape.get(shapes.get(t1)) == 1;
+			sameShape.stream()
+				.filter(t2 -> unambiguous || t1.getSimpleName().equals(t2.getSimpleName()))
+				.forEach(t2 -> candidates.add(new Candidate(t1, t2, score(t1, t2, 1d))));
+		});
+
+		// Then, similar shapes that share at least one LSH bucket
+		Map<Long, List<TypeDecl>> buckets = new HashMap<>();
+		added.forEach(t2 -> bucketsOf(shapes.get(t2))
+			.forEach(bucket -> buckets.computeIfAbsent(bucket, _ -> new ArrayList<>()).add(t2)));
+		removed.forEach(t1 -> bucketsOf(shapes.get(t1)).stream()
+			.map(bucket -> buckets.getOrDefault(bucket, List.of()))
+			.filter(bucket -> bucket.size() <= MAX_AMBIGUITY)
+			.flatMap(List::stream)
+			.distinct()
+			.filter(t2 -> !shapes.get(t1).equals(shapes.get(t2)))
+			.forEach(t2 -> {
+				double similarity = jaccard(shapes.get(t1), shapes.get(t2));
+				if (similarity >= SIMILARITY_THRESHOLD) {
+					candidates.add(new Candidate(t1, t2, score(t1, t2, similarity)));
+				}
+			}));
+
+		// Greedily pair the best candidates first
+		candidates.sort(Comparator.comparingDouble(Candidate::score).reversed()
+			.thenComparing(c -> c.oldType().getQualifiedName())
+			.thenComparing(c -> c.newType().getQualifiedName()));
+		candidates.forEach(c -> {
+			if (!movedTo.containsKey(c.oldType().getQualifiedName()) &&
+				!movedFrom.containsKey(c.newType().getQualifiedName())) {
+				movedTo.put(c.oldType().getQualifiedName(), c.newType());
+				movedFrom.put(c.newType().getQualifiedName(), c.oldType());
+			}
+		});
+	}
+
+	private record Candidate(TypeDecl oldType, TypeDecl newType, double score) {
+	}
+
+	private static double score(TypeDecl t1, TypeDecl t2, double similarity) {
+		// Types keeping their simple name (moved to another package) are favored over renamed ones
+		return t1.getSimpleName().equals(t2.getSimpleName()) ? similarity + 1d : similarity;
+	}
+
+	private static Set<String> typeShape(TypeDecl type) {
+		// References to the type itself, and only to it (not to pkg.AB for pkg.A), are normalized so that they survive
+		// moves
+		Pattern self = Pattern.compile("(?<![\\w.$])" + Pattern.quote(type.getQualifiedName()) + "(?!\\w)");
+		Function<String, String> normalize = s -> self.matcher(s).replaceAll("\\$");
+		Set<String> shape = new HashSet<>();
+		shape.add("kind " + type.getClass().getSimpleName());
+		type.getDeclaredFields().forEach(f ->
+			shape.add(normalize.apply("field %s:%s".formatted(f.getSimpleName(), f.getType()))));
+		type.getDeclaredMethods().forEach(m ->
+			shape.add(normalize.apply("method %s:%s".formatted(m.getSignature(), m.getType()))));
+		if (shape.size() == 1) {
+			// Member-less types only match types with the same simple name
+			shape.add("name " + type.getSimpleName());
+		}
+		return shape;
+	}
+
+	private static List<Long> bucketsOf(Set<String> shape) {
+		long[] signature = minHash(shape);
+		List<Long> buckets = new ArrayList<>(BANDS);
+		for (int band = 0; band < BANDS; band++) {
+			long bucket = band;
+			for (int row = 0; row < ROWS; row++) {
+				bucket = bucket * 31 + signature[band * ROWS + row];
+			}
+			buckets.add(bucket);
+		}
+		return buckets;
+	}
+
+	private static long[] minHash(Collection<String> shape) {
+		long[] signature = new long[BANDS * ROWS];
+		Arrays.fill(signature, Long.MAX_VALUE);
+		for (String token : shape) {
+			long hash = token.hashCode();
+			for (int i = 0; i < signature.length; i++) {
+				signature[i] = Math.min(signature[i], mix(hash + i * 0x9E3779B97F4A7C15L));
+			}
+		}
+		return signature;
+	}
+
+	// SplitMix64 finalizer
+	private static long mix(long z) {
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+
+	private static double jaccard(Set<String> s1, Set<String> s2) {
+		long common = s1.stream().filter(s2::contains).count();
+		return (double) common / (s1.size() + s2.size() - common);
+	}
+
+	private static String methodFingerprint(MethodDecl method) {
+		String signature = method.getSignature();
+		return "%s%s:%s".formatted(method.isStatic() ? "static " : "",
+			signature.substring(method.getSimpleName().length()), method.getType());
+	}
+}
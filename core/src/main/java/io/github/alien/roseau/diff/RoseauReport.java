@@ -16,19 +16,38 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 public final class RoseauReport {
 	private final API v1;
 	private final API v2;
 	private final List<BreakingChange> breakingChanges;
+	private final List<TypeDecl> unanalyzedTypes;
 
 	public RoseauReport(API v1, API v2, Collection<BreakingChange> breakingChanges) {
+		this(v1, v2, breakingChanges, List.of());
+	}
+
+	/**
+	 * Creates a report that may be incomplete, e.g., because the analysis ran out of time.
+	 *
+	 * @param v1              the baseline API
+	 * @param v2              the new API
+	 * @param breakingChanges the breaking changes found
+	 * @param unanalyzedTypes the types, from either API, that were not analyzed
+	 */
+	public RoseauReport(API v1, API v2, Collection<BreakingChange> breakingChanges,
+	                    Collection<TypeDecl> unanalyzedTypes) {
 		Preconditions.checkNotNull(v1);
 		Preconditions.checkNotNull(v2);
 		Preconditions.checkNotNull(breakingChanges);
+		Preconditions.checkNotNull(unanalyzedTypes);
 		this.v1 = v1;
 		this.v2 = v2;
+		this.unanalyzedTypes = unanalyzedTypes.stream()
+			.sorted(Comparator.comparing(TypeDecl::getQualifiedName))
+			.toList();
 		this.breakingChanges = List.copyOf(
 			breakingChanges.stream()
 				.sorted(
@@ -69,6 +88,25 @@ public final class RoseauReport {
 		return breakingChanges;
 	}
 
+	/**
+	 * Returns the types that were not analyzed, e.g., because the diff ran out of time. Breaking changes impacting
+	 * these types are missing from this report.
+	 *
+	 * @return the unanalyzed types, sorted by qualified name
+	 */
+	public List<TypeDecl> getUnanalyzedTypes() {
+		return unanalyzedTypes;
+	}
+
+	/**
+	 * Whether all types were analyzed, i.e., whether this report lists all breaking changes.
+	 *
+	 * @return true if this report is complete
+	 */
+	public boolean isComplete() {
+		return unanalyzedTypes.isEmpty();
+	}
+
 	public boolean isBinaryBreaking() {
 		return !getBinaryBreakingChanges().isEmpty();
 	}
@@ -124,12 +162,24 @@ public final class RoseauReport {
 		private final API v1;
 		private final API v2;
 		private final Set<BreakingChange> bcs = Sets.newConcurrentHashSet();
+		private final Set<TypeDecl> skipped = Sets.newConcurrentHashSet();
+		private final Consumer<BreakingChange> listener;
 
 		public Builder(API v1, API v2) {
+			this(v1, v2, _ -> {});
+		}
+
+		/**
+		 * Creates a builder notifying {@code listener} of every new breaking change as soon as it is reported. The
+		 * listener may be invoked concurrently.
+		 */
+		public Builder(API v1, API v2, Consumer<BreakingChange> listener) {
 			Preconditions.checkNotNull(v1);
 			Preconditions.checkNotNull(v2);
+			Preconditions.checkNotNull(listener);
 			this.v1 = v1;
 			this.v2 = v2;
+			this.listener = listener;
 		}
 
 		public void typeBC(BreakingChangeKind kind, TypeDecl impactedType) {
@@ -137,7 +187,7 @@ public final class RoseauReport {
 		}
 
 		public void typeBC(BreakingChangeKind kind, TypeDecl impactedType, BreakingChangeDetails details) {
-			bcs.add(new BreakingChange(kind, impactedType, impactedType, null, details));
+			add(new BreakingChange(kind, impactedType, impactedType, null, details));
 		}
 
 		public void memberBC(BreakingChangeKind kind, TypeDecl impactedType, TypeMemberDecl impactedMember) {
@@ -156,11 +206,21 @@ public final class RoseauReport {
 			if (impactedMember.getContainingType().equals(TypeReference.OBJECT)) {
 				return;
 			}
-			bcs.add(new BreakingChange(kind, impactedType, impactedMember, newMember, details));
+			add(new BreakingChange(kind, impactedType, impactedMember, newMember, details));
+		}
+
+		public void skippedType(TypeDecl type) {
+			skipped.add(type);
+		}
+
+		private void add(BreakingChange bc) {
+			if (bcs.add(bc)) {
+				listener.accept(bc);
+			}
 		}
 
 		public RoseauReport build() {
-			return new RoseauReport(v1, v2, bcs.stream().toList());
+			return new RoseauReport(v1, v2, bcs.stream().toList(), skipped);
 		}
 	}
 }
@@ -21,4 +21,37 @@ public interface SymbolMatcher {
 	Optional<ConstructorDecl> matchConstructor(API api, ClassDecl cls, ConstructorDecl cons);
 
 	Optional<AnnotationMethodDecl> matchAnnotationMethod(API api, AnnotationDecl type, AnnotationMethodDecl method);
+
+	/**
+	 * Whether this matcher detects moved types and renamed methods. If not, reports are not searched for moves.
+	 *
+	 * @return true if {@link #matchMovedType(API, TypeDecl)} or
+	 * {@link #matchRenamedMethod(API, TypeDecl, MethodDecl)} may find anything
+	 */
+	default boolean detectsMoves() {
+		return false;
+	}
+
+	/**
+	 * Finds the type in {@code api} that {@code type}, which has no match by name, was moved or renamed to.
+	 *
+	 * @param api  the API to search
+	 * @param type the type to find
+	 * @return the moved type, if any
+	 */
+	default Optional<TypeDecl> matchMovedType(API api, TypeDecl type) {
+		return Optional.empty();
+	}
+
+	/**
+	 * Finds the method in {@code type} that {@code method}, which has no match by erasure, was renamed to.
+	 *
+	 * @param api    the API to search
+	 * @param type   the type in {@code api} to search
+	 * @param method the method to find
+	 * @return the renamed method, if any
+	 */
+	default Optional<MethodDecl> matchRenamedMethod(API api, TypeDecl type, MethodDecl method) {
+		return Optional.empty();
+	}
 }
@@ -25,4 +25,6 @@ public sealed interface BreakingChangeDetails {
 		implements BreakingChangeDetails {}
 	record FormalTypeParametersRemoved(FormalTypeParameter ftp) implements BreakingChangeDetails {}
 	record FormalTypeParametersAdded(FormalTypeParameter ftp) implements BreakingChangeDetails {}
+	record TypeMoved(TypeDecl newType) implements BreakingChangeDetails {}
+	record MethodRenamed(MethodDecl newMethod) implements BreakingChangeDetails {}
 }
@@ -1,16 +1,15 @@
 package io.github.alien.roseau.diff.formatter;
 
 import io.github.alien.roseau.api.model.SourceLocation;
+import io.github.alien.roseau.diff.DetachedReport;
 import io.github.alien.roseau.diff.RoseauReport;
-import io.github.alien.roseau.diff.changes.BreakingChange;
-import io.github.alien.roseau.diff.changes.BreakingChangeDetails;
 
 import java.util.List;
 
 /**
  * A formatter of {@link RoseauReport} that produces a CLI-friendly report.
  */
-public class CliFormatter implements BreakingChangesFormatter {
+public class CliFormatter implements DetachedReportFormatter {
 	private final Mode mode;
 
 	private static final String BOLD = "\u001B[1m";
@@ -40,10 +39,10 @@ public class CliFormatter implements BreakingChangesFormatter {
 	}
 
 	@Override
-	public String format(RoseauReport report) {
-		List<BreakingChange> changes = report.getBreakingChanges();
+	public String format(DetachedReport report) {
+		List<DetachedReport.Entry> changes = report.breakingChanges();
 		if (changes.isEmpty()) {
-			return "No breaking changes found.";
+			return "No breaking changes found." + formatCompleteness(report);
 		}
 
 		int binaryBreaking = report.getBinaryBreakingChanges().size();
@@ -56,12 +55,20 @@ public class CliFormatter implements BreakingChangesFormatter {
 		sb.append(sourceBreaking).append(" source-breaking)");
 		sb.append(System.lineSeparator());
 
-		report.getBreakingChanges().forEach(bc -> formatBreakingChange(bc, sb));
+		changes.forEach(bc -> formatBreakingChange(bc, sb));
+		sb.append(formatCompleteness(report));
 
 		return sb.toString();
 	}
 
-	private void formatBreakingChange(BreakingChange bc, StringBuilder sb) {
+	private String formatCompleteness(DetachedReport report) {
+		return report.isComplete()
+			? ""
+			: System.lineSeparator() + bold("Incomplete report: ") + "%d types were not analyzed".formatted(
+				report.unanalyzedTypes().size());
+	}
+
+	private void formatBreakingChange(DetachedReport.Entry bc, StringBuilder sb) {
 		String emoji = switch (bc.kind().getNature()) {
 			case ADDITION -> KIND_ADDITION;
 			case DELETION -> KIND_DELETION;
@@ -69,9 +76,8 @@ public class CliFormatter implements BreakingChangesFormatter {
 		};
 
 		sb.append(emoji).append(" ").append(formatSymbol(bc)).append(" ").append(formatKind(bc));
-		String details = formatDetails(bc);
-		if (!details.isEmpty()) {
-			sb.append(" ").append(cyan("[" + details + "]"));
+		if (!bc.details().isEmpty()) {
+			sb.append(" ").append(cyan("[" + bc.details() + "]"));
 		}
 		sb.append(System.lineSeparator());
 		sb.append("  ").append(formatCompatibility(bc));
@@ -80,11 +86,11 @@ public class CliFormatter implements BreakingChangesFormatter {
 		sb.append(System.lineSeparator());
 	}
 
-	private static String formatKind(BreakingChange bc) {
+	private static String formatKind(DetachedReport.Entry bc) {
 		return bc.kind().name();
 	}
 
-	private static String formatCompatibility(BreakingChange bc) {
+	private static String formatCompatibility(DetachedReport.Entry bc) {
 		String binary = bc.kind().isBinaryBreaking()
 			? BREAKING + " binary-breaking"
 			: COMPATIBLE + " binary-compatible";
@@ -94,39 +100,16 @@ public class CliFormatter implements BreakingChangesFormatter {
 		return binary + " " + source;
 	}
 
-	private static String formatSymbol(BreakingChange bc) {
-		return bc.isLocal()
-			? bc.impactedSymbol().getQualifiedName()
-			: "%s in %s".formatted(bc.impactedSymbol().getQualifiedName(), bc.impactedType().getQualifiedName());
+	private static String formatSymbol(DetachedReport.Entry bc) {
+		return bc.local()
+			? bc.symbol()
+			: "%s in %s".formatted(bc.symbol(), bc.type());
 	}
 
-	private static String formatLocation(BreakingChange bc) {
-		return bc.getLocation() == SourceLocation.NO_LOCATION
+	private static String formatLocation(DetachedReport.Entry bc) {
+		return bc.location() == SourceLocation.NO_LOCATION
 			? "No source location"
-			: "→ %s:%d".formatted(bc.getLocation().file(), bc.getLocation().line());
-	}
-
-	private static String formatDetails(BreakingChange bc) {
-		return switch (bc.details()) {
-			case BreakingChangeDetails.None() -> "";
-			case BreakingChangeDetails.MethodReturnTypeChanged(var oldType, var newType) ->
-				"%s → %s".formatted(oldType, newType);
-			case BreakingChangeDetails.FieldTypeChanged(var oldType, var newType) -> "%s → %s".formatted(oldType, newType);
-			case BreakingChangeDetails.TypeNewAbstractMethod(var newMethod) -> newMethod.getSignature();
-			case BreakingChangeDetails.TypeSupertypeRemoved(var type) -> type.getQualifiedName();
-			case BreakingChangeDetails.AnnotationTargetRemoved(var target) -> target.name();
-			case BreakingChangeDetails.AnnotationNewMethodWithoutDefault(var newMethod) -> newMethod.getSignature();
-			case BreakingChangeDetails.TypeKindChanged(var oldType, var newType) ->
-				"%s → %s".formatted(oldType.getSimpleName(), newType.getSimpleName());
-			case BreakingChangeDetails.MethodNoLongerThrowsCheckedException(var exc) -> exc.getQualifiedName();
-			case BreakingChangeDetails.MethodNowThrowsCheckedException(var exc) -> exc.getQualifiedName();
-			case BreakingChangeDetails.FormalTypeParametersAdded(var ftp) -> ftp.name();
-			case BreakingChangeDetails.FormalTypeParametersRemoved(var ftp) -> ftp.name();
-			case BreakingChangeDetails.FormalTypeParametersChanged(var oldFtp, var newFtp) ->
-				"%s → %s".formatted(oldFtp.name(), newFtp.name());
-			case BreakingChangeDetails.MethodParameterGenericsChanged(var oldType, var newType) ->
-				"%s → %s".formatted(oldType, newType);
-		};
+			: "→ %s:%d".formatted(bc.location().file(), bc.location().line());
 	}
 
 	private String bold(String text) {
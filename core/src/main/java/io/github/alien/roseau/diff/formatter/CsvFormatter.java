@@ -1,5 +1,6 @@
 package io.github.alien.roseau.diff.formatter;
 
+import io.github.alien.roseau.diff.DetachedReport;
 import io.github.alien.roseau.diff.RoseauReport;
 
 import java.util.stream.Collectors;
@@ -7,18 +8,18 @@ import java.util.stream.Collectors;
 /**
  * A formatter of {@link RoseauReport} that produces a CSV output.
  */
-public class CsvFormatter implements BreakingChangesFormatter {
+public class CsvFormatter implements DetachedReportFormatter {
 	public static final String HEADER = "type;symbol;kind;nature;location";
 
 	@Override
-	public String format(RoseauReport report) {
+	public String format(DetachedReport report) {
 		return HEADER + System.lineSeparator() +
-			report.getBreakingChanges().stream().map(bc -> "%s;%s;%s;%s;%s".formatted(
-				bc.impactedType().getQualifiedName(),
-				bc.impactedSymbol().getQualifiedName(),
+			report.breakingChanges().stream().map(bc -> "%s;%s;%s;%s;%s".formatted(
+				bc.type(),
+				bc.symbol(),
 				bc.kind(),
 				bc.kind().getNature(),
-				bc.getLocation())
+				bc.location())
 			).collect(Collectors.joining(System.lineSeparator()));
 	}
 }
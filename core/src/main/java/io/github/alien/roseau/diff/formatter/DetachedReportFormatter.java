@@ -0,0 +1,23 @@
+package io.github.alien.roseau.diff.formatter;
+
+import io.github.alien.roseau.diff.DetachedReport;
+import io.github.alien.roseau.diff.RoseauReport;
+
+/**
+ * A {@link BreakingChangesFormatter} that only needs the information retained by a {@link DetachedReport}, and can
+ * thus format reports whose API models have been released.
+ */
+public interface DetachedReportFormatter extends BreakingChangesFormatter {
+	/**
+	 * Returns a string representation of the supplied detached report
+	 *
+	 * @param report the detached report to format
+	 * @return the formatted list
+	 */
+	String format(DetachedReport report);
+
+	@Override
+	default String format(RoseauReport report) {
+		return format(DetachedReport.of(report));
+	}
+}
@@ -184,14 +184,17 @@ public final class HtmlFormatter implements BreakingChangesFormatter {
 	}
 
 	private static String apiCard(String label, API api) {
-		int exported = api.getExportedTypes().size();
+		List<TypeDecl> exportedTypes = api.getExportedTypes();
+		int exported = exportedTypes.size();
 		int all = api.getLibraryTypes().getAllTypes().size();
-		int methodCount = api.getExportedTypes().stream().mapToInt(t -> t.getDeclaredMethods().size()).sum();
-		int fieldCount = api.getExportedTypes().stream().mapToInt(t -> t.getDeclaredFields().size()).sum();
+		int packageCount = api.getExportedTypesByPackage().size();
+		int methodCount = exportedTypes.stream().mapToInt(t -> t.getDeclaredMethods().size()).sum();
+		int fieldCount = exportedTypes.stream().mapToInt(t -> t.getDeclaredFields().size()).sum();
 		return "<div class=\"lib\">" +
 			"<div class=\"lib-label\">" + escape(label) + "</div>" +
 			"<div class=\"lib-meta\"><span><span class=\"muted\">Exported types:</span> " +
 			exported + " / " + all + "</span>" +
+			"<span><span class=\"muted\">Packages:</span> " + packageCount + "</span>" +
 			"<span><span class=\"muted\">Methods:</span> " + methodCount + "</span>" +
 			"<span><span class=\"muted\">Fields:</span> " + fieldCount + "</span></div>" +
 			"</div>";
@@ -245,6 +248,10 @@ public final class HtmlFormatter implements BreakingChangesFormatter {
 				"<code>" + escape(String.valueOf(ftp)) + "</code>";
 			case BreakingChangeDetails.FormalTypeParametersChanged(var oldFtp, var newFtp) ->
 				"<code>" + escape(String.valueOf(oldFtp)) + "</code> → <code>" + escape(String.valueOf(newFtp)) + "</code>";
+			case BreakingChangeDetails.TypeMoved(var newType) ->
+				"moved to <code>" + escape(newType.getQualifiedName()) + "</code>";
+			case BreakingChangeDetails.MethodRenamed(var newMethod) ->
+				"renamed to <code>" + escape(newMethod.getSignature()) + "</code>";
 			case BreakingChangeDetails.None() -> "";
 		};
 	}
@@ -1,6 +1,7 @@
 package io.github.alien.roseau.diff.formatter;
 
 import io.github.alien.roseau.api.model.SourceLocation;
+import io.github.alien.roseau.diff.DetachedReport;
 import io.github.alien.roseau.diff.RoseauReport;
 import org.json.JSONArray;
 import org.json.JSONObject;
@@ -8,23 +9,23 @@ import org.json.JSONObject;
 /**
  * A formatter of {@link RoseauReport} that produces a JSON output.
  */
-public class JsonFormatter implements BreakingChangesFormatter {
+public class JsonFormatter implements DetachedReportFormatter {
 	private static final int JSON_INDENT = 2;
 
 	/**
 	 * Formats the list of breaking changes in JSON format
 	 */
 	@Override
-	public String format(RoseauReport report) {
+	public String format(DetachedReport report) {
 		return new JSONArray().putAll(
-			report.getBreakingChanges().stream()
+			report.breakingChanges().stream()
 				.map(bc -> {
 					JSONObject jsonObject = new JSONObject();
-					jsonObject.put("impactedType", bc.impactedType().getQualifiedName());
-					jsonObject.put("impactedSymbol", bc.impactedSymbol().getQualifiedName());
+					jsonObject.put("impactedType", bc.type());
+					jsonObject.put("impactedSymbol", bc.symbol());
 					jsonObject.put("kind", bc.kind());
 					jsonObject.put("nature", bc.kind().getNature());
-					jsonObject.put("location", formatLocation(bc.getLocation()));
+					jsonObject.put("location", formatLocation(bc.location()));
 					return jsonObject;
 				})
 				.toList()
@@ -1,33 +1,33 @@
 package io.github.alien.roseau.diff.formatter;
 
 import io.github.alien.roseau.api.model.SourceLocation;
+import io.github.alien.roseau.diff.DetachedReport;
 import io.github.alien.roseau.diff.RoseauReport;
-import io.github.alien.roseau.diff.changes.BreakingChange;
 
 /**
  * A formatter of {@link RoseauReport} that produces a Markdown output.
  */
-public class MdFormatter implements BreakingChangesFormatter {
+public class MdFormatter implements DetachedReportFormatter {
 	/**
 	 * Formats the list of breaking changes in Markdown format
 	 */
 	@Override
-	public String format(RoseauReport report) {
+	public String format(DetachedReport report) {
 		StringBuilder sb = new StringBuilder();
 		sb.append("## Breaking Changes Report\n");
-		if (report.getBreakingChanges().isEmpty()) {
+		if (report.breakingChanges().isEmpty()) {
 			sb.append("No breaking changes detected.");
 		} else {
-			sb.append(report.getBreakingChanges().size()).append(" breaking changes detected.\n\n");
+			sb.append(report.breakingChanges().size()).append(" breaking changes detected.\n\n");
 			sb.append("| Type | Symbol | Kind | Nature | Location |\n");
 			sb.append("|------|--------|------|--------|----------|\n");
 
-			for (BreakingChange bc : report.getBreakingChanges()) {
-				sb.append("| ").append(bc.impactedType().getQualifiedName()).append(" | ")
-					.append(bc.impactedSymbol().getQualifiedName()).append(" | ")
+			for (DetachedReport.Entry bc : report.breakingChanges()) {
+				sb.append("| ").append(bc.type()).append(" | ")
+					.append(bc.symbol()).append(" | ")
 					.append(bc.kind()).append(" | ")
 					.append(bc.kind().getNature()).append(" | ")
-					.append(formatLocation(bc.getLocation())).append(" |\n");
+					.append(formatLocation(bc.location())).append(" |\n");
 			}
 		}
 		return sb.toString();
@@ -1,5 +1,6 @@
 package io.github.alien.roseau.extractors;
 
+import io.github.alien.roseau.Deadline;
 import io.github.alien.roseau.Library;
 import io.github.alien.roseau.RoseauException;
 import io.github.alien.roseau.api.model.LibraryTypes;
@@ -18,4 +19,20 @@ public interface TypesExtractor {
 	 * @throws RoseauException if anything went wrong
 	 */
 	LibraryTypes extractTypes(Library library);
+
+	/**
+	 * Extracts a new {@link LibraryTypes} from the given {@link Library}, giving up once {@code deadline} expires.
+	 * Extractors that cannot be interrupted only check the deadline before and after extraction.
+	 *
+	 * @param library  the library to extract types from
+	 * @param deadline the deadline after which extraction is aborted
+	 * @return the extracted {@link LibraryTypes}
+	 * @throws RoseauException if anything went wrong or the deadline expired
+	 */
+	default LibraryTypes extractTypes(Library library, Deadline deadline) {
+		deadline.check("extracting types from " + library.getLocation());
+		LibraryTypes types = extractTypes(library);
+		deadline.check("extracting types from " + library.getLocation());
+		return types;
+	}
 }
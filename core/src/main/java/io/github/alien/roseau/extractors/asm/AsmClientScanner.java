@@ -0,0 +1,419 @@
+package io.github.alien.roseau.extractors.asm;
+
+import com.google.common.base.Preconditions;
+import io.github.alien.roseau.RoseauException;
+import io.github.alien.roseau.diff.DetachedReport;
+import io.github.alien.roseau.impact.ClientImpact;
+import io.github.alien.roseau.impact.ImpactIndex;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.zip.ZipFile;
+
+/**
+ * Scans the bytecode of client JARs for uses of the symbols indexed in an {@link ImpactIndex}: references to impacted
+ * types, accesses to impacted fields, invocations of impacted methods and constructors (including method references),
+ * and overrides of impacted methods.
+ * <p>
+ * Client bytecode references members through the static type of their receiver, which may be a client subtype of an
+ * impacted library type. Members referenced through client types are thus resolved up the client's own hierarchy,
+ * which is collected in a first pass over the JAR, until reaching a library type.
+ * <p>
+ * Before visiting a class, its constant pool is checked for references to impacted types, or to client types
+ * inheriting from one: since any use of a type or member is recorded there, classes that do not mention any of them
+ * are discarded without being visited.
+ */
+public class AsmClientScanner {
+	private final ImpactIndex index;
+
+	private static final int ASM_VERSION = Opcodes.ASM9;
+	private static final int PARSING_OPTIONS = ClassReader.SKIP_FRAMES;
+	private static final int CONSTANT_UTF8 = 1;
+	private static final Logger LOGGER = LogManager.getLogger(AsmClientScanner.class);
+
+	public AsmClientScanner(ImpactIndex index) {
+		this.index = Preconditions.checkNotNull(index);
+	}
+
+	/**
+	 * Scans all the classes of a client JAR.
+	 *
+	 * @param client the client JAR
+	 * @return the uses of breaking changes found in the client
+	 * @throws RoseauException if the JAR cannot be read
+	 */
+	public ClientImpact scan(Path client) {
+		Preconditions.checkNotNull(client);
+		if (index.isEmpty()) {
+			return new ClientImpact(client, List.of());
+		}
+
+		try (JarFile jar = new JarFile(client.toFile(), false, ZipFile.OPEN_READ, Runtime.version())) {
+			List<JarEntry> classes = jar.versionedStream()
+				.filter(entry -> !entry.isDirectory() && entry.getName().endsWith(".class"))
+				.toList();
+			Map<String, ClientType> clientTypes = new HashMap<>();
+			classes.forEach(entry -> readClientType(jar, entry, clientTypes));
+			Hierarchy hierarchy = new Hierarchy(clientTypes);
+			List<ClientImpact.Hit> hits = new ArrayList<>();
+			classes.forEach(entry -> scanEntry(jar, entry, hierarchy, hits));
+			return new ClientImpact(client, hits);
+		} catch (IOException e) {
+			throw new RoseauException("Failed to process client JAR file " + client, e);
+		}
+	}
+
+	/**
+	 * Scans a single class file. Without the rest of the client, members referenced through the class itself are
+	 * resolved up its hierarchy, but members referenced through other client types are not.
+	 *
+	 * @param bytes the content of the class file
+	 * @return the uses of breaking changes found in the class
+	 */
+	public List<ClientImpact.Hit> scan(byte[] bytes) {
+		ClassReader reader = new ClassReader(bytes);
+		Map<String, ClientType> clientTypes = new HashMap<>();
+		readClientType(reader, clientTypes);
+		List<ClientImpact.Hit> hits = new ArrayList<>();
+		scan(reader, new Hierarchy(clientTypes), hits);
+		return hits;
+	}
+
+	private void readClientType(JarFile jar, JarEntry entry, Map<String, ClientType> clientTypes) {
+		try (InputStream is = jar.getInputStream(entry)) {
+			readClientType(new ClassReader(is), clientTypes);
+		} catch (IOException | RuntimeException e) {
+			LOGGER.error("Error processing client JAR entry {}", entry.getName(), e);
+		}
+	}
+
+	private static void readClientType(ClassReader reader, Map<String, ClientType> clientTypes) {
+		List<String> supertypes = new ArrayList<>();
+		if (reader.getSuperName() != null) {
+			supertypes.add(reader.getSuperName());
+		}
+		supertypes.addAll(Arrays.asList(reader.getInterfaces()));
+		Set<String> members = new HashSet<>();
+		reader.accept(new ClassVisitor(ASM_VERSION) {
+			@Override
+			public FieldVisitor visitField(int access, String name, String descriptor, String signature, Object value) {
+				members.add(name);
+				return null;
+			}
+
+			@Override
+			public MethodVisitor visitMethod(int access, String name, String descriptor, String signature,
+			                                 String[] exceptions) {
+				members.add(name + parameters(descriptor));
+				return null;
+			}
+		}, ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+		clientTypes.put(reader.getClassName(), new ClientType(supertypes, members));
+	}
+
+	private void scanEntry(JarFile jar, JarEntry entry, Hierarchy hierarchy, List<ClientImpact.Hit> hits) {
+		try (InputStream is = jar.getInputStream(entry)) {
+			scan(new ClassReader(is), hierarchy, hits);
+		} catch (IOException | RuntimeException e) {
+			LOGGER.error("Error processing client JAR entry {}", entry.getName(), e);
+		}
+	}
+
+	private void scan(ClassReader reader, Hierarchy hierarchy, List<ClientImpact.Hit> hits) {
+		if (referencesImpactedType(reader, hierarchy)) {
+			reader.accept(new ImpactClassVisitor(hierarchy, hits), PARSING_OPTIONS);
+		}
+	}
+
+	private static String parameters(String descriptor) {
+		return descriptor.substring(0, descriptor.indexOf(')') + 1);
+	}
+
+	/**
+	 * The supertypes and declared members (fields by name, methods by name and parameter descriptor) of a client type.
+	 */
+	private record ClientType(List<String> supertypes, Set<String> members) {
+	}
+
+	/**
+	 * Resolves members referenced through client types up the client's hierarchy.
+	 */
+	private final class Hierarchy {
+		private final Map<String, ClientType> clientTypes;
+		private final Map<String, Boolean> inheritsImpactedType = new HashMap<>();
+
+		Hierarchy(Map<String, ClientType> clientTypes) {
+			this.clientTypes = clientTypes;
+		}
+
+		// Whether the type is impacted, or a client type inheriting from an impacted type
+		boolean isImpacted(String internalName) {
+			if (index.isImpactedType(internalName)) {
+				return true;
+			}
+			ClientType type = clientTypes.get(internalName);
+			if (type == null) {
+				return false;
+			}
+			Boolean impacted = inheritsImpactedType.get(internalName);
+			if (impacted == null) {
+				// Guards against cyclic hierarchies in malformed JARs
+				inheritsImpactedType.put(internalName, false);
+				impacted = type.supertypes().stream().anyMatch(this::isImpacted);
+				inheritsImpactedType.put(internalName, impacted);
+			}
+			return impacted;
+		}
+
+		List<DetachedReport.Entry> getFieldImpacts(String owner, String name) {
+			return resolve(owner, name, library -> index.getFieldImpacts(library, name), new HashSet<>());
+		}
+
+		List<DetachedReport.Entry> getMethodImpacts(String owner, String name, String descriptor) {
+			// Constructors are not inherited
+			if ("<init>".equals(name)) {
+				return index.getMethodImpacts(owner, name, descriptor);
+			}
+			return resolve(owner, name + parameters(descriptor),
+				library -> index.getMethodImpacts(library, name, descriptor), new HashSet<>());
+		}
+
+		private List<DetachedReport.Entry> resolve(String owner, String member,
+		                                           Function<String, List<DetachedReport.Entry>> lookup,
+		                                           Set<String> visited) {
+			// Library types bundled in the client are still library types
+			List<DetachedReport.Entry> impacts = lookup.apply(owner);
+			ClientType type = clientTypes.get(owner);
+			if (!impacts.isEmpty() || type == null || type.members().contains(member) || !visited.add(owner)) {
+				return impacts;
+			}
+			for (String supertype : type.supertypes()) {
+				impacts = resolve(supertype, member, lookup, visited);
+				if (!impacts.isEmpty()) {
+					return impacts;
+				}
+			}
+			return List.of();
+		}
+	}
+
+	private boolean referencesImpactedType(ClassReader reader, Hierarchy hierarchy) {
+		// Class names and descriptors all end up in CONSTANT_Utf8 entries
+		for (int i = 1; i < reader.getItemCount(); i++) {
+			int offset = reader.getItem(i);
+			if (offset == 0 || reader.readByte(offset - 1) != CONSTANT_UTF8) {
+				continue;
+			}
+			String utf8 = new String(reader.readBytes(offset + 2, reader.readUnsignedShort(offset)),
+				StandardCharsets.UTF_8);
+			if (hierarchy.isImpacted(utf8) || mentionsImpactedType(utf8, hierarchy)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean mentionsImpactedType(String descriptor, Hierarchy hierarchy) {
+		for (int start = descriptor.indexOf('L'); start >= 0; start = descriptor.indexOf('L', start + 1)) {
+			int end = start + 1;
+			while (end < descriptor.length() && descriptor.charAt(end) != ';' && descriptor.charAt(end) != '<') {
+				end++;
+			}
+			if (end < descriptor.length() && hierarchy.isImpacted(descriptor.substring(start + 1, end))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private final class ImpactClassVisitor extends ClassVisitor {
+		private final Hierarchy hierarchy;
+		private final List<ClientImpact.Hit> hits;
+		private String className;
+		private List<String> supertypes = List.of();
+
+		ImpactClassVisitor(Hierarchy hierarchy, List<ClientImpact.Hit> hits) {
+			super(ASM_VERSION);
+			this.hierarchy = hierarchy;
+			this.hits = hits;
+		}
+
+		@Override
+		public void visit(int version, int access, String name, String signature, String superName,
+		                  String[] interfaces) {
+			className = name.replace('/', '.');
+			supertypes = new ArrayList<>();
+			if (superName != null) {
+				supertypes.add(superName);
+			}
+			if (interfaces != null) {
+				supertypes.addAll(Arrays.asList(interfaces));
+			}
+			supertypes.forEach(supertype -> checkType(supertype, "", -1));
+		}
+
+		@Override
+		public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+			checkDescriptor(descriptor, "", -1);
+			return null;
+		}
+
+		@Override
+		public FieldVisitor visitField(int access, String name, String descriptor, String signature, Object value) {
+			checkDescriptor(descriptor, name, -1);
+			return new FieldVisitor(ASM_VERSION) {
+				@Override
+				public AnnotationVisitor visitAnnotation(String annotation, boolean visible) {
+					checkDescriptor(annotation, name, -1);
+					return null;
+				}
+			};
+		}
+
+		@Override
+		public MethodVisitor visitMethod(int access, String name, String descriptor, String signature,
+		                                 String[] exceptions) {
+			String member = Arrays.stream(Type.getArgumentTypes(descriptor))
+				.map(Type::getClassName)
+				.collect(Collectors.joining(",", name + "(", ")"));
+			checkDescriptor(descriptor, member, -1);
+			if (exceptions != null) {
+				Arrays.stream(exceptions).forEach(exception -> checkType(exception, member, -1));
+			}
+			// Overriding an impacted method, e.g., one that is now final
+			if ((access & (Opcodes.ACC_STATIC | Opcodes.ACC_PRIVATE)) == 0 && !"<init>".equals(name)) {
+				supertypes.forEach(supertype ->
+					report(hierarchy.getMethodImpacts(supertype, name, descriptor), member, -1));
+			}
+			return new ImpactMethodVisitor(member);
+		}
+
+		private void checkType(String internalName, String member, int line) {
+			if (internalName.startsWith("[")) {
+				checkDescriptor(internalName, member, line);
+			} else {
+				report(index.getTypeImpacts(internalName), member, line);
+			}
+		}
+
+		private void checkDescriptor(String descriptor, String member, int line) {
+			int start = descriptor.indexOf('L');
+			while (start >= 0) {
+				int end = descriptor.indexOf(';', start);
+				if (end < 0) {
+					return;
+				}
+				report(index.getTypeImpacts(descriptor.substring(start + 1, end)), member, line);
+				start = descriptor.indexOf('L', end);
+			}
+		}
+
+		private void report(List<DetachedReport.Entry> impacts, String member, int line) {
+			impacts.forEach(bc -> hits.add(new ClientImpact.Hit(className, member, line, bc)));
+		}
+
+		private final class ImpactMethodVisitor extends MethodVisitor {
+			private final String member;
+			private int line = -1;
+
+			ImpactMethodVisitor(String member) {
+				super(ASM_VERSION);
+				this.member = member;
+			}
+
+			@Override
+			public void visitLineNumber(int line, Label start) {
+				this.line = line;
+			}
+
+			@Override
+			public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+				checkDescriptor(descriptor, member, line);
+				return null;
+			}
+
+			@Override
+			public void visitTypeInsn(int opcode, String type) {
+				checkType(type, member, line);
+			}
+
+			@Override
+			public void visitFieldInsn(int opcode, String owner, String name, String descriptor) {
+				checkType(owner, member, line);
+				checkDescriptor(descriptor, member, line);
+				report(hierarchy.getFieldImpacts(owner, name), member, line);
+			}
+
+			@Override
+			public void visitMethodInsn(int opcode, String owner, String name, String descriptor, boolean isInterface) {
+				checkType(owner, member, line);
+				checkDescriptor(descriptor, member, line);
+				report(hierarchy.getMethodImpacts(owner, name, descriptor), member, line);
+			}
+
+			@Override
+			public void visitInvokeDynamicInsn(String name, String descriptor, Handle bootstrap, Object... arguments) {
+				checkDescriptor(descriptor, member, line);
+				for (Object argument : arguments) {
+					checkConstant(argument);
+				}
+			}
+
+			@Override
+			public void visitLdcInsn(Object value) {
+				checkConstant(value);
+			}
+
+			@Override
+			public void visitMultiANewArrayInsn(String descriptor, int numDimensions) {
+				checkDescriptor(descriptor, member, line);
+			}
+
+			@Override
+			public void visitTryCatchBlock(Label start, Label end, Label handler, String type) {
+				if (type != null) {
+					checkType(type, member, -1);
+				}
+			}
+
+			private void checkConstant(Object constant) {
+				switch (constant) {
+					case Type type -> checkDescriptor(type.getDescriptor(), member, line);
+					// Method references and lambdas
+					case Handle handle -> {
+						checkType(handle.getOwner(), member, line);
+						report(handle.getTag() <= Opcodes.H_PUTSTATIC
+							? hierarchy.getFieldImpacts(handle.getOwner(), handle.getName())
+							: hierarchy.getMethodImpacts(handle.getOwner(), handle.getName(), handle.getDesc()), member, line);
+					}
+					default -> {
+					}
+				}
+			}
+		}
+	}
+}
@@ -1,6 +1,7 @@
 package io.github.alien.roseau.extractors.asm;
 
 import com.google.common.base.Preconditions;
+import io.github.alien.roseau.Deadline;
 import io.github.alien.roseau.Library;
 import io.github.alien.roseau.RoseauException;
 import io.github.alien.roseau.api.model.LibraryTypes;
@@ -9,6 +10,7 @@ import io.github.alien.roseau.api.model.TypeDecl;
 import io.github.alien.roseau.api.model.factory.ApiFactory;
 import io.github.alien.roseau.extractors.ExtractorSink;
 import io.github.alien.roseau.extractors.TypesExtractor;
+import io.github.alien.roseau.metrics.Metrics;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.objectweb.asm.ClassReader;
@@ -16,6 +18,7 @@ import org.objectweb.asm.Opcodes;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Map;
 import java.util.Set;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
@@ -39,14 +42,41 @@ public class AsmTypesExtractor implements TypesExtractor {
 
 	@Override
 	public LibraryTypes extractTypes(Library library) {
+		return extractTypes(library, Deadline.none());
+	}
+
+	@Override
+	public LibraryTypes extractTypes(Library library, Deadline deadline) {
 		Preconditions.checkArgument(canExtract(library));
+		Preconditions.checkNotNull(deadline);
 		try (JarFile jar = new JarFile(library.getLocation().toFile(), false, ZipFile.OPEN_READ, Runtime.version())) {
-			return extractTypes(library, jar);
+			return extractTypes(library, jar, deadline);
 		} catch (IOException e) {
 			throw new RoseauException("Failed to process JAR file", e);
 		}
 	}
 
+	/**
+	 * Extracts the {@link LibraryTypes} of in-memory class files, e.g., classes compiled in memory and packaged as the
+	 * given library. As for JAR files, anonymous classes are skipped and a {@code module-info} class declares the
+	 * library's module.
+	 *
+	 * @param library the library the classes belong to
+	 * @param classes the class files, indexed by entry or binary name (e.g., {@code pkg/A.class} or {@code pkg.A})
+	 * @return the extracted {@link LibraryTypes}
+	 * @throws RoseauException if the classes contain multiple module declarations
+	 */
+	public LibraryTypes extractTypes(Library library, Map<String, byte[]> classes) {
+		Preconditions.checkNotNull(library);
+		Preconditions.checkNotNull(classes);
+		ExtractorSink sink = new ExtractorSink(classes.size() << 1);
+		classes.entrySet().parallelStream()
+			.filter(e -> !ANONYMOUS_MATCHER.matcher(e.getKey()).find())
+			.forEach(e -> processEntry(e.getValue(), sink));
+
+		return toLibraryTypes(library, sink);
+	}
+
 	public boolean canExtract(Library library) {
 		return library != null && library.isJar();
 	}
@@ -54,15 +84,22 @@ public class AsmTypesExtractor implements TypesExtractor {
 	/**
 	 * Extracts the {@link LibraryTypes} stored in the provided JAR file.
 	 *
-	 * @param jar the JAR file to analyze
+	 * @param jar      the JAR file to analyze
+	 * @param deadline the deadline after which remaining entries are skipped
 	 * @return the extracted {@link LibraryTypes}
 	 */
-	private LibraryTypes extractTypes(Library library, JarFile jar) {
+	private LibraryTypes extractTypes(Library library, JarFile jar, Deadline deadline) {
 		ExtractorSink sink = new ExtractorSink(jar.size() << 1);
 		jar.versionedStream().parallel()
 			.filter(this::isRegularClassFile)
+			.filter(_ -> !deadline.isExpired())
 			.forEach(entry -> processEntry(jar, entry, sink));
+		deadline.check("extracting types from " + library.getLocation());
+
+		return toLibraryTypes(library, sink);
+	}
 
+	private static LibraryTypes toLibraryTypes(Library library, ExtractorSink sink) {
 		Set<TypeDecl> types = sink.getTypes();
 		Set<ModuleDecl> modules = sink.getModules();
 		return switch (modules.size()) {
@@ -73,12 +110,15 @@ public class AsmTypesExtractor implements TypesExtractor {
 	}
 
 	public void processEntry(JarFile jar, JarEntry entry, ExtractorSink sink) {
+		long start = Metrics.startEntryExtraction();
 		try (InputStream is = jar.getInputStream(entry)) {
 			ClassReader reader = new ClassReader(is);
 			AsmClassVisitor visitor = new AsmClassVisitor(ASM_VERSION, sink, factory);
 			reader.accept(visitor, PARSING_OPTIONS);
 		} catch (IOException e) {
 			LOGGER.error("Error processing JAR entry {}", entry.getName(), e);
+		} finally {
+			Metrics.entryExtracted(entry.getName(), start);
 		}
 	}
 
@@ -1,6 +1,7 @@
 package io.github.alien.roseau.extractors.jdt;
 
 import com.google.common.base.Preconditions;
+import io.github.alien.roseau.Deadline;
 import io.github.alien.roseau.Library;
 import io.github.alien.roseau.RoseauException;
 import io.github.alien.roseau.api.model.LibraryTypes;
@@ -9,8 +10,12 @@ import io.github.alien.roseau.api.model.TypeDecl;
 import io.github.alien.roseau.api.model.factory.ApiFactory;
 import io.github.alien.roseau.extractors.ExtractorSink;
 import io.github.alien.roseau.extractors.TypesExtractor;
+import io.github.alien.roseau.metrics.Metrics;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.compiler.IProblem;
 import org.eclipse.jdt.core.dom.AST;
@@ -45,13 +50,19 @@ public final class JdtTypesExtractor implements TypesExtractor {
 
 	@Override
 	public LibraryTypes extractTypes(Library library) {
+		return extractTypes(library, Deadline.none());
+	}
+
+	@Override
+	public LibraryTypes extractTypes(Library library, Deadline deadline) {
 		Preconditions.checkArgument(canExtract(library));
+		Preconditions.checkNotNull(deadline);
 		try (Stream<Path> files = Files.walk(library.getLocation())) {
 			Set<Path> sourceFiles = files
 				.filter(JdtTypesExtractor::isRegularJavaFile)
 				.collect(Collectors.toSet());
 
-			ParsingResult result = parseTypes(library, sourceFiles);
+			ParsingResult result = parseTypes(library, sourceFiles, deadline);
 			Set<TypeDecl> types = result.types();
 			Set<ModuleDecl> modules = result.modules();
 
@@ -66,6 +77,10 @@ public final class JdtTypesExtractor implements TypesExtractor {
 	}
 
 	ParsingResult parseTypes(Library library, Set<Path> sourcesToParse) {
+		return parseTypes(library, sourcesToParse, Deadline.none());
+	}
+
+	ParsingResult parseTypes(Library library, Set<Path> sourcesToParse, Deadline deadline) {
 		String[] sourcesArray = sourcesToParse.stream()
 			.map(Path::toString)
 			.toArray(String[]::new);
@@ -109,10 +124,25 @@ public final class JdtTypesExtractor implements TypesExtractor {
 			}
 		};
 
+		// JDT polls the monitor between compilation units and aborts once it is cancelled
+		IProgressMonitor monitor = new NullProgressMonitor() {
+			@Override
+			public boolean isCanceled() {
+				return deadline.isExpired();
+			}
+		};
+
 		// Start parsing and forwarding ASTs
+		long start = Metrics.startSourcesParsing();
 		try {
-			parser.createASTs(sourcesArray, null, new String[0], requestor, null);
+			parser.createASTs(sourcesArray, null, new String[0], requestor, monitor);
+			deadline.check("parsing sources from " + library.getLocation());
+			Metrics.sourcesParsed(library.getLocation(), sourcesArray.length, start);
 			return new ParsingResult(sink.getTypes(), sink.getModules());
+		} catch (OperationCanceledException e) {
+			throw new RoseauException("Time budget exceeded while parsing sources from " + library.getLocation(), e);
+		} catch (RoseauException e) {
+			throw e;
 		} catch (RuntimeException e) {
 			// Catching JDT's internal messy errors
 			throw new RoseauException("JDT failed to parse code from " + library.getLocation(), e);
@@ -0,0 +1,64 @@
+package io.github.alien.roseau.impact;
+
+import com.google.common.base.Preconditions;
+import io.github.alien.roseau.diff.DetachedReport;
+
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The uses of breaking changes found in a client's bytecode.
+ *
+ * @param client the client JAR
+ * @param hits   the uses of breaking changes, ordered by client type, member, and line
+ */
+public record ClientImpact(
+	Path client,
+	List<Hit> hits
+) {
+	public ClientImpact {
+		Preconditions.checkNotNull(client);
+		Preconditions.checkNotNull(hits);
+		hits = hits.stream()
+			.distinct()
+			.sorted(Comparator.comparing(Hit::type)
+				.thenComparing(Hit::member)
+				.thenComparingInt(Hit::line)
+				.thenComparing(hit -> hit.breakingChange().symbol())
+				.thenComparing(hit -> hit.breakingChange().kind()))
+			.toList();
+	}
+
+	/**
+	 * A use of a breaking change in a client.
+	 *
+	 * @param type           the qualified name of the client type using the impacted symbol
+	 * @param member         the client member using the impacted symbol, e.g., {@code m(int)}, or an empty string if
+	 *                       the use is in the type's declaration (supertypes, annotations)
+	 * @param line           the line of the use, or -1 if unknown
+	 * @param breakingChange the breaking change the client runs into
+	 */
+	public record Hit(
+		String type,
+		String member,
+		int line,
+		DetachedReport.Entry breakingChange
+	) {
+		public Hit {
+			Preconditions.checkNotNull(type);
+			Preconditions.checkNotNull(breakingChange);
+			member = Objects.requireNonNullElse(member, "");
+		}
+	}
+
+	/**
+	 * Whether the client uses at least one breaking change.
+	 *
+	 * @return true if the client is impacted
+	 */
+	public boolean isImpacted() {
+		return !hits.isEmpty();
+	}
+}
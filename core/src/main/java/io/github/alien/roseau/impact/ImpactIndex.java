@@ -0,0 +1,214 @@
+package io.github.alien.roseau.impact;
+
+import com.google.common.base.Preconditions;
+import io.github.alien.roseau.api.model.API;
+import io.github.alien.roseau.api.model.ClassDecl;
+import io.github.alien.roseau.api.model.ConstructorDecl;
+import io.github.alien.roseau.api.model.FieldDecl;
+import io.github.alien.roseau.api.model.MethodDecl;
+import io.github.alien.roseau.api.model.TypeDecl;
+import io.github.alien.roseau.api.model.reference.TypeReference;
+import io.github.alien.roseau.diff.DetachedReport;
+import io.github.alien.roseau.diff.RoseauReport;
+import io.github.alien.roseau.diff.changes.BreakingChange;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * A hashed index of the symbols impacted by the breaking changes of a {@link RoseauReport}, used to look up the
+ * breaking changes a client's bytecode runs into.
+ * <p>
+ * Types are indexed by their internal JVM name (e.g., {@code pkg/Outer$Inner}), fields by their owner and name, and
+ * methods and constructors by their owner, name, and erased parameter descriptor, including the implicit outer
+ * instance parameter of inner class constructors. Since client bytecode references members through the static type
+ * of their receiver, impacted fields and methods are indexed under their declaring type and every library subtype that
+ * inherits them. Subtypes declared by clients are resolved by {@link
+ * io.github.alien.roseau.extractors.asm.AsmClientScanner}. The index retains no reference to the underlying APIs.
+ */
+public final class ImpactIndex {
+	private static final Map<String, String> PRIMITIVE_DESCRIPTORS = Map.of(
+		"boolean", "Z", "byte", "B", "char", "C", "short", "S",
+		"int", "I", "long", "J", "float", "F", "double", "D", "void", "V");
+
+	private final Map<String, List<DetachedReport.Entry>> typeImpacts;
+	private final Map<String, List<DetachedReport.Entry>> memberImpacts;
+	private final Set<String> impactedTypes;
+
+	private ImpactIndex(Map<String, List<DetachedReport.Entry>> typeImpacts,
+	                    Map<String, List<DetachedReport.Entry>> memberImpacts) {
+		this.typeImpacts = typeImpacts;
+		this.memberImpacts = memberImpacts;
+		this.impactedTypes = new HashSet<>(typeImpacts.keySet());
+		memberImpacts.keySet().forEach(key -> impactedTypes.add(key.substring(0, key.indexOf('.'))));
+	}
+
+	/**
+	 * Indexes the breaking changes of the given report, see {@link RoseauReport#getBreakingChanges()}.
+	 *
+	 * @param report the report to index
+	 * @return the new index
+	 */
+	public static ImpactIndex of(RoseauReport report) {
+		Preconditions.checkNotNull(report);
+		API v1 = report.v1();
+		Map<String, List<DetachedReport.Entry>> types = new HashMap<>();
+		Map<String, List<DetachedReport.Entry>> members = new HashMap<>();
+		Map<String, List<TypeDecl>> subtypes = null;
+
+		for (BreakingChange bc : report.getBreakingChanges()) {
+			DetachedReport.Entry entry = DetachedReport.Entry.of(bc);
+			String impactedType = toInternalName(bc.impactedType().getQualifiedName());
+			switch (bc.impactedSymbol()) {
+				case TypeDecl _ -> types.computeIfAbsent(impactedType, _ -> new ArrayList<>()).add(entry);
+				case FieldDecl f -> {
+					subtypes = subtypes != null ? subtypes : subtypes(v1);
+					String name = "." + f.getSimpleName();
+					index(members, impactedType + name, entry);
+					index(members, toInternalName(f.getContainingType().getQualifiedName()) + name, entry);
+					for (TypeDecl subtype : subtypes.getOrDefault(f.getContainingType().getQualifiedName(), List.of())) {
+						if (v1.findField(subtype, f.getSimpleName()).filter(f::equals).isPresent()) {
+							index(members, toInternalName(subtype.getQualifiedName()) + name, entry);
+						}
+					}
+				}
+				case MethodDecl m -> {
+					subtypes = subtypes != null ? subtypes : subtypes(v1);
+					String erasure = v1.getErasure(m);
+					String name = "." + methodKey(erasure, "");
+					index(members, impactedType + name, entry);
+					index(members, toInternalName(m.getContainingType().getQualifiedName()) + name, entry);
+					for (TypeDecl subtype : subtypes.getOrDefault(m.getContainingType().getQualifiedName(), List.of())) {
+						if (v1.findMethod(subtype, erasure).filter(m::equals).isPresent()) {
+							index(members, toInternalName(subtype.getQualifiedName()) + name, entry);
+						}
+					}
+				}
+				// Constructors are not inherited
+				case ConstructorDecl c -> index(members, toInternalName(c.getContainingType().getQualifiedName()) + "." +
+					methodKey(v1.getErasure(c), outerInstanceDescriptor(v1, bc.impactedType())), entry);
+				default -> throw new IllegalStateException("Unexpected impacted symbol " + bc.impactedSymbol());
+			}
+		}
+
+		return new ImpactIndex(types, members);
+	}
+
+	// Maps the exported types to their exported subtypes, direct or not
+	private static Map<String, List<TypeDecl>> subtypes(API api) {
+		Map<String, List<TypeDecl>> subtypes = new HashMap<>();
+		for (TypeDecl type : api.getExportedTypes()) {
+			for (TypeReference<TypeDecl> supertype : api.getAllSuperTypes(type)) {
+				subtypes.computeIfAbsent(supertype.getQualifiedName(), _ -> new ArrayList<>()).add(type);
+			}
+		}
+		return subtypes;
+	}
+
+	// Constructors of inner (non-static) classes take their enclosing instance as implicit first parameter
+	private static String outerInstanceDescriptor(API api, TypeDecl type) {
+		if (type instanceof ClassDecl && !type.isEnum() && !type.isRecord() && !type.isStatic()) {
+			return type.getEnclosingType()
+				.flatMap(enclosing -> api.resolver().resolve(enclosing))
+				.filter(enclosing -> !enclosing.isInterface())
+				.map(enclosing -> toDescriptor(enclosing.getQualifiedName()))
+				.orElse("");
+		}
+		return "";
+	}
+
+	private static void index(Map<String, List<DetachedReport.Entry>> index, String key, DetachedReport.Entry entry) {
+		List<DetachedReport.Entry> entries = index.computeIfAbsent(key, _ -> new ArrayList<>());
+		if (!entries.contains(entry)) {
+			entries.add(entry);
+		}
+	}
+
+	/**
+	 * Whether this index contains no breaking change at all, in which case no client can be impacted.
+	 *
+	 * @return true if this index is empty
+	 */
+	public boolean isEmpty() {
+		return impactedTypes.isEmpty();
+	}
+
+	/**
+	 * Checks whether a type, or one of its members, is impacted by a breaking change. This is a cheap check meant
+	 * to discard client classes that do not reference any impacted type before analyzing them further.
+	 *
+	 * @param internalName the internal JVM name of the type, e.g., {@code pkg/Outer$Inner}
+	 * @return true if the type or one of its members is impacted
+	 */
+	public boolean isImpactedType(String internalName) {
+		return impactedTypes.contains(internalName);
+	}
+
+	/**
+	 * Returns the breaking changes impacting a type as a whole, e.g., its removal.
+	 *
+	 * @param internalName the internal JVM name of the type
+	 * @return the breaking changes impacting the type, possibly empty
+	 */
+	public List<DetachedReport.Entry> getTypeImpacts(String internalName) {
+		return typeImpacts.getOrDefault(internalName, List.of());
+	}
+
+	/**
+	 * Returns the breaking changes impacting a field accessed through the given owner.
+	 *
+	 * @param owner the internal JVM name of the field's owner, as found in a field instruction
+	 * @param name  the field's name
+	 * @return the breaking changes impacting the field, possibly empty
+	 */
+	public List<DetachedReport.Entry> getFieldImpacts(String owner, String name) {
+		if (!impactedTypes.contains(owner)) {
+			return List.of();
+		}
+		return memberImpacts.getOrDefault(owner + "." + name, List.of());
+	}
+
+	/**
+	 * Returns the breaking changes impacting a method or constructor invoked through the given owner.
+	 *
+	 * @param owner      the internal JVM name of the method's owner, as found in a method instruction
+	 * @param name       the method's name, {@code <init>} for constructors
+	 * @param descriptor the method's descriptor; its return type is ignored
+	 * @return the breaking changes impacting the method, possibly empty
+	 */
+	public List<DetachedReport.Entry> getMethodImpacts(String owner, String name, String descriptor) {
+		if (!impactedTypes.contains(owner)) {
+			return List.of();
+		}
+		return memberImpacts.getOrDefault(
+			owner + "." + name + descriptor.substring(0, descriptor.indexOf(')') + 1), List.of());
+	}
+
+	private static String methodKey(String erasure, String implicitParameters) {
+		int open = erasure.indexOf('(');
+		String parameters = erasure.substring(open + 1, erasure.length() - 1);
+		return erasure.substring(0, open) + (parameters.isEmpty()
+			? "(" + implicitParameters + ")"
+			: Arrays.stream(parameters.split(","))
+				.map(ImpactIndex::toDescriptor)
+				.collect(Collectors.joining("", "(" + implicitParameters, ")")));
+	}
+
+	private static String toDescriptor(String typeName) {
+		if (typeName.endsWith("[]")) {
+			return "[" + toDescriptor(typeName.substring(0, typeName.length() - 2));
+		}
+		String primitive = PRIMITIVE_DESCRIPTORS.get(typeName);
+		return primitive != null ? primitive : "L" + toInternalName(typeName) + ";";
+	}
+
+	private static String toInternalName(String qualifiedName) {
+		return qualifiedName.replace('.', '/');
+	}
+}
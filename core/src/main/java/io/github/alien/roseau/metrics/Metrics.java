@@ -0,0 +1,197 @@
+package io.github.alien.roseau.metrics;
+
+import com.google.common.base.Preconditions;
+import jdk.jfr.Event;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Instrumentation entry point of Roseau's pipeline. Each step is reported both as a JFR event (see
+ * {@link RoseauEvents}) and to the registered {@link RoseauMetrics} listeners.
+ * <p>
+ * Instrumentation is designed to cost next to nothing when unused: {@code start*} methods only read the clock when
+ * either a listener is registered or the corresponding JFR event is enabled, and return {@link #NOT_STARTED}
+ * otherwise, in which case recording is a no-op.
+ */
+public final class Metrics {
+	/**
+	 * The marker returned by {@code start*} methods when the measure is disabled.
+	 */
+	public static final long NOT_STARTED = Long.MIN_VALUE;
+
+	private static final List<RoseauMetrics> LISTENERS = new CopyOnWriteArrayList<>();
+	private static volatile boolean hasListeners = false;
+
+	// Event instances are only used to check whether their type is enabled
+	private static final Event ENTRY_PROBE = new RoseauEvents.EntryExtracted();
+	private static final Event SOURCES_PROBE = new RoseauEvents.SourcesParsed();
+	private static final Event RESOLUTION_PROBE = new RoseauEvents.TypeResolved();
+	private static final Event CACHE_PROBE = new RoseauEvents.AnalyzerCacheAccessed();
+	private static final Event WALK_PROBE = new RoseauEvents.TypeWalked();
+	private static final Event RULE_PROBE = new RoseauEvents.RuleEvaluated();
+	private static final Event FORMAT_PROBE = new RoseauEvents.ReportFormatted();
+
+	private Metrics() {
+
+	}
+
+	/**
+	 * Registers a new listener.
+	 *
+	 * @param listener the listener to register
+	 */
+	public static void register(RoseauMetrics listener) {
+		Preconditions.checkNotNull(listener);
+		LISTENERS.add(listener);
+		hasListeners = true;
+	}
+
+	/**
+	 * Unregisters a previously registered listener.
+	 *
+	 * @param listener the listener to unregister
+	 */
+	public static void unregister(RoseauMetrics listener) {
+		LISTENERS.remove(listener);
+		hasListeners = !LISTENERS.isEmpty();
+	}
+
+	public static long startEntryExtraction() {
+		return start(ENTRY_PROBE);
+	}
+
+	public static void entryExtracted(String entry, long start) {
+		if (start == NOT_STARTED) {
+			return;
+		}
+
+		long nanos = System.nanoTime() - start;
+		RoseauEvents.EntryExtracted event = new RoseauEvents.EntryExtracted();
+		if (event.isEnabled()) {
+			event.entry = entry;
+			event.elapsed = nanos;
+			event.commit();
+		}
+		LISTENERS.forEach(listener -> listener.onEntryExtracted(entry, nanos));
+	}
+
+	public static long startSourcesParsing() {
+		return start(SOURCES_PROBE);
+	}
+
+	public static void sourcesParsed(Path location, int files, long start) {
+		if (start == NOT_STARTED) {
+			return;
+		}
+
+		long nanos = System.nanoTime() - start;
+		RoseauEvents.SourcesParsed event = new RoseauEvents.SourcesParsed();
+		if (event.isEnabled()) {
+			event.location = location.toString();
+			event.files = files;
+			event.elapsed = nanos;
+			event.commit();
+		}
+		LISTENERS.forEach(listener -> listener.onSourcesParsed(location, files, nanos));
+	}
+
+	public static long startTypeResolution() {
+		return start(RESOLUTION_PROBE);
+	}
+
+	public static void typeResolved(Object provider, String type, boolean resolved, long start) {
+		if (start == NOT_STARTED) {
+			return;
+		}
+
+		long nanos = System.nanoTime() - start;
+		String providerName = provider.getClass().getSimpleName();
+		RoseauEvents.TypeResolved event = new RoseauEvents.TypeResolved();
+		if (event.isEnabled()) {
+			event.provider = providerName;
+			event.type = type;
+			event.resolved = resolved;
+			event.elapsed = nanos;
+			event.commit();
+		}
+		LISTENERS.forEach(listener -> listener.onTypeResolved(providerName, type, resolved, nanos));
+	}
+
+	public static void analyzerCacheAccessed(String cache, boolean hit) {
+		if (!hasListeners && !CACHE_PROBE.isEnabled()) {
+			return;
+		}
+
+		RoseauEvents.AnalyzerCacheAccessed event = new RoseauEvents.AnalyzerCacheAccessed();
+		if (event.isEnabled()) {
+			event.cache = cache;
+			event.hit = hit;
+			event.commit();
+		}
+		LISTENERS.forEach(listener -> listener.onAnalyzerCacheAccessed(cache, hit));
+	}
+
+	public static long startTypeWalk() {
+		return start(WALK_PROBE);
+	}
+
+	public static void typeWalked(String type, long start) {
+		if (start == NOT_STARTED) {
+			return;
+		}
+
+		long nanos = System.nanoTime() - start;
+		RoseauEvents.TypeWalked event = new RoseauEvents.TypeWalked();
+		if (event.isEnabled()) {
+			event.type = type;
+			event.elapsed = nanos;
+			event.commit();
+		}
+		LISTENERS.forEach(listener -> listener.onTypeWalked(type, nanos));
+	}
+
+	public static long startRuleEvaluation() {
+		return start(RULE_PROBE);
+	}
+
+	public static void ruleEvaluated(Object rule, long start) {
+		if (start == NOT_STARTED) {
+			return;
+		}
+
+		long nanos = System.nanoTime() - start;
+		String ruleName = rule.getClass().getSimpleName();
+		RoseauEvents.RuleEvaluated event = new RoseauEvents.RuleEvaluated();
+		if (event.isEnabled()) {
+			event.rule = ruleName;
+			event.elapsed = nanos;
+			event.commit();
+		}
+		LISTENERS.forEach(listener -> listener.onRuleEvaluated(ruleName, nanos));
+	}
+
+	public static long startReportFormatting() {
+		return start(FORMAT_PROBE);
+	}
+
+	public static void reportFormatted(String format, long start) {
+		if (start == NOT_STARTED) {
+			return;
+		}
+
+		long nanos = System.nanoTime() - start;
+		RoseauEvents.ReportFormatted event = new RoseauEvents.ReportFormatted();
+		if (event.isEnabled()) {
+			event.format = format;
+			event.elapsed = nanos;
+			event.commit();
+		}
+		LISTENERS.forEach(listener -> listener.onReportFormatted(format, nanos));
+	}
+
+	private static long start(Event probe) {
+		return hasListeners || probe.isEnabled() ? System.nanoTime() : NOT_STARTED;
+	}
+}
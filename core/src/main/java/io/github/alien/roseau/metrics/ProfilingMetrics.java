@@ -0,0 +1,165 @@
+package io.github.alien.roseau.metrics;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * A {@link RoseauMetrics} implementation that aggregates timings per type, rule, JAR entry, type provider, and
+ * analyzer cache, e.g., to identify the slowest parts of a diff.
+ */
+public final class ProfilingMetrics implements RoseauMetrics {
+	private final Map<String, Aggregate> entries = new ConcurrentHashMap<>();
+	private final Map<String, Aggregate> parsing = new ConcurrentHashMap<>();
+	private final Map<String, Aggregate> resolutionHits = new ConcurrentHashMap<>();
+	private final Map<String, Aggregate> resolutionMisses = new ConcurrentHashMap<>();
+	private final Map<String, Aggregate> cacheHits = new ConcurrentHashMap<>();
+	private final Map<String, Aggregate> cacheMisses = new ConcurrentHashMap<>();
+	private final Map<String, Aggregate> types = new ConcurrentHashMap<>();
+	private final Map<String, Aggregate> rules = new ConcurrentHashMap<>();
+	private final Map<String, Aggregate> formats = new ConcurrentHashMap<>();
+
+	/**
+	 * The aggregated timing of a given subject.
+	 *
+	 * @param name  the subject, e.g., a type or a rule
+	 * @param count the number of measures
+	 * @param total the total time of all measures
+	 */
+	public record Timing(String name, long count, Duration total) {
+	}
+
+	/**
+	 * The hits and misses of a given cache or type provider.
+	 *
+	 * @param name   the cache or provider
+	 * @param hits   the number of hits
+	 * @param misses the number of misses
+	 */
+	public record HitRate(String name, long hits, long misses) {
+		public double rate() {
+			return hits + misses == 0 ? 0d : (double) hits / (hits + misses);
+		}
+	}
+
+	@Override
+	public void onEntryExtracted(String entry, long nanos) {
+		record(entries, entry, nanos);
+	}
+
+	@Override
+	public void onSourcesParsed(Path location, int files, long nanos) {
+		record(parsing, location.toString(), nanos);
+	}
+
+	@Override
+	public void onTypeResolved(String provider, String type, boolean resolved, long nanos) {
+		record(resolved ? resolutionHits : resolutionMisses, provider, nanos);
+	}
+
+	@Override
+	public void onAnalyzerCacheAccessed(String cache, boolean hit) {
+		record(hit ? cacheHits : cacheMisses, cache, 0L);
+	}
+
+	@Override
+	public void onTypeWalked(String type, long nanos) {
+		record(types, type, nanos);
+	}
+
+	@Override
+	public void onRuleEvaluated(String rule, long nanos) {
+		record(rules, rule, nanos);
+	}
+
+	@Override
+	public void onReportFormatted(String format, long nanos) {
+		record(formats, format, nanos);
+	}
+
+	/**
+	 * Returns the {@code n} types that took the longest to walk, slowest first.
+	 */
+	public List<Timing> slowestTypes(int n) {
+		return slowest(types, n);
+	}
+
+	/**
+	 * Returns the {@code n} rules that took the longest to evaluate overall, slowest first.
+	 */
+	public List<Timing> slowestRules(int n) {
+		return slowest(rules, n);
+	}
+
+	/**
+	 * Returns the {@code n} JAR entries that took the longest to extract, slowest first.
+	 */
+	public List<Timing> slowestEntries(int n) {
+		return slowest(entries, n);
+	}
+
+	/**
+	 * Returns the time spent parsing sources, per library location.
+	 */
+	public List<Timing> parsing() {
+		return slowest(parsing, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Returns the time spent formatting reports, per format.
+	 */
+	public List<Timing> formatting() {
+		return slowest(formats, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Returns the number of types resolved and not resolved by each type provider.
+	 */
+	public List<HitRate> resolutionRates() {
+		return hitRates(resolutionHits, resolutionMisses);
+	}
+
+	/**
+	 * Returns the hit rate of each API analyzer cache.
+	 */
+	public List<HitRate> cacheHitRates() {
+		return hitRates(cacheHits, cacheMisses);
+	}
+
+	private static void record(Map<String, Aggregate> aggregates, String name, long nanos) {
+		Aggregate aggregate = aggregates.computeIfAbsent(name, _ -> new Aggregate());
+		aggregate.count.increment();
+		aggregate.nanos.add(nanos);
+	}
+
+	private static List<Timing> slowest(Map<String, Aggregate> aggregates, int n) {
+		return aggregates.entrySet().stream()
+			.map(e -> new Timing(e.getKey(), e.getValue().count.sum(), Duration.ofNanos(e.getValue().nanos.sum())))
+			.sorted(Comparator.comparing(Timing::total, Comparator.reverseOrder()).thenComparing(Timing::name))
+			.limit(n)
+			.toList();
+	}
+
+	private static List<HitRate> hitRates(Map<String, Aggregate> hits, Map<String, Aggregate> misses) {
+		return Stream.concat(hits.keySet().stream(), misses.keySet().stream())
+			.distinct()
+			.sorted()
+			.map(name -> new HitRate(name, count(hits, name), count(misses, name)))
+			.toList();
+	}
+
+	private static long count(Map<String, Aggregate> aggregates, String name) {
+		Aggregate aggregate = aggregates.get(name);
+		return aggregate != null ? aggregate.count.sum() : 0L;
+	}
+
+	private static final class Aggregate {
+		private final LongAdder count = new LongAdder();
+		private final LongAdder nanos = new LongAdder();
+	}
+}
@@ -0,0 +1,121 @@
+package io.github.alien.roseau.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * The JFR events emitted by {@link Metrics}. Durations are measured by Roseau and stored in an {@code elapsed} field,
+ * so the events themselves are instant. High-frequency events are disabled by default and must be explicitly enabled
+ * in the recording settings.
+ */
+final class RoseauEvents {
+	private RoseauEvents() {
+
+	}
+
+	@Name("io.github.alien.roseau.EntryExtracted")
+	@Label("Entry Extracted")
+	@Description("A JAR entry parsed by the ASM extractor")
+	@Category({"Roseau", "Extraction"})
+	@StackTrace(false)
+	@Enabled(false)
+	static final class EntryExtracted extends Event {
+		@Label("Entry")
+		String entry;
+		@Label("Elapsed")
+		@Timespan(Timespan.NANOSECONDS)
+		long elapsed;
+	}
+
+	@Name("io.github.alien.roseau.SourcesParsed")
+	@Label("Sources Parsed")
+	@Description("A batch of source files parsed by the JDT extractor")
+	@Category({"Roseau", "Extraction"})
+	@StackTrace(false)
+	static final class SourcesParsed extends Event {
+		@Label("Location")
+		String location;
+		@Label("Files")
+		int files;
+		@Label("Elapsed")
+		@Timespan(Timespan.NANOSECONDS)
+		long elapsed;
+	}
+
+	@Name("io.github.alien.roseau.TypeResolved")
+	@Label("Type Resolved")
+	@Description("An attempt of a type provider at resolving a type reference")
+	@Category({"Roseau", "Resolution"})
+	@StackTrace(false)
+	@Enabled(false)
+	static final class TypeResolved extends Event {
+		@Label("Provider")
+		String provider;
+		@Label("Type")
+		String type;
+		@Label("Resolved")
+		boolean resolved;
+		@Label("Elapsed")
+		@Timespan(Timespan.NANOSECONDS)
+		long elapsed;
+	}
+
+	@Name("io.github.alien.roseau.AnalyzerCacheAccessed")
+	@Label("Analyzer Cache Accessed")
+	@Description("An access to one of the API analyzer caches")
+	@Category({"Roseau", "Analysis"})
+	@StackTrace(false)
+	@Enabled(false)
+	static final class AnalyzerCacheAccessed extends Event {
+		@Label("Cache")
+		String cache;
+		@Label("Hit")
+		boolean hit;
+	}
+
+	@Name("io.github.alien.roseau.TypeWalked")
+	@Label("Type Walked")
+	@Description("A type and its members walked and compared by the API walker")
+	@Category({"Roseau", "Diff"})
+	@StackTrace(false)
+	static final class TypeWalked extends Event {
+		@Label("Type")
+		String type;
+		@Label("Elapsed")
+		@Timespan(Timespan.NANOSECONDS)
+		long elapsed;
+	}
+
+	@Name("io.github.alien.roseau.RuleEvaluated")
+	@Label("Rule Evaluated")
+	@Description("A breaking change rule evaluated on a symbol")
+	@Category({"Roseau", "Diff"})
+	@StackTrace(false)
+	@Enabled(false)
+	static final class RuleEvaluated extends Event {
+		@Label("Rule")
+		String rule;
+		@Label("Elapsed")
+		@Timespan(Timespan.NANOSECONDS)
+		long elapsed;
+	}
+
+	@Name("io.github.alien.roseau.ReportFormatted")
+	@Label("Report Formatted")
+	@Description("A report formatted in a given format")
+	@Category({"Roseau", "Report"})
+	@StackTrace(false)
+	static final class ReportFormatted extends Event {
+		@Label("Format")
+		String format;
+		@Label("Elapsed")
+		@Timespan(Timespan.NANOSECONDS)
+		long elapsed;
+	}
+}
@@ -0,0 +1,79 @@
+package io.github.alien.roseau.metrics;
+
+import java.nio.file.Path;
+
+/**
+ * A listener notified of the fine-grained steps of Roseau's pipeline, from type extraction to report formatting.
+ * Listeners are registered through {@link Metrics#register(RoseauMetrics)}. All methods have a no-op default
+ * implementation, so implementers only override the ones they care about.
+ * <p>
+ * Listeners are invoked synchronously from the threads doing the work, often concurrently; implementations must thus
+ * be thread-safe and as cheap as possible.
+ */
+public interface RoseauMetrics {
+	/**
+	 * Invoked once a JAR entry has been parsed by the ASM extractor.
+	 *
+	 * @param entry the name of the JAR entry
+	 * @param nanos the time spent extracting the entry
+	 */
+	default void onEntryExtracted(String entry, long nanos) {
+	}
+
+	/**
+	 * Invoked once a batch of source files has been parsed by the JDT extractor.
+	 *
+	 * @param location the parsed library's location
+	 * @param files    the number of parsed source files
+	 * @param nanos    the time spent parsing the batch
+	 */
+	default void onSourcesParsed(Path location, int files, long nanos) {
+	}
+
+	/**
+	 * Invoked once a type provider has attempted to resolve a type reference.
+	 *
+	 * @param provider the name of the type provider
+	 * @param type     the qualified name of the type
+	 * @param resolved whether the provider resolved the type
+	 * @param nanos    the time spent resolving the type
+	 */
+	default void onTypeResolved(String provider, String type, boolean resolved, long nanos) {
+	}
+
+	/**
+	 * Invoked whenever an API analyzer cache is accessed.
+	 *
+	 * @param cache the name of the accessed cache
+	 * @param hit   whether the value was already cached
+	 */
+	default void onAnalyzerCacheAccessed(String cache, boolean hit) {
+	}
+
+	/**
+	 * Invoked once a type and its members have been walked and compared.
+	 *
+	 * @param type  the qualified name of the type
+	 * @param nanos the time spent walking the type
+	 */
+	default void onTypeWalked(String type, long nanos) {
+	}
+
+	/**
+	 * Invoked once a breaking change rule has been evaluated on a symbol.
+	 *
+	 * @param rule  the name of the rule
+	 * @param nanos the time spent evaluating the rule
+	 */
+	default void onRuleEvaluated(String rule, long nanos) {
+	}
+
+	/**
+	 * Invoked once a report has been formatted.
+	 *
+	 * @param format the name of the format
+	 * @param nanos  the time spent formatting the report
+	 */
+	default void onReportFormatted(String format, long nanos) {
+	}
+}
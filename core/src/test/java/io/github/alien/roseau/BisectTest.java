@@ -0,0 +1,77 @@
+package io.github.alien.roseau;
+
+import io.github.alien.roseau.diff.changes.BreakingChangeKind;
+import io.github.alien.roseau.utils.TestUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BisectTest {
+	@Test
+	void first_breaking_version_found() throws IOException {
+		var versions = new ArrayList<Library>();
+		for (int i = 0; i < 10; i++) {
+			versions.add(version(i < 6
+				? "public class C { public void m() {} public void n() {} }"
+				: "public class C { public void n() {} }"));
+		}
+
+		assertThat(Roseau.bisect(versions, bc -> bc.kind() == BreakingChangeKind.METHOD_REMOVED))
+			.hasValue(6);
+		assertThat(Roseau.bisect(versions, bc -> bc.impactedSymbol().getQualifiedName().equals("C.m()")))
+			.hasValue(6);
+	}
+
+	@Test
+	void last_version_breaking() throws IOException {
+		var versions = List.of(
+			version("public class C { public void m() {} }"),
+			version("public class C { public void m() {} }"),
+			version("public class C {}"));
+
+		assertThat(Roseau.bisect(versions, _ -> true)).hasValue(2);
+	}
+
+	@Test
+	void no_breaking_version() throws IOException {
+		var versions = List.of(
+			version("public class C { public void m() {} }"),
+			version("public class C { public void m() {} public void n() {} }"),
+			version("public class C {}"));
+
+		assertThat(Roseau.bisect(versions, bc -> bc.kind() == BreakingChangeKind.TYPE_REMOVED)).isEmpty();
+	}
+
+	@Test
+	void single_version() throws IOException {
+		var versions = List.of(version("public class C {}"));
+
+		assertThatThrownBy(() -> Roseau.bisect(versions, _ -> true))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void expired_deadline_stops_bisecting() throws IOException {
+		var versions = List.of(
+			version("public class C { public void m() {} }"),
+			version("public class C {}"));
+		var deadline = Deadline.after(Duration.ofMinutes(1));
+		deadline.cancel();
+
+		assertThatThrownBy(() -> Roseau.bisect(versions, Roseau::buildAPI, _ -> true, deadline))
+			.isInstanceOf(RoseauException.class)
+			.hasMessageContaining("Time budget exceeded");
+	}
+
+	private static Library version(String sources) throws IOException {
+		return Library.builder()
+			.location(TestUtils.writeSources(TestUtils.buildSourcesMap(sources)))
+			.build();
+	}
+}
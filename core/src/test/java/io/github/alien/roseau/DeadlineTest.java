@@ -0,0 +1,125 @@
+package io.github.alien.roseau;
+
+import io.github.alien.roseau.api.model.TypeDecl;
+import io.github.alien.roseau.api.model.factory.DefaultApiFactory;
+import io.github.alien.roseau.api.model.reference.CachingTypeReferenceFactory;
+import io.github.alien.roseau.diff.DefaultSymbolMatcher;
+import io.github.alien.roseau.diff.DetachedReport;
+import io.github.alien.roseau.utils.TestUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DeadlineTest {
+	static final String V1 = """
+		public class A { public void m() {} }
+		public class B {}""";
+	static final String V2 = """
+		public class A {}
+		public class C {}""";
+
+	@Test
+	void unbounded_deadline() {
+		var deadline = Deadline.none();
+
+		assertThat(deadline.isBounded()).isFalse();
+		assertThat(deadline.isExpired()).isFalse();
+		deadline.cancel();
+		assertThat(deadline.isExpired()).isTrue();
+		assertThat(deadline.remaining()).isZero();
+	}
+
+	@Test
+	void bounded_deadline_expires() throws InterruptedException {
+		var deadline = Deadline.after(Duration.ofMillis(10));
+
+		assertThat(deadline.isBounded()).isTrue();
+		Thread.sleep(20);
+		assertThat(deadline.isExpired()).isTrue();
+		assertThat(deadline.remaining()).isZero();
+		assertThatThrownBy(() -> deadline.check("testing"))
+			.isInstanceOf(RoseauException.class)
+			.hasMessageContaining("testing");
+	}
+
+	@Test
+	void invalid_budget() {
+		assertThatThrownBy(() -> Deadline.after(Duration.ZERO)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void complete_diff_within_budget() {
+		var v1 = TestUtils.buildSourcesAPI(V1);
+		var v2 = TestUtils.buildSourcesAPI(V2);
+
+		var report = Roseau.diff(v1, v2, new DefaultSymbolMatcher(), Deadline.after(Duration.ofMinutes(1)));
+
+		assertThat(report.isComplete()).isTrue();
+		assertThat(report.getUnanalyzedTypes()).isEmpty();
+		assertThat(report.getBreakingChanges()).hasSize(2);
+	}
+
+	@Test
+	void expired_diff_is_incomplete() {
+		var v1 = TestUtils.buildSourcesAPI(V1);
+		var v2 = TestUtils.buildSourcesAPI(V2);
+		var deadline = Deadline.none();
+		deadline.cancel();
+
+		var report = Roseau.diff(v1, v2, new DefaultSymbolMatcher(), deadline);
+
+		assertThat(report.isComplete()).isFalse();
+		assertThat(report.getBreakingChanges()).isEmpty();
+		assertThat(report.getUnanalyzedTypes()).extracting(TypeDecl::getQualifiedName)
+			.containsExactly("A", "B", "C");
+
+		var detached = DetachedReport.of(report);
+		assertThat(detached.isComplete()).isFalse();
+		assertThat(detached.unanalyzedTypes()).containsExactly("A", "B", "C");
+	}
+
+	@Test
+	void expired_sources_extraction_fails() throws IOException {
+		var library = Library.of(TestUtils.writeSources(TestUtils.buildSourcesMap(V1)));
+		var deadline = Deadline.none();
+		deadline.cancel();
+
+		assertThatThrownBy(() -> Roseau.buildAPI(library, new DefaultApiFactory(new CachingTypeReferenceFactory()),
+			deadline))
+			.isInstanceOf(RoseauException.class)
+			.hasMessageContaining("Time budget exceeded");
+	}
+
+	@Test
+	void expired_jar_extraction_fails(@TempDir Path dir) {
+		var jar = dir.resolve("v1.jar");
+		TestUtils.buildJar(TestUtils.buildSourcesMap(V1), jar);
+		var deadline = Deadline.none();
+		deadline.cancel();
+
+		assertThatThrownBy(() -> Roseau.buildAPI(Library.of(jar),
+			new DefaultApiFactory(new CachingTypeReferenceFactory()), deadline))
+			.isInstanceOf(RoseauException.class)
+			.hasMessageContaining("Time budget exceeded");
+	}
+
+	@Test
+	void failed_build_cancels_deadline(@TempDir Path dir) throws IOException {
+		var v1 = Library.of(TestUtils.writeSources(TestUtils.buildSourcesMap(V1)));
+		var jar = dir.resolve("v2.jar");
+		TestUtils.buildJar(TestUtils.buildSourcesMap(V2), jar);
+		var v2 = Library.of(jar);
+		Files.delete(jar);
+		var deadline = Deadline.after(Duration.ofMinutes(1));
+
+		assertThatThrownBy(() -> Roseau.diff(v1, v2, Runnable::run, deadline)).isInstanceOf(RoseauException.class);
+		assertThat(deadline.isExpired()).isTrue();
+	}
+}
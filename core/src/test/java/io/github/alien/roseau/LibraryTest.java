@@ -11,6 +11,7 @@ import org.junit.jupiter.api.io.TempDir;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 
@@ -29,6 +30,7 @@ class LibraryTest {
 		assertThat(lib.isJar()).isTrue();
 		assertThat(lib.isSources()).isFalse();
 		assertThat(lib.getExtractorType()).isEqualTo(ExtractorType.ASM);
+		assertThat(lib.getClasspathCache()).isNull();
 	}
 
 	@Test
@@ -100,11 +102,13 @@ class LibraryTest {
 			.location(validJar)
 			.classpath(cp)
 			.pom(pom)
+			.classpathCache(tempDir.resolve("cache"))
 			.build();
 
 		assertThat(lib.getLocation()).isEqualTo(validJar.toAbsolutePath());
 		assertThat(lib.getCustomClasspath()).isEqualTo(cp);
 		assertThat(lib.getPom()).isEqualTo(pom);
+		assertThat(lib.getClasspathCache()).isEqualTo(tempDir.resolve("cache"));
 		assertThat(lib.getExtractorType()).isEqualTo(ExtractorType.ASM);
 	}
 
@@ -126,6 +130,21 @@ class LibraryTest {
 		assertThat(lib.getClasspath()).hasSizeGreaterThan(10);
 	}
 
+	@Test
+	void classpath_resolved_past_deadline_is_not_memoized(@TempDir Path tempDir) throws IOException {
+		var dep = tempDir.resolve("dep.jar");
+		var lib = Library.builder()
+			.location(validJar)
+			.classpath(List.of(dep))
+			.build();
+		var expired = Deadline.after(Duration.ofMinutes(1));
+		expired.cancel();
+
+		assertThat(lib.getClasspath(expired)).isEmpty();
+		Files.createFile(dep);
+		assertThat(lib.getClasspath()).containsExactly(dep);
+	}
+
 	@Test
 	void builder_invalid_location_throws() {
 		var nonExisting = Path.of("unknown/path");
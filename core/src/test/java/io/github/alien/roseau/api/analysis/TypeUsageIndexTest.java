@@ -0,0 +1,88 @@
+package io.github.alien.roseau.api.analysis;
+
+import io.github.alien.roseau.api.analysis.TypeUsageIndex.Kind;
+import io.github.alien.roseau.api.analysis.TypeUsageIndex.TypeUsage;
+import io.github.alien.roseau.utils.TestUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TypeUsageIndexTest {
+	static final String SOURCES = """
+		package lib;
+		class Internal {}
+		class Hidden { public Internal g; }
+		public class Leaky extends java.util.ArrayList<Internal> implements Comparable<Leaky> {
+			public Internal f;
+			public java.util.List<Internal> m(Internal[] a) throws java.io.IOException { return null; }
+			public <T extends Internal> void n(T t) {}
+			public int compareTo(Leaky o) { return 0; }
+		}""";
+
+	static String describe(TypeUsage usage) {
+		return "%s %s".formatted(usage.symbol().getQualifiedName(), usage.kind());
+	}
+
+	@Test
+	void all_usages() {
+		var api = TestUtils.buildSourcesAPI(SOURCES);
+
+		assertThat(api.getTypeUsages().getUsages("lib.Internal"))
+			.extracting(TypeUsageIndexTest::describe)
+			.containsExactly(
+				"lib.Hidden.g FIELD_TYPE",
+				"lib.Leaky SUPERCLASS",
+				"lib.Leaky.f FIELD_TYPE",
+				"lib.Leaky.m(lib.Internal[]) RETURN_TYPE",
+				"lib.Leaky.m(lib.Internal[]) PARAMETER_TYPE",
+				"lib.Leaky.n(T) TYPE_PARAMETER_BOUND");
+	}
+
+	@Test
+	void usages_by_kind() {
+		var index = TestUtils.buildSourcesAPI(SOURCES).getTypeUsages();
+
+		assertThat(index.getUsages("java.io.IOException", Set.of(Kind.THROWN_EXCEPTION)))
+			.extracting(TypeUsageIndexTest::describe)
+			.containsExactly("lib.Leaky.m(lib.Internal[]) THROWN_EXCEPTION");
+		assertThat(index.getUsages("lib.Leaky", Set.of(Kind.SUPERINTERFACE, Kind.PARAMETER_TYPE)))
+			.extracting(TypeUsageIndexTest::describe)
+			.containsExactly("lib.Leaky SUPERINTERFACE", "lib.Leaky.compareTo(lib.Leaky) PARAMETER_TYPE");
+		assertThat(index.getUsages("lib.Unknown")).isEmpty();
+		assertThat(index.getReferencedTypes()).contains("java.util.ArrayList", "java.util.List", "lib.Internal");
+	}
+
+	@Test
+	void type_parameters_not_indexed() {
+		var index = TestUtils.buildSourcesAPI("""
+			package lib;
+			public class Box<T> {
+				public java.util.List<T> items() { return null; }
+			}""").getTypeUsages();
+
+		assertThat(index.getUsages("java.util.List"))
+			.extracting(TypeUsageIndexTest::describe)
+			.containsExactly("lib.Box.items() RETURN_TYPE");
+		assertThat(index.getUsages("T")).isEmpty();
+		assertThat(index.getReferencedTypes()).doesNotContain("T");
+	}
+
+	@Test
+	void exported_usages_leak_internal_types() {
+		var api = TestUtils.buildSourcesAPI(SOURCES);
+
+		assertThat(api.findExportedUsages("lib.Internal"))
+			.extracting(TypeUsageIndexTest::describe)
+			.doesNotContain("lib.Hidden.g FIELD_TYPE")
+			.contains("lib.Leaky SUPERCLASS", "lib.Leaky.f FIELD_TYPE");
+	}
+
+	@Test
+	void index_is_cached() {
+		var api = TestUtils.buildSourcesAPI(SOURCES);
+
+		assertThat(api.getTypeUsages()).isSameAs(api.getTypeUsages());
+	}
+}
@@ -0,0 +1,76 @@
+package io.github.alien.roseau.api.model;
+
+import io.github.alien.roseau.Roseau;
+import io.github.alien.roseau.diff.RoseauReport;
+import io.github.alien.roseau.utils.TestUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class APITest {
+	static final String SOURCES = """
+		public interface I { void m(); int F = 0; }
+		public abstract class A implements I { public void n() {} protected int f; }
+		public class C extends A { public void m() {} public void o() {} }""";
+
+	@Test
+	void freeze_preserves_members() {
+		var api = TestUtils.buildSourcesAPI(SOURCES);
+		var methods = api.getExportedTypes().stream().map(api::getExportedMethods).toList();
+		var fields = api.getExportedTypes().stream().map(api::getExportedFields).toList();
+
+		assertThat(api.isFrozen()).isFalse();
+		assertThat(api.freeze()).isSameAs(api);
+		assertThat(api.isFrozen()).isTrue();
+		assertThat(api.freeze()).isSameAs(api);
+		assertThat(api.getExportedTypes().stream().map(api::getExportedMethods).toList()).isEqualTo(methods);
+		assertThat(api.getExportedTypes().stream().map(api::getExportedFields).toList()).isEqualTo(fields);
+	}
+
+	@Test
+	void frozen_api_shared_by_concurrent_diffs() {
+		var v1 = TestUtils.buildSourcesAPI(SOURCES).freeze();
+		var candidates = IntStream.range(0, 8)
+			.mapToObj(i -> TestUtils.buildSourcesAPI(i % 2 == 0
+				? SOURCES
+				: SOURCES.replace("public void o() {}", "")))
+			.toList();
+
+		List<RoseauReport> reports = candidates.parallelStream()
+			.map(v2 -> Roseau.diff(v1, v2))
+			.toList();
+
+		IntStream.range(0, reports.size()).forEach(i -> {
+			var bcs = reports.get(i).getBreakingChanges();
+			if (i % 2 == 0) {
+				assertThat(bcs).isEmpty();
+			} else {
+				assertThat(bcs).singleElement()
+					.satisfies(bc -> assertThat(bc.impactedSymbol().getQualifiedName()).isEqualTo("C.o()"));
+			}
+		});
+	}
+
+	@Test
+	void exported_types_indexes() {
+		var api = TestUtils.buildSourcesAPI("""
+			package a;
+			public class A { public class Inner {} private class Hidden {} }
+			class B {}
+			package b;
+			public interface C {}""");
+
+		assertThat(api.getExportedTypes()).isSameAs(api.getExportedTypes());
+		assertThat(api.getExportedTypes()).extracting(TypeDecl::getQualifiedName)
+			.containsExactlyInAnyOrder("a.A", "a.A$Inner", "b.C");
+		assertThat(api.findExportedType("a.A$Inner")).isPresent();
+		assertThat(api.findExportedType("a.A$Hidden")).isEmpty();
+		assertThat(api.findExportedType("a.B")).isEmpty();
+		assertThat(api.getExportedTypesByPackage()).containsOnlyKeys("a", "b");
+		assertThat(api.getExportedTypesByPackage().get("a")).extracting(TypeDecl::getQualifiedName)
+			.containsExactlyInAnyOrder("a.A", "a.A$Inner");
+	}
+}
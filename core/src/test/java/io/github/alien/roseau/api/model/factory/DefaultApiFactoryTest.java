@@ -0,0 +1,92 @@
+package io.github.alien.roseau.api.model.factory;
+
+import io.github.alien.roseau.Library;
+import io.github.alien.roseau.api.model.AccessModifier;
+import io.github.alien.roseau.api.model.Annotation;
+import io.github.alien.roseau.api.model.LibraryTypes;
+import io.github.alien.roseau.api.model.Modifier;
+import io.github.alien.roseau.api.model.reference.CachingTypeReferenceFactory;
+import io.github.alien.roseau.api.model.reference.TypeReference;
+import io.github.alien.roseau.extractors.asm.AsmTypesExtractor;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DefaultApiFactoryTest {
+	@Test
+	void default_factory_does_not_share_components() {
+		var factory = new DefaultApiFactory(new CachingTypeReferenceFactory());
+		var ann1 = factory.createAnnotation(new TypeReference<>("java.lang.Deprecated"), Map.of());
+		var ann2 = factory.createAnnotation(new TypeReference<>("java.lang.Deprecated"), Map.of());
+
+		assertThat(factory.isCompact()).isFalse();
+		assertThat(ann1).isEqualTo(ann2).isNotSameAs(ann2);
+		assertThat(factory.location(Path.of("A.java"), 1).file())
+			.isNotSameAs(factory.location(Path.of("A.java"), 1).file());
+	}
+
+	@Test
+	void compact_factory_flyweights_annotations() {
+		var factory = new DefaultApiFactory(new CachingTypeReferenceFactory(), true);
+		var ann1 = factory.createAnnotation(new TypeReference<>("java.lang.Deprecated"), Map.of());
+		var ann2 = factory.createAnnotation(new TypeReference<>("java.lang.Deprecated"), Map.of());
+		var ann3 = factory.createAnnotation(new TypeReference<>("java.lang.Deprecated"), Map.of("since", "9"));
+
+		assertThat(ann1).isSameAs(ann2).isNotEqualTo(ann3);
+	}
+
+	@Test
+	void compact_factory_interns_paths() {
+		var factory = new DefaultApiFactory(new CachingTypeReferenceFactory(), true);
+		var loc1 = factory.location(Path.of("pkg/A.java"), 4);
+		var loc2 = factory.location(Path.of("pkg/A.java"), 8);
+
+		assertThat(loc1.file()).isSameAs(loc2.file());
+		assertThat(factory.unknownLocation()).isSameAs(factory.unknownLocation());
+	}
+
+	@Test
+	void compact_factory_shares_symbol_components() {
+		var factory = new DefaultApiFactory(new CachingTypeReferenceFactory(), true);
+		var deprecated = Set.of(new Annotation(new TypeReference<>("java.lang.Deprecated")));
+		var f1 = factory.createField(new String("pkg.A.f"), AccessModifier.PUBLIC,
+			EnumSet.of(Modifier.STATIC, Modifier.FINAL), deprecated, factory.unknownLocation(),
+			new TypeReference<>("pkg.A"), TypeReference.STRING);
+		var f2 = factory.createField(new String("pkg.A.f"), AccessModifier.PUBLIC,
+			EnumSet.of(Modifier.FINAL, Modifier.STATIC), Set.copyOf(deprecated), factory.unknownLocation(),
+			new TypeReference<>("pkg.B"), TypeReference.STRING);
+
+		assertThat(f1.getQualifiedName()).isSameAs(f2.getQualifiedName());
+		assertThat(f1.getModifiers()).isSameAs(f2.getModifiers())
+			.containsExactlyInAnyOrder(Modifier.STATIC, Modifier.FINAL);
+		assertThat(f1.getAnnotations()).isSameAs(f2.getAnnotations());
+	}
+
+	@Test
+	void compact_factory_shares_formal_type_parameters() {
+		var factory = new DefaultApiFactory(new CachingTypeReferenceFactory(), true);
+		var ftp1 = factory.createFormalTypeParameter("T", List.of(TypeReference.STRING));
+		var ftp2 = factory.createFormalTypeParameter("T", List.of(TypeReference.STRING));
+
+		assertThat(ftp1).isSameAs(ftp2);
+	}
+
+	@Test
+	void compact_and_default_factories_extract_equal_types() {
+		var jar = Path.of("src/test/resources/api-showcase.jar");
+		var library = Library.of(jar);
+
+		LibraryTypes regular = new AsmTypesExtractor(
+			new DefaultApiFactory(new CachingTypeReferenceFactory())).extractTypes(library);
+		LibraryTypes compact = new AsmTypesExtractor(
+			new DefaultApiFactory(new CachingTypeReferenceFactory(), true)).extractTypes(library);
+
+		assertThat(compact).isEqualTo(regular);
+	}
+}
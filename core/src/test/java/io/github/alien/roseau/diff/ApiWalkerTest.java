@@ -0,0 +1,75 @@
+package io.github.alien.roseau.diff;
+
+import io.github.alien.roseau.Deadline;
+import io.github.alien.roseau.Roseau;
+import io.github.alien.roseau.diff.changes.BreakingChange;
+import io.github.alien.roseau.diff.changes.BreakingChangeKind;
+import io.github.alien.roseau.utils.TestUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ApiWalkerTest {
+	static final int MEMBERS = 3 * ApiWalker.MEMBER_GRAIN;
+
+	// Every other member is removed in v2
+	static String hugeClass(boolean all) {
+		return IntStream.range(0, MEMBERS)
+			.filter(i -> all || i % 2 == 0)
+			.mapToObj(i -> "public int f%d; public void m%d() {}".formatted(i, i))
+			.collect(Collectors.joining("\n", "public class C {\n", "\n}"));
+	}
+
+	static List<String> describe(List<BreakingChange> bcs) {
+		return bcs.stream()
+			.map(bc -> "%s %s".formatted(bc.kind(), bc.impactedSymbol().getQualifiedName()))
+			.sorted()
+			.toList();
+	}
+
+	static List<String> expected() {
+		return IntStream.range(0, MEMBERS)
+			.filter(i -> i % 2 != 0)
+			.boxed()
+			.flatMap(i -> List.of(
+				"%s C.f%d".formatted(BreakingChangeKind.FIELD_REMOVED, i),
+				"%s C.m%d()".formatted(BreakingChangeKind.METHOD_REMOVED, i)).stream())
+			.sorted()
+			.toList();
+	}
+
+	@Test
+	void huge_type_split_on_custom_pool() {
+		var v1 = TestUtils.buildSourcesAPI(hugeClass(true));
+		var v2 = TestUtils.buildSourcesAPI(hugeClass(false));
+
+		try (var pool = new ForkJoinPool(2)) {
+			var report = Roseau.diff(v1, v2, new DefaultSymbolMatcher(), Deadline.none(), pool);
+
+			assertThat(describe(report.getBreakingChanges())).isEqualTo(expected());
+		}
+	}
+
+	@Test
+	void concurrent_diffs_share_pool() {
+		var v1 = TestUtils.buildSourcesAPI(hugeClass(true));
+		var v2 = TestUtils.buildSourcesAPI(hugeClass(false));
+
+		try (var pool = new ForkJoinPool(2)) {
+			var reports = IntStream.range(0, 4)
+				.mapToObj(_ -> CompletableFuture.supplyAsync(() ->
+					new ApiWalker(v1, v2, new DefaultSymbolMatcher(), Deadline.none(), pool)
+						.walk(new BreakingChangeAnalyzer(v1, v2))))
+				.toList();
+
+			assertThat(reports).allSatisfy(report ->
+				assertThat(describe(report.join().getBreakingChanges())).isEqualTo(expected()));
+		}
+	}
+}
@@ -0,0 +1,110 @@
+package io.github.alien.roseau.diff;
+
+import io.github.alien.roseau.Roseau;
+import io.github.alien.roseau.api.model.SourceLocation;
+import io.github.alien.roseau.diff.changes.BreakingChangeKind;
+import io.github.alien.roseau.diff.formatter.CliFormatter;
+import io.github.alien.roseau.diff.formatter.CsvFormatter;
+import io.github.alien.roseau.diff.formatter.DetachedReportFormatter;
+import io.github.alien.roseau.diff.formatter.HtmlFormatter;
+import io.github.alien.roseau.diff.formatter.JsonFormatter;
+import io.github.alien.roseau.diff.formatter.MdFormatter;
+import io.github.alien.roseau.utils.TestUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DetachedReportTest {
+	static final String V1 = """
+		public class A { public void m() {} public int f; }
+		public class B { public B() {} }
+		public class C {}""";
+	static final String V2 = """
+		public class A { public int m() { return 0; } }
+		public class B { B() {} }""";
+
+	RoseauReport diff() {
+		return Roseau.diff(TestUtils.buildSourcesAPI(V1), TestUtils.buildSourcesAPI(V2));
+	}
+
+	@Test
+	void detach_preserves_breaking_changes() {
+		var report = diff();
+		var detached = DetachedReport.of(report);
+
+		assertThat(detached.breakingChanges()).hasSameSizeAs(report.getBreakingChanges());
+		for (int i = 0; i < report.getBreakingChanges().size(); i++) {
+			var bc = report.getBreakingChanges().get(i);
+			var entry = detached.breakingChanges().get(i);
+			assertThat(entry.type()).isEqualTo(bc.impactedType().getQualifiedName());
+			assertThat(entry.symbol()).isEqualTo(bc.impactedSymbol().getQualifiedName());
+			assertThat(entry.kind()).isEqualTo(bc.kind());
+			assertThat(entry.local()).isEqualTo(bc.isLocal());
+			assertThat(entry.location()).isEqualTo(bc.getLocation());
+		}
+		assertThat(detached.isBinaryBreaking()).isEqualTo(report.isBinaryBreaking());
+		assertThat(detached.isSourceBreaking()).isEqualTo(report.isSourceBreaking());
+		assertThat(detached.breakingChanges())
+			.filteredOn(entry -> entry.kind() == BreakingChangeKind.METHOD_RETURN_TYPE_CHANGED)
+			.singleElement()
+			.satisfies(entry -> assertThat(entry.details()).isEqualTo("void → int"));
+	}
+
+	@Test
+	void formatters_agree_on_detached_reports() {
+		var report = diff();
+		var detached = DetachedReport.of(report);
+
+		assertThat(new CsvFormatter().format(detached)).isEqualTo(new CsvFormatter().format(report));
+		assertThat(new JsonFormatter().format(detached)).isEqualTo(new JsonFormatter().format(report));
+		assertThat(new MdFormatter().format(detached)).isEqualTo(new MdFormatter().format(report));
+		assertThat(new CliFormatter(CliFormatter.Mode.PLAIN).format(detached))
+			.isEqualTo(new CliFormatter(CliFormatter.Mode.PLAIN).format(report));
+		assertThat(new HtmlFormatter()).isNotInstanceOf(DetachedReportFormatter.class);
+	}
+
+	@Test
+	void merge_deduplicates() {
+		var detached = DetachedReport.of(diff());
+		var bcs = detached.breakingChanges();
+		var first = new DetachedReport(detached.v1(), detached.v2(), bcs.subList(0, 2));
+		var second = new DetachedReport(detached.v1(), detached.v2(), bcs.subList(1, bcs.size()));
+
+		assertThat(first.merge(second)).isEqualTo(detached);
+		assertThat(DetachedReport.merge(List.of(second, first))).isEqualTo(detached);
+	}
+
+	@Test
+	void merge_different_libraries() {
+		var detached = DetachedReport.of(diff());
+		var other = new DetachedReport("other", detached.v2(), List.of());
+
+		assertThatThrownBy(() -> detached.merge(other)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void json_round_trip(@TempDir Path dir) throws IOException {
+		var detached = DetachedReport.of(diff());
+		var json = dir.resolve("report.json");
+
+		detached.writeJson(json);
+		var read = DetachedReport.fromJson(json);
+
+		assertThat(read).isEqualTo(detached);
+	}
+
+	@Test
+	void no_location_preserved() {
+		var entry = new DetachedReport.Entry("A", "A", BreakingChangeKind.TYPE_REMOVED, null, true,
+			new SourceLocation(null, -1), null);
+
+		assertThat(entry.location()).isSameAs(SourceLocation.NO_LOCATION);
+		assertThat(entry.details()).isEmpty();
+	}
+}
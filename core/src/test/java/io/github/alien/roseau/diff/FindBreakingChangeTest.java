@@ -0,0 +1,75 @@
+package io.github.alien.roseau.diff;
+
+import io.github.alien.roseau.Roseau;
+import io.github.alien.roseau.RoseauOptions;
+import io.github.alien.roseau.diff.changes.BreakingChangeKind;
+import io.github.alien.roseau.diff.rules.DefaultRuleSet;
+import io.github.alien.roseau.utils.TestUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FindBreakingChangeTest {
+	@Test
+	void no_breaking_change() {
+		var src = """
+			public class C { public void m() {} }""";
+		var v1 = TestUtils.buildSourcesAPI(src);
+		var v2 = TestUtils.buildSourcesAPI(src);
+
+		assertThat(Roseau.findBreakingChange(v1, v2, _ -> true)).isEmpty();
+	}
+
+	@Test
+	void breaking_change_found() {
+		var v1 = TestUtils.buildSourcesAPI("""
+			public class C { public void m() {} }""");
+		var v2 = TestUtils.buildSourcesAPI("""
+			public class C {}""");
+
+		assertThat(Roseau.findBreakingChange(v1, v2, _ -> true)).hasValueSatisfying(bc -> {
+			assertThat(bc.kind()).isEqualTo(BreakingChangeKind.METHOD_REMOVED);
+			assertThat(bc.impactedSymbol().getQualifiedName()).isEqualTo("C.m()");
+		});
+	}
+
+	@Test
+	void filtered_breaking_change_ignored() {
+		var v1 = TestUtils.buildSourcesAPI("""
+			public class C { public void m() {} }""");
+		var v2 = TestUtils.buildSourcesAPI("""
+			public class C {}""");
+
+		assertThat(Roseau.findBreakingChange(v1, v2, bc -> bc.kind() == BreakingChangeKind.TYPE_REMOVED)).isEmpty();
+	}
+
+	@Test
+	void excluded_breaking_change_ignored() {
+		var exclude = new RoseauOptions.Exclude(List.of("C\\.m\\(\\)"), List.of());
+		var v1 = TestUtils.buildSourcesAPI("""
+			public class C { public void m() {} }""", exclude);
+		var v2 = TestUtils.buildSourcesAPI("""
+			public class C {}""", exclude);
+
+		assertThat(Roseau.findBreakingChange(v1, v2, _ -> true)).isEmpty();
+	}
+
+	@Test
+	void walk_stops_early() {
+		var v1 = TestUtils.buildSourcesAPI(IntStream.range(0, 200)
+			.mapToObj(i -> "public class C%d {}".formatted(i))
+			.collect(Collectors.joining("\n")));
+		var v2 = TestUtils.buildSourcesAPI("public class D {}");
+		var walker = new ApiWalker(v1, v2, new DefaultSymbolMatcher());
+		var analyzer = new BreakingChangeAnalyzer(v1, v2, new DefaultRuleSet(), _ -> true);
+
+		var report = walker.walk(analyzer);
+
+		assertThat(analyzer.isDone()).isTrue();
+		assertThat(report.getAllBreakingChanges()).isNotEmpty().hasSizeLessThan(200);
+	}
+}
@@ -0,0 +1,136 @@
+package io.github.alien.roseau.diff;
+
+import io.github.alien.roseau.Roseau;
+import io.github.alien.roseau.diff.changes.BreakingChangeDetails;
+import io.github.alien.roseau.diff.changes.BreakingChangeKind;
+import io.github.alien.roseau.utils.TestUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MoveDetectingSymbolMatcherTest {
+	@Test
+	void type_moved_to_other_package() {
+		var v1 = TestUtils.buildSourcesAPI("""
+			package a;
+			public class C { public int f; public void m() {} public C n() { return this; } }""");
+		var v2 = TestUtils.buildSourcesAPI("""
+			package b;
+			public class C { public int f; public void m() {} public C n() { return this; } }""");
+		var matcher = new MoveDetectingSymbolMatcher(v1, v2);
+
+		var c1 = v1.findExportedType("a.C").orElseThrow();
+		var c2 = v2.findExportedType("b.C").orElseThrow();
+		assertThat(matcher.matchMovedType(v2, c1)).hasValue(c2);
+		assertThat(matcher.matchMovedType(v1, c2)).hasValue(c1);
+
+		var report = Roseau.diff(v1, v2, matcher);
+		assertThat(report.getBreakingChanges()).singleElement().satisfies(bc -> {
+			assertThat(bc.kind()).isEqualTo(BreakingChangeKind.TYPE_REMOVED);
+			assertThat(bc.newSymbol()).isEqualTo(c2);
+			assertThat(bc.details()).isEqualTo(new BreakingChangeDetails.TypeMoved(c2));
+		});
+	}
+
+	@Test
+	void type_renamed_with_similar_members() {
+		var v1 = TestUtils.buildSourcesAPI("""
+			public class A { public void m1() {} public void m2() {} public void m3() {} public void m4() {} }""");
+		var v2 = TestUtils.buildSourcesAPI("""
+			public class B { public void m1() {} public void m2() {} public void m3() {} public void m4() {}
+				public void m5() {} }""");
+		var matcher = new MoveDetectingSymbolMatcher(v1, v2);
+
+		assertThat(matcher.matchMovedType(v2, v1.findExportedType("A").orElseThrow()))
+			.hasValue(v2.findExportedType("B").orElseThrow());
+	}
+
+	@Test
+	void dissimilar_types_not_matched() {
+		var v1 = TestUtils.buildSourcesAPI("""
+			public class A { public void m1() {} public void m2() {} }""");
+		var v2 = TestUtils.buildSourcesAPI("""
+			public class B { public void n1() {} public void n2() {} }""");
+		var matcher = new MoveDetectingSymbolMatcher(v1, v2);
+
+		assertThat(matcher.matchMovedType(v2, v1.findExportedType("A").orElseThrow())).isEmpty();
+		assertThat(Roseau.diff(v1, v2, matcher).getBreakingChanges()).singleElement()
+			.satisfies(bc -> assertThat(bc.details()).isEqualTo(new BreakingChangeDetails.None()));
+	}
+
+	@Test
+	void prefixed_names_are_not_self_references() {
+		var v1 = TestUtils.buildSourcesAPI("""
+			package a;
+			public class C { public CD f; }
+			class CD {}""");
+		var v2 = TestUtils.buildSourcesAPI("""
+			package b;
+			public class X { public XD f; }
+			class XD {}""");
+		var matcher = new MoveDetectingSymbolMatcher(v1, v2);
+
+		assertThat(matcher.matchMovedType(v2, v1.findExportedType("a.C").orElseThrow())).isEmpty();
+	}
+
+	@Test
+	void ambiguous_identical_types_not_matched() {
+		var v1 = TestUtils.buildSourcesAPI("""
+			public class A1 { public void m() {} }
+			public class A2 { public void m() {} }""");
+		var v2 = TestUtils.buildSourcesAPI("""
+			public class B1 { public void m() {} }
+			public class B2 { public void m() {} }""");
+		var matcher = new MoveDetectingSymbolMatcher(v1, v2);
+
+		assertThat(matcher.matchMovedType(v2, v1.findExportedType("A1").orElseThrow())).isEmpty();
+		assertThat(matcher.matchMovedType(v2, v1.findExportedType("A2").orElseThrow())).isEmpty();
+	}
+
+	@Test
+	void method_renamed() {
+		var v1 = TestUtils.buildSourcesAPI("""
+			public class C { public int m(String s) { return 0; } public void n() {} }""");
+		var v2 = TestUtils.buildSourcesAPI("""
+			public class C { public int renamed(String s) { return 0; } public void n() {} }""");
+
+		var report = Roseau.diff(v1, v2, new MoveDetectingSymbolMatcher(v1, v2));
+
+		assertThat(report.getBreakingChanges()).singleElement().satisfies(bc -> {
+			assertThat(bc.kind()).isEqualTo(BreakingChangeKind.METHOD_REMOVED);
+			assertThat(bc.details()).isInstanceOfSatisfying(BreakingChangeDetails.MethodRenamed.class,
+				details -> assertThat(details.newMethod().getSimpleName()).isEqualTo("renamed"));
+		});
+	}
+
+	@Test
+	void ambiguous_method_rename_not_matched() {
+		var v1 = TestUtils.buildSourcesAPI("""
+			public class C { public void m1() {} public void m2() {} }""");
+		var v2 = TestUtils.buildSourcesAPI("""
+			public class C { public void n1() {} public void n2() {} }""");
+
+		var report = Roseau.diff(v1, v2, new MoveDetectingSymbolMatcher(v1, v2));
+
+		assertThat(report.getBreakingChanges()).hasSize(2)
+			.allSatisfy(bc -> assertThat(bc.details()).isEqualTo(new BreakingChangeDetails.None()));
+	}
+
+	@Test
+	void many_moved_types() {
+		var v1 = TestUtils.buildSourcesAPI(IntStream.range(0, 500)
+			.mapToObj(i -> "public class A%d { public void m%d() {} public int f%d; }".formatted(i, i, i))
+			.collect(Collectors.joining("\n")));
+		var v2 = TestUtils.buildSourcesAPI(IntStream.range(0, 500)
+			.mapToObj(i -> "public class B%d { public void m%d() {} public int f%d; }".formatted(i, i, i))
+			.collect(Collectors.joining("\n")));
+		var matcher = new MoveDetectingSymbolMatcher(v1, v2);
+
+		IntStream.range(0, 500).forEach(i ->
+			assertThat(matcher.matchMovedType(v2, v1.findExportedType("A" + i).orElseThrow()))
+				.hasValueSatisfying(t -> assertThat(t.getQualifiedName()).isEqualTo("B" + i)));
+	}
+}
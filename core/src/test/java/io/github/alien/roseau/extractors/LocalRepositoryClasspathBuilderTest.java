@@ -0,0 +1,258 @@
+package io.github.alien.roseau.extractors;
+
+import io.github.alien.roseau.LocalRepositoryClasspathBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalRepositoryClasspathBuilderTest {
+	@TempDir
+	Path wd;
+	Path repository;
+	LocalRepositoryClasspathBuilder builder;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		repository = wd.resolve("repository");
+		builder = new LocalRepositoryClasspathBuilder(repository);
+
+		install("a", "1.0", dependency("c", "1.0", null) + dependency("d", "1.0", "<optional>true</optional>") +
+			dependency("e", "1.0", "<scope>test</scope>"));
+		install("b", "1.0", dependency("c", "2.0", null) + dependency("f", "1.0", null));
+		install("c", "1.0", "");
+		install("c", "2.0", "");
+		install("d", "1.0", "");
+		install("e", "1.0", "");
+		install("f", "1.0", dependency("g", "1.0", "<scope>runtime</scope>"));
+		install("g", "1.0", "");
+	}
+
+	@Test
+	void transitive_dependencies() throws IOException {
+		var pom = pom(dependency("a", "1.0", null) + dependency("b", "1.0", "<scope>test</scope>"));
+
+		assertThat(builder.buildClasspath(pom)).hasValueSatisfying(cp -> assertThat(cp)
+			.containsExactly(jar("a", "1.0"), jar("b", "1.0"), jar("c", "1.0"), jar("f", "1.0"), jar("g", "1.0")));
+	}
+
+	@Test
+	void exclusions() throws IOException {
+		var pom = pom(dependency("b", "1.0", """
+			<exclusions>
+			    <exclusion><groupId>org.example</groupId><artifactId>g</artifactId></exclusion>
+			</exclusions>"""));
+
+		assertThat(builder.buildClasspath(pom)).hasValueSatisfying(cp -> assertThat(cp)
+			.containsExactly(jar("b", "1.0"), jar("c", "2.0"), jar("f", "1.0")));
+	}
+
+	@Test
+	void dependency_management_and_properties() throws IOException {
+		var pom = pom("""
+			<dependency>
+			    <groupId>org.example</groupId>
+			    <artifactId>a</artifactId>
+			</dependency>""", """
+			<properties>
+			    <c.version>2.0</c.version>
+			</properties>
+			<dependencyManagement>
+			    <dependencies>
+			        %s
+			        %s
+			    </dependencies>
+			</dependencyManagement>""".formatted(dependency("a", "1.0", null), dependency("c", "${c.version}", null)));
+
+		assertThat(builder.buildClasspath(pom)).hasValueSatisfying(cp -> assertThat(cp)
+			.containsExactly(jar("a", "1.0"), jar("c", "2.0")));
+	}
+
+	@Test
+	void parent_and_bom_import() throws IOException {
+		Files.writeString(wd.resolve("pom.xml"), project("parent", "1.0", """
+			<packaging>pom</packaging>
+			<dependencyManagement>
+			    <dependencies>
+			        %s
+			    </dependencies>
+			</dependencyManagement>""".formatted(dependency("bom", "1.0", "<type>pom</type><scope>import</scope>"))));
+		install("bom", "1.0", "", """
+			<dependencyManagement>
+			    <dependencies>
+			        %s
+			    </dependencies>
+			</dependencyManagement>""".formatted(dependency("f", "1.0", null)));
+		var module = Files.createDirectories(wd.resolve("module")).resolve("pom.xml");
+		Files.writeString(module, """
+			<project>
+			    <modelVersion>4.0.0</modelVersion>
+			    <parent>
+			        <groupId>org.example</groupId>
+			        <artifactId>parent</artifactId>
+			        <version>1.0</version>
+			    </parent>
+			    <artifactId>module</artifactId>
+			    <dependencies>
+			        <dependency>
+			            <groupId>${project.groupId}</groupId>
+			            <artifactId>f</artifactId>
+			        </dependency>
+			    </dependencies>
+			</project>""");
+
+		assertThat(builder.buildClasspath(module)).hasValueSatisfying(cp -> assertThat(cp)
+			.containsExactly(jar("f", "1.0"), jar("g", "1.0")));
+	}
+
+	@Test
+	void inherited_dependencies_use_child_properties() throws IOException {
+		Files.writeString(wd.resolve("pom.xml"), project("parent", "1.0", """
+			<packaging>pom</packaging>
+			<properties>
+			    <c.version>1.0</c.version>
+			</properties>
+			<dependencies>
+			    %s
+			</dependencies>""".formatted(dependency("c", "${c.version}", null))));
+
+		assertThat(builder.buildClasspath(module("""
+			<properties>
+			    <c.version>2.0</c.version>
+			</properties>"""))).hasValueSatisfying(cp -> assertThat(cp).containsExactly(jar("c", "2.0")));
+	}
+
+	@Test
+	void relative_parent_must_match_coordinates() throws IOException {
+		Files.writeString(wd.resolve("pom.xml"), project("parent", "2.0", "<packaging>pom</packaging>"));
+		install("parent", "1.0", dependency("f", "1.0", null), "<packaging>pom</packaging>");
+
+		assertThat(builder.buildClasspath(module(""))).hasValueSatisfying(cp -> assertThat(cp)
+			.containsExactly(jar("f", "1.0"), jar("g", "1.0")));
+	}
+
+	@Test
+	void managed_scope_applies_to_transitive_dependencies() throws IOException {
+		var system = Files.writeString(wd.resolve("system-c.jar"), "");
+		var pom = pom(dependency("a", "1.0", null), """
+			<dependencyManagement>
+			    <dependencies>
+			        %s
+			    </dependencies>
+			</dependencyManagement>""".formatted(dependency("c", "1.0",
+			"<scope>system</scope><systemPath>%s</systemPath>".formatted(system))));
+
+		assertThat(builder.buildClasspath(pom)).hasValueSatisfying(cp -> assertThat(cp)
+			.containsExactly(jar("a", "1.0"), system));
+	}
+
+	@Test
+	void missing_artifact() throws IOException {
+		var pom = pom(dependency("unknown", "1.0", null));
+
+		assertThat(builder.buildClasspath(pom)).isEmpty();
+	}
+
+	@Test
+	void missing_jar() throws IOException {
+		Files.delete(jar("g", "1.0"));
+		var pom = pom(dependency("f", "1.0", null));
+
+		assertThat(builder.buildClasspath(pom)).isEmpty();
+	}
+
+	@Test
+	void unresolved_property() throws IOException {
+		var pom = pom(dependency("a", "${unknown.version}", null));
+
+		assertThat(builder.buildClasspath(pom)).isEmpty();
+	}
+
+	@Test
+	void version_range() throws IOException {
+		var pom = pom(dependency("a", "[1.0,2.0)", null));
+
+		assertThat(builder.buildClasspath(pom)).isEmpty();
+	}
+
+	@Test
+	void invalid_pom() throws IOException {
+		var pom = Files.writeString(wd.resolve("invalid-pom.xml"), "<nope>");
+
+		assertThat(builder.buildClasspath(pom)).isEmpty();
+		assertThat(builder.buildClasspath(wd.resolve("unknown.xml"))).isEmpty();
+	}
+
+	private Path pom(String dependencies) throws IOException {
+		return pom(dependencies, "");
+	}
+
+	private Path pom(String dependencies, String extra) throws IOException {
+		return Files.writeString(wd.resolve("project-pom.xml"), project("project", "1.0", """
+			%s
+			<dependencies>
+			    %s
+			</dependencies>""".formatted(extra, dependencies)));
+	}
+
+	// A module of org.example:parent:1.0, whose POM is expected in the parent directory
+	private Path module(String extra) throws IOException {
+		var module = Files.createDirectories(wd.resolve("module")).resolve("pom.xml");
+		return Files.writeString(module, """
+			<project>
+			    <modelVersion>4.0.0</modelVersion>
+			    <parent>
+			        <groupId>org.example</groupId>
+			        <artifactId>parent</artifactId>
+			        <version>1.0</version>
+			    </parent>
+			    <artifactId>module</artifactId>
+			    %s
+			</project>""".formatted(extra));
+	}
+
+	private void install(String artifactId, String version, String dependencies) throws IOException {
+		install(artifactId, version, dependencies, "");
+	}
+
+	private void install(String artifactId, String version, String dependencies, String extra) throws IOException {
+		var dir = Files.createDirectories(repository.resolve("org/example").resolve(artifactId).resolve(version));
+		Files.writeString(dir.resolve("%s-%s.pom".formatted(artifactId, version)), project(artifactId, version, """
+			%s
+			<dependencies>
+			    %s
+			</dependencies>""".formatted(extra, dependencies)));
+		Files.writeString(jar(artifactId, version), "");
+	}
+
+	private Path jar(String artifactId, String version) {
+		return repository.resolve("org/example").resolve(artifactId).resolve(version)
+			.resolve("%s-%s.jar".formatted(artifactId, version));
+	}
+
+	private static String project(String artifactId, String version, String content) {
+		return """
+			<project>
+			    <modelVersion>4.0.0</modelVersion>
+			    <groupId>org.example</groupId>
+			    <artifactId>%s</artifactId>
+			    <version>%s</version>
+			    %s
+			</project>""".formatted(artifactId, version, content);
+	}
+
+	private static String dependency(String artifactId, String version, String extra) {
+		return """
+			<dependency>
+			    <groupId>org.example</groupId>
+			    <artifactId>%s</artifactId>
+			    <version>%s</version>
+			    %s
+			</dependency>""".formatted(artifactId, version, extra != null ? extra : "");
+	}
+}
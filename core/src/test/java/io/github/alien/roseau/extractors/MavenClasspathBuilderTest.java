@@ -92,4 +92,72 @@ class MavenClasspathBuilderTest {
 		var cp = builder.buildClasspath(invalidPom);
 		assertThat(cp).isEmpty();
 	}
+
+	@Test
+	void cached_valid_pom() throws IOException {
+		var cache = wd.resolve("cache");
+		var builder = new MavenClasspathBuilder(cache);
+		var cp = builder.buildClasspath(validPom);
+
+		assertThat(cp).anySatisfy(p -> assertThat(p).asString().endsWith("commons-lang3-3.12.0.jar"));
+		try (var entries = Files.list(cache)) {
+			var entry = entries.toList();
+			assertThat(entry).singleElement().satisfies(e -> assertThat(e).asString().endsWith(".classpath"));
+
+			// Served from the cache from now on
+			var fake = Files.writeString(wd.resolve("fake.jar"), "");
+			Files.writeString(entry.getFirst(), "%s\t0:%d".formatted(fake, Files.getLastModifiedTime(fake).toMillis()));
+			assertThat(builder.buildClasspath(validPom)).containsExactly(fake);
+		}
+	}
+
+	@Test
+	void modified_jar_invalidates_cache_entry() throws IOException {
+		var cache = wd.resolve("cache");
+		var builder = new MavenClasspathBuilder(cache);
+		builder.buildClasspath(validPom);
+
+		try (var entries = Files.list(cache)) {
+			var fake = Files.writeString(wd.resolve("fake.jar"), "");
+			Files.writeString(entries.toList().getFirst(),
+				"%s\t0:%d".formatted(fake, Files.getLastModifiedTime(fake).toMillis()));
+			Files.writeString(fake, "re-installed");
+		}
+		assertThat(builder.buildClasspath(validPom))
+			.anySatisfy(p -> assertThat(p).asString().endsWith("commons-lang3-3.12.0.jar"));
+	}
+
+	@Test
+	void stale_cache_entry_is_discarded() throws IOException {
+		var cache = wd.resolve("cache");
+		var builder = new MavenClasspathBuilder(cache);
+		builder.buildClasspath(validPom);
+
+		try (var entries = Files.list(cache)) {
+			Files.writeString(entries.toList().getFirst(), wd.resolve("missing.jar").toString());
+		}
+		assertThat(builder.buildClasspath(validPom))
+			.anySatisfy(p -> assertThat(p).asString().endsWith("commons-lang3-3.12.0.jar"));
+	}
+
+	@Test
+	void cache_key_depends_on_pom() throws IOException {
+		var cache = wd.resolve("cache");
+		var builder = new MavenClasspathBuilder(cache);
+		builder.buildClasspath(validPom);
+		builder.buildClasspath(validDirectory.resolve("pom.xml"));
+
+		try (var entries = Files.list(cache)) {
+			assertThat(entries.toList()).hasSize(2);
+		}
+	}
+
+	@Test
+	void invalid_pom_is_not_cached() {
+		var cache = wd.resolve("cache");
+		var builder = new MavenClasspathBuilder(cache);
+
+		assertThat(builder.buildClasspath(invalidPom)).isEmpty();
+		assertThat(cache).doesNotExist();
+	}
 }
@@ -7,8 +7,12 @@ import io.github.alien.roseau.api.model.reference.CachingTypeReferenceFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Set;
+import java.util.jar.JarFile;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -53,4 +57,22 @@ class AsmTypesExtractorTest {
 		// Java 17 version adds a @Deprecated
 		assertThat(c.get().getAnnotations()).isNotEmpty();
 	}
+
+	@Test
+	void in_memory_classes_extract_types_and_module() throws IOException {
+		var jar = Path.of("src/test/resources/one-module.jar");
+		var classes = new HashMap<String, byte[]>();
+		try (var file = new JarFile(jar.toFile())) {
+			for (var entry : Collections.list(file.entries())) {
+				if (entry.getName().endsWith(".class")) {
+					classes.put(entry.getName(), file.getInputStream(entry).readAllBytes());
+				}
+			}
+		}
+
+		var types = extractor.extractTypes(Library.of(jar), classes);
+		assertThat(types.getModule()).isEqualTo(new ModuleDecl("m", Set.of("pkg")));
+		assertThat(types.getAllTypes()).isNotEmpty();
+		assertThat(types.findType("pkg.C")).isPresent();
+	}
 }
@@ -0,0 +1,195 @@
+package io.github.alien.roseau.impact;
+
+import io.github.alien.roseau.Roseau;
+import io.github.alien.roseau.diff.DetachedReport;
+import io.github.alien.roseau.diff.RoseauReport;
+import io.github.alien.roseau.diff.changes.BreakingChangeKind;
+import io.github.alien.roseau.utils.TestUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClientImpactTest {
+	static final String V1 = """
+		package lib;
+		public class A { public A() {} public int f; public void m(int i) {} public static void s(String s) {} }
+		public class B {}
+		public class C { public void kept() {} }""";
+	static final String V2 = """
+		package lib;
+		public class A { public A() {} public static void s(String s) {} }
+		public class C { public void kept() {} }""";
+	static final String CLIENT = """
+		package client;
+		public class UsesMembers {
+			public int use(lib.A a) {
+				a.m(1);
+				return a.f;
+			}
+		}
+		public class UsesType extends lib.B {}
+		public class UsesReference {
+			public java.util.function.IntConsumer ref(lib.A a) {
+				return a::m;
+			}
+		}
+		public class Unaffected {
+			public void use(lib.C c) {
+				lib.A.s("");
+				c.kept();
+			}
+		}""";
+	static final String UNAFFECTED_CLIENT = """
+		package other;
+		public class Other {
+			public void use(lib.C c) {
+				c.kept();
+			}
+		}""";
+
+	RoseauReport diff() {
+		return Roseau.diff(TestUtils.buildSourcesAPI(V1), TestUtils.buildSourcesAPI(V2));
+	}
+
+	static Path buildClient(String sources, Path jar) {
+		// Clients are compiled against v1, which then ends up in their JAR
+		TestUtils.buildJar(TestUtils.buildSourcesMap(V1 + "\n" + sources), jar);
+		return jar;
+	}
+
+	static List<ClientImpact.Hit> clientHits(ClientImpact impact, String pkg) {
+		return impact.hits().stream()
+			.filter(hit -> hit.type().startsWith(pkg + "."))
+			.toList();
+	}
+
+	@Test
+	void members_and_types_uses(@TempDir Path dir) {
+		var client = buildClient(CLIENT, dir.resolve("client.jar"));
+
+		var impacts = Roseau.findImpactedClients(diff(), List.of(client));
+
+		assertThat(impacts).singleElement().satisfies(impact -> {
+			assertThat(impact.client()).isEqualTo(client);
+			assertThat(impact.isImpacted()).isTrue();
+			assertThat(clientHits(impact, "client"))
+				.extracting(hit -> "%s.%s %s %s".formatted(hit.type(), hit.member(), hit.breakingChange().symbol(),
+					hit.breakingChange().kind()))
+				.containsExactly(
+					"client.UsesMembers.use(lib.A) lib.A.m(int) METHOD_REMOVED",
+					"client.UsesMembers.use(lib.A) lib.A.f FIELD_REMOVED",
+					"client.UsesReference.ref(lib.A) lib.A.m(int) METHOD_REMOVED",
+					"client.UsesType. lib.B TYPE_REMOVED",
+					"client.UsesType.<init>() lib.B TYPE_REMOVED");
+		});
+	}
+
+	@Test
+	void hits_have_lines(@TempDir Path dir) {
+		var client = buildClient(CLIENT, dir.resolve("client.jar"));
+
+		var impact = Roseau.findImpactedClients(diff(), List.of(client)).getFirst();
+
+		assertThat(clientHits(impact, "client"))
+			.filteredOn(hit -> hit.breakingChange().kind() == BreakingChangeKind.METHOD_REMOVED)
+			.extracting(ClientImpact.Hit::line)
+			.containsExactly(5, 5);
+		assertThat(clientHits(impact, "client"))
+			.filteredOn(hit -> hit.breakingChange().kind() == BreakingChangeKind.TYPE_REMOVED)
+			.extracting(ClientImpact.Hit::line)
+			.containsExactly(-1, 3);
+	}
+
+	@Test
+	void unaffected_client(@TempDir Path dir) {
+		var client = buildClient(CLIENT, dir.resolve("client.jar"));
+		var other = buildClient(UNAFFECTED_CLIENT, dir.resolve("other.jar"));
+
+		var impacts = Roseau.findImpactedClients(diff(), List.of(other, client));
+
+		assertThat(impacts).extracting(ClientImpact::client).containsExactly(other, client);
+		assertThat(clientHits(impacts.getFirst(), "other")).isEmpty();
+		assertThat(clientHits(impacts.getLast(), "client"))
+			.noneMatch(hit -> hit.type().equals("client.Unaffected"));
+	}
+
+	@Test
+	void no_breaking_changes(@TempDir Path dir) {
+		var client = buildClient(CLIENT, dir.resolve("client.jar"));
+		var api = TestUtils.buildSourcesAPI(V1);
+
+		var impacts = Roseau.findImpactedClients(Roseau.diff(api, api), List.of(client));
+
+		assertThat(impacts).singleElement().satisfies(impact -> assertThat(impact.isImpacted()).isFalse());
+	}
+
+	@Test
+	void members_resolved_through_client_subtypes(@TempDir Path dir) {
+		var client = buildClient("""
+			package client;
+			public class Sub extends lib.A {}
+			public class Overrides extends lib.A { @Override public void m(int i) {} }
+			public class UsesSub {
+				public int use(Sub s) {
+					s.m(1);
+					return s.f;
+				}
+			}
+			public class UsesOverride {
+				public void use(Overrides o) {
+					o.m(1);
+				}
+			}""", dir.resolve("client.jar"));
+
+		var impact = Roseau.findImpactedClients(diff(), List.of(client)).getFirst();
+
+		assertThat(clientHits(impact, "client"))
+			.extracting(hit -> "%s.%s %s %s".formatted(hit.type(), hit.member(), hit.breakingChange().symbol(),
+				hit.breakingChange().kind()))
+			.containsExactly(
+				"client.Overrides.m(int) lib.A.m(int) METHOD_REMOVED",
+				"client.UsesSub.use(client.Sub) lib.A.m(int) METHOD_REMOVED",
+				"client.UsesSub.use(client.Sub) lib.A.f FIELD_REMOVED");
+	}
+
+	@Test
+	void inner_class_constructors_take_outer_instance(@TempDir Path dir) {
+		var v1 = TestUtils.buildSourcesAPI("""
+			package lib;
+			public class Outer { public class Inner { public Inner(int i) {} } }""");
+		var v2 = TestUtils.buildSourcesAPI("""
+			package lib;
+			public class Outer { public class Inner { public Inner(long l) {} } }""");
+
+		var index = ImpactIndex.of(Roseau.diff(v1, v2));
+
+		assertThat(index.getMethodImpacts("lib/Outer$Inner", "<init>", "(Llib/Outer;I)V"))
+			.extracting(DetachedReport.Entry::kind)
+			.containsExactly(BreakingChangeKind.CONSTRUCTOR_REMOVED);
+		assertThat(index.getMethodImpacts("lib/Outer$Inner", "<init>", "(I)V")).isEmpty();
+	}
+
+	@Test
+	void non_local_members_indexed_on_subtypes() {
+		var v1 = TestUtils.buildSourcesAPI("""
+			package lib;
+			public class Base { public void removed() {} }
+			public class Child extends Base {}""");
+		var v2 = TestUtils.buildSourcesAPI("""
+			package lib;
+			public class Base {}
+			public class Child extends Base {}""");
+
+		var index = ImpactIndex.of(Roseau.diff(v1, v2));
+
+		assertThat(index.getMethodImpacts("lib/Base", "removed", "()V")).isNotEmpty();
+		assertThat(index.getMethodImpacts("lib/Child", "removed", "()V")).isNotEmpty();
+		assertThat(index.getMethodImpacts("lib/Child", "removed", "(I)V")).isEmpty();
+		assertThat(index.isImpactedType("lib/Child")).isTrue();
+		assertThat(index.getTypeImpacts("lib/Child")).isEmpty();
+	}
+}
@@ -0,0 +1,95 @@
+package io.github.alien.roseau.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static io.github.alien.roseau.utils.TestUtils.buildDiff;
+import static io.github.alien.roseau.utils.TestUtils.buildJarAPI;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class MetricsTest {
+	ProfilingMetrics metrics;
+
+	@BeforeEach
+	void setUp() {
+		metrics = new ProfilingMetrics();
+		Metrics.register(metrics);
+	}
+
+	@AfterEach
+	void tearDown() {
+		Metrics.unregister(metrics);
+	}
+
+	@Test
+	void diff_records_types_and_rules() {
+		buildDiff("""
+			public class A {
+				public void m() {}
+			}
+			public class B {}""", """
+			public class A {}""");
+
+		assertThat(metrics.slowestTypes(10))
+			.extracting(ProfilingMetrics.Timing::name)
+			.containsExactlyInAnyOrder("A", "B");
+		assertThat(metrics.slowestRules(1)).singleElement()
+			.satisfies(t -> assertThat(t.count()).isPositive());
+		assertThat(metrics.slowestRules(100))
+			.extracting(ProfilingMetrics.Timing::name)
+			.contains("TypeRemoved", "ExecutableRemoved");
+		assertThat(metrics.parsing()).isNotEmpty();
+		assertThat(metrics.cacheHitRates())
+			.extracting(ProfilingMetrics.HitRate::name)
+			.contains("methods", "fields");
+	}
+
+	@Test
+	void extraction_records_entries() {
+		buildJarAPI("""
+			public class A {}
+			public class B {}""");
+
+		assertThat(metrics.slowestEntries(10))
+			.extracting(ProfilingMetrics.Timing::name)
+			.containsExactlyInAnyOrder("A.class", "B.class");
+	}
+
+	@Test
+	void unregistered_listeners_are_not_notified() {
+		Metrics.unregister(metrics);
+		buildJarAPI("public class A {}");
+
+		assertThat(metrics.slowestEntries(10)).isEmpty();
+	}
+
+	@Test
+	void slowest_are_sorted_and_limited() {
+		metrics.onRuleEvaluated("Fast", 10L);
+		metrics.onRuleEvaluated("Slow", 100L);
+		metrics.onRuleEvaluated("Fast", 20L);
+		metrics.onRuleEvaluated("Slowest", 1_000L);
+
+		assertThat(metrics.slowestRules(2))
+			.extracting(ProfilingMetrics.Timing::name)
+			.containsExactly("Slowest", "Slow");
+		assertThat(metrics.slowestRules(10))
+			.filteredOn(t -> t.name().equals("Fast"))
+			.singleElement()
+			.satisfies(t -> assertThat(t.count()).isEqualTo(2L));
+	}
+
+	@Test
+	void hit_rates() {
+		metrics.onAnalyzerCacheAccessed("methods", true);
+		metrics.onAnalyzerCacheAccessed("methods", true);
+		metrics.onAnalyzerCacheAccessed("methods", false);
+		metrics.onTypeResolved("LibraryTypes", "A", false, 1L);
+
+		assertThat(metrics.cacheHitRates()).singleElement()
+			.satisfies(r -> assertThat(r.rate()).isCloseTo(2d / 3, within(0.01)));
+		assertThat(metrics.resolutionRates()).containsExactly(new ProfilingMetrics.HitRate("LibraryTypes", 0L, 1L));
+	}
+}
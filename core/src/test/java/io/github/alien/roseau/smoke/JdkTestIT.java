@@ -3,6 +3,9 @@ package io.github.alien.roseau.smoke;
 import com.google.common.base.Stopwatch;
 import io.github.alien.roseau.Library;
 import io.github.alien.roseau.Roseau;
+import io.github.alien.roseau.api.model.API;
+import io.github.alien.roseau.api.model.factory.DefaultApiFactory;
+import io.github.alien.roseau.api.model.reference.CachingTypeReferenceFactory;
 import io.github.alien.roseau.extractors.ExtractorType;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Timeout;
@@ -10,6 +13,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.concurrent.TimeUnit;
@@ -87,4 +91,36 @@ class JdkTestIT {
 
 		assertThat(report.getAllBreakingChanges()).isEmpty();
 	}
+
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("jmods")
+	@Timeout(value = 1, unit = TimeUnit.MINUTES)
+	void jdk21AsmCompactHeap(Path jmod) {
+		var classpath = jmods().filter(mod -> !mod.equals(jmod)).toList();
+		var jarLibrary = Library.builder()
+			.location(jmod)
+			.classpath(classpath)
+			.build();
+
+		long baseline = usedHeap();
+		var api = Roseau.buildAPI(jarLibrary, new DefaultApiFactory(new CachingTypeReferenceFactory(), false));
+		long defaultHeap = usedHeap() - baseline;
+		int types = api.getLibraryTypes().getAllTypes().size();
+		api = null;
+
+		baseline = usedHeap();
+		API compactApi = Roseau.buildAPI(jarLibrary, new DefaultApiFactory(new CachingTypeReferenceFactory(), true));
+		long compactHeap = usedHeap() - baseline;
+		System.out.printf("[%s] Heap: default %dKB, compact %dKB (%d types)%n", jmod.getFileName(),
+			defaultHeap >> 10, compactHeap >> 10, types);
+
+		assertThat(compactApi.getLibraryTypes().getAllTypes()).hasSize(types);
+	}
+
+	private static long usedHeap() {
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+	}
 }